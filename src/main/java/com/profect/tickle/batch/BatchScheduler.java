@@ -2,6 +2,7 @@ package com.profect.tickle.batch;
 
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.batch.core.*;
+import org.springframework.batch.core.explore.JobExplorer;
 import org.springframework.batch.core.launch.JobLauncher;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.scheduling.annotation.Scheduled;
@@ -13,36 +14,50 @@ import java.util.Date;
 @Slf4j
 public class BatchScheduler {
 
+    // 같은 job 인스턴스를 재실행하는 최대 횟수 (넘으면 새 인스턴스로 진행)
+    private static final int MAX_RESTARTS = 3;
+
     private final JobLauncher jobLauncher;
+    private final JobExplorer jobExplorer;
     private final Job settlementDetailDailyJob;
-    private final Job settlementWeeklyMonthlyJob;
 
     public BatchScheduler(
             JobLauncher jobLauncher,
-            @Qualifier("settlementDetailDailyJob") Job settlementDetailDailyJob,
-            @Qualifier("settlementWeeklyMonthlyJob") Job settlementWeeklyMonthlyJob) {
+            JobExplorer jobExplorer,
+            @Qualifier("settlementDetailDailyJob") Job settlementDetailDailyJob) {
         this.jobLauncher = jobLauncher;
+        this.jobExplorer = jobExplorer;
         this.settlementDetailDailyJob = settlementDetailDailyJob;
-        this.settlementWeeklyMonthlyJob = settlementWeeklyMonthlyJob;
     }
 
-    // 매분마다 정산 job 호출(건별, 일간)
+    // 매분마다 정산 job 호출(건별, 일간/주간/월간 누적)
     @Scheduled(cron = "0 * * * * *")
     public void runSettlementDetailDailyJob() throws Exception{
-        JobParameters jobParameters = new JobParametersBuilder()
-                .addDate("runDate", new Date())
-                .toJobParameters();
-        jobLauncher.run(settlementDetailDailyJob, jobParameters);
+        jobLauncher.run(settlementDetailDailyJob, nextParameters(settlementDetailDailyJob));
     }
 
-    // 10분마다 job 호출(주간, 월간)
-    @Scheduled(cron ="59 9,19,29,39,49,59 * * * *")
-    // 테스트용 매 분 1초에 호출
-//    @Scheduled(cron = "10 * * * * *")
-    public void runSettlementWeeklyMonthlyJob() throws Exception{
-        JobParameters jobParameters = new JobParametersBuilder()
+    /**
+     * 직전 인스턴스가 실패/중단되었으면 같은 파라미터로 재실행(커밋된 chunk 이후부터 이어서 처리),
+     * 아니면 새 인스턴스 파라미터
+     */
+    private JobParameters nextParameters(Job job) {
+        JobInstance lastInstance = jobExplorer.getLastJobInstance(job.getName());
+        if (lastInstance != null) {
+            JobExecution lastExecution = jobExplorer.getLastJobExecution(lastInstance);
+            if (lastExecution != null && (lastExecution.getStatus() == BatchStatus.FAILED
+                    || lastExecution.getStatus() == BatchStatus.STOPPED)) {
+                int executions = jobExplorer.getJobExecutions(lastInstance).size();
+                if (executions <= MAX_RESTARTS) {
+                    log.info("정산 job 재실행 - job={}, instanceId={}, attempt={}",
+                            job.getName(), lastInstance.getInstanceId(), executions + 1);
+                    return lastExecution.getJobParameters();
+                }
+                log.warn("정산 job 재실행 횟수 초과, 새 인스턴스로 진행 - job={}, instanceId={}",
+                        job.getName(), lastInstance.getInstanceId());
+            }
+        }
+        return new JobParametersBuilder()
                 .addDate("runDate", new Date())
                 .toJobParameters();
-        jobLauncher.run(settlementWeeklyMonthlyJob, jobParameters);
     }
-}
\ No newline at end of file
+}
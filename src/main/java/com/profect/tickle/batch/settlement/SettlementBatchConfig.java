@@ -1,103 +1,176 @@
 package com.profect.tickle.batch.settlement;
 
-import com.profect.tickle.domain.settlement.service.SettlementDailyService;
+import com.profect.tickle.batch.watermark.BatchWatermarkMapper;
+import com.profect.tickle.domain.settlement.dto.batch.SettlementDetailFindTargetDto;
+import com.profect.tickle.domain.settlement.dto.batch.SettlementDetailRow;
+import com.profect.tickle.domain.settlement.mapper.SettlementDetailMapper;
 import com.profect.tickle.domain.settlement.service.SettlementDetailService;
-import com.profect.tickle.domain.settlement.service.SettlementMonthlyService;
-import com.profect.tickle.domain.settlement.service.SettlementWeeklyService;
+import com.profect.tickle.domain.settlement.service.SettlementRollupService;
 import org.springframework.batch.core.Job;
 import org.springframework.batch.core.Step;
 import org.springframework.batch.core.configuration.annotation.EnableBatchProcessing;
+import org.springframework.batch.core.configuration.annotation.StepScope;
 import org.springframework.batch.core.job.builder.JobBuilder;
 import org.springframework.batch.core.repository.JobRepository;
 import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.item.ItemProcessor;
+import org.springframework.batch.item.ItemWriter;
 import org.springframework.batch.repeat.RepeatStatus;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskExecutor;
 import org.springframework.transaction.PlatformTransactionManager;
 
+import java.time.Instant;
+import java.util.Date;
+
 @Configuration
 // 스프링배치 작동 시 디폴트로 'transactionManager' 찾아서 주입하려고 함
 // 배치 전용으로 만든 txManager 사용하려면 아래처럼 명시해서 사용
 @EnableBatchProcessing
 public class SettlementBatchConfig {
 
+    // 건별정산 chunk 크기 (= reader 페이지 크기, writer multi insert 크기)
+    private static final int DETAIL_CHUNK_SIZE = 500;
+    // 건별정산 파티션 수 (주최자 ID 구간 수)
+    private static final int DETAIL_GRID_SIZE = 4;
+
     private final JobRepository jobRepository;
     private final PlatformTransactionManager txManager;
+    private final SettlementDetailMapper settlementDetailMapper;
+    private final BatchWatermarkMapper batchWatermarkMapper;
     private final SettlementDetailService settlementDetailService;
-    private final SettlementDailyService settlementDailyService;
-    private final SettlementWeeklyService settlementWeeklyService;
-    private final SettlementMonthlyService settlementMonthlyService;
+    private final SettlementRollupService settlementRollupService;
 
     public SettlementBatchConfig(
             JobRepository jobRepository,
             @Qualifier("transactionManager") PlatformTransactionManager txManager,
+            SettlementDetailMapper settlementDetailMapper,
+            BatchWatermarkMapper batchWatermarkMapper,
             SettlementDetailService settlementDetailService,
-            SettlementDailyService settlementDailyService,
-            SettlementWeeklyService settlementWeeklyService,
-            SettlementMonthlyService settlementMonthlyService
+            SettlementRollupService settlementRollupService
     ) {
         this.jobRepository = jobRepository;
         this.txManager = txManager;
+        this.settlementDetailMapper = settlementDetailMapper;
+        this.batchWatermarkMapper = batchWatermarkMapper;
         this.settlementDetailService = settlementDetailService;
-        this.settlementDailyService = settlementDailyService;
-        this.settlementWeeklyService = settlementWeeklyService;
-        this.settlementMonthlyService = settlementMonthlyService;
+        this.settlementRollupService = settlementRollupService;
     }
 
 
     /**
-     * 건별, 일간 정산 배치
+     * 건별, 일간, 주간, 월간 정산 배치
+     * 일간, 주간, 월간 정산은 건별정산 chunk를 쓰는 시점에 증분으로 함께 누적된다. (별도 집계 step 없음)
      */
     @Bean
-    public Job settlementDetailDailyJob() {
-        // 1) 정산 tasklet 구조 step 생성
-        // 건별정산, 배치_스텝 테이블에서 식별자로 구분
-        Step detailStep = new StepBuilder("stepSettlementDetail", jobRepository)
-                .tasklet((contribution, chunkContext) -> {
-                    settlementDetailService.getSettlementDetail();
-                    return RepeatStatus.FINISHED;
-                }, txManager)
-                .build();
-        // 일간정산
-        Step dailyStep = new StepBuilder("stepSettlementDaily", jobRepository)
-                .tasklet((contribution, chunkContext) -> {
-                    settlementDailyService.getSettlementDaily();
-                    return RepeatStatus.FINISHED;
-                }, txManager)
+    public Job settlementDetailDailyJob(Step stepSettlementDetailWindow,
+                                        Step stepSettlementDetail,
+                                        Step stepSettlementDetailWatermark) {
+        // 처리 구간 고정 → 주최자 ID 구간별 파티션 step(건별정산 + 누적) → watermark 갱신
+        return new JobBuilder("settlementDetailDailyJob", jobRepository)
+                .start(stepSettlementDetailWindow)
+                .next(stepSettlementDetail)
+                .next(stepSettlementDetailWatermark)
                 .build();
+    }
 
-        // 2) JobBuilder로 Job 구성(순차 실행)
-        return new JobBuilder("settlementDetailDailyJob", jobRepository)
-                .start(detailStep)
-                .next(dailyStep)
+    /**
+     * 건별정산 처리 구간 (afterChangeId, upperChangeId] 고정
+     */
+    @Bean
+    public Step stepSettlementDetailWindow(SettlementDetailWindowTasklet settlementDetailWindowTasklet) {
+        return new StepBuilder("stepSettlementDetailWindow", jobRepository)
+                .tasklet(settlementDetailWindowTasklet, txManager)
                 .build();
     }
 
     /**
-     * 주간, 월간 정산 배치
+     * 건별정산 처리 완료 지점 갱신 (모든 파티션이 끝난 뒤에만 실행)
      */
     @Bean
-    public Job settlementWeeklyMonthlyJob() {
-        // 주간정산
-        Step weeklyStep = new StepBuilder("stepSettlementWeekly", jobRepository)
+    public Step stepSettlementDetailWatermark() {
+        return new StepBuilder("stepSettlementDetailWatermark", jobRepository)
                 .tasklet((contribution, chunkContext) -> {
-                    settlementWeeklyService.getSettlementWeekly();
+                    long upperChangeId = chunkContext.getStepContext().getStepExecution().getJobExecution()
+                            .getExecutionContext().getLong(SettlementDetailWindowTasklet.UPPER_CHANGE_ID);
+                    batchWatermarkMapper.advance(SettlementDetailWindowTasklet.WATERMARK_NAME, upperChangeId, Instant.now());
                     return RepeatStatus.FINISHED;
                 }, txManager)
                 .build();
+    }
 
-        // 월간정산
-        Step monthlyStep = new StepBuilder("stepSettlementMonthly", jobRepository)
-                .tasklet((contribution, chunkContext) -> {
-                    settlementMonthlyService.getSettlementMonthly();
-                    return RepeatStatus.FINISHED;
-                }, txManager)
+    /**
+     * 건별정산 manager step
+     * 주최자 ID 구간별로 나눈 파티션을 settlementBatchExecutor에서 병렬 실행한다.
+     * 파티션별 진행 상황(실행 컨텍스트)은 배치 메타 테이블에 저장되어, 실패한 job을 재실행하면 실패한 파티션만 이어서 처리한다.
+     * 처리 구간이 비어 있으면 파티션 없이 끝난다.
+     */
+    @Bean
+    public Step stepSettlementDetail(SettlementHostPartitioner settlementHostPartitioner,
+                                     Step stepSettlementDetailPartition,
+                                     TaskExecutor settlementBatchExecutor) {
+        return new StepBuilder("stepSettlementDetail", jobRepository)
+                .partitioner("stepSettlementDetailPartition", settlementHostPartitioner)
+                .step(stepSettlementDetailPartition)
+                .gridSize(DETAIL_GRID_SIZE)
+                .taskExecutor(settlementBatchExecutor)
                 .build();
+    }
+
+    /**
+     * 건별정산 worker step (chunk 단위로 읽기 → 수수료 연산 → multi insert → 일간/주간/월간 누적 후 커밋)
+     * 누적은 이번 chunk에서 실제로 insert된 건별정산만 대상으로 하므로 재시작해도 두 번 더해지지 않는다.
+     */
+    @Bean
+    public Step stepSettlementDetailPartition(SettlementDetailTargetReader settlementDetailTargetReader,
+                                              ItemProcessor<SettlementDetailFindTargetDto, SettlementDetailRow> settlementDetailProcessor) {
+        ItemWriter<SettlementDetailRow> writer =
+                chunk -> settlementRollupService.apply(settlementDetailService.insert(chunk.getItems()));
 
-        return new JobBuilder("settlementWeeklyMonthlyJob", jobRepository)
-                .start(weeklyStep)
-                .next(monthlyStep)
+        return new StepBuilder("stepSettlementDetailPartition", jobRepository)
+                .<SettlementDetailFindTargetDto, SettlementDetailRow>chunk(DETAIL_CHUNK_SIZE, txManager)
+                .reader(settlementDetailTargetReader)
+                .processor(settlementDetailProcessor)
+                .writer(writer)
                 .build();
     }
-}
\ No newline at end of file
+
+    @Bean
+    @StepScope
+    public SettlementDetailWindowTasklet settlementDetailWindowTasklet(
+            @Value("#{jobParameters['runDate']}") Date runDate) {
+        return new SettlementDetailWindowTasklet(settlementDetailMapper, batchWatermarkMapper, runDate.toInstant());
+    }
+
+    @Bean
+    @StepScope
+    public SettlementHostPartitioner settlementHostPartitioner(
+            @Value("#{jobExecutionContext['afterChangeId']}") Long afterChangeId,
+            @Value("#{jobExecutionContext['upperChangeId']}") Long upperChangeId) {
+        return new SettlementHostPartitioner(settlementDetailMapper, afterChangeId, upperChangeId);
+    }
+
+    @Bean
+    @StepScope
+    public SettlementDetailTargetReader settlementDetailTargetReader(
+            @Value("#{jobExecutionContext['afterChangeId']}") Long afterChangeId,
+            @Value("#{jobExecutionContext['upperChangeId']}") Long upperChangeId,
+            @Value("#{jobExecutionContext['until']}") String until,
+            @Value("#{stepExecutionContext['minHostId']}") Long minHostId,
+            @Value("#{stepExecutionContext['maxHostId']}") Long maxHostId) {
+        return new SettlementDetailTargetReader(settlementDetailMapper,
+                afterChangeId, upperChangeId, Instant.parse(until), minHostId, maxHostId, DETAIL_CHUNK_SIZE);
+    }
+
+    // 정산 생성일시 = job 기준 시점
+    @Bean
+    @StepScope
+    public ItemProcessor<SettlementDetailFindTargetDto, SettlementDetailRow> settlementDetailProcessor(
+            @Value("#{jobExecutionContext['until']}") String until) {
+        Instant settlementCreatedAt = Instant.parse(until);
+        return targetDto -> settlementDetailService.calculate(targetDto, settlementCreatedAt);
+    }
+}
@@ -0,0 +1,86 @@
+package com.profect.tickle.batch.settlement;
+
+import com.profect.tickle.domain.settlement.dto.batch.SettlementDetailFindTargetDto;
+import com.profect.tickle.domain.settlement.mapper.SettlementDetailMapper;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.support.AbstractItemCountingItemStreamItemReader;
+
+/**
+ * 건별정산 대상 reader (파티션 하나 = 주최자 ID 구간 하나)
+ * 처리 구간 (afterChangeId, upperChangeId]의 예매 상태 변경을 변경 ID 기준 keyset 페이지로 pageSize건씩 가져온다.
+ * 마지막으로 읽은 변경 ID를 실행 컨텍스트에 저장하므로 재시작 시 커밋된 chunk 다음부터 이어서 읽는다.
+ */
+public class SettlementDetailTargetReader extends AbstractItemCountingItemStreamItemReader<SettlementDetailFindTargetDto> {
+
+    private static final String LAST_CHANGE_ID = "lastChangeId";
+
+    private final SettlementDetailMapper settlementDetailMapper;
+    private final long upperChangeId;
+    private final Instant until;
+    private final long minHostId;
+    private final long maxHostId;
+    private final int pageSize;
+
+    private final Deque<SettlementDetailFindTargetDto> page = new ArrayDeque<>();
+    private long lastChangeId;
+    private boolean exhausted;
+
+    public SettlementDetailTargetReader(SettlementDetailMapper settlementDetailMapper,
+                                        long afterChangeId, long upperChangeId, Instant until,
+                                        long minHostId, long maxHostId, int pageSize) {
+        this.settlementDetailMapper = settlementDetailMapper;
+        this.lastChangeId = afterChangeId;
+        this.upperChangeId = upperChangeId;
+        this.until = until;
+        this.minHostId = minHostId;
+        this.maxHostId = maxHostId;
+        this.pageSize = pageSize;
+        setName("settlementDetailTargetReader");
+    }
+
+    @Override
+    public void open(ExecutionContext executionContext) {
+        super.open(executionContext);
+        lastChangeId = executionContext.getLong(getExecutionContextKey(LAST_CHANGE_ID), lastChangeId);
+    }
+
+    @Override
+    public void update(ExecutionContext executionContext) {
+        super.update(executionContext);
+        executionContext.putLong(getExecutionContextKey(LAST_CHANGE_ID), lastChangeId);
+    }
+
+    @Override
+    protected SettlementDetailFindTargetDto doRead() {
+        if (page.isEmpty() && !exhausted) {
+            var next = settlementDetailMapper.findTargetReservations(
+                    lastChangeId, upperChangeId, minHostId, maxHostId, until, pageSize);
+            page.addAll(next);
+            exhausted = next.size() < pageSize;
+        }
+        SettlementDetailFindTargetDto item = page.poll();
+        if (item != null) {
+            lastChangeId = item.getChangeId();
+        }
+        return item;
+    }
+
+    // 읽기 위치는 lastChangeId로 복원하므로 건너뛸 필요 없음
+    @Override
+    protected void jumpToItem(int itemIndex) {
+    }
+
+    @Override
+    protected void doOpen() {
+        page.clear();
+        exhausted = false;
+    }
+
+    @Override
+    protected void doClose() {
+        page.clear();
+    }
+}
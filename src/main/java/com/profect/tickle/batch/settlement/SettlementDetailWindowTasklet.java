@@ -0,0 +1,63 @@
+package com.profect.tickle.batch.settlement;
+
+import com.profect.tickle.batch.watermark.BatchWatermarkMapper;
+import com.profect.tickle.domain.settlement.mapper.SettlementDetailMapper;
+import java.time.Duration;
+import java.time.Instant;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.repeat.RepeatStatus;
+
+/**
+ * 건별정산 처리 구간 고정
+ * 현재 커밋된 마지막 예매 상태 변경까지를 이번 job의 처리 구간 상한으로 job 실행 컨텍스트에 저장한다. (재시작해도 같은 구간을 처리)
+ * 변경 ID는 커밋 전에 발급되므로 직전 상한(watermark)보다 작은 ID가 나중에 커밋될 수 있다.
+ * 그래서 시작점은 watermark 변경보다 RESCAN_WINDOW 이내에 먼저 쌓인 변경까지 당겨 다시 읽고,
+ * 이미 정산된 변경은 settlement_detail의 ON CONFLICT로 걸러진다.
+ *  - RESCAN_WINDOW: 예매 트랜잭션이 열려 있을 수 있는 시간보다 충분히 길게 둔다.
+ *    (생성 시각은 애플리케이션 시각이라 재조회 범위를 넓히는 데만 쓰고, 상한 판단에는 쓰지 않는다)
+ */
+@RequiredArgsConstructor
+@Slf4j
+public class SettlementDetailWindowTasklet implements Tasklet {
+
+    static final String WATERMARK_NAME = "settlementDetail";
+    static final String AFTER_CHANGE_ID = "afterChangeId";
+    static final String UPPER_CHANGE_ID = "upperChangeId";
+    static final String UNTIL = "until";
+    static final Duration RESCAN_WINDOW = Duration.ofMinutes(5);
+
+    private final SettlementDetailMapper settlementDetailMapper;
+    private final BatchWatermarkMapper batchWatermarkMapper;
+    private final Instant until;
+
+    @Override
+    public RepeatStatus execute(StepContribution contribution, ChunkContext chunkContext) {
+        Long watermark = batchWatermarkMapper.findValue(WATERMARK_NAME);
+        long afterChangeId = watermark != null ? rescanFrom(watermark) : 0L;
+
+        Long upperBound = settlementDetailMapper.findChangeLogUpperBound();
+        long upperChangeId = upperBound != null ? Math.max(upperBound, afterChangeId) : afterChangeId;
+
+        ExecutionContext jobContext = chunkContext.getStepContext().getStepExecution()
+                .getJobExecution().getExecutionContext();
+        jobContext.putLong(AFTER_CHANGE_ID, afterChangeId);
+        jobContext.putLong(UPPER_CHANGE_ID, upperChangeId);
+        jobContext.putString(UNTIL, until.toString());
+
+        if (upperChangeId > afterChangeId) {
+            log.info("건별정산 처리 구간 - changeId=({}, {}]", afterChangeId, upperChangeId);
+        }
+        return RepeatStatus.FINISHED;
+    }
+
+    // 직전 배치 이후 늦게 커밋된 변경을 놓치지 않도록 watermark 직전 구간부터 다시 읽는다.
+    private long rescanFrom(long watermark) {
+        Long floor = settlementDetailMapper.findChangeLogRescanFloor(watermark, RESCAN_WINDOW.toSeconds());
+        return floor != null ? Math.min(watermark, floor - 1) : watermark;
+    }
+}
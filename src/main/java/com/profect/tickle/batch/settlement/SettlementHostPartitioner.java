@@ -0,0 +1,51 @@
+package com.profect.tickle.batch.settlement;
+
+import com.profect.tickle.domain.settlement.mapper.SettlementDetailMapper;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.core.partition.support.Partitioner;
+import org.springframework.batch.item.ExecutionContext;
+
+/**
+ * 건별정산 파티셔너
+ * 이번 처리 구간 (afterChangeId, upperChangeId]에 예매 상태 변경이 있는 주최자 ID를 gridSize개 구간으로 나눈다.
+ * (처리 구간은 SettlementDetailWindowTasklet이 job 실행 컨텍스트에 고정)
+ */
+@RequiredArgsConstructor
+public class SettlementHostPartitioner implements Partitioner {
+
+    static final String MIN_HOST_ID = "minHostId";
+    static final String MAX_HOST_ID = "maxHostId";
+
+    private final SettlementDetailMapper settlementDetailMapper;
+    private final long afterChangeId;
+    private final long upperChangeId;
+
+    @Override
+    public Map<String, ExecutionContext> partition(int gridSize) {
+        Map<String, ExecutionContext> partitions = new HashMap<>();
+        if (upperChangeId <= afterChangeId) {
+            return partitions;
+        }
+
+        List<Long> hostIds = settlementDetailMapper.findChangedHostIds(afterChangeId, upperChangeId);
+        if (hostIds.isEmpty()) {
+            return partitions;
+        }
+
+        // 주최자 수 기준으로 균등 분할 (구간은 겹치지 않음)
+        int partitionCount = Math.min(gridSize, hostIds.size());
+        for (int i = 0; i < partitionCount; i++) {
+            int from = hostIds.size() * i / partitionCount;
+            int to = hostIds.size() * (i + 1) / partitionCount - 1;
+
+            ExecutionContext context = new ExecutionContext();
+            context.putLong(MIN_HOST_ID, hostIds.get(from));
+            context.putLong(MAX_HOST_ID, hostIds.get(to));
+            partitions.put("hosts" + i, context);
+        }
+        return partitions;
+    }
+}
@@ -0,0 +1,30 @@
+package com.profect.tickle.batch.watermark;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * 배치 작업별 처리 완료 지점(high-water mark)
+ * 증분 배치는 이 값 이후에 쌓인 변경만 읽고, 처리를 마치면 값을 앞으로 옮긴다. (값은 뒤로 가지 않음)
+ * (스키마 정의용 엔티티 - 조회/갱신은 BatchWatermarkMapper로 처리)
+ */
+@Getter
+@Entity
+@Table(name = "batch_watermark")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class BatchWatermark {
+
+    @Id
+    @Column(name = "batch_watermark_name", length = 100)
+    private String name;
+
+    @Column(name = "batch_watermark_value", nullable = false)
+    private Long value;
+
+    @Column(name = "batch_watermark_updated_at", nullable = false)
+    private Instant updatedAt;
+}
@@ -0,0 +1,22 @@
+package com.profect.tickle.batch.watermark;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.time.Instant;
+
+@Mapper
+public interface BatchWatermarkMapper {
+
+    /**
+     * 처리 완료 지점 (없으면 null)
+     */
+    Long findValue(@Param("name") String name);
+
+    /**
+     * 처리 완료 지점 갱신 (현재 값보다 큰 경우에만)
+     */
+    void advance(@Param("name") String name,
+                 @Param("value") long value,
+                 @Param("updatedAt") Instant updatedAt);
+}
@@ -63,15 +63,16 @@ public class ChatMessageController {
     }
 
     /**
-     * 메시지 목록 조회 (페이징)
+     * 메시지 목록 조회 (커서 페이징)
      */
     @Operation(
             summary = "메시지 목록 조회",
-            description = "채팅방의 메시지 목록을 페이징으로 조회합니다. 최신 메시지가 먼저 표시됩니다.",
+            description = "채팅방의 메시지 목록을 커서 기반으로 조회합니다. 최신 메시지가 먼저 표시되며, 응답의 nextCursor로 이전 메시지를 이어서 조회합니다.",
             security = @SecurityRequirement(name = "bearerAuth")
     )
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "400", description = "잘못된 커서"),
             @ApiResponse(responseCode = "403", description = "채팅방 참여 권한 없음"),
             @ApiResponse(responseCode = "404", description = "채팅방을 찾을 수 없음"),
             @ApiResponse(responseCode = "500", description = "서버 내부 오류")
@@ -82,18 +83,16 @@ public class ChatMessageController {
             @PathVariable Long chatRoomId,
             @Parameter(description = "현재 사용자 ID (JWT에서 추출)", hidden = true)
             @CurrentMember Long currentMemberId, // ✅ 변경
-            @Parameter(description = "페이지 번호 (0부터 시작)", example = "0")
-            @RequestParam(defaultValue = "0") int page,
-            @Parameter(description = "페이지 크기", example = "50")
-            @RequestParam(defaultValue = "50") int size,
-            @Parameter(description = "마지막 메시지 ID (무한스크롤용)", example = "999")
-            @RequestParam(required = false) Long lastMessageId) {
+            @Parameter(description = "이전 응답의 nextCursor (없으면 최신 메시지부터)")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기 (최대 100)", example = "50")
+            @RequestParam(defaultValue = "50") int size) {
 
-        log.info("메시지 목록 조회 API 호출: chatRoomId={}, memberId={}, page={}, size={}",
-                chatRoomId, currentMemberId, page, size);
+        log.info("메시지 목록 조회 API 호출: chatRoomId={}, memberId={}, size={}",
+                chatRoomId, currentMemberId, size);
 
         ChatMessageListResponseDto response = chatMessageService.getMessages(
-                chatRoomId, currentMemberId, page, size, lastMessageId);
+                chatRoomId, currentMemberId, cursor, size);
 
         return ResponseEntity.ok(ApiResponseDto.success(response));
     }
@@ -0,0 +1,29 @@
+package com.profect.tickle.domain.chat.dto.common;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPaginationDto {
+
+    private Integer pageSize;
+    private String nextCursor;  // 다음(더 이전) 메시지 조회용 커서, 마지막 페이지면 null
+    private Boolean hasNext;
+
+    public static CursorPaginationDto of(int pageSize, String nextCursor) {
+        return CursorPaginationDto.builder()
+                .pageSize(pageSize)
+                .nextCursor(nextCursor)
+                .hasNext(nextCursor != null)
+                .build();
+    }
+
+    public static CursorPaginationDto last(int pageSize) {
+        return of(pageSize, null);
+    }
+}
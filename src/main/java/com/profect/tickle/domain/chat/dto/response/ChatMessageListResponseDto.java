@@ -1,6 +1,6 @@
 package com.profect.tickle.domain.chat.dto.response;
 
-import com.profect.tickle.domain.chat.dto.common.PaginationDto;
+import com.profect.tickle.domain.chat.dto.common.CursorPaginationDto;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -15,11 +15,11 @@ import java.util.List;
 public class ChatMessageListResponseDto {
 
     private List<ChatMessageResponseDto> messages;
-    private PaginationDto pagination;
+    private CursorPaginationDto pagination;
 
     public static ChatMessageListResponseDto of(
             List<ChatMessageResponseDto> messages,
-            PaginationDto pagination) {
+            CursorPaginationDto pagination) {
 
         return ChatMessageListResponseDto.builder()
                 .messages(messages)
@@ -8,7 +8,10 @@ import java.time.Instant;
 
 @Getter
 @Entity
-@Table(name = "chat")
+@Table(name = "chat", indexes = {
+        // 채팅방별 이력 커서 조회 (chat_room_id = ? AND chat_id < ? ORDER BY chat_id DESC)
+        @Index(name = "idx_chat_room_id_chat_id", columnList = "chat_room_id, chat_id")
+})
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor  // ✅ 추가!
 @Builder             // ✅ 추가!
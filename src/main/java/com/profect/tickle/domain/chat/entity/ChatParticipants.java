@@ -3,6 +3,7 @@ package com.profect.tickle.domain.chat.entity;
 import com.profect.tickle.domain.member.entity.Member;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.time.Instant;
 
@@ -39,6 +40,11 @@ public class ChatParticipants {
     @Column(name = "chat_participants_last_read_message_id")  // ✅ 컬럼명 수정
     private Long lastReadMessageId;
 
+    @Builder.Default
+    @ColumnDefault("0")
+    @Column(name = "chat_participants_unread_count", nullable = false)
+    private Integer unreadCount = 0;  // 읽지 않은 메시지 수 (ChatUnreadCounter가 주기적으로 반영)
+
     @PrePersist
     protected void onCreate() {
         joinedAt = Instant.now();  // UTC로 저장
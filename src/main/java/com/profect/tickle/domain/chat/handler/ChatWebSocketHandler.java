@@ -8,16 +8,15 @@ import com.profect.tickle.domain.chat.dto.websocket.WebSocketMessageResponseDto;
 import com.profect.tickle.domain.chat.service.ChatMessageService;
 import com.profect.tickle.domain.chat.service.ChatParticipantsService;
 import com.profect.tickle.domain.chat.service.OnlineUserService;
+import com.profect.tickle.global.websocket.WebSocketFanout;
 import com.profect.tickle.global.websocket.WebSocketSessionManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 import org.springframework.web.socket.*;
 
-import java.io.IOException;
 import java.net.URI;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentMap;
+import java.util.Collection;
 import com.profect.tickle.domain.member.entity.Member;
 import com.profect.tickle.domain.member.repository.MemberRepository;
 
@@ -30,15 +29,10 @@ public class ChatWebSocketHandler implements WebSocketHandler {
     private final ChatParticipantsService chatParticipantsService;
     private final OnlineUserService onlineUserService;
     private final WebSocketSessionManager sessionManager;
+    private final WebSocketFanout webSocketFanout;
     private final ObjectMapper objectMapper;
     private final MemberRepository memberRepository;
 
-    // 채팅 전용 세션 관리 (roomId -> sessionId -> WebSocketSession)
-    private final ConcurrentMap<Long, ConcurrentMap<String, WebSocketSession>> roomSessions = new ConcurrentHashMap<>();
-
-    // 🆕 세션별 사용자 정보 저장 (sessionId -> userId)
-    private final ConcurrentMap<String, Long> sessionToUserId = new ConcurrentHashMap<>();
-
     @Override
     public void afterConnectionEstablished(WebSocketSession session) throws Exception {
         log.info("채팅 WebSocket 연결 설정: sessionId={}", session.getId());
@@ -50,12 +44,8 @@ public class ChatWebSocketHandler implements WebSocketHandler {
             return;
         }
 
-        // 채팅방별 세션 관리
-        roomSessions.computeIfAbsent(chatRoomId, k -> new ConcurrentHashMap<>())
-                .put(session.getId(), session);
-
-        // Global 세션 관리자에도 등록
-        sessionManager.registerSession(session.getId(), session, "unknown", chatRoomId.toString());
+        // 세션 관리자에 채팅방 세션으로 등록 (사용자는 JOIN 시 등록)
+        sessionManager.registerSession(session.getId(), session, null, chatRoomId.toString());
 
         log.info("채팅방 {} 세션 추가 완료: sessionId={}", chatRoomId, session.getId());
 
@@ -97,17 +87,12 @@ public class ChatWebSocketHandler implements WebSocketHandler {
     public void afterConnectionClosed(WebSocketSession session, CloseStatus closeStatus) throws Exception {
         log.info("채팅 WebSocket 연결 종료: sessionId={}, status={}", session.getId(), closeStatus);
 
-        // 🆕 세션별 사용자 정보 제거
-        sessionToUserId.remove(session.getId());
-
         // 온라인 사용자에서 제거
         onlineUserService.removeOnlineUser(session.getId());
 
-        // 전역 세션 관리자에서 제거
+        // 세션 관리자에서 제거 (채팅방/사용자 인덱스도 함께 정리)
         sessionManager.removeSession(session.getId());
-
-        // 채팅방별 세션에서 제거
-        roomSessions.values().forEach(sessions -> sessions.remove(session.getId()));
+        webSocketFanout.release(session.getId());
 
         log.info("채팅 세션 정리 완료: sessionId={}", session.getId());
     }
@@ -128,8 +113,7 @@ public class ChatWebSocketHandler implements WebSocketHandler {
                     .message("채팅방 연결이 완료되었습니다. JOIN 메시지를 전송해주세요.")
                     .build();
 
-            String messageJson = objectMapper.writeValueAsString(response);
-            session.sendMessage(new TextMessage(messageJson));
+            webSocketFanout.send(session, new TextMessage(objectMapper.writeValueAsString(response)));
         } catch (Exception e) {
             log.error("연결 성공 메시지 전송 실패: {}", e.getMessage());
         }
@@ -187,13 +171,10 @@ public class ChatWebSocketHandler implements WebSocketHandler {
         Long memberId = requestDto.getSenderId();
 
         try {
-            // 🆕 세션별 사용자 정보 저장
-            sessionToUserId.put(session.getId(), memberId);
-
             // 온라인 사용자 추가
             onlineUserService.addOnlineUser(session.getId(), chatRoomId, memberId);
 
-            // Global 세션 관리자 업데이트
+            // 세션 관리자에 사용자 정보 등록
             sessionManager.registerSession(session.getId(), session, memberId.toString(), chatRoomId.toString());
 
             // 다른 사용자들에게 참여 알림 (개별 전송으로 isMyMessage 설정)
@@ -222,7 +203,7 @@ public class ChatWebSocketHandler implements WebSocketHandler {
                     .fileType(requestDto.getFileType())
                     .build();
 
-            // ChatMessageService를 통해 메시지 저장
+            // ChatMessageService를 통해 검증 후 저장 대기열에 등록 (저장 완료를 기다리지 않고 바로 브로드캐스트)
             ChatMessageResponseDto savedMessage = chatMessageService.sendMessage(
                     requestDto.getChatRoomId(),
                     requestDto.getSenderId(),
@@ -249,8 +230,8 @@ public class ChatWebSocketHandler implements WebSocketHandler {
         Long memberId = requestDto.getSenderId();
 
         try {
-            // 🆕 세션별 사용자 정보 제거
-            sessionToUserId.remove(session.getId());
+            // 🆕 세션별 사용자 정보 제거 (채팅방 세션은 연결 종료 시까지 유지)
+            sessionManager.registerSession(session.getId(), session, null, chatRoomId.toString());
 
             // 온라인 사용자에서 제거
             onlineUserService.removeOnlineUser(session.getId());
@@ -287,142 +268,105 @@ public class ChatWebSocketHandler implements WebSocketHandler {
     }
 
     /**
-     * 🆕 채팅 메시지를 각 사용자별로 isMyMessage 설정하여 브로드캐스트
+     * 🆕 채팅 메시지 브로드캐스트
+     * 발신자 정보와 JSON 프레임은 메시지당 한 번만 만들고 모든 세션이 같은 프레임을 공유한다. (isMyMessage는 프론트엔드에서 계산)
      */
     private void broadcastChatMessage(WebSocketMessageRequestDto requestDto, ChatMessageResponseDto savedMessage) {
-        ConcurrentMap<String, WebSocketSession> sessions = roomSessions.get(requestDto.getChatRoomId());
-        if (sessions == null) {
+        Collection<WebSocketSession> sessions = sessionManager.getSessionsInRoom(requestDto.getChatRoomId().toString());
+        if (sessions.isEmpty()) {
             log.warn("채팅방에 활성 세션이 없습니다: chatRoomId={}", requestDto.getChatRoomId());
             return;
         }
 
-        sessions.entrySet().parallelStream().forEach(entry -> {
-            try {
-                String sessionId = entry.getKey();
-                WebSocketSession targetSession = entry.getValue();
-
-                if (!targetSession.isOpen()) {
-                    return;
-                }
-
-                // 🎯 각 세션별로 isMyMessage 개별 계산
-                Long targetUserId = sessionToUserId.get(sessionId);
-                // 🎯 실제 발신자 ID 사용 (savedMessage에서 가져오기)
-                Long actualSenderId = savedMessage.getMemberId();
-                boolean isMyMessage = actualSenderId.equals(targetUserId);
-
-                // 🎯 올바른 닉네임 사용
-                String senderNickname = savedMessage.getSenderNickname();
-                
-                // senderNickname이 null이거나 이메일인 경우 Member 엔티티에서 조회
-                if (senderNickname == null || senderNickname.isEmpty() || senderNickname.contains("@")) {
-                    try {
-                        Member sender = memberRepository.findById(actualSenderId).orElse(null);
-                        if (sender != null && sender.getNickname() != null && !sender.getNickname().isEmpty()) {
-                            senderNickname = sender.getNickname();
-                            log.info("Member 엔티티에서 닉네임 조회 성공: senderId={}, nickname={}", actualSenderId, senderNickname);
-                        } else {
-                            // Member가 없거나 닉네임이 없는 경우
-                            if (sender == null) {
-                                log.warn("Member를 찾을 수 없음: senderId={}", actualSenderId);
-                                senderNickname = "알 수 없는 사용자";
-                            } else {
-                                log.warn("Member의 닉네임이 비어있음: senderId={}, nickname={}", actualSenderId, sender.getNickname());
-                                senderNickname = "닉네임 없음";
-                            }
-                        }
-                    } catch (Exception e) {
-                        log.error("Member 조회 중 오류: senderId={}, error={}", actualSenderId, e.getMessage());
-                        senderNickname = "알 수 없는 사용자";
-                    }
-                } else {
-                    log.info("savedMessage에서 닉네임 사용: senderId={}, nickname={}", actualSenderId, senderNickname);
-                }
-
-                // 개별 응답 DTO 생성
-                WebSocketMessageResponseDto response = WebSocketMessageResponseDto.builder()
-                        .type("MESSAGE")
-                        .messageId(savedMessage.getId())
-                        .chatRoomId(requestDto.getChatRoomId())
-                        .senderId(actualSenderId) // 🎯 실제 발신자 ID 사용
-                        .senderNickname(senderNickname) // 🎯 올바른 닉네임 사용
-                        .messageType(requestDto.getMessageType())
-                        .content(requestDto.getContent())
-                        .filePath(requestDto.getFilePath())
-                        .fileName(requestDto.getFileName())
-                        .fileSize(requestDto.getFileSize())
-                        .fileType(requestDto.getFileType())
-                        .createdAt(savedMessage.getCreatedAt())
-                        // 🎯 isMyMessage 제거 - 프론트엔드에서 계산
-                        .onlineCount(onlineUserService.getOnlineCount(requestDto.getChatRoomId()))
-                        .build();
-
-                String messageJson = objectMapper.writeValueAsString(response);
-                targetSession.sendMessage(new TextMessage(messageJson));
-
-                log.debug("메시지 전송 완료: sessionId={}, targetUserId={}, actualSenderId={}, isMyMessage={}, senderNickname={}",
-                        sessionId, targetUserId, actualSenderId, isMyMessage, senderNickname);
+        // 🎯 실제 발신자 ID 사용 (savedMessage에서 가져오기)
+        Long actualSenderId = savedMessage.getMemberId();
+
+        WebSocketMessageResponseDto response = WebSocketMessageResponseDto.builder()
+                .type("MESSAGE")
+                .messageId(savedMessage.getId())
+                .chatRoomId(requestDto.getChatRoomId())
+                .senderId(actualSenderId) // 🎯 실제 발신자 ID 사용
+                .senderNickname(resolveSenderNickname(actualSenderId, savedMessage.getSenderNickname())) // 🎯 올바른 닉네임 사용
+                .messageType(requestDto.getMessageType())
+                .content(requestDto.getContent())
+                .filePath(requestDto.getFilePath())
+                .fileName(requestDto.getFileName())
+                .fileSize(requestDto.getFileSize())
+                .fileType(requestDto.getFileType())
+                .createdAt(savedMessage.getCreatedAt())
+                .onlineCount(onlineUserService.getOnlineCount(requestDto.getChatRoomId()))
+                .build();
+
+        TextMessage frame = toFrame(response);
+        if (frame != null) {
+            webSocketFanout.broadcast(sessions, frame);
+        }
+    }
 
-            } catch (Exception e) {
-                log.error("메시지 전송 실패: sessionId={}, error={}", entry.getKey(), e.getMessage());
+    /**
+     * 발신자 닉네임 확인 - null이거나 이메일인 경우 Member 엔티티에서 조회 (메시지당 한 번)
+     */
+    private String resolveSenderNickname(Long senderId, String senderNickname) {
+        if (senderNickname != null && !senderNickname.isEmpty() && !senderNickname.contains("@")) {
+            return senderNickname;
+        }
+        try {
+            Member sender = memberRepository.findById(senderId).orElse(null);
+            if (sender == null) {
+                log.warn("Member를 찾을 수 없음: senderId={}", senderId);
+                return "알 수 없는 사용자";
             }
-        });
+            if (sender.getNickname() == null || sender.getNickname().isEmpty()) {
+                log.warn("Member의 닉네임이 비어있음: senderId={}, nickname={}", senderId, sender.getNickname());
+                return "닉네임 없음";
+            }
+            return sender.getNickname();
+        } catch (Exception e) {
+            log.error("Member 조회 중 오류: senderId={}, error={}", senderId, e.getMessage());
+            return "알 수 없는 사용자";
+        }
     }
 
     /**
      * 🆕 시스템 메시지 브로드캐스트 (입장/퇴장 알림)
      */
     private void broadcastSystemMessage(Long chatRoomId, Long senderId, String messageContent, String messageType) {
-        ConcurrentMap<String, WebSocketSession> sessions = roomSessions.get(chatRoomId);
-        if (sessions == null) {
+        Collection<WebSocketSession> sessions = sessionManager.getSessionsInRoom(chatRoomId.toString());
+        if (sessions.isEmpty()) {
             return;
         }
 
-        sessions.entrySet().parallelStream().forEach(entry -> {
-            try {
-                String sessionId = entry.getKey();
-                WebSocketSession targetSession = entry.getValue();
-
-                if (!targetSession.isOpen()) {
-                    return;
-                }
-
-                // 시스템 메시지는 모든 사용자에게 동일하게 전송 (isMyMessage = false)
-                WebSocketMessageResponseDto response = WebSocketMessageResponseDto.builder()
-                        .type(messageType)
-                        .chatRoomId(chatRoomId)
-                        .senderId(senderId)
-                        .messageType(com.profect.tickle.domain.chat.entity.ChatMessageType.SYSTEM)
-                        .content(messageContent)
-                        .message(messageContent)
-                        .createdAt(java.time.Instant.now())
-                        // 🎯 isMyMessage 제거 - 프론트엔드에서 계산
-                        .onlineCount(onlineUserService.getOnlineCount(chatRoomId))
-                        .build();
-
-                String messageJson = objectMapper.writeValueAsString(response);
-                targetSession.sendMessage(new TextMessage(messageJson));
-
-            } catch (Exception e) {
-                log.error("시스템 메시지 전송 실패: sessionId={}, error={}", entry.getKey(), e.getMessage());
-            }
-        });
+        // 시스템 메시지는 모든 사용자에게 동일하게 전송 (isMyMessage = false)
+        WebSocketMessageResponseDto response = WebSocketMessageResponseDto.builder()
+                .type(messageType)
+                .chatRoomId(chatRoomId)
+                .senderId(senderId)
+                .messageType(com.profect.tickle.domain.chat.entity.ChatMessageType.SYSTEM)
+                .content(messageContent)
+                .message(messageContent)
+                .createdAt(java.time.Instant.now())
+                // 🎯 isMyMessage 제거 - 프론트엔드에서 계산
+                .onlineCount(onlineUserService.getOnlineCount(chatRoomId))
+                .build();
+
+        TextMessage frame = toFrame(response);
+        if (frame != null) {
+            webSocketFanout.broadcast(sessions, frame);
+        }
     }
 
     /**
      * 에러 메시지 전송
      */
     private void sendErrorMessage(WebSocketSession session, String errorMessage) {
-        try {
-            WebSocketMessageResponseDto response = WebSocketMessageResponseDto.builder()
-                    .type("ERROR")
-                    .message(errorMessage)
-                    .build();
-
-            String messageJson = objectMapper.writeValueAsString(response);
-            session.sendMessage(new TextMessage(messageJson));
-        } catch (Exception e) {
-            log.error("에러 메시지 전송 실패: {}", e.getMessage());
+        WebSocketMessageResponseDto response = WebSocketMessageResponseDto.builder()
+                .type("ERROR")
+                .message(errorMessage)
+                .build();
+
+        TextMessage frame = toFrame(response);
+        if (frame != null) {
+            webSocketFanout.send(session, frame);
         }
     }
 
@@ -430,25 +374,9 @@ public class ChatWebSocketHandler implements WebSocketHandler {
      * 채팅방의 모든 사용자에게 메시지 브로드캐스트 (기존 방식 - 단순 시스템 메시지용)
      */
     private void broadcastToRoom(Long chatRoomId, WebSocketMessageResponseDto message) {
-        ConcurrentMap<String, WebSocketSession> sessions = roomSessions.get(chatRoomId);
-        if (sessions != null) {
-            String messageJson;
-            try {
-                messageJson = objectMapper.writeValueAsString(message);
-            } catch (Exception e) {
-                log.error("메시지 JSON 변환 오류: {}", e.getMessage());
-                return;
-            }
-
-            sessions.values().parallelStream().forEach(session -> {
-                try {
-                    if (session.isOpen()) {
-                        session.sendMessage(new TextMessage(messageJson));
-                    }
-                } catch (IOException e) {
-                    log.error("메시지 전송 실패: sessionId={}, error={}", session.getId(), e.getMessage());
-                }
-            });
+        TextMessage frame = toFrame(message);
+        if (frame != null) {
+            webSocketFanout.broadcast(sessionManager.getSessionsInRoom(chatRoomId.toString()), frame);
         }
     }
 
@@ -456,28 +384,21 @@ public class ChatWebSocketHandler implements WebSocketHandler {
      * 특정 세션 제외하고 브로드캐스트
      */
     private void broadcastToRoomExcept(Long chatRoomId, WebSocketMessageResponseDto message, String excludeSessionId) {
-        ConcurrentMap<String, WebSocketSession> sessions = roomSessions.get(chatRoomId);
-        if (sessions != null) {
-            String messageJson;
-            try {
-                messageJson = objectMapper.writeValueAsString(message);
-            } catch (Exception e) {
-                log.error("메시지 JSON 변환 오류: {}", e.getMessage());
-                return;
-            }
+        TextMessage frame = toFrame(message);
+        if (frame != null) {
+            webSocketFanout.broadcastExcept(sessionManager.getSessionsInRoom(chatRoomId.toString()), frame, excludeSessionId);
+        }
+    }
 
-            sessions.entrySet().parallelStream()
-                    .filter(entry -> !entry.getKey().equals(excludeSessionId))
-                    .forEach(entry -> {
-                        try {
-                            WebSocketSession session = entry.getValue();
-                            if (session.isOpen()) {
-                                session.sendMessage(new TextMessage(messageJson));
-                            }
-                        } catch (IOException e) {
-                            log.error("메시지 전송 실패: sessionId={}, error={}", entry.getKey(), e.getMessage());
-                        }
-                    });
+    /**
+     * 응답 DTO를 전송용 프레임으로 변환 (모든 수신 세션이 같은 프레임을 공유)
+     */
+    private TextMessage toFrame(WebSocketMessageResponseDto message) {
+        try {
+            return new TextMessage(objectMapper.writeValueAsString(message));
+        } catch (Exception e) {
+            log.error("메시지 JSON 변환 오류: {}", e.getMessage());
+            return null;
         }
     }
 }
@@ -1,6 +1,7 @@
 package com.profect.tickle.domain.chat.mapper;
 
 import com.profect.tickle.domain.chat.dto.response.ChatMessageResponseDto;
+import com.profect.tickle.domain.chat.service.writebehind.PendingChatMessage;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 
@@ -10,22 +11,13 @@ import java.util.List;
 public interface ChatMessageMapper {
 
     /**
-     * 채팅방 메시지 목록 조회 (페이징)
+     * 채팅방 메시지 목록 조회 (커서 페이징 - beforeMessageId보다 이전 메시지를 최신순으로)
      */
-    List<ChatMessageResponseDto> findMessagesByRoomId(
+    List<ChatMessageResponseDto> findMessagesBefore(
             @Param("roomId") Long roomId,
             @Param("currentMemberId") Long currentMemberId,
-            @Param("offset") int offset,
-            @Param("size") int size,
-            @Param("lastMessageId") Long lastMessageId  // 무한스크롤용
-    );
-
-    /**
-     * 채팅방 전체 메시지 개수 조회
-     */
-    int countTotalMessages(
-            @Param("roomId") Long roomId,
-            @Param("lastMessageId") Long lastMessageId
+            @Param("beforeMessageId") Long beforeMessageId,  // null이면 최신 메시지부터
+            @Param("limit") int limit
     );
 
     /**
@@ -45,4 +37,22 @@ public interface ChatMessageMapper {
             @Param("currentMemberId") Long currentMemberId  // ✅ 파라미터 추가
     );
 
+    /**
+     * 활성 채팅방의 참여 중인 회원이면 닉네임 조회 (아니면 null)
+     */
+    String findActiveSenderNickname(
+            @Param("roomId") Long roomId,
+            @Param("memberId") Long memberId
+    );
+
+    /**
+     * chat_id 시퀀스에서 ID 여러 개를 미리 할당
+     */
+    List<Long> nextChatIds(@Param("count") int count);
+
+    /**
+     * 메시지 다건 저장 (이미 저장된 ID는 건너뜀)
+     */
+    int insertChatMessages(@Param("messages") List<PendingChatMessage> messages);
+
 }
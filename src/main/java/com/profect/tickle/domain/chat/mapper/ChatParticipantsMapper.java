@@ -2,6 +2,8 @@ package com.profect.tickle.domain.chat.mapper;
 
 import com.profect.tickle.domain.chat.dto.response.ChatParticipantsResponseDto;
 import com.profect.tickle.domain.chat.dto.response.UnreadCountResponseDto;
+import com.profect.tickle.domain.chat.service.unread.ChatUnreadCount;
+import com.profect.tickle.domain.chat.service.unread.ChatUnreadState;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 
@@ -43,4 +45,19 @@ public interface ChatParticipantsMapper {
      * 사용자가 참여 중인 채팅방 목록 조회 (복잡한 정보 포함)
      */
     List<ChatParticipantsResponseDto> findMyChatRooms(@Param("memberId") Long memberId);
+
+    /**
+     * 채팅방 활성 참여자의 읽지 않은 메시지 수 조회 (카운터 적재용)
+     */
+    List<ChatUnreadState> findUnreadStates(@Param("roomId") Long roomId);
+
+    /**
+     * 읽지 않은 메시지 수 일괄 반영
+     */
+    int updateUnreadCounts(@Param("counts") List<ChatUnreadCount> counts);
+
+    /**
+     * 읽지 않은 메시지 수 일괄 재계산 (컬럼 추가 전부터 있던 참여자용, 1회성)
+     */
+    int backfillUnreadCounts();
 }
@@ -4,6 +4,8 @@ import com.profect.tickle.domain.chat.dto.response.ChatRoomResponseDto;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 
+import java.time.Instant;
+
 @Mapper
 public interface ChatRoomMapper {
 
@@ -22,4 +24,12 @@ public interface ChatRoomMapper {
             @Param("roomId") Long roomId,
             @Param("memberId") Long memberId
     );
+
+    /**
+     * 채팅방 갱신 시각 반영 (더 최근 시각일 때만)
+     */
+    int updateChatRoomUpdatedAt(
+            @Param("roomId") Long roomId,
+            @Param("updatedAt") Instant updatedAt
+    );
 }
@@ -0,0 +1,42 @@
+package com.profect.tickle.domain.chat.service;
+
+import com.profect.tickle.global.exception.BusinessException;
+import com.profect.tickle.global.exception.ErrorCode;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 채팅 이력 조회 커서
+ * 페이지의 마지막(가장 오래된) 메시지 ID를 불투명 문자열로 인코딩한다. 다음 페이지는 이 ID보다 작은 메시지부터 조회한다.
+ */
+final class ChatHistoryCursor {
+
+    private static final String VERSION_PREFIX = "c1:";
+
+    private ChatHistoryCursor() {
+    }
+
+    static String encode(Long lastMessageId) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((VERSION_PREFIX + lastMessageId).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서를 메시지 ID로 복원한다. 커서가 없으면 null (최신 메시지부터)
+     */
+    static Long decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            if (!decoded.startsWith(VERSION_PREFIX)) {
+                throw new BusinessException("잘못된 커서입니다: " + cursor, ErrorCode.INVALID_INPUT_VALUE);
+            }
+            return Long.parseLong(decoded.substring(VERSION_PREFIX.length()));
+        } catch (IllegalArgumentException e) {
+            throw new BusinessException("잘못된 커서입니다: " + cursor, ErrorCode.INVALID_INPUT_VALUE);
+        }
+    }
+}
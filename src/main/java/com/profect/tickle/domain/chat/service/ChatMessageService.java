@@ -9,7 +9,14 @@ import com.profect.tickle.domain.chat.entity.Chat;
 import com.profect.tickle.domain.chat.entity.ChatRoom;
 import com.profect.tickle.domain.chat.entity.ChatParticipants;
 import com.profect.tickle.domain.chat.entity.ChatMessageType;
+import com.profect.tickle.domain.chat.service.unread.ChatUnreadCounter;
+import com.profect.tickle.domain.chat.service.writebehind.ChatMessageIdAllocator;
+import com.profect.tickle.domain.chat.service.writebehind.ChatMessageWriter;
+import com.profect.tickle.domain.chat.service.writebehind.ChatSenderCache;
+import com.profect.tickle.domain.chat.service.writebehind.PendingChatMessage;
+import com.profect.tickle.global.exception.BusinessException;
 import com.profect.tickle.global.exception.ChatExceptions;
+import com.profect.tickle.global.exception.ErrorCode;
 import com.profect.tickle.domain.chat.repository.ChatRepository;
 import com.profect.tickle.domain.chat.repository.ChatRoomRepository;
 import com.profect.tickle.domain.chat.repository.ChatParticipantsRepository;
@@ -17,7 +24,8 @@ import com.profect.tickle.domain.chat.mapper.ChatMessageMapper;
 import com.profect.tickle.domain.file.service.FileService;
 import com.profect.tickle.domain.member.entity.Member;
 import com.profect.tickle.domain.member.repository.MemberRepository;
-import com.profect.tickle.domain.chat.dto.common.PaginationDto;
+import com.profect.tickle.domain.chat.dto.common.CursorPaginationDto;
+import com.profect.tickle.global.websocket.StompDestinations;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.PageRequest;
@@ -36,6 +44,13 @@ import java.util.stream.Collectors;
 @Slf4j
 public class ChatMessageService {
 
+    private static final int MAX_HISTORY_PAGE_SIZE = 100;
+    // chat 테이블 컬럼 길이
+    private static final int MAX_CONTENT_LENGTH = 255;
+    private static final int MAX_FILE_PATH_LENGTH = 255;
+    private static final int MAX_FILE_NAME_LENGTH = 255;
+    private static final int MAX_FILE_TYPE_LENGTH = 100;
+
     private final ChatParticipantsRepository chatParticipantsRepository;
     private final ChatRepository chatRepository;
     private final ChatRoomRepository chatRoomRepository;
@@ -43,83 +58,76 @@ public class ChatMessageService {
     private final ChatMessageMapper chatMessageMapper; // MyBatis
     private final FileService fileService;
     private final SimpMessagingTemplate simpMessagingTemplate; // WebSocket 템플릿
+    private final StompDestinations stompDestinations;
+    private final ChatSenderCache chatSenderCache;
+    private final ChatMessageIdAllocator chatMessageIdAllocator;
+    private final ChatMessageWriter chatMessageWriter;
+    private final ChatUnreadCounter chatUnreadCounter;
 
     // ✅ ChatParticipantsService 의존성 제거
     // private final ChatParticipantsService chatParticipantsService;
 
     /**
-     * 메시지 전송 (JPA 사용)
+     * 메시지 전송 (write-behind)
+     * 발신 자격은 캐시로 확인하고, 미리 할당한 ID로 응답을 만든 뒤 저장은 ChatMessageWriter에 맡긴다.
+     * 호출자는 저장 완료를 기다리지 않고 바로 브로드캐스트한다.
      */
-    @Transactional
     public ChatMessageResponseDto sendMessage(Long chatRoomId, Long senderId, ChatMessageSendRequestDto requestDto) {
-        log.info("메시지 전송 요청: chatRoomId={}, senderId={}, type={}",
+        log.debug("메시지 전송 요청: chatRoomId={}, senderId={}, type={}",
                 chatRoomId, senderId, requestDto.getMessageType());
 
-        // 1. 채팅방 존재 및 활성 상태 확인
-        ChatRoom chatRoom = chatRoomRepository.findById(chatRoomId)
-                .orElseThrow(() -> ChatExceptions.chatRoomNotFound(chatRoomId)); // ✅ 수정
-
-        if (!chatRoom.isActive()) {
-            throw ChatExceptions.chatRoomInactive(chatRoomId); // ✅ 수정
-        }
+        // 1. 발신 자격 확인 (활성 채팅방 + 참여자)
+        String senderNickname = chatSenderCache.findNickname(chatRoomId, senderId)
+                .orElseThrow(() -> senderRejection(chatRoomId, senderId));
 
-        // 2. 발신자 존재 확인
-        Member sender = memberRepository.findById(senderId)
-                .orElseThrow(() -> ChatExceptions.memberNotFoundInChat(senderId)); // ✅ 수정
-
-        // 3. 채팅방 참여 여부 확인
-        boolean isParticipant = chatParticipantsRepository.existsByChatRoomAndMemberAndStatusTrue(chatRoom, sender);
-        if (!isParticipant) {
-            throw ChatExceptions.chatNotParticipant(); // ✅ 수정
-        }
-
-        // 4. 메시지 검증
+        // 2. 메시지 검증
         validateMessage(requestDto);
 
-        // 5. 메시지 엔티티 생성
-        Chat message = Chat.builder()
+        // 3. 저장 대기열에 추가 (채팅방 갱신 시각도 저장 시 함께 반영) 및 참여자별 읽지 않은 메시지 수 증가
+        PendingChatMessage message = new PendingChatMessage(
+                chatMessageIdAllocator.next(),
+                chatRoomId,
+                senderId,
+                requestDto.getMessageType(),
+                contentOf(requestDto),
+                requestDto.getFilePath(),
+                requestDto.getFileName(),
+                requestDto.getFileSize(),
+                requestDto.getFileType(),
+                Instant.now()
+        );
+        chatMessageWriter.enqueue(message);
+        chatUnreadCounter.onMessageSent(chatRoomId, senderId, message.id());
+
+        // 4. DTO 변환 및 반환
+        return ChatMessageResponseDto.builder()
+                .id(message.id())
                 .chatRoomId(chatRoomId)
-                .member(sender)
-                .messageType(requestDto.getMessageType())
-                .content(requestDto.getContent())
-                .filePath(requestDto.getFilePath())
-                .fileName(requestDto.getFileName())
-                .fileSize(requestDto.getFileSize())
-                .fileType(requestDto.getFileType())
-                .createdAt(Instant.now())
+                .memberId(senderId)
+                .messageType(message.messageType())
+                .content(message.content())
+                .createdAt(message.createdAt())
                 .senderStatus(true)
                 .isDeleted(false)
-                .isEdited(false)
+                .filePath(message.filePath())
+                .fileName(message.fileName())
+                .fileSize(message.fileSize())
+                .fileType(message.fileType())
+                .senderNickname(senderNickname)
+                .isMyMessage(true)
                 .build();
-
-        // 6. 메시지 저장
-        Chat savedMessage = chatRepository.save(message);
-        log.info("메시지 저장 완료: messageId={}", savedMessage.getId());
-
-        // 7. 채팅방 업데이트 시간 갱신
-        updateChatRoomTimestamp(chatRoom);
-
-        // 8. DTO 변환 및 반환
-        ChatMessageResponseDto response = ChatMessageResponseDto.fromEntityWithDetails(
-                savedMessage,
-                sender.getNickname(),
-                true
-        );
-
-        log.info("메시지 전송 완료: messageId={}, senderId={}, senderNickname={}, actualNickname={}", 
-                savedMessage.getId(), savedMessage.getMember().getId(), 
-                response.getSenderNickname(), sender.getNickname());
-
-        return response;
     }
 
     /**
-     * 메시지 목록 조회 (MyBatis 사용 - 페이징)
+     * 메시지 목록 조회 (MyBatis 사용 - 커서 페이징)
+     * (chat_room_id, chat_id) 인덱스를 커서 위치부터 역순으로 읽으므로 얼마나 이전 페이지든 조회 비용이 같다.
      */
-    public ChatMessageListResponseDto getMessages(Long chatRoomId, Long currentMemberId,
-                                                  int page, int size, Long lastMessageId) {
-        log.info("메시지 목록 조회: chatRoomId={}, memberId={}, page={}, size={}, lastMessageId={}",
-                chatRoomId, currentMemberId, page, size, lastMessageId);
+    public ChatMessageListResponseDto getMessages(Long chatRoomId, Long currentMemberId, String cursor, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_HISTORY_PAGE_SIZE));
+        Long beforeMessageId = ChatHistoryCursor.decode(cursor);
+
+        log.info("메시지 목록 조회: chatRoomId={}, memberId={}, size={}, beforeMessageId={}",
+                chatRoomId, currentMemberId, pageSize, beforeMessageId);
 
         try {
             // 1. 채팅방 존재 확인
@@ -134,29 +142,29 @@ public class ChatMessageService {
             boolean isParticipant = chatParticipantsRepository.existsByChatRoomAndMemberAndStatusTrue(chatRoom, member);
             if (!isParticipant) {
                 log.warn("사용자가 채팅방에 참여하지 않음: chatRoomId={}, memberId={}", chatRoomId, currentMemberId);
-                return ChatMessageListResponseDto.of(List.of(), PaginationDto.of(page, size, 0));
+                return ChatMessageListResponseDto.of(List.of(), CursorPaginationDto.last(pageSize));
             }
 
-            // 4. MyBatis로 복잡한 메시지 조회 (페이징)
-            int offset = page * size;
-            List<ChatMessageResponseDto> messages = chatMessageMapper.findMessagesByRoomId(
-                    chatRoomId, currentMemberId, offset, size, lastMessageId);
+            // 4. 커서 이전 메시지 조회 (다음 페이지 존재 여부 확인을 위해 한 건 더 조회)
+            List<ChatMessageResponseDto> messages = chatMessageMapper.findMessagesBefore(
+                    chatRoomId, currentMemberId, beforeMessageId, pageSize + 1);
 
-            // 5. 전체 메시지 개수 조회
-            int totalMessages = chatMessageMapper.countTotalMessages(chatRoomId, lastMessageId);
-
-            // 6. 페이징 정보 생성
-            PaginationDto pagination = PaginationDto.of(page, size, totalMessages);
+            // 5. 다음 페이지 커서 생성
+            CursorPaginationDto pagination = CursorPaginationDto.last(pageSize);
+            if (messages.size() > pageSize) {
+                messages = messages.subList(0, pageSize);
+                pagination = CursorPaginationDto.of(pageSize, ChatHistoryCursor.encode(messages.getLast().getId()));
+            }
 
-            log.info("메시지 조회 완료: chatRoomId={}, 조회된 메시지 {} 건, 전체 {} 건", 
-                    chatRoomId, messages.size(), totalMessages);
+            log.info("메시지 조회 완료: chatRoomId={}, 조회된 메시지 {} 건, hasNext={}",
+                    chatRoomId, messages.size(), pagination.getHasNext());
 
             return ChatMessageListResponseDto.of(messages, pagination);
 
         } catch (Exception e) {
             log.error("메시지 목록 조회 중 오류 발생: chatRoomId={}, memberId={}, error={}", 
                     chatRoomId, currentMemberId, e.getMessage(), e);
-            return ChatMessageListResponseDto.of(List.of(), PaginationDto.of(page, size, 0));
+            return ChatMessageListResponseDto.of(List.of(), CursorPaginationDto.last(pageSize));
         }
     }
 
@@ -216,6 +224,7 @@ public class ChatMessageService {
 
         // 4. 논리 삭제 (더티 체킹)
         message.markAsDeleted();
+        chatUnreadCounter.onMessageDeleted(message.getChatRoomId(), deleterId, messageId);
 
         log.info("메시지 삭제 완료: messageId={}", messageId);
 
@@ -229,7 +238,7 @@ public class ChatMessageService {
                     .senderNickname(message.getMember().getNickname())
                     .build();
 
-            simpMessagingTemplate.convertAndSend("/topic/chat/" + message.getChatRoomId(), deleteEvent);
+            simpMessagingTemplate.convertAndSend(stompDestinations.topic("chat", message.getChatRoomId()), deleteEvent);
             log.info("🗑️ 삭제 이벤트 WebSocket 전송 완료: messageId={}, chatRoomId={}", messageId, message.getChatRoomId());
         } catch (Exception e) {
             log.error("❌ 삭제 이벤트 WebSocket 전송 실패: messageId={}, error={}", messageId, e.getMessage());
@@ -299,14 +308,17 @@ public class ChatMessageService {
      * 메시지 내용 검증
      */
     private void validateMessage(ChatMessageSendRequestDto requestDto) {
+        // 저장은 브로드캐스트 이후 비동기로 이루어지므로 chat 테이블의 NOT NULL/길이 제약을 여기서 모두 확인한다.
+        if (requestDto.getMessageType() == null) {
+            throw new BusinessException("메시지 타입은 필수입니다.", ErrorCode.INVALID_INPUT_VALUE);
+        }
+
         switch (requestDto.getMessageType()) {
             case TEXT:
+            case SYSTEM:
                 if (requestDto.getContent() == null || requestDto.getContent().trim().isEmpty()) {
                     throw ChatExceptions.chatMessageEmptyContent(); // ✅ 수정
                 }
-                if (requestDto.getContent().length() > 255) {
-                    throw ChatExceptions.chatMessageTooLong(); // ✅ 수정
-                }
                 break;
 
             case FILE:
@@ -318,18 +330,44 @@ public class ChatMessageService {
                     throw ChatExceptions.chatMessageInvalidFileSize(); // ✅ 수정
                 }
                 break;
+        }
 
-            case SYSTEM:
-                // 시스템 메시지는 별도 검증 로직
-                break;
+        if (contentOf(requestDto).length() > MAX_CONTENT_LENGTH) {
+            throw ChatExceptions.chatMessageTooLong(); // ✅ 수정
+        }
+        if (exceeds(requestDto.getFilePath(), MAX_FILE_PATH_LENGTH)
+                || exceeds(requestDto.getFileName(), MAX_FILE_NAME_LENGTH)
+                || exceeds(requestDto.getFileType(), MAX_FILE_TYPE_LENGTH)) {
+            throw ChatExceptions.chatMessageFileInfoTooLong();
         }
     }
 
+    // 파일/이미지 메시지는 내용 없이 보낼 수 있으므로 파일명을 내용으로 저장 (chat_content NOT NULL)
+    private String contentOf(ChatMessageSendRequestDto requestDto) {
+        String content = requestDto.getContent();
+        if ((content == null || content.isBlank()) && requestDto.getFileName() != null) {
+            return requestDto.getFileName();
+        }
+        return content;
+    }
+
+    private boolean exceeds(String value, int maxLength) {
+        return value != null && value.length() > maxLength;
+    }
+
     /**
-     * 채팅방 타임스탬프 업데이트
+     * 발신 거절 사유 확인 (거절된 경우에만 상세 조회)
      */
-    private void updateChatRoomTimestamp(ChatRoom chatRoom) {
-        chatRoom.updateTimestamp();
+    private BusinessException senderRejection(Long chatRoomId, Long senderId) {
+        ChatRoom chatRoom = chatRoomRepository.findById(chatRoomId)
+                .orElseThrow(() -> ChatExceptions.chatRoomNotFound(chatRoomId));
+        if (!chatRoom.isActive()) {
+            return ChatExceptions.chatRoomInactive(chatRoomId);
+        }
+        if (!memberRepository.existsById(senderId)) {
+            return ChatExceptions.memberNotFoundInChat(senderId);
+        }
+        return ChatExceptions.chatNotParticipant();
     }
 
 
@@ -9,6 +9,8 @@ import com.profect.tickle.domain.chat.entity.ChatRoom;
 import com.profect.tickle.domain.chat.mapper.ChatParticipantsMapper;
 import com.profect.tickle.domain.chat.repository.ChatParticipantsRepository;
 import com.profect.tickle.domain.chat.repository.ChatRoomRepository;
+import com.profect.tickle.domain.chat.service.unread.ChatUnreadCounter;
+import com.profect.tickle.domain.chat.service.writebehind.ChatSenderCache;
 import com.profect.tickle.domain.member.entity.Member;
 import com.profect.tickle.domain.member.repository.MemberRepository;
 import com.profect.tickle.global.exception.ChatExceptions;
@@ -18,6 +20,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Instant;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
 
@@ -31,6 +34,8 @@ public class ChatParticipantsService {
     private final ChatRoomRepository chatRoomRepository;
     private final MemberRepository memberRepository;
     private final ChatParticipantsMapper chatParticipantsMapper; // MyBatis
+    private final ChatSenderCache chatSenderCache;
+    private final ChatUnreadCounter chatUnreadCounter;
 
     /**
      * 채팅방 참여 (JPA 사용)
@@ -73,6 +78,7 @@ public class ChatParticipantsService {
                 // 비활성 상태였다면 재활성화
                 participant.reactivate(); // 이 메서드가 없다면 participant.setStatus(true) 사용
                 ChatParticipants saved = chatParticipantsRepository.save(participant);
+                chatUnreadCounter.onJoin(chatRoomId, memberId, saved.getLastReadMessageId());
                 log.info("채팅방 재참여 완료: participantId={}", saved.getId());
 
                 // ✅ 재활성화된 참여자 DTO 반환
@@ -103,6 +109,7 @@ public class ChatParticipantsService {
                 .build();
 
         ChatParticipants saved = chatParticipantsRepository.save(newParticipant);
+        chatUnreadCounter.onJoin(chatRoomId, memberId, saved.getLastReadMessageId());
         log.info("채팅방 참여 완료: participantId={}", saved.getId());
 
         // ✅ 기존 방식: 새 참여자 DTO 반환
@@ -136,6 +143,8 @@ public class ChatParticipantsService {
 
         // 상태를 비활성화 (논리 삭제)
         participant.leave(); // Entity에 추가할 메서드
+        chatSenderCache.evict(chatRoomId, memberId);
+        chatUnreadCounter.onLeave(chatRoomId, memberId);
 
         log.info("채팅방 나가기 완료: participantId={}", participant.getId());
     }
@@ -159,6 +168,7 @@ public class ChatParticipantsService {
         if (updated == 0) {
             throw ChatExceptions.chatParticipantNotFound(chatRoomId, memberId); // ✅ 수정
         }
+        chatUnreadCounter.markAsRead(chatRoomId, memberId, requestDto.getLastReadMessageId());
 
         log.info("읽음 처리 완료");
     }
@@ -175,7 +185,11 @@ public class ChatParticipantsService {
             throw ChatExceptions.chatParticipantNotFound(chatRoomId, memberId); // ✅ 수정
         }
 
-        return result;
+        // 아직 반영되지 않은 카운터 값 우선
+        return UnreadCountResponseDto.of(
+                chatUnreadCounter.unreadCountOf(chatRoomId, memberId, result.getUnreadCount()),
+                result.getLastReadMessageId(),
+                result.getLastReadAt());
     }
 
     /**
@@ -184,7 +198,9 @@ public class ChatParticipantsService {
     public List<ChatParticipantsResponseDto> getParticipantsByRoomId(Long chatRoomId) {
         log.info("채팅방 참여자 목록 조회: chatRoomId={}", chatRoomId);
 
-        return chatParticipantsMapper.findParticipantsByRoomId(chatRoomId);
+        return chatParticipantsMapper.findParticipantsByRoomId(chatRoomId).stream()
+                .map(this::withLiveUnreadCount)
+                .toList();
     }
 
     /**
@@ -193,7 +209,11 @@ public class ChatParticipantsService {
     public List<ChatParticipantsResponseDto> getMyChatRooms(Long memberId) {
         log.info("🔍 getMyChatRooms 호출: memberId={}", memberId);
         
-        List<ChatParticipantsResponseDto> result = chatParticipantsMapper.findMyChatRooms(memberId);
+        // 조회 결과는 최근 갱신 순이므로, 카운터 값을 반영한 뒤 읽지 않은 메시지가 있는 방을 앞으로 (안정 정렬)
+        List<ChatParticipantsResponseDto> result = chatParticipantsMapper.findMyChatRooms(memberId).stream()
+                .map(this::withLiveUnreadCount)
+                .sorted(Comparator.comparing(room -> room.getUnreadMessageCount() > 0 ? 0 : 1))
+                .toList();
         
         log.info("🔍 getMyChatRooms 결과: {}개 채팅방", result.size());
         for (ChatParticipantsResponseDto room : result) {
@@ -203,6 +223,11 @@ public class ChatParticipantsService {
         
         return result;
     }
-    
 
+    private ChatParticipantsResponseDto withLiveUnreadCount(ChatParticipantsResponseDto participant) {
+        return participant.toBuilder()
+                .unreadMessageCount(chatUnreadCounter.unreadCountOf(
+                        participant.getChatRoomId(), participant.getMemberId(), participant.getUnreadMessageCount()))
+                .build();
+    }
 }
@@ -5,6 +5,8 @@ import com.profect.tickle.domain.chat.dto.response.ChatRoomResponseDto;
 import com.profect.tickle.domain.chat.entity.ChatRoom;
 import com.profect.tickle.domain.chat.mapper.ChatRoomMapper;
 import com.profect.tickle.domain.chat.repository.ChatRoomRepository;
+import com.profect.tickle.domain.chat.service.unread.ChatUnreadCounter;
+import com.profect.tickle.domain.chat.service.writebehind.ChatSenderCache;
 import com.profect.tickle.domain.performance.entity.Performance;
 import com.profect.tickle.domain.performance.repository.PerformanceRepository;
 import com.profect.tickle.global.exception.ChatExceptions;
@@ -29,6 +31,8 @@ public class ChatRoomService {
     private final PerformanceRepository performanceRepository; // 팀원이 만든 Repository
     private final ChatRoomMapper chatRoomMapper; // MyBatis Mapper
     private final OnlineUserService onlineUserService;
+    private final ChatSenderCache chatSenderCache;
+    private final ChatUnreadCounter chatUnreadCounter;
 
     /**
      * 채팅방 생성 (JPA 사용)
@@ -113,6 +117,8 @@ public class ChatRoomService {
 
         // Entity의 상태 변경 (더티 체킹으로 자동 업데이트)
         chatRoom.updateStatus(status); // Entity에 이 메서드를 추가해야 함
+        chatSenderCache.evictRoom(chatRoomId);
+        chatUnreadCounter.evictRoom(chatRoomId);
     }
 
     /**
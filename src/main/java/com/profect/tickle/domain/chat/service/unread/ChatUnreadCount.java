@@ -0,0 +1,7 @@
+package com.profect.tickle.domain.chat.service.unread;
+
+/**
+ * 주기적으로 반영할 (채팅방, 참여자)별 읽지 않은 메시지 수
+ */
+public record ChatUnreadCount(Long chatRoomId, Long memberId, Integer unreadCount) {
+}
@@ -0,0 +1,41 @@
+package com.profect.tickle.domain.chat.service.unread;
+
+import com.profect.tickle.batch.watermark.BatchWatermarkMapper;
+import com.profect.tickle.domain.chat.mapper.ChatParticipantsMapper;
+import jakarta.annotation.PostConstruct;
+import java.time.Instant;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * chat_participants_unread_count 1회성 채우기
+ * 컬럼 추가 전부터 있던 참여자는 값이 0으로 시작하므로, 기존 집계 조건으로 한 번 다시 계산한다.
+ *  - 완료 여부는 batch_watermark에 기록하며, 완료된 뒤에는 기동 시 아무것도 하지 않는다.
+ *  - 요청/스케줄러가 카운터를 적재하기 전(컨텍스트 초기화 중)에 실행된다.
+ *  - 실패하면 기록하지 않으므로 다음 기동 시 다시 시도한다. (재계산이라 여러 번 실행돼도 결과는 같음)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ChatUnreadCountBackfill {
+
+    static final String WATERMARK_NAME = "chatUnreadCountBackfill";
+
+    private final ChatParticipantsMapper chatParticipantsMapper;
+    private final BatchWatermarkMapper batchWatermarkMapper;
+
+    @PostConstruct
+    void backfill() {
+        try {
+            if (batchWatermarkMapper.findValue(WATERMARK_NAME) != null) {
+                return;
+            }
+            int updated = chatParticipantsMapper.backfillUnreadCounts();
+            batchWatermarkMapper.advance(WATERMARK_NAME, 1L, Instant.now());
+            log.info("읽지 않은 메시지 수 채우기 완료 - participants={}", updated);
+        } catch (Exception e) {
+            log.warn("읽지 않은 메시지 수 채우기 실패 - 다음 기동 시 재시도, err={}", e.toString());
+        }
+    }
+}
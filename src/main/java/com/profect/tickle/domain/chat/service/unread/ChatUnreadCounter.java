@@ -0,0 +1,259 @@
+package com.profect.tickle.domain.chat.service.unread;
+
+import com.profect.tickle.domain.chat.mapper.ChatParticipantsMapper;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 채팅방 참여자별 읽지 않은 메시지 수 카운터
+ * 조회할 때마다 chat을 세지 않고 메시지 전송/삭제/읽음 처리 시점에 참여자별 카운터를 갱신한 뒤,
+ * 바뀐 값만 주기적으로 chat_participants에 반영한다. (채팅방 목록 조회 비용이 메시지 수와 무관)
+ *  - 채팅방 카운터는 해당 방에 처음 메시지가 오갈 때 저장된 값으로 적재된다.
+ *  - 자신이 보낸 메시지와 이미 읽은 위치 이전의 메시지는 세지 않으며, 카운터는 0 아래로 내려가지 않는다.
+ *  - 닫히거나 한동안 메시지가 오가지 않은 채팅방은 바뀐 값을 반영한 뒤 메모리에서 내린다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ChatUnreadCounter {
+
+    private static final int FLUSH_BATCH_SIZE = 500;
+    private static final long IDLE_EVICT_MILLIS = 30 * 60 * 1000L;
+
+    private final ChatParticipantsMapper chatParticipantsMapper;
+
+    // chatRoomId → (memberId → 카운터)
+    private final ConcurrentMap<Long, RoomUnread> rooms = new ConcurrentHashMap<>();
+    // 마지막 반영 이후 값이 바뀐 (채팅방, 참여자)
+    private final Set<UnreadKey> dirty = ConcurrentHashMap.newKeySet();
+
+    /**
+     * 메시지 전송 - 발신자를 제외한 참여자의 카운터 증가
+     */
+    public void onMessageSent(Long chatRoomId, Long senderId, Long messageId) {
+        room(chatRoomId).forEach((memberId, unread) -> {
+            if (!memberId.equals(senderId) && unread.increment(messageId)) {
+                dirty.add(new UnreadKey(chatRoomId, memberId));
+            }
+        });
+    }
+
+    /**
+     * 메시지 삭제 - 아직 읽지 않은 참여자의 카운터 감소
+     */
+    public void onMessageDeleted(Long chatRoomId, Long senderId, Long messageId) {
+        room(chatRoomId).forEach((memberId, unread) -> {
+            if (!memberId.equals(senderId) && unread.decrement(messageId)) {
+                dirty.add(new UnreadKey(chatRoomId, memberId));
+            }
+        });
+    }
+
+    /**
+     * 읽음 처리 - 카운터 초기화
+     */
+    public void markAsRead(Long chatRoomId, Long memberId, Long lastReadMessageId) {
+        MemberUnread unread = room(chatRoomId).get(memberId);
+        if (unread != null) {
+            unread.markRead(lastReadMessageId);
+            dirty.add(new UnreadKey(chatRoomId, memberId));
+        }
+    }
+
+    /**
+     * 참여(재참여) - 참여 이후의 메시지부터 센다.
+     */
+    public void onJoin(Long chatRoomId, Long memberId, Long lastReadMessageId) {
+        room(chatRoomId).put(memberId, new MemberUnread(0, lastReadMessageId));
+        dirty.add(new UnreadKey(chatRoomId, memberId));
+    }
+
+    public void onLeave(Long chatRoomId, Long memberId) {
+        RoomUnread room = rooms.get(chatRoomId);
+        if (room != null) {
+            room.members().remove(memberId);
+        }
+    }
+
+    /**
+     * 채팅방 카운터 내리기 (채팅방 상태 변경 시)
+     * 다시 쓰이면 저장된 값으로 새로 적재된다.
+     */
+    public void evictRoom(Long chatRoomId) {
+        RoomUnread room = rooms.remove(chatRoomId);
+        if (room != null) {
+            writeBack(chatRoomId, room);
+        }
+    }
+
+    /**
+     * 읽지 않은 메시지 수
+     * 채팅방 카운터가 적재되지 않았다면 그동안 바뀐 값이 없으므로 저장된 값을 그대로 사용한다.
+     */
+    public int unreadCountOf(Long chatRoomId, Long memberId, Integer persistedCount) {
+        RoomUnread room = rooms.get(chatRoomId);
+        MemberUnread unread = room != null ? room.members().get(memberId) : null;
+        if (unread != null) {
+            return unread.count();
+        }
+        return persistedCount != null ? persistedCount : 0;
+    }
+
+    // 1초마다 바뀐 카운터 반영
+    @Scheduled(fixedDelay = 1000)
+    public void flush() {
+        if (dirty.isEmpty()) {
+            return;
+        }
+
+        List<ChatUnreadCount> counts = new ArrayList<>();
+        Iterator<UnreadKey> iterator = dirty.iterator();
+        while (iterator.hasNext()) {
+            UnreadKey key = iterator.next();
+            // 값을 읽기 전에 먼저 빼므로, 반영 도중 바뀐 카운터는 다음 주기에 다시 반영된다.
+            iterator.remove();
+            RoomUnread room = rooms.get(key.chatRoomId());
+            MemberUnread unread = room != null ? room.members().get(key.memberId()) : null;
+            if (unread != null) {
+                counts.add(new ChatUnreadCount(key.chatRoomId(), key.memberId(), unread.count()));
+            }
+        }
+
+        // 다음 주기에 다시 반영한다.
+        write(counts).forEach(count -> dirty.add(new UnreadKey(count.chatRoomId(), count.memberId())));
+    }
+
+    // 1분마다 30분 넘게 메시지가 오가지 않은 채팅방 카운터 내리기
+    @Scheduled(fixedDelay = 60_000)
+    public void evictIdleRooms() {
+        evictRoomsIdleSince(System.currentTimeMillis() - IDLE_EVICT_MILLIS);
+    }
+
+    void evictRoomsIdleSince(long idleSince) {
+        rooms.forEach((chatRoomId, room) -> {
+            if (room.lastUsedAt() < idleSince && rooms.remove(chatRoomId, room)) {
+                writeBack(chatRoomId, room);
+            }
+        });
+    }
+
+    // 내린 채팅방의 바뀐 값 반영 - 실패하면 다시 올려 두고 다음 주기에 반영한다.
+    private void writeBack(Long chatRoomId, RoomUnread room) {
+        List<ChatUnreadCount> counts = new ArrayList<>();
+        room.members().forEach((memberId, unread) -> {
+            if (dirty.remove(new UnreadKey(chatRoomId, memberId))) {
+                counts.add(new ChatUnreadCount(chatRoomId, memberId, unread.count()));
+            }
+        });
+
+        List<ChatUnreadCount> failed = write(counts);
+        if (!failed.isEmpty()) {
+            rooms.putIfAbsent(chatRoomId, room);
+            failed.forEach(count -> dirty.add(new UnreadKey(chatRoomId, count.memberId())));
+        }
+    }
+
+    // 반영에 실패한 카운터를 돌려준다.
+    private List<ChatUnreadCount> write(List<ChatUnreadCount> counts) {
+        List<ChatUnreadCount> failed = new ArrayList<>();
+        for (int from = 0; from < counts.size(); from += FLUSH_BATCH_SIZE) {
+            List<ChatUnreadCount> chunk = counts.subList(from, Math.min(from + FLUSH_BATCH_SIZE, counts.size()));
+            try {
+                chatParticipantsMapper.updateUnreadCounts(chunk);
+            } catch (Exception e) {
+                log.warn("읽지 않은 메시지 수 반영 실패 - count={}, err={}", chunk.size(), e.toString());
+                failed.addAll(chunk);
+            }
+        }
+        return failed;
+    }
+
+    private ConcurrentMap<Long, MemberUnread> room(Long chatRoomId) {
+        RoomUnread room = rooms.computeIfAbsent(chatRoomId, this::load);
+        room.touch();
+        return room.members();
+    }
+
+    private RoomUnread load(Long chatRoomId) {
+        ConcurrentMap<Long, MemberUnread> members = new ConcurrentHashMap<>();
+        for (ChatUnreadState state : chatParticipantsMapper.findUnreadStates(chatRoomId)) {
+            members.put(state.memberId(), new MemberUnread(
+                    state.unreadCount() != null ? state.unreadCount() : 0,
+                    state.lastReadMessageId()));
+        }
+        return new RoomUnread(members);
+    }
+
+    // 채팅방별 카운터와 마지막 사용 시각 (유휴 채팅방 내리기용)
+    private static final class RoomUnread {
+
+        private final ConcurrentMap<Long, MemberUnread> members;
+        private volatile long lastUsedAt = System.currentTimeMillis();
+
+        RoomUnread(ConcurrentMap<Long, MemberUnread> members) {
+            this.members = members;
+        }
+
+        ConcurrentMap<Long, MemberUnread> members() {
+            return members;
+        }
+
+        long lastUsedAt() {
+            return lastUsedAt;
+        }
+
+        void touch() {
+            lastUsedAt = System.currentTimeMillis();
+        }
+    }
+
+    // 읽음 위치와 카운터를 함께 갱신해야 하므로 참여자 단위로 동기화
+    private static final class MemberUnread {
+
+        private int count;
+        private long lastReadMessageId;
+
+        MemberUnread(int count, Long lastReadMessageId) {
+            this.count = count;
+            this.lastReadMessageId = lastReadMessageId != null ? lastReadMessageId : 0;
+        }
+
+        synchronized boolean increment(long messageId) {
+            if (messageId <= lastReadMessageId) {
+                return false;
+            }
+            count++;
+            return true;
+        }
+
+        synchronized boolean decrement(long messageId) {
+            if (messageId <= lastReadMessageId || count == 0) {
+                return false;
+            }
+            count--;
+            return true;
+        }
+
+        synchronized void markRead(Long messageId) {
+            if (messageId != null) {
+                lastReadMessageId = Math.max(lastReadMessageId, messageId);
+            }
+            count = 0;
+        }
+
+        synchronized int count() {
+            return count;
+        }
+    }
+
+    private record UnreadKey(Long chatRoomId, Long memberId) {
+    }
+}
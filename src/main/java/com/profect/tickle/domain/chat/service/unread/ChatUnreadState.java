@@ -0,0 +1,7 @@
+package com.profect.tickle.domain.chat.service.unread;
+
+/**
+ * 참여자별 저장된 읽지 않은 메시지 수 (채팅방 카운터 적재용)
+ */
+public record ChatUnreadState(Long memberId, Integer unreadCount, Long lastReadMessageId) {
+}
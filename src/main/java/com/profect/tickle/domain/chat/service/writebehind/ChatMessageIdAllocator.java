@@ -0,0 +1,30 @@
+package com.profect.tickle.domain.chat.service.writebehind;
+
+import com.profect.tickle.domain.chat.mapper.ChatMessageMapper;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * chat_id 시퀀스에서 ID를 블록 단위로 미리 받아 두고 메시지마다 하나씩 꺼내 준다.
+ * 저장 전에 확정 ID로 브로드캐스트할 수 있고, 재시도 저장도 같은 ID로 멱등하게 처리된다.
+ * (노드마다 블록을 따로 받으므로 노드 간 ID 순서는 생성 시각 순서와 다를 수 있다)
+ */
+@Component
+@RequiredArgsConstructor
+public class ChatMessageIdAllocator {
+
+    private static final int BLOCK_SIZE = 500;
+
+    private final ChatMessageMapper chatMessageMapper;
+
+    private final Deque<Long> reserved = new ArrayDeque<>(BLOCK_SIZE);
+
+    public synchronized Long next() {
+        if (reserved.isEmpty()) {
+            reserved.addAll(chatMessageMapper.nextChatIds(BLOCK_SIZE));
+        }
+        return reserved.poll();
+    }
+}
@@ -0,0 +1,191 @@
+package com.profect.tickle.domain.chat.service.writebehind;
+
+import com.profect.tickle.domain.chat.mapper.ChatMessageMapper;
+import com.profect.tickle.domain.chat.mapper.ChatRoomMapper;
+import com.profect.tickle.global.deadletter.DeadLetterStore;
+import com.profect.tickle.global.exception.ChatExceptions;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 브로드캐스트된 채팅 메시지를 모아 chat에 다건 INSERT로 저장한다. (write-behind)
+ *  - 첫 메시지가 들어온 뒤 최대 FLUSH_INTERVAL_MILLIS 동안, 또는 MAX_BATCH_SIZE개가 모일 때까지 묶어 한 트랜잭션으로 저장하고,
+ *  - 채팅방 갱신 시각은 배치 안에서 채팅방별로 한 번만 반영한다.
+ * 큐가 가득 차면 잠시 기다린 뒤 전송을 거절해 DB 지연이 메모리 누적으로 이어지지 않게 한다.
+ * 저장 실패한 배치는 같은 ID로 재시도하므로 중복 저장되지 않는다.
+ * 재시도는 MAX_BATCH_ATTEMPTS번까지만 하고, 제약조건 위반이나 재시도 한도 초과 시 한 건씩 저장해
+ * 끝내 저장되지 않는 메시지만 dead letter로 옮긴다. (저장할 수 없는 한 건이 저장기 전체를 막지 않도록)
+ */
+@Component
+@Slf4j
+public class ChatMessageWriter {
+
+    private static final int QUEUE_CAPACITY = 20_000;
+    private static final int MAX_BATCH_SIZE = 500;
+    private static final long FLUSH_INTERVAL_MILLIS = 5;
+    private static final long POLL_TIMEOUT_MILLIS = 100;
+    private static final long ENQUEUE_TIMEOUT_MILLIS = 200;
+    private static final long RETRY_BACKOFF_MILLIS = 1_000;
+    private static final int MAX_BATCH_ATTEMPTS = 5;
+    private static final String DEAD_LETTER_SOURCE = "CHAT_MESSAGE";
+
+    private final ChatMessageMapper chatMessageMapper;
+    private final ChatRoomMapper chatRoomMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final DeadLetterStore deadLetterStore;
+
+    private final BlockingQueue<PendingChatMessage> messages = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+    private Thread worker;
+    private volatile boolean running;
+
+    public ChatMessageWriter(ChatMessageMapper chatMessageMapper,
+            ChatRoomMapper chatRoomMapper,
+            PlatformTransactionManager transactionManager,
+            DeadLetterStore deadLetterStore) {
+        this.chatMessageMapper = chatMessageMapper;
+        this.chatRoomMapper = chatRoomMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.deadLetterStore = deadLetterStore;
+    }
+
+    @PostConstruct
+    void start() {
+        running = true;
+        worker = new Thread(this::run, "chat-message-writer");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        running = false;
+        worker.join(TimeUnit.SECONDS.toMillis(10));
+    }
+
+    public void enqueue(PendingChatMessage message) {
+        try {
+            if (!messages.offer(message, ENQUEUE_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+                log.warn("채팅 메시지 저장 대기열 초과 - chatRoomId={}, queued={}", message.chatRoomId(), messages.size());
+                throw ChatExceptions.chatMessageQueueFull();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw ChatExceptions.chatMessageQueueFull();
+        }
+    }
+
+    private void run() {
+        // 종료 요청 후에도 남은 메시지는 모두 저장하고 끝낸다.
+        while (running || !messages.isEmpty()) {
+            try {
+                PendingChatMessage first = messages.poll(POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+                if (first != null) {
+                    write(collectBatch(first));
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    // 첫 메시지부터 FLUSH_INTERVAL_MILLIS 동안 들어온 메시지를 배치로 모은다.
+    private List<PendingChatMessage> collectBatch(PendingChatMessage first) throws InterruptedException {
+        List<PendingChatMessage> batch = new ArrayList<>(MAX_BATCH_SIZE);
+        batch.add(first);
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(FLUSH_INTERVAL_MILLIS);
+
+        while (batch.size() < MAX_BATCH_SIZE) {
+            messages.drainTo(batch, MAX_BATCH_SIZE - batch.size());
+            long remaining = deadline - System.nanoTime();
+            if (batch.size() >= MAX_BATCH_SIZE || remaining <= 0) {
+                break;
+            }
+            PendingChatMessage next = messages.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                break;
+            }
+            batch.add(next);
+        }
+        return batch;
+    }
+
+    void write(List<PendingChatMessage> batch) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                insert(batch);
+                return;
+            } catch (DataIntegrityViolationException e) {
+                // 배치 안에 저장할 수 없는 메시지가 있음 - 다시 시도해도 같으므로 바로 한 건씩 저장
+                log.warn("채팅 메시지 배치 저장 중 제약조건 위반 - count={}, 한 건씩 저장", batch.size(), e);
+                writeEach(batch);
+                return;
+            } catch (Exception e) {
+                if (!running || attempt >= MAX_BATCH_ATTEMPTS) {
+                    log.error("채팅 메시지 저장 실패 - count={}, attempt={}, 한 건씩 저장", batch.size(), attempt, e);
+                    writeEach(batch);
+                    return;
+                }
+                long backoff = RETRY_BACKOFF_MILLIS << (attempt - 1);
+                log.error("채팅 메시지 저장 실패 - count={}, attempt={}, {}ms 후 재시도", batch.size(), attempt, backoff, e);
+                if (!sleepBeforeRetry(backoff)) {
+                    writeEach(batch);
+                    return;
+                }
+            }
+        }
+    }
+
+    // 한 건씩 별도 트랜잭션으로 저장하고, 저장되지 않는 메시지는 dead letter로 옮긴다.
+    private void writeEach(List<PendingChatMessage> batch) {
+        for (PendingChatMessage message : batch) {
+            try {
+                insert(List.of(message));
+            } catch (Exception e) {
+                deadLetterStore.save(DEAD_LETTER_SOURCE, message, e);
+            }
+        }
+    }
+
+    private void insert(List<PendingChatMessage> batch) {
+        List<ChatRoomTouch> touches = touchesOf(batch);
+        transactionTemplate.executeWithoutResult(status -> {
+            chatMessageMapper.insertChatMessages(batch);
+            touches.forEach(touch -> chatRoomMapper.updateChatRoomUpdatedAt(touch.chatRoomId(), touch.updatedAt()));
+        });
+    }
+
+    // 채팅방별 마지막 메시지 시각
+    private List<ChatRoomTouch> touchesOf(List<PendingChatMessage> batch) {
+        Map<Long, Instant> latest = new HashMap<>();
+        for (PendingChatMessage message : batch) {
+            latest.merge(message.chatRoomId(), message.createdAt(), (a, b) -> a.isAfter(b) ? a : b);
+        }
+        return latest.entrySet().stream()
+                .map(entry -> new ChatRoomTouch(entry.getKey(), entry.getValue()))
+                .toList();
+    }
+
+    private boolean sleepBeforeRetry(long backoffMillis) {
+        try {
+            Thread.sleep(backoffMillis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
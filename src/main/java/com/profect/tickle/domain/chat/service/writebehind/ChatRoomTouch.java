@@ -0,0 +1,12 @@
+package com.profect.tickle.domain.chat.service.writebehind;
+
+import java.time.Instant;
+
+/**
+ * 배치 안에서 채팅방별로 합친 마지막 메시지 시각 (chat_room_updated_at 갱신용)
+ */
+public record ChatRoomTouch(
+        Long chatRoomId,
+        Instant updatedAt
+) {
+}
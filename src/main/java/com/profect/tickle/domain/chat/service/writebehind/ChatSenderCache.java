@@ -0,0 +1,61 @@
+package com.profect.tickle.domain.chat.service.writebehind;
+
+import com.profect.tickle.domain.chat.mapper.ChatMessageMapper;
+import java.time.Clock;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 메시지 발신 가능 여부(활성 채팅방의 참여자인지)와 발신자 닉네임 캐시
+ * 메시지마다 채팅방/회원/참여 여부를 조회하지 않도록 검증 결과를 짧게 보관한다.
+ * 참여자가 나가거나 채팅방 상태가 바뀌면 즉시 비우고, 다른 노드의 변경은 TTL로 반영된다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ChatSenderCache {
+
+    private static final long TTL_MILLIS = 30_000;
+
+    private final ChatMessageMapper chatMessageMapper;
+    private final Clock clock;
+
+    private final ConcurrentMap<SenderKey, CachedSender> senders = new ConcurrentHashMap<>();
+
+    /**
+     * 발신 가능한 참여자라면 닉네임을, 아니면 빈 값을 반환한다. (거절 결과는 캐시하지 않음)
+     */
+    public Optional<String> findNickname(Long chatRoomId, Long memberId) {
+        SenderKey key = new SenderKey(chatRoomId, memberId);
+        long now = clock.millis();
+
+        CachedSender cached = senders.get(key);
+        if (cached != null && cached.expiresAt() > now) {
+            return Optional.of(cached.nickname());
+        }
+
+        String nickname = chatMessageMapper.findActiveSenderNickname(chatRoomId, memberId);
+        if (nickname == null) {
+            senders.remove(key);
+            return Optional.empty();
+        }
+        senders.put(key, new CachedSender(nickname, now + TTL_MILLIS));
+        return Optional.of(nickname);
+    }
+
+    public void evict(Long chatRoomId, Long memberId) {
+        senders.remove(new SenderKey(chatRoomId, memberId));
+    }
+
+    public void evictRoom(Long chatRoomId) {
+        senders.keySet().removeIf(key -> key.chatRoomId().equals(chatRoomId));
+    }
+
+    private record SenderKey(Long chatRoomId, Long memberId) {
+    }
+
+    private record CachedSender(String nickname, long expiresAt) {
+    }
+}
@@ -0,0 +1,21 @@
+package com.profect.tickle.domain.chat.service.writebehind;
+
+import com.profect.tickle.domain.chat.entity.ChatMessageType;
+import java.time.Instant;
+
+/**
+ * 브로드캐스트는 끝났고 DB 저장을 기다리는 채팅 메시지 (chat_id는 미리 할당됨)
+ */
+public record PendingChatMessage(
+        Long id,
+        Long chatRoomId,
+        Long memberId,
+        ChatMessageType messageType,
+        String content,
+        String filePath,
+        String fileName,
+        Integer fileSize,
+        String fileType,
+        Instant createdAt
+) {
+}
@@ -2,6 +2,8 @@ package com.profect.tickle.domain.event.mapper;
 
 import com.profect.tickle.domain.event.dto.response.CouponListResponseDto;
 import com.profect.tickle.domain.event.dto.response.ExpiringSoonCouponResponseDto;
+import com.profect.tickle.domain.event.service.couponstock.CouponStockLease;
+import com.profect.tickle.domain.event.service.couponstock.CouponStockSnapshot;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 
@@ -12,4 +14,9 @@ import java.util.List;
 public interface CouponMapper {
     List<ExpiringSoonCouponResponseDto> findCouponListExpiringBefore(@Param("targetDate") Instant targetDate);
     CouponListResponseDto findCouponById(@Param("couponId") Long couponId);
+
+    CouponStockSnapshot findCouponStockByEventId(@Param("eventId") Long eventId);
+    CouponStockLease leaseCouponStock(@Param("couponId") Long couponId, @Param("size") int size);
+    int returnCouponStock(@Param("couponId") Long couponId, @Param("count") int count);
+    List<Long> findEventIdsByStatus(@Param("eventIds") List<Long> eventIds, @Param("statusId") Long statusId);
 }
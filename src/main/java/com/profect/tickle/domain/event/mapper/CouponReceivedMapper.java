@@ -1,6 +1,7 @@
 package com.profect.tickle.domain.event.mapper;
 
 import com.profect.tickle.domain.event.dto.response.CouponResponseDto;
+import com.profect.tickle.domain.event.service.couponstock.CouponIssue;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 
@@ -12,4 +13,7 @@ public interface CouponReceivedMapper {
                                           @Param("size") int size,
                                           @Param("offset") int offset);
     int countMyCoupons(@Param("memberId") Long memberId);
+
+    List<Long> findMemberIdsByCouponId(@Param("couponId") Long couponId);
+    int insertCouponReceivedBatch(@Param("issues") List<CouponIssue> issues, @Param("statusId") Long statusId);
 }
\ No newline at end of file
@@ -22,4 +22,16 @@ public interface EventMapper {
     // 스케쥴러 update mapper 추가
     int markEventsAsOngoing();  // 변경된 행 수 리턴
     int markEventsAsFinished();
+
+    // 티켓 이벤트 누적 금액 반영 (더 큰 값일 때만 갱신)
+    int updateAccruedIfGreater(@Param("eventId") Long eventId, @Param("accrued") int accrued);
+
+    // 티켓 이벤트 당첨 처리: 진행 중인 이벤트만 종료하고 최종 누적 금액 반영 (이미 종료됐으면 0 반환)
+    int completeTicketEvent(@Param("eventId") Long eventId,
+                            @Param("accrued") int accrued,
+                            @Param("inProgressStatusId") Long inProgressStatusId,
+                            @Param("completedStatusId") Long completedStatusId);
+
+    // 이벤트 종료 처리 (이미 종료된 이벤트면 0 반환)
+    int completeEvent(@Param("eventId") Long eventId, @Param("completedStatusId") Long completedStatusId);
 }
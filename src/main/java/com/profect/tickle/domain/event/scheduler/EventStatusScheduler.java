@@ -1,6 +1,7 @@
 package com.profect.tickle.domain.event.scheduler;
 
 import com.profect.tickle.domain.event.mapper.EventMapper;
+import com.profect.tickle.domain.event.service.couponstock.CouponStockPool;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.scheduling.annotation.Scheduled;
@@ -11,12 +12,17 @@ import org.springframework.stereotype.Service;
 public class EventStatusScheduler {
 
     private final EventMapper eventMapper;
+    private final CouponStockPool couponStockPool;
 
     @Scheduled(cron = "0 * * * * *") // 매 분 0초
     @Transactional
     public void syncEventStatuses() {
         int toOngoing = eventMapper.markEventsAsOngoing();
         int toFinished = eventMapper.markEventsAsFinished();
+        if (toFinished > 0) {
+            // 방금 종료된 쿠폰 이벤트는 다음 점검 주기를 기다리지 않고 이 노드의 재고 풀에서 바로 내린다.
+            couponStockPool.evictFinishedEvents();
+        }
         // 필요하면 로그
         // log.info("event status updated: toOngoing={}, toFinished={}", toOngoing, toFinished);
     }
@@ -0,0 +1,7 @@
+package com.profect.tickle.domain.event.service.accumulator;
+
+public enum TicketApplyOutcome {
+    ACCEPTED,   // 응모 반영
+    WON,        // 이 응모로 목표 금액 도달 (당첨)
+    CLOSED      // 이미 목표 금액에 도달해 응모 불가
+}
@@ -0,0 +1,125 @@
+package com.profect.tickle.domain.event.service.accumulator;
+
+import com.profect.tickle.domain.event.entity.Event;
+import com.profect.tickle.domain.event.mapper.EventMapper;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 티켓 이벤트 응모 누적기
+ * 응모마다 event 행을 갱신하지 않고 메모리 샤드 카운터에 누적한 뒤, 누적 금액은 주기적으로 일괄 반영한다.
+ * (누적기는 최초 응모 시 event 행의 누적 금액을 기준으로 만들어진다)
+ * 마감된 누적기는 당첨 트랜잭션이 커밋된 뒤에만 정리하고, 그 전에는 목표 금액 이상의 누적 금액을 DB에 반영하지 않는다.
+ * (롤백되면 누적기를 다시 열어야 하고, 목표 금액 이상으로 반영된 값으로 다시 만든 누적기는 처음부터 마감되기 때문)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TicketEventAccumulator {
+
+    private final EventMapper eventMapper;
+
+    // eventId → 누적기
+    private final ConcurrentMap<Long, TicketEventCounter> counters = new ConcurrentHashMap<>();
+    // eventId → 마지막으로 DB에 반영한 누적 금액
+    private final Map<Long, Long> flushedAccrued = new ConcurrentHashMap<>();
+
+    /**
+     * 응모를 누적한다. 트랜잭션이 롤백되면 당첨이 아닌 응모는 누적을 되돌리고, 당첨 응모는 누적기를 다시 연다.
+     */
+    public TicketApplyOutcome apply(Event event) {
+        TicketEventCounter counter = counters.computeIfAbsent(event.getId(), id -> new TicketEventCounter(
+                event.getAccrued() != null ? event.getAccrued() : 0,
+                event.getGoalPrice(),
+                event.getPerPrice()));
+
+        TicketApplyOutcome outcome = counter.apply();
+        if (outcome == TicketApplyOutcome.ACCEPTED) {
+            releaseOnRollback(counter);
+        } else if (outcome == TicketApplyOutcome.WON) {
+            settleOnCompletion(counter);
+        }
+        return outcome;
+    }
+
+    /**
+     * 다른 노드나 이전 누적기가 이미 이벤트를 종료해 당첨이 무효가 된 경우 누적기를 버린다.
+     * (이후 응모는 이벤트 상태 검증에서 거절)
+     */
+    public void evict(Long eventId) {
+        counters.remove(eventId);
+        flushedAccrued.remove(eventId);
+    }
+
+    public int accruedOf(Long eventId) {
+        TicketEventCounter counter = counters.get(eventId);
+        return counter != null ? (int) counter.accrued() : 0;
+    }
+
+    // 1초마다 변경된 누적 금액 반영
+    @Scheduled(fixedDelay = 1000)
+    public void flush() {
+        counters.forEach((eventId, counter) -> {
+            if (counter.isClosed() && !counter.isSettled()) {
+                return; // 당첨 트랜잭션이 끝날 때까지 반영/정리 보류
+            }
+            long accrued = counter.accrued();
+            Long flushed = flushedAccrued.get(eventId);
+            if (flushed != null && flushed == accrued) {
+                return;
+            }
+            try {
+                eventMapper.updateAccruedIfGreater(eventId, (int) accrued);
+                flushedAccrued.put(eventId, accrued);
+            } catch (Exception e) {
+                // 다음 주기에 다시 반영한다.
+                log.warn("티켓 이벤트 누적 금액 반영 실패 - eventId={}, accrued={}, err={}", eventId, accrued, e.toString());
+                return;
+            }
+
+            // 당첨이 확정된 이벤트는 최종 금액까지 반영했으면 정리 (이후 응모는 이벤트 상태 검증에서 거절)
+            if (counter.isClosed() && counter.isSettled()) {
+                counters.remove(eventId, counter);
+                flushedAccrued.remove(eventId);
+            }
+        });
+    }
+
+    private void settleOnCompletion(TicketEventCounter counter) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            counter.settle();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    counter.settle();
+                } else {
+                    counter.reopen();
+                }
+            }
+        });
+    }
+
+    private void releaseOnRollback(TicketEventCounter counter) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_ROLLED_BACK) {
+                    counter.release();
+                }
+            }
+        });
+    }
+}
@@ -0,0 +1,137 @@
+package com.profect.tickle.domain.event.service.accumulator;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 티켓 이벤트 한 건의 응모 누적기
+ * 목표 금액까지 남은 응모 횟수(= 남은 금액 / 1회 응모 금액, 올림)를 여러 샤드에 나눠 두고,
+ * 응모자는 샤드 하나에서 CAS로 한 칸씩 가져간다.
+ *  - 샤드 잔량이 0이 되는 순간은 샤드마다 정확히 한 번이고,
+ *  - 모든 샤드가 비는 순간(마지막 한 칸을 가져간 응모)도 정확히 한 번이므로 당첨자는 항상 한 명이다.
+ * 당첨 트랜잭션이 롤백되면 마지막 한 칸을 되살려(reopen) 다음 응모가 당첨될 수 있게 하고,
+ * 커밋되면 settle로 확정한다. 확정 전에는 마감 상태여도 누적기를 정리하지 않는다.
+ * 스레드 안전하다.
+ */
+final class TicketEventCounter {
+
+    private static final int MAX_SHARDS = 16;
+    private static final int PADDING = 8; // 샤드별 64바이트 간격 (false sharing 방지)
+
+    private final long baseAccrued;
+    private final int perPrice;
+    private final long totalUnits;
+    private final int shardCount;
+    private final AtomicLongArray budgets;
+    private final AtomicInteger liveShards;
+    private volatile boolean settled; // 당첨 확정 (당첨 트랜잭션 커밋)
+
+    TicketEventCounter(long baseAccrued, long goalPrice, int perPrice) {
+        this.baseAccrued = baseAccrued;
+        this.perPrice = perPrice;
+
+        long remaining = goalPrice - baseAccrued;
+        this.totalUnits = remaining > 0 ? (remaining + perPrice - 1) / perPrice : 0;
+        this.shardCount = (int) Math.max(1, Math.min(MAX_SHARDS, totalUnits));
+        this.budgets = new AtomicLongArray(shardCount * PADDING);
+
+        for (int shard = 0; shard < shardCount; shard++) {
+            long budget = totalUnits / shardCount + (shard < totalUnits % shardCount ? 1 : 0);
+            budgets.set(shard * PADDING, budget);
+        }
+        this.liveShards = new AtomicInteger(totalUnits > 0 ? shardCount : 0);
+        // 이미 목표 금액에 도달한 상태로 만들어진 누적기는 기다릴 당첨 트랜잭션이 없음
+        this.settled = totalUnits == 0;
+    }
+
+    /**
+     * 응모 한 번을 누적한다.
+     */
+    TicketApplyOutcome apply() {
+        int home = ThreadLocalRandom.current().nextInt(shardCount);
+        for (int i = 0; i < shardCount; i++) {
+            int shard = (home + i) % shardCount;
+            long taken = take(shard);
+            if (taken < 0) {
+                continue; // 빈 샤드 → 다음 샤드
+            }
+            if (taken > 0) {
+                return TicketApplyOutcome.ACCEPTED;
+            }
+            // 이 샤드를 비운 응모가 마지막 샤드까지 비웠다면 목표 금액 도달
+            return liveShards.decrementAndGet() == 0 ? TicketApplyOutcome.WON : TicketApplyOutcome.ACCEPTED;
+        }
+        return TicketApplyOutcome.CLOSED;
+    }
+
+    // 샤드에서 한 칸을 가져가고 남은 잔량을 반환한다. 비어 있으면 -1
+    private long take(int shard) {
+        int index = shard * PADDING;
+        while (true) {
+            long budget = budgets.get(index);
+            if (budget <= 0) {
+                return -1;
+            }
+            if (budgets.compareAndSet(index, budget, budget - 1)) {
+                return budget - 1;
+            }
+        }
+    }
+
+    /**
+     * 트랜잭션 롤백 등으로 반영되지 않은 응모 한 번을 되돌린다.
+     * 아직 비지 않은 샤드에만 되돌릴 수 있으며(빈 샤드를 살리면 당첨 판정이 어긋남),
+     * 모든 샤드가 비었다면 이미 당첨자가 정해졌으므로 되돌리지 않는다.
+     */
+    boolean release() {
+        for (int shard = 0; shard < shardCount; shard++) {
+            int index = shard * PADDING;
+            while (true) {
+                long budget = budgets.get(index);
+                if (budget <= 0) {
+                    break;
+                }
+                if (budgets.compareAndSet(index, budget, budget + 1)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 당첨 트랜잭션이 롤백되어 당첨을 취소한다. 마지막 한 칸을 되살려 다음 응모가 당첨되게 한다.
+     * 살아 있는 샤드 수를 먼저 늘려야, 되살린 칸을 가져간 응모가 샤드 수를 0으로 만들며 당첨된다.
+     */
+    void reopen() {
+        liveShards.incrementAndGet();
+        budgets.incrementAndGet(0);
+    }
+
+    /**
+     * 당첨 트랜잭션 커밋 - 이후 누적기를 정리할 수 있다.
+     */
+    void settle() {
+        settled = true;
+    }
+
+    boolean isSettled() {
+        return settled;
+    }
+
+    /**
+     * 현재까지 누적된 금액
+     */
+    long accrued() {
+        long remainingUnits = 0;
+        for (int shard = 0; shard < shardCount; shard++) {
+            remainingUnits += Math.max(0, budgets.get(shard * PADDING));
+        }
+        return baseAccrued + (totalUnits - remainingUnits) * perPrice;
+    }
+
+    boolean isClosed() {
+        return liveShards.get() == 0;
+    }
+}
@@ -0,0 +1,11 @@
+package com.profect.tickle.domain.event.service.couponstock;
+
+import java.time.Instant;
+
+public record CouponIssue(
+        Long couponId,
+        Long memberId,
+        Instant issuedAt
+) {
+
+}
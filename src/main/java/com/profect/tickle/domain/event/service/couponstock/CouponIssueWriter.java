@@ -0,0 +1,195 @@
+package com.profect.tickle.domain.event.service.couponstock;
+
+import com.profect.tickle.domain.event.mapper.CouponMapper;
+import com.profect.tickle.domain.event.mapper.CouponReceivedMapper;
+import com.profect.tickle.domain.event.mapper.EventMapper;
+import com.profect.tickle.global.deadletter.DeadLetterStore;
+import com.profect.tickle.global.status.StatusIds;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 메모리 재고 풀에서 발급된 쿠폰을 coupon_received에 일괄 저장한다.
+ * 재고는 재고 풀이 몫(lease) 단위로 이미 차감했으므로, 다른 노드에서 이미 받은 회원이라 저장되지 않은 건만 재고로 되돌린다.
+ * 큐가 가득 차면 잠시 기다린 뒤 발급을 거절해 DB 지연이 메모리 누적으로 이어지지 않게 한다.
+ * 저장 실패한 배치는 MAX_BATCH_ATTEMPTS번까지만 재시도하고, 제약조건 위반이나 재시도 한도 초과 시 한 건씩 저장해
+ * 끝내 저장되지 않는 발급만 dead letter로 옮긴다. (회원/쿠폰 유니크 제약으로 중복 저장되지 않음)
+ */
+@Component
+@Slf4j
+public class CouponIssueWriter {
+
+    private static final int QUEUE_CAPACITY = 50_000;
+    private static final int MAX_BATCH_SIZE = 500;
+    private static final long POLL_TIMEOUT_MILLIS = 100;
+    private static final long ENQUEUE_TIMEOUT_MILLIS = 200;
+    private static final long RETRY_BACKOFF_MILLIS = 1_000;
+    private static final int MAX_BATCH_ATTEMPTS = 5;
+    private static final String DEAD_LETTER_SOURCE = "COUPON_ISSUE";
+
+    private final CouponReceivedMapper couponReceivedMapper;
+    private final CouponMapper couponMapper;
+    private final EventMapper eventMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final DeadLetterStore deadLetterStore;
+
+    private final BlockingQueue<CouponIssue> issues = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+    private final ConcurrentLinkedQueue<Long> eventsToComplete = new ConcurrentLinkedQueue<>();
+    private Thread worker;
+    private volatile boolean running;
+
+    public CouponIssueWriter(CouponReceivedMapper couponReceivedMapper,
+            CouponMapper couponMapper,
+            EventMapper eventMapper,
+            PlatformTransactionManager transactionManager,
+            DeadLetterStore deadLetterStore) {
+        this.couponReceivedMapper = couponReceivedMapper;
+        this.couponMapper = couponMapper;
+        this.eventMapper = eventMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.deadLetterStore = deadLetterStore;
+    }
+
+    @PostConstruct
+    void start() {
+        running = true;
+        worker = new Thread(this::run, "coupon-issue-writer");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        running = false;
+        worker.join(TimeUnit.SECONDS.toMillis(10));
+    }
+
+    /**
+     * 발급 내역을 저장 대기열에 넣는다. 대기열이 가득 차 넣지 못하면 false
+     */
+    public boolean enqueue(CouponIssue issue) {
+        try {
+            if (!issues.offer(issue, ENQUEUE_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+                log.warn("쿠폰 발급 저장 대기열 초과 - couponId={}, queued={}", issue.couponId(), issues.size());
+                return false;
+            }
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    public void enqueueEventCompletion(Long eventId) {
+        eventsToComplete.add(eventId);
+    }
+
+    private void run() {
+        // 종료 요청 후에도 남은 발급 내역은 모두 반영하고 끝낸다.
+        while (running || !issues.isEmpty() || !eventsToComplete.isEmpty()) {
+            try {
+                List<CouponIssue> batch = new ArrayList<>(MAX_BATCH_SIZE);
+                CouponIssue first = issues.poll(POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+                if (first != null) {
+                    batch.add(first);
+                    issues.drainTo(batch, MAX_BATCH_SIZE - 1);
+                    write(batch);
+                }
+                completeEvents();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    void write(List<CouponIssue> batch) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                insert(batch);
+                return;
+            } catch (DataIntegrityViolationException e) {
+                // 배치 안에 저장할 수 없는 발급이 있음 - 다시 시도해도 같으므로 바로 한 건씩 저장
+                log.warn("쿠폰 발급 내역 배치 저장 중 제약조건 위반 - count={}, 한 건씩 저장", batch.size(), e);
+                writeEach(batch);
+                return;
+            } catch (Exception e) {
+                if (!running || attempt >= MAX_BATCH_ATTEMPTS) {
+                    log.error("쿠폰 발급 내역 저장 실패 - count={}, attempt={}, 한 건씩 저장", batch.size(), attempt, e);
+                    writeEach(batch);
+                    return;
+                }
+                long backoff = RETRY_BACKOFF_MILLIS << (attempt - 1);
+                log.error("쿠폰 발급 내역 저장 실패 - count={}, attempt={}, {}ms 후 재시도", batch.size(), attempt, backoff, e);
+                if (!sleepBeforeRetry(backoff)) {
+                    writeEach(batch);
+                    return;
+                }
+            }
+        }
+    }
+
+    // 한 건씩 별도 트랜잭션으로 저장하고, 저장되지 않는 발급은 dead letter로 옮긴다.
+    private void writeEach(List<CouponIssue> batch) {
+        for (CouponIssue issue : batch) {
+            try {
+                insert(List.of(issue));
+            } catch (Exception e) {
+                deadLetterStore.save(DEAD_LETTER_SOURCE, issue, e);
+            }
+        }
+    }
+
+    private void insert(List<CouponIssue> batch) {
+        transactionTemplate.executeWithoutResult(status -> {
+            Map<Long, List<CouponIssue>> byCoupon = batch.stream()
+                    .collect(Collectors.groupingBy(CouponIssue::couponId));
+
+            byCoupon.forEach((couponId, couponIssues) -> {
+                int inserted = couponReceivedMapper.insertCouponReceivedBatch(
+                        couponIssues, StatusIds.Coupon.AVAILABLE);
+                // 다른 노드에서 이미 받은 회원은 저장되지 않으므로 그만큼의 몫을 재고로 되돌린다.
+                int skipped = couponIssues.size() - inserted;
+                if (skipped > 0) {
+                    couponMapper.returnCouponStock(couponId, skipped);
+                }
+            });
+        });
+    }
+
+    private void completeEvents() {
+        Long eventId;
+        while ((eventId = eventsToComplete.peek()) != null) {
+            try {
+                eventMapper.completeEvent(eventId, StatusIds.Event.COMPLETED);
+                eventsToComplete.poll();
+            } catch (Exception e) {
+                log.error("쿠폰 이벤트 종료 처리 실패 - eventId={}, 다음 주기에 재시도", eventId, e);
+                return;
+            }
+        }
+    }
+
+    private boolean sleepBeforeRetry(long backoffMillis) {
+        try {
+            Thread.sleep(backoffMillis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.profect.tickle.domain.event.service.couponstock;
+
+import java.util.Collection;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+
+/**
+ * 쿠폰 이벤트 한 건의 메모리 재고
+ * 재고 전체가 아니라 DB(coupon_count)에서 LEASE_SIZE씩 떼어 온 몫(lease)만 노드 메모리에 두므로
+ * 여러 노드가 같은 이벤트를 처리해도 DB 재고 이상으로 발급되지 않는다.
+ * 남은 몫은 CAS로만 차감하고, 발급받은 회원은 동시성 Set으로 중복을 막는다. (다른 노드와의 중복은 DB 유니크 제약이 막음)
+ * DB 재고를 0으로 만든 노드의 마지막 몫이 소진될 때만 ISSUED_LAST가 나오므로 이벤트 종료도 한 번만 일어난다.
+ * 이벤트가 종료되면 close()로 남은 몫을 회수하고, 이후 요청은 재고 소진으로 처리한다.
+ */
+final class CouponStock {
+
+    static final int LEASE_SIZE = 50;
+
+    enum Result {
+        ISSUED,             // 발급
+        ISSUED_LAST,        // 발급 + 마지막 재고 (이벤트 종료 대상)
+        ALREADY_ISSUED,     // 이미 발급받은 회원
+        SOLD_OUT            // 재고 소진
+    }
+
+    private final Long eventId;
+    private final Long couponId;
+    private final IntFunction<CouponStockLease> leaser;  // 요청 수량 → DB에서 실제로 떼어 온 몫
+    private final AtomicInteger remaining = new AtomicInteger();
+    private final Set<Long> issuedMemberIds = ConcurrentHashMap.newKeySet();
+
+    private volatile boolean lastLease;          // DB 재고의 마지막 몫을 가져옴
+    private volatile boolean exhausted;          // DB 재고가 더 없음 (다른 노드가 몫을 되돌리면 다시 시도)
+    private boolean closed;                      // 이벤트 종료로 풀에서 내려감 (this로 보호)
+
+    CouponStock(Long eventId, Long couponId, IntFunction<CouponStockLease> leaser, Collection<Long> issuedMemberIds) {
+        this.eventId = eventId;
+        this.couponId = couponId;
+        this.leaser = leaser;
+        this.issuedMemberIds.addAll(issuedMemberIds);
+    }
+
+    Result tryIssue(Long memberId) {
+        // 1. 회원 중복 선점 (같은 회원의 동시 요청 중 하나만 통과)
+        if (!issuedMemberIds.add(memberId)) {
+            return Result.ALREADY_ISSUED;
+        }
+
+        // 2. 재고 차감 (남은 몫이 없으면 DB에서 다시 떼어 온다)
+        while (true) {
+            int current = remaining.get();
+            if (current <= 0) {
+                if (!refill()) {
+                    issuedMemberIds.remove(memberId);
+                    return Result.SOLD_OUT;
+                }
+                continue;
+            }
+            if (remaining.compareAndSet(current, current - 1)) {
+                return current == 1 && lastLease ? Result.ISSUED_LAST : Result.ISSUED;
+            }
+        }
+    }
+
+    // 한 스레드만 DB에서 몫을 떼어 오고, 나머지는 채워진 몫을 이어서 사용한다.
+    private synchronized boolean refill() {
+        if (remaining.get() > 0) {
+            return true;
+        }
+        if (closed || exhausted || lastLease) {
+            return false;
+        }
+        CouponStockLease lease = leaser.apply(LEASE_SIZE);
+        if (lease.leased() == 0) {
+            exhausted = true; // 다른 노드가 마지막 몫을 가져감
+            return false;
+        }
+        // 이번 몫으로 DB 재고가 0이 되었다면 이 몫이 마지막
+        lastLease = lease.remaining() == 0;
+        remaining.addAndGet(lease.leased());
+        return true;
+    }
+
+    /**
+     * 저장 대기열에 넣지 못한 발급을 되돌린다.
+     * 이미 닫힌 재고면 몫에 되돌릴 수 없으므로 false (호출자가 DB 재고로 되돌림)
+     */
+    synchronized boolean cancel(Long memberId) {
+        issuedMemberIds.remove(memberId);
+        if (closed) {
+            return false;
+        }
+        remaining.incrementAndGet();
+        return true;
+    }
+
+    /**
+     * 재고를 닫고 아직 발급하지 않은 몫을 모두 회수한다. (DB 재고로 되돌리기 위함)
+     * 닫힌 뒤에는 몫을 다시 떼어 오지 않으므로 이후 요청은 SOLD_OUT
+     */
+    synchronized int close() {
+        closed = true;
+        return remaining.getAndSet(0);
+    }
+
+    /**
+     * 다른 노드가 쓰지 않은 몫을 DB로 되돌렸을 수 있으므로 다음 요청에서 다시 떼어 오도록 한다.
+     */
+    void resetExhausted() {
+        exhausted = false;
+    }
+
+    Long getEventId() {
+        return eventId;
+    }
+
+    Long getCouponId() {
+        return couponId;
+    }
+
+    int remaining() {
+        return remaining.get();
+    }
+}
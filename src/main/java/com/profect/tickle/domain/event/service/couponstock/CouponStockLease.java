@@ -0,0 +1,9 @@
+package com.profect.tickle.domain.event.service.couponstock;
+
+public record CouponStockLease(
+        int leased,         // 이번에 떼어 온 수량
+        int remaining       // 떼어 간 뒤 DB에 남은 수량
+) {
+
+    static final CouponStockLease NONE = new CouponStockLease(0, 0);
+}
@@ -0,0 +1,124 @@
+package com.profect.tickle.domain.event.service.couponstock;
+
+import com.profect.tickle.domain.event.mapper.CouponMapper;
+import com.profect.tickle.domain.event.mapper.CouponReceivedMapper;
+import com.profect.tickle.global.exception.BusinessException;
+import com.profect.tickle.global.exception.ErrorCode;
+import com.profect.tickle.global.status.StatusIds;
+import jakarta.annotation.PreDestroy;
+import java.time.Clock;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 선착순 쿠폰 재고 풀
+ * 진행 중인 쿠폰 이벤트의 발급 회원과 DB에서 떼어 온 재고 몫(lease)을 메모리에 올려 두고 발급 요청을 DB 조회 없이 처리한다.
+ * 재고는 몫 단위로만 DB(coupon_count)에서 차감되므로 여러 노드가 동시에 발급해도 초과 발급되지 않는다.
+ * 발급 내역 저장과 이벤트 종료는 CouponIssueWriter가 비동기로 일괄 반영하고, 종료 시 쓰지 않은 몫은 DB로 되돌린다.
+ * 이벤트 종료는 다른 노드나 스케줄러에서도 일어나므로 주기적으로 DB 상태를 확인해 종료된 이벤트를 풀에서 내린다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CouponStockPool {
+
+    private final CouponMapper couponMapper;
+    private final CouponReceivedMapper couponReceivedMapper;
+    private final CouponIssueWriter couponIssueWriter;
+    private final Clock clock;
+
+    // eventId → 재고
+    private final ConcurrentMap<Long, CouponStock> stocks = new ConcurrentHashMap<>();
+
+    public void issue(Long eventId, Long memberId) {
+        CouponStock stock = stocks.computeIfAbsent(eventId, this::load);
+
+        switch (stock.tryIssue(memberId)) {
+            case ALREADY_ISSUED -> throw new BusinessException(ErrorCode.ALREADY_ISSUED_COUPON);
+            case SOLD_OUT -> throw new BusinessException(ErrorCode.COUPON_SOLD_OUT);
+            case ISSUED -> enqueue(stock, memberId);
+            case ISSUED_LAST -> {
+                enqueue(stock, memberId);
+                couponIssueWriter.enqueueEventCompletion(eventId);
+                log.info("🎟️쿠폰 재고 소진 - eventId={}, couponId={}", eventId, stock.getCouponId());
+            }
+        }
+    }
+
+    /**
+     * 종료된 이벤트의 재고를 풀에서 내리고 남은 몫을 DB로 되돌린다.
+     * 진행 중인 이벤트는 다른 노드가 되돌린 몫을 다시 떼어 갈 수 있도록 소진 표시를 지운다.
+     */
+    @Scheduled(fixedDelay = 5_000)
+    public void evictFinishedEvents() {
+        if (stocks.isEmpty()) {
+            return;
+        }
+        List<Long> finishedEventIds = couponMapper.findEventIdsByStatus(
+                List.copyOf(stocks.keySet()), StatusIds.Event.COMPLETED);
+        finishedEventIds.forEach(eventId -> {
+            CouponStock stock = stocks.remove(eventId);
+            if (stock != null) {
+                returnUnused(stock);
+                log.info("🎟️종료된 쿠폰 이벤트 재고 제거 - eventId={}", eventId);
+            }
+        });
+        stocks.values().forEach(CouponStock::resetExhausted);
+    }
+
+    @PreDestroy
+    void returnLeases() {
+        stocks.values().forEach(this::returnUnused);
+    }
+
+    private void returnUnused(CouponStock stock) {
+        int unused = stock.close();
+        if (unused > 0) {
+            couponMapper.returnCouponStock(stock.getCouponId(), unused);
+            log.info("🎟️쿠폰 재고 몫 반환 - eventId={}, count={}", stock.getEventId(), unused);
+        }
+    }
+
+    // 저장 대기열이 가득 차면 발급을 되돌리고 거절한다.
+    private void enqueue(CouponStock stock, Long memberId) {
+        if (!couponIssueWriter.enqueue(new CouponIssue(stock.getCouponId(), memberId, clock.instant()))) {
+            if (!stock.cancel(memberId)) {
+                couponMapper.returnCouponStock(stock.getCouponId(), 1); // 그사이 닫힌 재고
+            }
+            throw new BusinessException(ErrorCode.COUPON_ISSUE_BUSY);
+        }
+    }
+
+    // 진행 중인 이벤트만 풀에 올린다. (예외 발생 시 캐싱되지 않음)
+    private CouponStock load(Long eventId) {
+        CouponStockSnapshot snapshot = couponMapper.findCouponStockByEventId(eventId);
+        if (snapshot == null) {
+            throw new BusinessException(ErrorCode.EVENT_NOT_FOUND);
+        }
+        if (StatusIds.Event.SCHEDULED.equals(snapshot.eventStatusId())) {
+            throw new BusinessException(ErrorCode.EVENT_NOT_IN_PROGRESS);
+        }
+        if (StatusIds.Event.COMPLETED.equals(snapshot.eventStatusId())) {
+            throw new BusinessException(ErrorCode.COUPON_SOLD_OUT);
+        }
+
+        Long couponId = snapshot.couponId();
+        CouponStock stock = new CouponStock(
+                snapshot.eventId(),
+                couponId,
+                size -> leaseOf(couponId, size),
+                couponReceivedMapper.findMemberIdsByCouponId(couponId));
+        log.info("🎟️쿠폰 재고 풀 적재 - eventId={}, remaining={}", eventId, snapshot.remaining());
+        return stock;
+    }
+
+    private CouponStockLease leaseOf(Long couponId, int size) {
+        CouponStockLease lease = couponMapper.leaseCouponStock(couponId, size);
+        return lease != null ? lease : CouponStockLease.NONE;
+    }
+}
@@ -0,0 +1,10 @@
+package com.profect.tickle.domain.event.service.couponstock;
+
+public record CouponStockSnapshot(
+        Long eventId,
+        Long eventStatusId,
+        Long couponId,
+        int remaining
+) {
+
+}
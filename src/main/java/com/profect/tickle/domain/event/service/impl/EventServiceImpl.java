@@ -12,9 +12,10 @@ import com.profect.tickle.domain.event.mapper.EventMapper;
 import com.profect.tickle.domain.event.repository.CouponRepository;
 import com.profect.tickle.domain.event.repository.EventRepository;
 import com.profect.tickle.domain.event.service.EventService;
-import com.profect.tickle.domain.member.entity.CouponReceived;
+import com.profect.tickle.domain.event.service.accumulator.TicketApplyOutcome;
+import com.profect.tickle.domain.event.service.accumulator.TicketEventAccumulator;
+import com.profect.tickle.domain.event.service.couponstock.CouponStockPool;
 import com.profect.tickle.domain.member.entity.Member;
-import com.profect.tickle.domain.member.repository.CouponReceivedRepository;
 import com.profect.tickle.domain.member.repository.MemberRepository;
 import com.profect.tickle.domain.performance.entity.Performance;
 import com.profect.tickle.domain.performance.repository.PerformanceRepository;
@@ -61,12 +62,13 @@ public class EventServiceImpl implements EventService {
     private final EventRepository eventRepository;
     private final MemberRepository memberRepository;
     private final ReservationRepository reservationRepository;
-    private final CouponReceivedRepository couponReceivedRepository;
     private final PerformanceRepository performanceRepository;
     private final PointRepository pointRepository;
     private final EventMapper eventMapper;
     private final CouponMapper couponMapper;
     private final CouponReceivedMapper couponReceivedMapper;
+    private final TicketEventAccumulator ticketEventAccumulator;
+    private final CouponStockPool couponStockPool;
 
     @Override
     @Transactional
@@ -112,24 +114,36 @@ public class EventServiceImpl implements EventService {
     @Transactional
     public TicketApplyResponseDto applyTicketEvent(Long eventId) {
         Event event = getEventOrThrow(eventId);
+        checkTicketEventInProgress(event);
         Member member = getMemberOrThrow();
 
         Point point = member.deductPoint(event.getPerPrice(), eventTarget);
         pointRepository.save(point);
 
-        event.accumulate(event.getPerPrice());
+        // event 행을 갱신하지 않고 메모리 누적기에 누적 (목표 금액을 넘긴 응모 하나만 당첨)
+        TicketApplyOutcome outcome = ticketEventAccumulator.apply(event);
+        if (outcome == TicketApplyOutcome.CLOSED) {
+            throw new BusinessException(ErrorCode.EVENT_NOT_IN_PROGRESS);
+        }
 
-        boolean isWinner = (event.getAccrued() >= event.getGoalPrice());
+        boolean isWinner = (outcome == TicketApplyOutcome.WON);
         if (isWinner) {
-            Seat seat = getSeatOrThrow(event.getSeat().getId());
-            event.updateStatus(statusProvider.provide(StatusIds.Event.COMPLETED));
+            // 누적기는 노드마다 따로 있으므로 진행 중인 이벤트를 종료시킨 응모 하나만 당첨 (0건이면 이미 다른 당첨자가 있음)
+            int accrued = ticketEventAccumulator.accruedOf(eventId);
+            int completed = eventMapper.completeTicketEvent(
+                    eventId, accrued, StatusIds.Event.IN_PROGRESS, StatusIds.Event.COMPLETED);
+            if (completed == 0) {
+                ticketEventAccumulator.evict(eventId);
+                throw new BusinessException(ErrorCode.EVENT_NOT_IN_PROGRESS);
+            }
 
+            Seat seat = getSeatOrThrow(event.getSeat().getId());
             Status paidStatus = statusProvider.provide(StatusIds.Reservation.PAID);
             Reservation reservation = Reservation.create(
                     member,
                     seat.getPerformance(),
                     paidStatus,
-                    event.getAccrued()
+                    accrued
             );
 
             reservation.assignSeat(seat);
@@ -174,21 +188,9 @@ public class EventServiceImpl implements EventService {
     }
 
     @Override
-    @Transactional
     public void issueCoupon(Long eventId) {
-        Event event = getEventOrThrow(eventId);
-        Coupon coupon = event.getCoupon();
-        Member member = getMemberOrThrow();
-
-        checkDuplicateCoupon(member, coupon);
-        checkEventInProgress(event);
-
-        Status issuedStatus = statusProvider.provide(StatusIds.Coupon.AVAILABLE);
-        couponReceivedRepository.save(CouponReceived.create(member, coupon, issuedStatus));
-
-        coupon.decreaseCount();
-
-        endEventIfCouponOutOfStock(coupon, event);
+        // 메모리 재고 풀에서 중복 확인 + 재고 차감 (DB 반영은 비동기 일괄 처리)
+        couponStockPool.issue(eventId, SecurityUtil.getSignInMemberId());
     }
 
     @Override
@@ -274,24 +276,9 @@ public class EventServiceImpl implements EventService {
                 .orElseThrow(() -> new BusinessException(ErrorCode.PERFORMANCE_NOT_FOUND));
     }
 
-    private void checkEventInProgress(Event event) {
-        if (StatusIds.Event.SCHEDULED.equals(event.getStatus().getId())) {
+    private void checkTicketEventInProgress(Event event) {
+        if (!StatusIds.Event.IN_PROGRESS.equals(event.getStatus().getId())) {
             throw new BusinessException(ErrorCode.EVENT_NOT_IN_PROGRESS);
         }
-        if (StatusIds.Event.COMPLETED.equals(event.getStatus().getId())) {
-            throw new BusinessException(ErrorCode.COUPON_SOLD_OUT);
-        }
-    }
-
-    private void checkDuplicateCoupon(Member member, Coupon coupon) {
-        if (couponReceivedRepository.existsByMemberIdAndCouponId(member.getId(), coupon.getId())) {
-            throw new BusinessException(ErrorCode.ALREADY_ISSUED_COUPON);
-        }
-    }
-
-    private void endEventIfCouponOutOfStock(Coupon coupon, Event event) {
-        if (coupon.getCount() == 0) {
-            event.updateStatus(statusProvider.provide(StatusIds.Event.COMPLETED));
-        }
     }
 }
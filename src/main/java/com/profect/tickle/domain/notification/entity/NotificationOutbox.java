@@ -0,0 +1,82 @@
+package com.profect.tickle.domain.notification.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
+
+import java.time.Instant;
+
+/**
+ * 알림 아웃박스
+ * 알림을 발생시킨 트랜잭션 안에서 함께 저장되고, 커밋 이후 NotificationOutboxDispatcher가 실시간/메일로 전달한다.
+ * (스키마 정의용 엔티티 - 저장/조회는 NotificationOutboxMapper로 일괄 처리)
+ */
+@Getter
+@Entity
+@Table(name = "notification_outbox",
+        uniqueConstraints = {
+                // 같은 알림이 두 번 쌓이지 않도록 (예: RESERVATION_SUCCESS:{reservationId})
+                @UniqueConstraint(name = "uk_notification_outbox_dedupe_key", columnNames = "notification_outbox_dedupe_key")
+        },
+        indexes = {
+                // 전달 대상 조회 (completed_at IS NULL AND next_attempt_at <= ?)
+                @Index(name = "idx_notification_outbox_pending",
+                        columnList = "notification_outbox_completed_at, notification_outbox_next_attempt_at")
+        })
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class NotificationOutbox {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "notification_outbox_id")
+    private Long id;
+
+    @Column(name = "notification_outbox_dedupe_key", nullable = false, length = 100)
+    private String dedupeKey;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "notification_outbox_kind", nullable = false, length = 30)
+    private NotificationKind kind;
+
+    @Column(name = "notification_outbox_member_id", nullable = false)
+    private Long memberId;
+
+    @Column(name = "notification_outbox_email")
+    private String email; // null이면 메일 없이 실시간 알림만 전달
+
+    @Column(name = "notification_outbox_subject", nullable = false, length = 100)
+    private String subject;
+
+    @Column(name = "notification_outbox_content", nullable = false, length = 2000)
+    private String content;
+
+    @Column(name = "notification_outbox_link")
+    private String link;
+
+    @ColumnDefault("0")
+    @Column(name = "notification_outbox_attempts", nullable = false)
+    private Integer attempts;
+
+    @Column(name = "notification_outbox_next_attempt_at", nullable = false)
+    private Instant nextAttemptAt;
+
+    @Column(name = "notification_outbox_realtime_sent_at")
+    private Instant realtimeSentAt;
+
+    @Column(name = "notification_outbox_mail_sent_at")
+    private Instant mailSentAt;
+
+    @Column(name = "notification_outbox_completed_at")
+    private Instant completedAt;
+
+    @Column(name = "notification_outbox_failed_at")
+    private Instant failedAt;
+
+    @Column(name = "notification_outbox_last_error", length = 500)
+    private String lastError;
+
+    @Column(name = "notification_outbox_created_at", nullable = false)
+    private Instant createdAt;
+}
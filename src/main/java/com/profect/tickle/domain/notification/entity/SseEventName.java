@@ -7,7 +7,8 @@ public enum SseEventName {
     NOTIFICATION("notification"),
     SSE_CONNECT("sse-connect"),
     PING("ping"),
-    BYE("bye");
+    BYE("bye"),
+    WAITING_ROOM("waiting-room");
 
     private final String value;
 
@@ -41,8 +41,13 @@ public class CouponEventListener {
             String subject = String.format(template.getTitle(), event.couponName());
             String content = String.format(template.getContent(), event.couponName(), event.expiryDate());
 
-            // 3) 메일 발송
-            mailSender.sendText(new MailCreateServiceRequestDto(event.memberEmail(), subject, content));
+            // 3) 메일 발송 (전송 대기열에 넣고 결과는 비동기로 기록)
+            mailSender.sendTextAsync(new MailCreateServiceRequestDto(event.memberEmail(), subject, content))
+                    .whenComplete((ok, ex) -> {
+                        if (ex != null) {
+                            log.warn("쿠폰 만료 임박 메일 전송 실패: memberEmail={}, err={}", event.memberEmail(), ex.toString());
+                        }
+                    });
 
             // 4) 실시간 통신 페이로드
             NotificationEnvelope<Void> payload = new NotificationEnvelope<>(
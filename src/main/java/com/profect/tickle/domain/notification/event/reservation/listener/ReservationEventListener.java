@@ -8,27 +8,39 @@ import com.profect.tickle.domain.notification.event.reservation.event.Performanc
 import com.profect.tickle.domain.notification.event.reservation.event.ReservationSuccessEvent;
 import com.profect.tickle.domain.notification.service.NotificationTemplateService;
 import com.profect.tickle.domain.notification.service.mail.MailSender;
+import com.profect.tickle.domain.notification.service.outbox.NotificationOutboxMessage;
+import com.profect.tickle.domain.notification.service.outbox.NotificationOutboxService;
 import com.profect.tickle.domain.notification.service.realtime.RealtimeSender;
-import com.profect.tickle.domain.reservation.dto.response.reservation.ReservationServiceDto;
+import com.profect.tickle.domain.reservation.dto.response.reservation.ReservationRecipientDto;
+import com.profect.tickle.domain.reservation.mapper.ReservationMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
 
 import java.time.Clock;
 import java.time.Instant;
+import java.util.List;
 
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class ReservationEventListener {
 
+    private static final int RECIPIENT_CHUNK_SIZE = 500;
+
     private final NotificationTemplateService notificationTemplateService;
     private final MailSender mailSender;
     private final RealtimeSender realtimeSender;
+    private final ReservationMapper reservationMapper;
+    private final NotificationOutboxService notificationOutboxService;
     private final Clock clock;
 
     // 예매 성공 시 알림 전송
+    // 예매 트랜잭션 안에서는 아웃박스에 저장만 하고, 메일/실시간 전달은 커밋 이후 디스패처가 처리한다.
     @EventListener
     public void handleReservationSuccess(ReservationSuccessEvent event) {
         log.info("[이벤트 감지] {}님이 공연 \"{}\" 예매 (code={})",
@@ -47,57 +59,80 @@ public class ReservationEventListener {
                 event.reservation().getPrice()
         );
 
-        // 메일 전송
-        mailSender.sendText(new MailCreateServiceRequestDto(event.reservation().getMemberEmail(), subject, content));
-
-        // 실시간 알림 전송
-        NotificationEnvelope<Void> payload = new NotificationEnvelope<>(
+        notificationOutboxService.enqueue(NotificationOutboxMessage.of(
+                NotificationKind.RESERVATION_SUCCESS.name() + ":" + event.reservation().getId(),
                 NotificationKind.RESERVATION_SUCCESS,
+                event.reservation().getMemberId(),
+                event.reservation().getMemberEmail(),
                 subject,
                 content,
-                Instant.now(clock),
                 "/mypage/reservations",
-                null
-        );
-        realtimeSender.send(event.reservation().getMemberId(), payload);
+                Instant.now(clock)
+        ));
     }
 
     // 공연 정보 수정 시 알림 전송
-    @EventListener
+    // 수신자가 수만 명일 수 있으므로 커밋 이후 별도 스레드에서 수신자를 회원 ID 커서로 나눠 조회하고,
+    // 알림 내용은 한 번만 만들어 청크 단위로 실시간 전송한다.
+    @Async("mailExecutor")
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
     public void handlePerformanceModified(PerformanceModifiedEvent event) {
         log.info("[이벤트 감지] 공연 수정: \"{}\"", event.performance().title());
 
         NotificationTemplate template = notificationTemplateService
                 .getNotificationTemplateById(NotificationKind.PERFORMANCE_MODIFIED.getId());
 
-        for (ReservationServiceDto reservation : event.reservationList()) {
-            try {
-                String newTitle = "[공연제목]: " + event.performance().title();
-                String newDate = "[일  자]: " + event.performance().performanceDateAndTime();
-                String newImg = "[이미지]: " + event.performance().thumbnailUrl();
-                String newContent = String.join("\n", newTitle, newDate, newImg);
-
-                String subject = String.format(template.getTitle(), event.performance().title());
-                String content = String.format(template.getContent(), newContent);
-
-                // 메일 전송
-                mailSender.sendText(new MailCreateServiceRequestDto(reservation.getMemberEmail(), subject, content));
-
-                // 실시간 알림 전송
-                NotificationEnvelope<Void> payload = new NotificationEnvelope<>(
-                        NotificationKind.PERFORMANCE_MODIFIED,
-                        subject,
-                        content,
-                        Instant.now(clock),
-                        "/performances/" + event.performance().id(),
-                        null
-                );
-                realtimeSender.send(reservation.getMemberId(), payload);
+        String newTitle = "[공연제목]: " + event.performance().title();
+        String newDate = "[일  자]: " + event.performance().performanceDateAndTime();
+        String newImg = "[이미지]: " + event.performance().thumbnailUrl();
+        String newContent = String.join("\n", newTitle, newDate, newImg);
+
+        String subject = String.format(template.getTitle(), event.performance().title());
+        String content = String.format(template.getContent(), newContent);
 
+        NotificationEnvelope<Void> payload = new NotificationEnvelope<>(
+                NotificationKind.PERFORMANCE_MODIFIED,
+                subject,
+                content,
+                Instant.now(clock),
+                "/performances/" + event.performance().id(),
+                null
+        );
+
+        long afterMemberId = 0L;
+        int notified = 0;
+        while (true) {
+            List<ReservationRecipientDto> recipients = reservationMapper.findNotificationRecipients(
+                    event.performance().id(), afterMemberId, RECIPIENT_CHUNK_SIZE);
+            if (recipients.isEmpty()) {
+                break;
+            }
+
+            // 실시간 알림 전송 (청크 단위)
+            List<Long> memberIds = recipients.stream().map(ReservationRecipientDto::memberId).toList();
+            try {
+                realtimeSender.sendAll(memberIds, payload);
             } catch (Exception ex) {
-                log.warn("공연 수정 알림 전송 실패: memberId={}, err={}",
-                        reservation.getMemberId(), ex.toString());
+                log.warn("공연 수정 실시간 알림 전송 실패: performanceId={}, afterMemberId={}, err={}",
+                        event.performance().id(), afterMemberId, ex.toString());
+            }
+
+            // 메일 전송 (전송 대기열에 넣기만 하고, 대기열이 가득 차면 여기서 기다린다)
+            for (ReservationRecipientDto recipient : recipients) {
+                mailSender.sendTextAsync(new MailCreateServiceRequestDto(recipient.memberEmail(), subject, content))
+                        .whenComplete((ok, ex) -> {
+                            if (ex != null) {
+                                log.warn("공연 수정 알림 메일 전송 실패: memberId={}, err={}", recipient.memberId(), ex.toString());
+                            }
+                        });
+            }
+
+            notified += recipients.size();
+            if (recipients.size() < RECIPIENT_CHUNK_SIZE) {
+                break;
             }
+            afterMemberId = recipients.get(recipients.size() - 1).memberId();
         }
+        log.info("[공연 수정 알림 완료] performanceId={}, recipients={}", event.performance().id(), notified);
     }
 }
@@ -0,0 +1,36 @@
+package com.profect.tickle.domain.notification.mapper;
+
+import com.profect.tickle.domain.notification.service.outbox.NotificationOutboxMessage;
+import com.profect.tickle.domain.notification.service.outbox.NotificationOutboxResult;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.time.Instant;
+import java.util.List;
+
+@Mapper
+public interface NotificationOutboxMapper {
+
+    /**
+     * 아웃박스 저장 (같은 dedupeKey가 이미 있으면 무시, 저장된 행 수 반환)
+     */
+    int insert(@Param("message") NotificationOutboxMessage message);
+
+    /**
+     * 전달할 알림을 최대 limit건 가져오면서 leaseUntil까지 다른 노드가 가져가지 못하게 선점
+     */
+    List<NotificationOutboxMessage> claimDue(
+            @Param("now") Instant now,
+            @Param("leaseUntil") Instant leaseUntil,
+            @Param("limit") int limit);
+
+    /**
+     * 전달 결과 일괄 반영
+     */
+    void updateResults(@Param("results") List<NotificationOutboxResult> results);
+
+    /**
+     * 전달 완료 후 보관 기간이 지난 알림 삭제
+     */
+    int deleteCompletedBefore(@Param("threshold") Instant threshold);
+}
@@ -0,0 +1,221 @@
+package com.profect.tickle.domain.notification.repository;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.util.ArrayDeque;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * SSE 유실 이벤트 복원(replay)용 버퍼
+ * 사용자별 최근 알림을 UTF-8 바이트 배열로 보관하며, 메모리 사용량을 다음 한도 안으로 제한한다.
+ *  - 사용자별: 최대 MAX_EVENTS_PER_MEMBER개 / MAX_BYTES_PER_MEMBER 바이트 (초과 시 오래된 이벤트부터 제거)
+ *  - 전체: MAX_TOTAL_BYTES 바이트 (초과 시 사용자와 무관하게 가장 오래된 이벤트부터 제거)
+ *  - 보관 기간: RETENTION_MILLIS (주기적으로 만료 이벤트를 지우고, 이벤트가 남지 않은 사용자는 버퍼에서 제거)
+ * 이벤트 ID는 SseSender에서 전역으로 단조 증가하므로 저장 순서가 곧 오래된 순서다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SseReplayBuffer {
+
+    static final long MAX_TOTAL_BYTES = 64L * 1024 * 1024;
+    static final int MAX_EVENTS_PER_MEMBER = 100;
+    static final int MAX_BYTES_PER_MEMBER = 64 * 1024;
+    static final long RETENTION_MILLIS = TimeUnit.MINUTES.toMillis(10);
+    private static final int ENTRY_OVERHEAD_BYTES = 48; // 엔트리 객체 + 배열 헤더 추정치
+
+    private final Clock clock;
+
+    // memberId → 보관 중인 이벤트
+    private final ConcurrentMap<Long, MemberEvents> members = new ConcurrentHashMap<>();
+    // 저장 순서 (전체 한도 초과/만료 시 가장 오래된 이벤트를 찾는 용도)
+    private final ConcurrentLinkedQueue<Appended> appendOrder = new ConcurrentLinkedQueue<>();
+
+    private final AtomicLong bytesHeld = new AtomicLong();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder replays = new LongAdder();
+    private final LongAdder replayMisses = new LongAdder();
+
+    /**
+     * 이벤트 저장 (사용자 한도를 넘는 단일 이벤트는 저장하지 않음)
+     */
+    public void append(long memberId, long eventId, String json) {
+        append(memberId, eventId, json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 인코딩된 이벤트 저장 (여러 사용자에게 같은 이벤트를 보낼 때 바이트 배열을 공유)
+     */
+    public void append(long memberId, long eventId, byte[] payload) {
+        int size = payload.length + ENTRY_OVERHEAD_BYTES;
+        if (size > MAX_BYTES_PER_MEMBER) {
+            log.warn("SSE replay skipped (payload too large) - memberId={}, eventId={}, bytes={}", memberId, eventId, size);
+            return;
+        }
+
+        long now = clock.millis();
+        while (true) {
+            MemberEvents events = members.computeIfAbsent(memberId, id -> new MemberEvents());
+            synchronized (events) {
+                if (events.retired) {
+                    continue; // 정리 중인 버퍼 → 새 버퍼로 다시 시도
+                }
+                events.add(new Entry(eventId, payload, size));
+                long freed = events.trim();
+                bytesHeld.addAndGet(size - freed);
+            }
+            break;
+        }
+        appendOrder.add(new Appended(memberId, eventId, now));
+
+        if (bytesHeld.get() > MAX_TOTAL_BYTES) {
+            evictOldest();
+        }
+    }
+
+    /**
+     * lastEventId 이후의 이벤트 (오래된 순)
+     * 이미 밀려난 이벤트가 lastEventId 이후에 있었다면 재전송 누락(miss)으로 기록한다.
+     */
+    public NavigableMap<Long, String> eventsAfter(long memberId, long lastEventId) {
+        replays.increment();
+        NavigableMap<Long, String> result = new TreeMap<>();
+
+        MemberEvents events = members.get(memberId);
+        if (events == null) {
+            return result;
+        }
+        synchronized (events) {
+            if (events.evictedThrough > lastEventId) {
+                replayMisses.increment();
+            }
+            for (Entry entry : events.entries) {
+                if (entry.eventId() > lastEventId) {
+                    result.put(entry.eventId(), new String(entry.payload(), StandardCharsets.UTF_8));
+                }
+            }
+        }
+        return result;
+    }
+
+    public void remove(long memberId) {
+        MemberEvents events = members.remove(memberId);
+        if (events != null) {
+            synchronized (events) {
+                events.retired = true;
+                bytesHeld.addAndGet(-events.bytes);
+            }
+        }
+    }
+
+    // 30초마다 만료 이벤트와 이벤트가 남지 않은 사용자 정리
+    @Scheduled(fixedDelay = 30_000)
+    public void evictExpired() {
+        long cutoff = clock.millis() - RETENTION_MILLIS;
+        Appended head;
+        while ((head = appendOrder.peek()) != null && head.storedAt() < cutoff) {
+            if (appendOrder.remove(head)) {
+                dropThrough(head);
+            }
+        }
+        if (log.isDebugEnabled()) {
+            log.debug("SSE replay buffer - {}", stats());
+        }
+    }
+
+    public SseReplayStats stats() {
+        long replayCount = replays.sum();
+        long missCount = replayMisses.sum();
+        return new SseReplayStats(
+                bytesHeld.get(),
+                members.size(),
+                evictions.sum(),
+                replayCount,
+                missCount,
+                replayCount == 0 ? 1.0 : (double) (replayCount - missCount) / replayCount);
+    }
+
+    // 전체 한도 아래로 내려갈 때까지 가장 오래된 이벤트부터 제거
+    private void evictOldest() {
+        Appended head;
+        while (bytesHeld.get() > MAX_TOTAL_BYTES && (head = appendOrder.poll()) != null) {
+            dropThrough(head);
+        }
+    }
+
+    private void dropThrough(Appended appended) {
+        MemberEvents events = members.get(appended.memberId());
+        if (events == null) {
+            return;
+        }
+        synchronized (events) {
+            bytesHeld.addAndGet(-events.dropThrough(appended.eventId()));
+        }
+        // 비었으면 버퍼 제거 (다시 확인 후 제거해 동시에 저장된 이벤트를 잃지 않음)
+        members.computeIfPresent(appended.memberId(), (id, current) -> {
+            synchronized (current) {
+                if (current.entries.isEmpty()) {
+                    current.retired = true;
+                    return null;
+                }
+                return current;
+            }
+        });
+    }
+
+    // 사용자 한 명의 이벤트 (인스턴스 단위로 동기화)
+    private final class MemberEvents {
+
+        private final ArrayDeque<Entry> entries = new ArrayDeque<>();
+        private long bytes;
+        private long evictedThrough; // 밀려난 이벤트 중 가장 최근 ID
+        private boolean retired;
+
+        void add(Entry entry) {
+            entries.addLast(entry);
+            bytes += entry.size();
+        }
+
+        // 사용자 한도 초과분 제거, 해제한 바이트 수 반환
+        long trim() {
+            long freed = 0;
+            while (entries.size() > MAX_EVENTS_PER_MEMBER || bytes > MAX_BYTES_PER_MEMBER) {
+                freed += evict(entries.pollFirst());
+            }
+            return freed;
+        }
+
+        // eventId 이하 이벤트 제거, 해제한 바이트 수 반환
+        long dropThrough(long eventId) {
+            long freed = 0;
+            while (!entries.isEmpty() && entries.peekFirst().eventId() <= eventId) {
+                freed += evict(entries.pollFirst());
+            }
+            return freed;
+        }
+
+        private long evict(Entry entry) {
+            bytes -= entry.size();
+            evictedThrough = Math.max(evictedThrough, entry.eventId());
+            evictions.increment();
+            return entry.size();
+        }
+    }
+
+    private record Entry(long eventId, byte[] payload, int size) {
+    }
+
+    private record Appended(long memberId, long eventId, long storedAt) {
+    }
+}
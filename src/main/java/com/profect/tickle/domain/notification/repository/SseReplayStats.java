@@ -0,0 +1,21 @@
+package com.profect.tickle.domain.notification.repository;
+
+/**
+ * SSE replay 버퍼 지표
+ *
+ * @param bytesHeld     보관 중인 추정 바이트 수
+ * @param members       이벤트를 보관 중인 사용자 수
+ * @param evictions     한도 초과/만료로 제거된 이벤트 수
+ * @param replays       재전송 요청 수 (Last-Event-ID 포함 재연결)
+ * @param replayMisses  요청 이후 이벤트가 이미 제거되어 일부를 재전송하지 못한 요청 수
+ * @param replayHitRate 누락 없이 재전송한 요청 비율
+ */
+public record SseReplayStats(
+        long bytesHeld,
+        int members,
+        long evictions,
+        long replays,
+        long replayMisses,
+        double replayHitRate
+) {
+}
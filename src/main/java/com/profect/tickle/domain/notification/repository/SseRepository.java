@@ -1,15 +1,16 @@
 package com.profect.tickle.domain.notification.repository;
 
+import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
-import java.util.concurrent.ConcurrentSkipListMap;
 import java.util.concurrent.CopyOnWriteArraySet;
 
 @Repository
+@RequiredArgsConstructor
 public class SseRepository {
 
     // ------------- 저장 구조 설명 -------------
@@ -32,16 +33,12 @@ public class SseRepository {
 //                   해당 emitter 종료 시 Set에서 emitterId 제거(비면 키 삭제).
 //    - 사용 예: send(memberId, payload)에서 Set을 순회하며 emittersById로 실제 Emitter 조회.
 //
-// 3) eventsByMember
+// 3) replayBuffer
 //    - 목적: 사용자별 "유실 이벤트 복원(replay)"을 위해 최근 전송 이벤트를 캐시.
 //            Last-Event-ID 이후의 이벤트만 정렬 순서대로 재전송.
-//    - Key  : memberId (사용자 단위)
-//    - Value: (ConcurrentSkipListMap<Long,String>)
-//             └ Key   = eventId (단조 증가하는 long; 보통 System.currentTimeMillis())
-//             └ Value = 직렬화된 JSON 페이로드(문자열)
-//    - 특징: SkipList 기반 정렬 맵 → tailMap(lastEventId, false)로
-//            "지정 ID 이후" 구간을 효율적으로 얻어 순서 보장 재전송 가능.
-//    - 메모리 관리: 일정 기간/개수 초과 시 headMap(...)으로 오래된 이벤트 정리 권장.
+//    - 저장: 페이로드를 UTF-8 바이트 배열로 보관 (SseReplayBuffer)
+//    - 메모리 관리: 사용자별 개수/바이트 한도, 전체 바이트 한도, 보관 기간(10분)을 버퍼가 직접 적용하고
+//                  주기적으로 만료 이벤트와 다시 접속하지 않는 사용자를 정리.
 // ------------------------------------------
 
     // emitterId → Emitter
@@ -50,8 +47,8 @@ public class SseRepository {
     // memberId → {emitterId set}
     private final ConcurrentMap<Long, CopyOnWriteArraySet<String>> emitterIdsByMember = new ConcurrentHashMap<>();
 
-    // memberId → {eventId → json} (시간순 정렬)
-    private final ConcurrentMap<Long, ConcurrentSkipListMap<Long, String>> eventsByMember = new ConcurrentHashMap<>();
+    // memberId → 최근 이벤트 (유실 이벤트 복원용)
+    private final SseReplayBuffer replayBuffer;
 
 
     // 저장 (한 유저가 여러 탭을 열 수 있음)
@@ -88,20 +85,17 @@ public class SseRepository {
 
     // 사용자별 유실 이벤트 캐시 저장
     public void saveEvent(long memberId, long eventId, String json) {
-        eventsByMember.computeIfAbsent(memberId, k -> new ConcurrentSkipListMap<>())
-                .put(eventId, json);
+        replayBuffer.append(memberId, eventId, json);
     }
 
-    // lastEventId 이후의 이벤트만 가져오기
-    public NavigableMap<Long, String> eventsAfter(long memberId, long lastEventId) {
-        return eventsByMember.getOrDefault(memberId, new ConcurrentSkipListMap<>())
-                .tailMap(lastEventId, false);
+    // 여러 사용자에게 보내는 이벤트 저장 (UTF-8로 인코딩된 페이로드를 공유)
+    public void saveEvent(long memberId, long eventId, byte[] payload) {
+        replayBuffer.append(memberId, eventId, payload);
     }
 
-    // 너무 오래된 이벤트 정리
-    public void clearEventsBefore(long memberId, long thresholdEventId) {
-        var map = eventsByMember.get(memberId);
-        if (map != null) map.headMap(thresholdEventId, false).clear();
+    // lastEventId 이후의 이벤트만 가져오기
+    public NavigableMap<Long, String> eventsAfter(long memberId, long lastEventId) {
+        return replayBuffer.eventsAfter(memberId, lastEventId);
     }
 
     public void removeAll(long memberId) {
@@ -120,7 +114,7 @@ public class SseRepository {
 
         // 3) 이벤트 캐시 처리
         if (clearEventCache) {
-            eventsByMember.remove(memberId);
+            replayBuffer.remove(memberId);
         }
     }
 
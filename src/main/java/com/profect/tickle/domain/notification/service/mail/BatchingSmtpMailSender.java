@@ -0,0 +1,242 @@
+package com.profect.tickle.domain.notification.service.mail;
+
+import com.profect.tickle.domain.notification.config.NonRetryableMailException;
+import com.profect.tickle.domain.notification.dto.request.MailCreateServiceRequestDto;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.mail.MessagingException;
+import jakarta.mail.SendFailedException;
+import jakarta.mail.Transport;
+import jakarta.mail.internet.MimeMessage;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Primary;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.retry.ExhaustedRetryException;
+import org.springframework.retry.support.RetryTemplate;
+import org.springframework.stereotype.Service;
+
+/**
+ * 메일 일괄 전송기
+ * 메일은 대기열에 쌓이고, 전송 스레드(WORKERS개)가 각자 하나씩 유지하는 SMTP 연결로 꺼내 보낸다.
+ * 메시지마다 연결(+EHLO/인증)을 새로 맺지 않으므로 대량 발송(쿠폰 만료 안내, 공연 변경 안내 등)의 처리량이 높다.
+ *  - 동시 SMTP 연결 수는 WORKERS개로 제한되고, 대기열이 가득 차면 넣는 쪽이 기다린다.
+ *  - 연결은 MAX_MESSAGES_PER_CONNECTION건 전송 후 또는 IDLE_CLOSE_MILLIS 동안 보낼 메일이 없으면 닫는다.
+ *  - 영구/일시 오류 구분과 재시도는 SmtpMailSender와 같다. (MailErrorInspector, mailRetryTemplate)
+ */
+@Service
+@Primary
+@Slf4j
+public class BatchingSmtpMailSender implements MailSender {
+
+    private static final int WORKERS = 4;
+    private static final int QUEUE_CAPACITY = 10_000;
+    private static final int MAX_BATCH_SIZE = 50;
+    private static final int MAX_MESSAGES_PER_CONNECTION = 100;
+    private static final long IDLE_CLOSE_MILLIS = 5_000;
+
+    private final JavaMailSender javaMailSender;
+    private final RetryTemplate retryTemplate;
+
+    private final BlockingQueue<PendingMail> mails = new LinkedBlockingQueue<>(QUEUE_CAPACITY);
+    private final List<Thread> workers = new ArrayList<>(WORKERS);
+    private volatile boolean running;
+
+    public BatchingSmtpMailSender(JavaMailSender javaMailSender,
+            @Qualifier("mailRetryTemplate") RetryTemplate retryTemplate) {
+        this.javaMailSender = javaMailSender;
+        this.retryTemplate = retryTemplate;
+    }
+
+    @PostConstruct
+    void start() {
+        running = true;
+        for (int i = 0; i < WORKERS; i++) {
+            Thread worker = new Thread(this::run, "mail-sender-" + i);
+            worker.setDaemon(true);
+            worker.start();
+            workers.add(worker);
+        }
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        running = false;
+        for (Thread worker : workers) {
+            worker.join(TimeUnit.SECONDS.toMillis(30));
+        }
+    }
+
+    /**
+     * 대기열을 거쳐 전송하고 결과를 기다린다. (예외는 SmtpMailSender와 같음)
+     */
+    @Override
+    public void sendText(MailCreateServiceRequestDto request) {
+        try {
+            sendTextAsync(request).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public CompletableFuture<Void> sendTextAsync(MailCreateServiceRequestDto request) {
+        CompletableFuture<Void> result = new CompletableFuture<>();
+        if (!running) {
+            result.completeExceptionally(new MailSendException("Mail sender is not running"));
+            return result;
+        }
+        try {
+            mails.put(new PendingMail(request, result));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            result.completeExceptionally(new MailSendException("Interrupted while queueing mail", e));
+        }
+        return result;
+    }
+
+    private void run() {
+        SmtpConnection connection = new SmtpConnection();
+        try {
+            // 종료 요청 후에도 대기열에 남은 메일은 모두 보내고 끝낸다.
+            while (running || !mails.isEmpty()) {
+                PendingMail first = mails.poll(IDLE_CLOSE_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    connection.close();
+                    continue;
+                }
+                List<PendingMail> batch = new ArrayList<>(MAX_BATCH_SIZE);
+                batch.add(first);
+                mails.drainTo(batch, MAX_BATCH_SIZE - 1);
+                for (PendingMail mail : batch) {
+                    deliver(connection, mail);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            connection.close();
+        }
+    }
+
+    private void deliver(SmtpConnection connection, PendingMail mail) {
+        MailCreateServiceRequestDto req = mail.request();
+        try {
+            retryTemplate.execute(ctx -> {
+                try {
+                    connection.send(req);
+                    return null;
+
+                } catch (MessagingException | MailException ex) {
+                    // 수신자 거부 등 SMTP 응답 오류는 연결이 정상이므로 유지, 그 외에는 다음 시도에서 새로 연결
+                    if (!(ex instanceof SendFailedException)) {
+                        connection.close();
+                    }
+                    MailException mailException = ex instanceof MailException me
+                            ? me
+                            : new MailSendException("Mail send failed: " + ex.getMessage(), ex);
+                    var info = MailErrorInspector.inspect(mailException);
+
+                    if (info.isPermanent()) {
+                        log.info("[BATCH] 재시도 불가 오류로 중단 → to={}, err={}", req.to(), info.category);
+                        throw new NonRetryableMailException("Permanent mail error: " + info.category, mailException);
+                    }
+
+                    log.info("[BATCH] 메일 실패(attempt #{}): to={}, category={}, status={}",
+                            ctx.getRetryCount() + 1, req.to(), info.category, info.smtpStatus);
+                    throw mailException;
+                }
+            });
+            mail.result().complete(null);
+
+        } catch (NonRetryableMailException e) {
+            mail.result().completeExceptionally(e);
+
+        } catch (MailException exhausted) {
+            mail.result().completeExceptionally(new ExhaustedRetryException("Mail send exhausted", exhausted));
+
+        } catch (Exception e) {
+            mail.result().completeExceptionally(e);
+        }
+    }
+
+    /**
+     * 전송 스레드 하나가 유지하는 SMTP 연결 (스레드 간 공유하지 않음)
+     * JavaMailSenderImpl이 아니면(테스트 목 등) SmtpMailSender와 같이 메시지마다 JavaMailSender로 전송한다.
+     */
+    private final class SmtpConnection {
+
+        private Transport transport;
+        private int sent;
+
+        void send(MailCreateServiceRequestDto req) throws MessagingException {
+            if (!(javaMailSender instanceof JavaMailSenderImpl impl)) {
+                SimpleMailMessage msg = new SimpleMailMessage();
+                msg.setTo(req.to());
+                msg.setSubject(req.subject());
+                msg.setText(req.content());
+                javaMailSender.send(msg);
+                return;
+            }
+            if (transport == null || sent >= MAX_MESSAGES_PER_CONNECTION) {
+                close();
+                open(impl);
+            }
+            MimeMessage message = impl.createMimeMessage();
+            MimeMessageHelper helper = new MimeMessageHelper(message, StandardCharsets.UTF_8.name());
+            helper.setTo(req.to());
+            helper.setSubject(req.subject());
+            helper.setText(req.content());
+            message.setSentDate(new Date());
+            message.saveChanges();
+
+            transport.sendMessage(message, message.getAllRecipients());
+            sent++;
+        }
+
+        // JavaMailSenderImpl.connectTransport와 같은 방식으로 연결
+        private void open(JavaMailSenderImpl impl) throws MessagingException {
+            String protocol = impl.getProtocol() != null ? impl.getProtocol() : JavaMailSenderImpl.DEFAULT_PROTOCOL;
+            String username = "".equals(impl.getUsername()) ? null : impl.getUsername();
+            String password = "".equals(impl.getPassword()) ? null : impl.getPassword();
+
+            Transport opened = impl.getSession().getTransport(protocol);
+            opened.connect(impl.getHost(), impl.getPort(), username, password);
+            transport = opened;
+            sent = 0;
+        }
+
+        void close() {
+            if (transport == null) {
+                return;
+            }
+            try {
+                transport.close();
+            } catch (MessagingException e) {
+                log.debug("SMTP 연결 종료 실패 - {}", e.getMessage());
+            } finally {
+                transport = null;
+            }
+        }
+    }
+
+    private record PendingMail(MailCreateServiceRequestDto request, CompletableFuture<Void> result) {
+    }
+}
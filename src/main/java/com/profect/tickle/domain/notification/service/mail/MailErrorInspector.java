@@ -82,6 +82,13 @@ public final class MailErrorInspector {
         public Integer smtpStatus;          // 예: 421/450/451/550/552...
         public String serverReply;          // 서버의 원문 응답 문자열
         public List<RecipientError> failedByRecipient = List.of();
+
+        // 재시도해도 성공할 수 없는 오류 (5xx 응답, 수신자 거부)
+        public boolean isPermanent() {
+            return (smtpStatus != null && smtpStatus >= 500) ||
+                    "ADDRESS_REJECTED".equals(category) ||
+                    "USER_UNKNOWN".equals(category);
+        }
     }
 
     public static record RecipientError(String address, int smtpStatus, String serverReply) {
@@ -3,7 +3,12 @@ package com.profect.tickle.domain.notification.service.mail;
 import com.profect.tickle.domain.notification.dto.request.MailCreateServiceRequestDto;
 import jakarta.validation.Valid;
 
+import java.util.concurrent.CompletableFuture;
+
 public interface MailSender {
 
     void sendText(@Valid MailCreateServiceRequestDto request);
+
+    // 전송 대기열에 넣고 바로 반환 (대량 발송용, 전송 결과는 future로 확인)
+    CompletableFuture<Void> sendTextAsync(@Valid MailCreateServiceRequestDto request);
 }
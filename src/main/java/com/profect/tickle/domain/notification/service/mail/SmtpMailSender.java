@@ -11,6 +11,8 @@ import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.retry.support.RetryTemplate;
 import org.springframework.stereotype.Service;
 
+import java.util.concurrent.CompletableFuture;
+
 // SmtpMailSender.java
 @Service
 @RequiredArgsConstructor
@@ -38,12 +40,7 @@ public class SmtpMailSender implements MailSender {
                 } catch (MailException ex) {
                     var info = MailErrorInspector.inspect(ex);
 
-                    boolean permanent =
-                            (info.smtpStatus != null && info.smtpStatus >= 500) ||
-                                    "ADDRESS_REJECTED".equals(info.category) ||
-                                    "USER_UNKNOWN".equals(info.category);
-
-                    if (permanent) {
+                    if (info.isPermanent()) {
                         log.info("[TEXT] 재시도 불가 오류로 중단 → to={}, err={}", req.to(), info);
                         // 즉시 NonRetryable 던져서 try 블록 바깥으로 전파 (재시도 X)
                         throw new NonRetryableMailException("Permanent mail error: " + info.category, ex);
@@ -65,4 +62,15 @@ public class SmtpMailSender implements MailSender {
             throw new org.springframework.retry.ExhaustedRetryException("Mail send exhausted", exhausted);
         }
     }
-}
\ No newline at end of file
+
+    // 메시지마다 연결을 여는 기존 경로 - 호출 스레드에서 바로 전송하고 완료된 future 반환
+    @Override
+    public CompletableFuture<Void> sendTextAsync(MailCreateServiceRequestDto req) {
+        try {
+            sendText(req);
+            return CompletableFuture.completedFuture(null);
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+}
@@ -0,0 +1,201 @@
+package com.profect.tickle.domain.notification.service.outbox;
+
+import com.profect.tickle.domain.notification.config.NonRetryableMailException;
+import com.profect.tickle.domain.notification.mapper.NotificationOutboxMapper;
+import com.profect.tickle.domain.notification.service.mail.MailSender;
+import com.profect.tickle.domain.notification.service.realtime.RealtimeSender;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 알림 아웃박스 디스패처
+ * 전용 스레드가 전달할 알림을 배치로 선점해 실시간 알림과 메일을 보내고, 결과를 한 번에 반영한다.
+ *  - 배치의 메일은 한꺼번에 전송 대기열에 넣고, 실시간 알림을 보낸 뒤 메일 결과를 기다린다.
+ *  - 채널별 전달 시각을 기록해 재시도 때 이미 보낸 채널은 다시 보내지 않는다.
+ *  - 실패하면 지수 백오프로 다시 시도하고, MAX_ATTEMPTS번 실패하거나 영구 메일 오류면 실패로 남긴다.
+ *  - 선점한 노드가 전달 도중 죽으면 LEASE 이후 다른 노드가 다시 가져간다. (최소 한 번 전달)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class NotificationOutboxDispatcher {
+
+    private static final int BATCH_SIZE = 100;
+    private static final long IDLE_WAIT_MILLIS = 1000;
+    static final int MAX_ATTEMPTS = 8;
+    static final Duration LEASE = Duration.ofMinutes(5);
+    static final Duration BASE_BACKOFF = Duration.ofSeconds(5);
+    static final Duration MAX_BACKOFF = Duration.ofMinutes(10);
+    private static final Duration RETENTION = Duration.ofDays(7);
+
+    private final NotificationOutboxMapper notificationOutboxMapper;
+    private final MailSender mailSender;
+    private final RealtimeSender realtimeSender;
+    private final Clock clock;
+
+    private final Semaphore wakeUps = new Semaphore(0);
+    private Thread worker;
+    private volatile boolean running;
+
+    @PostConstruct
+    void start() {
+        running = true;
+        worker = new Thread(this::run, "notification-outbox");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        running = false;
+        wakeUp();
+        worker.join(TimeUnit.SECONDS.toMillis(10));
+    }
+
+    /**
+     * 새 알림이 커밋되었음을 알린다. (대기 중인 디스패처를 바로 깨움)
+     */
+    public void wakeUp() {
+        if (wakeUps.availablePermits() == 0) {
+            wakeUps.release();
+        }
+    }
+
+    /**
+     * 전달할 알림 한 배치 처리, 처리한 알림 수 반환
+     */
+    public int dispatchBatch() {
+        Instant now = clock.instant();
+        List<NotificationOutboxMessage> messages = notificationOutboxMapper.claimDue(now, now.plus(LEASE), BATCH_SIZE);
+        if (messages.isEmpty()) {
+            return 0;
+        }
+
+        // 배치의 메일을 먼저 전송 대기열에 넣어 SMTP 연결을 재사용하며 함께 나가게 한다.
+        List<CompletableFuture<Void>> mails = new ArrayList<>(messages.size());
+        for (NotificationOutboxMessage message : messages) {
+            mails.add(submitMail(message));
+        }
+
+        List<NotificationOutboxResult> results = new ArrayList<>(messages.size());
+        for (int i = 0; i < messages.size(); i++) {
+            results.add(deliver(messages.get(i), mails.get(i)));
+        }
+        // 반영에 실패해도 LEASE 이후 다시 전달된다. (이미 보낸 채널이 한 번 더 나갈 수 있음)
+        notificationOutboxMapper.updateResults(results);
+        return messages.size();
+    }
+
+    // 매일 보관 기간이 지난 완료 알림 정리
+    @Scheduled(fixedDelay = 24 * 60 * 60 * 1000, initialDelay = 60 * 1000)
+    public void purgeCompleted() {
+        int deleted = notificationOutboxMapper.deleteCompletedBefore(clock.instant().minus(RETENTION));
+        if (deleted > 0) {
+            log.info("완료된 알림 아웃박스 정리 - count={}", deleted);
+        }
+    }
+
+    private void run() {
+        while (running) {
+            try {
+                if (dispatchBatch() < BATCH_SIZE) {
+                    // 남은 알림이 없으면 새 알림(wakeUp) 또는 다음 폴링 주기까지 대기
+                    wakeUps.tryAcquire(IDLE_WAIT_MILLIS, TimeUnit.MILLISECONDS);
+                    wakeUps.drainPermits();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                log.error("알림 아웃박스 전달 실패, 다음 주기에 재시도", e);
+                sleepBeforeRetry();
+            }
+        }
+    }
+
+    // 보낼 메일이 없으면 null
+    private CompletableFuture<Void> submitMail(NotificationOutboxMessage message) {
+        if (message.mailSentAt() != null || !message.hasMail()) {
+            return null;
+        }
+        try {
+            return mailSender.sendTextAsync(message.toMail());
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private NotificationOutboxResult deliver(NotificationOutboxMessage message, CompletableFuture<Void> mail) {
+        String error = null;
+        boolean permanent = false;
+
+        // 1) 실시간 알림
+        Instant realtimeSentAt = message.realtimeSentAt();
+        if (realtimeSentAt == null) {
+            try {
+                realtimeSender.send(message.memberId(), message.toEnvelope());
+                realtimeSentAt = clock.instant();
+            } catch (Exception e) {
+                error = "realtime: " + e;
+            }
+        }
+
+        // 2) 메일
+        Instant mailSentAt = message.mailSentAt();
+        if (mail != null) {
+            try {
+                mail.join();
+                mailSentAt = clock.instant();
+            } catch (CompletionException e) {
+                Throwable cause = e.getCause() != null ? e.getCause() : e;
+                permanent = cause instanceof NonRetryableMailException;
+                error = "mail: " + (permanent ? cause.getMessage() : cause.toString());
+            }
+        }
+
+        Instant now = clock.instant();
+        if (error == null) {
+            return new NotificationOutboxResult(message.id(), message.attempts(), now,
+                    realtimeSentAt, mailSentAt, now, null, null);
+        }
+
+        int attempts = message.attempts() + 1;
+        error = error.length() > 500 ? error.substring(0, 500) : error;
+        if (permanent || attempts >= MAX_ATTEMPTS) {
+            log.warn("알림 전달 포기 - id={}, dedupeKey={}, attempts={}, err={}", message.id(), message.dedupeKey(), attempts, error);
+            return new NotificationOutboxResult(message.id(), attempts, now,
+                    realtimeSentAt, mailSentAt, null, now, error);
+        }
+
+        log.info("알림 전달 실패, 재시도 예정 - id={}, attempts={}, err={}", message.id(), attempts, error);
+        return new NotificationOutboxResult(message.id(), attempts, now.plus(backoff(attempts)),
+                realtimeSentAt, mailSentAt, null, null, error);
+    }
+
+    // BASE_BACKOFF * 2^(attempts-1), 최대 MAX_BACKOFF
+    static Duration backoff(int attempts) {
+        Duration delay = BASE_BACKOFF.multipliedBy(1L << Math.min(attempts - 1, 20));
+        return delay.compareTo(MAX_BACKOFF) > 0 ? MAX_BACKOFF : delay;
+    }
+
+    private void sleepBeforeRetry() {
+        try {
+            Thread.sleep(IDLE_WAIT_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.profect.tickle.domain.notification.service.outbox;
+
+import com.profect.tickle.domain.notification.dto.NotificationEnvelope;
+import com.profect.tickle.domain.notification.dto.request.MailCreateServiceRequestDto;
+import com.profect.tickle.domain.notification.entity.NotificationKind;
+
+import java.time.Instant;
+
+/**
+ * 아웃박스에 쌓인 알림 한 건
+ *
+ * @param dedupeKey      중복 방지 키 (같은 키의 알림은 한 번만 저장)
+ * @param email          메일 수신 주소 (null이면 실시간 알림만 전달)
+ * @param attempts       실패한 전달 시도 횟수
+ * @param realtimeSentAt 실시간 알림 전달 시각 (재시도 시 다시 보내지 않음)
+ * @param mailSentAt     메일 전달 시각 (재시도 시 다시 보내지 않음)
+ */
+public record NotificationOutboxMessage(
+        Long id,
+        String dedupeKey,
+        NotificationKind kind,
+        Long memberId,
+        String email,
+        String subject,
+        String content,
+        String link,
+        Integer attempts,
+        Instant realtimeSentAt,
+        Instant mailSentAt,
+        Instant createdAt
+) {
+
+    public static NotificationOutboxMessage of(String dedupeKey, NotificationKind kind, Long memberId, String email,
+                                               String subject, String content, String link, Instant createdAt) {
+        return new NotificationOutboxMessage(null, dedupeKey, kind, memberId, email, subject, content, link,
+                0, null, null, createdAt);
+    }
+
+    public boolean hasMail() {
+        return email != null && !email.isBlank();
+    }
+
+    public NotificationEnvelope<Void> toEnvelope() {
+        return new NotificationEnvelope<>(kind, subject, content, createdAt, link, null);
+    }
+
+    public MailCreateServiceRequestDto toMail() {
+        return new MailCreateServiceRequestDto(email, subject, content);
+    }
+}
@@ -0,0 +1,19 @@
+package com.profect.tickle.domain.notification.service.outbox;
+
+import java.time.Instant;
+
+/**
+ * 아웃박스 알림 한 건의 전달 결과 (일괄 반영용)
+ * completedAt/failedAt이 모두 null이면 nextAttemptAt에 다시 시도한다.
+ */
+public record NotificationOutboxResult(
+        Long id,
+        int attempts,
+        Instant nextAttemptAt,
+        Instant realtimeSentAt,
+        Instant mailSentAt,
+        Instant completedAt,
+        Instant failedAt,
+        String lastError
+) {
+}
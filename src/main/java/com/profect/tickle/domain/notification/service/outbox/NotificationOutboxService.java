@@ -0,0 +1,44 @@
+package com.profect.tickle.domain.notification.service.outbox;
+
+import com.profect.tickle.domain.notification.mapper.NotificationOutboxMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 알림 아웃박스 저장
+ * 호출한 트랜잭션 안에서 아웃박스 행만 저장하고, 실제 전달(메일/실시간)은 커밋 이후 디스패처가 처리한다.
+ * (메일 서버 지연이 예매 등 호출 트랜잭션의 응답 시간과 락 보유 시간에 영향을 주지 않음)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class NotificationOutboxService {
+
+    private final NotificationOutboxMapper notificationOutboxMapper;
+    private final NotificationOutboxDispatcher notificationOutboxDispatcher;
+
+    public void enqueue(NotificationOutboxMessage message) {
+        if (notificationOutboxMapper.insert(message) == 0) {
+            log.info("이미 등록된 알림 - dedupeKey={}", message.dedupeKey());
+            return;
+        }
+        wakeUpAfterCommit();
+    }
+
+    // 커밋되면 다음 폴링 주기를 기다리지 않고 바로 전달
+    private void wakeUpAfterCommit() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            notificationOutboxDispatcher.wakeUp();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                notificationOutboxDispatcher.wakeUp();
+            }
+        });
+    }
+}
@@ -1,10 +1,13 @@
 package com.profect.tickle.domain.notification.service.realtime;
 
 import com.profect.tickle.domain.notification.dto.NotificationEnvelope;
+import com.profect.tickle.domain.notification.entity.SseEventName;
 import jakarta.annotation.Nullable;
 import jakarta.validation.constraints.NotNull;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.util.Collection;
+
 public interface RealtimeSender {
 
     // 유저의 실시간(SSE) 알림 스트림을 열고, 필요 시 Last-Event-ID 이후 이벤트를 재전송한다.
@@ -13,6 +16,12 @@ public interface RealtimeSender {
     //유저의 모든 emitter(여러 탭)로 브로드캐스트
     void send(long memberId, NotificationEnvelope<?> payload);
 
+    // 같은 알림을 여러 유저에게 전송 (페이로드는 한 번만 직렬화해 모든 emitter가 공유)
+    void sendAll(Collection<Long> memberIds, NotificationEnvelope<?> payload);
+
+    // 재전송 캐시에 남기지 않는 일회성 이벤트 전송 (대기열 순번 등 최신 값만 의미 있는 이벤트)
+    void sendTransient(long memberId, SseEventName eventName, Object payload);
+
     // 유저별 이벤트 캐시에서 lastEventId 이후만 재전송
     void resend(long memberId, SseEmitter emitter, String lastEventId);
 
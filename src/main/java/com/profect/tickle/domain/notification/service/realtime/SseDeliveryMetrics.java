@@ -0,0 +1,49 @@
+package com.profect.tickle.domain.notification.service.realtime;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * SSE 전송 지표 누적기 (모든 lane이 공유)
+ */
+final class SseDeliveryMetrics {
+
+    private final LongAdder sent = new LongAdder();
+    private final LongAdder sendNanos = new LongAdder();
+    private final AtomicLong maxSendNanos = new AtomicLong();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+    private final LongAdder slowConsumers = new LongAdder();
+
+    void sent(long elapsedNanos) {
+        sent.increment();
+        sendNanos.add(elapsedNanos);
+        maxSendNanos.accumulateAndGet(elapsedNanos, Math::max);
+    }
+
+    void dropped() {
+        dropped.increment();
+    }
+
+    void coalesced() {
+        coalesced.increment();
+    }
+
+    void slowConsumerEvicted() {
+        slowConsumers.increment();
+    }
+
+    SseDeliveryStats snapshot(int lanes, long queued, int maxLaneDepth) {
+        long sentCount = sent.sum();
+        return new SseDeliveryStats(
+                lanes,
+                queued,
+                maxLaneDepth,
+                sentCount,
+                dropped.sum(),
+                coalesced.sum(),
+                slowConsumers.sum(),
+                sentCount == 0 ? 0 : sendNanos.sum() / (double) sentCount / 1_000_000,
+                maxSendNanos.get() / 1_000_000.0);
+    }
+}
@@ -0,0 +1,27 @@
+package com.profect.tickle.domain.notification.service.realtime;
+
+/**
+ * SSE 전송 지표
+ *
+ * @param lanes                활성 emitter lane 수
+ * @param queued               전체 대기 작업 수
+ * @param maxLaneDepth         가장 많이 밀린 lane의 대기 작업 수
+ * @param sent                 실행된 전송 작업 수
+ * @param dropped              대기열이 가득 차 버린 작업 수
+ * @param coalesced            최신 값으로 대체된 작업 수
+ * @param slowConsumersEvicted 느린 소비자로 판단해 끊은 emitter 수
+ * @param avgSendMillis        전송 작업 평균 소요 시간
+ * @param maxSendMillis        전송 작업 최대 소요 시간
+ */
+public record SseDeliveryStats(
+        int lanes,
+        long queued,
+        int maxLaneDepth,
+        long sent,
+        long dropped,
+        long coalesced,
+        long slowConsumersEvicted,
+        double avgSendMillis,
+        double maxSendMillis
+) {
+}
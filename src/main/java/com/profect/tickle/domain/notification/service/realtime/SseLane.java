@@ -0,0 +1,138 @@
+package com.profect.tickle.domain.notification.service.realtime;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * emitter 하나의 전송 대기열
+ * 전송 작업은 크기가 정해진 큐에 쌓이고, emitter마다 최대 하나의 작업만 실행되어 전송 순서를 보장한다.
+ *  - 큐가 가득 차면 새 작업은 버린다. (알림은 재전송 캐시에 남아 있어 재연결 시 Last-Event-ID로 복구)
+ *  - 최신 값만 의미 있는 작업은 키별로 마지막 하나만 남긴다. (대기열 순번 등)
+ *  - 큐가 slowConsumerMillis 이상 계속 가득 차 있으면 느린 소비자로 판단한다.
+ */
+@Slf4j
+final class SseLane implements Runnable {
+
+    enum Offer {
+        ACCEPTED,
+        DROPPED,
+        SLOW_CONSUMER
+    }
+
+    private final Executor executor;
+    private final SseDeliveryMetrics metrics;
+    private final long slowConsumerMillis;
+
+    private final Queue<Runnable> tasks;
+    private final ConcurrentMap<String, Runnable> latest = new ConcurrentHashMap<>();
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+    private final AtomicBoolean closed = new AtomicBoolean();
+    private volatile long fullSinceMillis; // 큐가 가득 찬 것을 처음 확인한 시각 (0이면 여유 있음)
+
+    SseLane(Executor executor, SseDeliveryMetrics metrics, int capacity, long slowConsumerMillis) {
+        this.executor = executor;
+        this.metrics = metrics;
+        this.slowConsumerMillis = slowConsumerMillis;
+        this.tasks = new ArrayBlockingQueue<>(capacity);
+    }
+
+    /**
+     * 작업을 대기열에 넣는다. 가득 차 있으면 버리고, 가득 찬 상태가 기준 시간을 넘었으면 SLOW_CONSUMER
+     */
+    Offer offer(Runnable task, long nowMillis) {
+        if (closed.get()) {
+            return Offer.DROPPED;
+        }
+        if (tasks.offer(task)) {
+            schedule();
+            return Offer.ACCEPTED;
+        }
+
+        metrics.dropped();
+        long since = fullSinceMillis;
+        if (since == 0) {
+            fullSinceMillis = nowMillis;
+            return Offer.DROPPED;
+        }
+        return nowMillis - since >= slowConsumerMillis ? Offer.SLOW_CONSUMER : Offer.DROPPED;
+    }
+
+    /**
+     * 키별로 마지막 작업만 남긴다. (아직 실행되지 않은 같은 키의 작업은 대체)
+     */
+    void offerLatest(String key, Runnable task) {
+        if (closed.get()) {
+            return;
+        }
+        if (latest.put(key, task) != null) {
+            metrics.coalesced();
+        }
+        schedule();
+    }
+
+    /**
+     * 대기 중인 작업을 버리고 이후 작업을 받지 않는다.
+     */
+    void close() {
+        if (closed.compareAndSet(false, true)) {
+            tasks.clear();
+            latest.clear();
+        }
+    }
+
+    int depth() {
+        return tasks.size() + latest.size();
+    }
+
+    @Override
+    public void run() {
+        try {
+            Runnable task;
+            while (!closed.get() && (task = next()) != null) {
+                long startedAt = System.nanoTime();
+                try {
+                    task.run();
+                } catch (Exception e) {
+                    log.warn("SSE lane task failed - err={}", e.toString());
+                }
+                metrics.sent(System.nanoTime() - startedAt);
+                fullSinceMillis = 0;
+            }
+        } finally {
+            scheduled.set(false);
+            // 작업 종료 직전에 들어온 작업 처리
+            if (!closed.get() && depth() > 0) {
+                schedule();
+            }
+        }
+    }
+
+    private Runnable next() {
+        Runnable task = tasks.poll();
+        if (task != null) {
+            return task;
+        }
+        Iterator<Map.Entry<String, Runnable>> iterator = latest.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<String, Runnable> entry = iterator.next();
+            if (latest.remove(entry.getKey(), entry.getValue())) {
+                return entry.getValue();
+            }
+        }
+        return null;
+    }
+
+    private void schedule() {
+        if (scheduled.compareAndSet(false, true)) {
+            executor.execute(this);
+        }
+    }
+}
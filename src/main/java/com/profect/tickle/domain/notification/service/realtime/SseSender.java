@@ -2,6 +2,7 @@ package com.profect.tickle.domain.notification.service.realtime;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.profect.tickle.domain.notification.dto.NotificationEnvelope;
+import com.profect.tickle.domain.notification.entity.SseEventName;
 import com.profect.tickle.domain.notification.property.NotificationProperty;
 import com.profect.tickle.domain.notification.repository.SseRepository;
 import com.profect.tickle.global.util.JsonUtils;
@@ -11,19 +12,21 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.time.Clock;
 import java.time.Instant;
-import java.util.ArrayDeque;
+import java.util.Collection;
 import java.util.Map;
 import java.util.NavigableMap;
+import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.Executor;
-import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Supplier;
 
@@ -32,13 +35,17 @@ import java.util.function.Supplier;
 @Slf4j
 public class SseSender implements RealtimeSender {
 
+    private static final int LANE_CAPACITY = 64;               // emitter별 최대 대기 이벤트 수
+    private static final long SLOW_CONSUMER_MILLIS = 30_000;   // 대기열이 이 시간 이상 계속 가득 차면 연결 종료
+
     // utils
     private final ObjectMapper objectMapper;
     private final Clock clock;
     private final Supplier<UUID> uuidSupplier;
     private final Executor sseExecutor;
 
-    private final ConcurrentMap<String, SerialExecutor> lanes = new ConcurrentHashMap<>(); // 순서 저장용 맵
+    private final ConcurrentMap<String, SseLane> lanes = new ConcurrentHashMap<>(); // emitter별 전송 대기열 (순서 보장)
+    private final SseDeliveryMetrics deliveryMetrics = new SseDeliveryMetrics();
     private final AtomicLong lastEventId = new AtomicLong(0); // SSE 아이디 카운터
 
     // repositories / properties
@@ -74,7 +81,7 @@ public class SseSender implements RealtimeSender {
 
         // 유실 이벤트 복원: 같은 emitter lane에 넣어 순서 보장
         if (lastEventIdHeader != null && !lastEventIdHeader.isBlank()) {
-            laneOf(emitterId).execute(() -> resendInternal(memberId, emitterId, emitter, lastEventIdHeader));
+            enqueue(memberId, emitterId, () -> resendInternal(memberId, emitterId, emitter, lastEventIdHeader));
         }
         return emitter;
     }
@@ -85,10 +92,8 @@ public class SseSender implements RealtimeSender {
         long eventId = nextEventId();
         String json = JsonUtils.toJson(objectMapper, payload);
 
-        // 1) 유저별 이벤트 캐시 저장(오프라인일 때 재전송용)
+        // 1) 유저별 이벤트 캐시 저장(오프라인일 때 재전송용, 보관 기간/용량은 버퍼가 관리)
         sseRepository.saveEvent(memberId, eventId, json);
-        // 오래된 캐시 정리(예: 10분)
-        sseRepository.clearEventsBefore(memberId, eventId - TimeUnit.MINUTES.toMillis(10));
 
         // 2) 활성 emitter 조회 (스냅샷)
         Map<String, SseEmitter> targets = sseRepository.getAllWithIds(memberId);
@@ -99,7 +104,7 @@ public class SseSender implements RealtimeSender {
 
         // 3) emitter별로 병렬 전송, 단 같은 emitter 내에서는 lane으로 직렬화
         targets.forEach((emitterId, emitter) -> {
-            laneOf(emitterId).execute(() -> {
+            enqueue(memberId, emitterId, () -> {
                 try {
                     emitter.send(SseEmitter.event()
                             .name("notification")
@@ -114,6 +119,70 @@ public class SseSender implements RealtimeSender {
         });
     }
 
+    @Override
+    public void sendAll(Collection<Long> memberIds, NotificationEnvelope<?> payload) {
+        if (memberIds.isEmpty()) {
+            return;
+        }
+
+        // 0) 모든 수신자가 같은 이벤트 ID를 쓰므로 SSE 프레임까지 한 번만 만든다.
+        long eventId = nextEventId();
+        String json = JsonUtils.toJson(objectMapper, payload);
+        byte[] encoded = json.getBytes(StandardCharsets.UTF_8);
+        Set<ResponseBodyEmitter.DataWithMediaType> frame = SseEmitter.event()
+                .name("notification")
+                .id(Long.toString(eventId))
+                .data(json, MediaType.APPLICATION_JSON)
+                .build();
+
+        int delivered = 0;
+        for (Long memberId : memberIds) {
+            // 1) 유저별 이벤트 캐시 저장 (인코딩된 페이로드 공유)
+            sseRepository.saveEvent(memberId, eventId, encoded);
+
+            // 2) 활성 emitter별 lane으로 전송
+            Map<String, SseEmitter> targets = sseRepository.getAllWithIds(memberId);
+            targets.forEach((emitterId, emitter) -> {
+                enqueue(memberId, emitterId, () -> {
+                    try {
+                        emitter.send(frame);
+                    } catch (IOException ex) {
+                        log.warn("multicast send failed - memberId={}, emitterId={}, err={}", memberId, emitterId, ex.toString());
+                        disconnectEmitterWithError(memberId, emitterId, ex);
+                        removeLane(emitterId);
+                    }
+                });
+            });
+            delivered += targets.size();
+        }
+        log.debug("multicast queued - eventId={}, members={}, emitters={}", eventId, memberIds.size(), delivered);
+    }
+
+    @Override
+    public void sendTransient(long memberId, SseEventName eventName, Object payload) {
+        Map<String, SseEmitter> targets = sseRepository.getAllWithIds(memberId);
+        if (targets.isEmpty()) {
+            return;
+        }
+
+        // id 없이 전송하여 클라이언트의 Last-Event-ID 체인(알림 재전송 기준)에 영향을 주지 않는다.
+        String json = JsonUtils.toJson(objectMapper, payload);
+        // 아직 전송되지 않은 같은 종류의 이벤트는 최신 값으로 대체
+        targets.forEach((emitterId, emitter) -> {
+            laneOf(emitterId).offerLatest(eventName.getValue(), () -> {
+                try {
+                    emitter.send(SseEmitter.event()
+                            .name(eventName.getValue())
+                            .data(json, MediaType.APPLICATION_JSON));
+                } catch (IOException ex) {
+                    log.warn("transient send failed - memberId={}, emitterId={}, err={}", memberId, emitterId, ex.toString());
+                    disconnectEmitterWithError(memberId, emitterId, ex);
+                    removeLane(emitterId);
+                }
+            });
+        });
+    }
+
     @Override
     public void resend(long memberId, SseEmitter emitter, String lastEventIdHeader) {
         // 인터페이스 호환용(외부에서 직접 호출될 수 있음) - emitterId를 알 수 없으므로 즉시 수행
@@ -233,8 +302,22 @@ public class SseSender implements RealtimeSender {
         });
     }
 
-    private SerialExecutor laneOf(String emitterId) {
-        return lanes.computeIfAbsent(emitterId, id -> new SerialExecutor(sseExecutor));
+    private SseLane laneOf(String emitterId) {
+        return lanes.computeIfAbsent(emitterId,
+                id -> new SseLane(sseExecutor, deliveryMetrics, LANE_CAPACITY, SLOW_CONSUMER_MILLIS));
+    }
+
+    // 대기열이 가득 차면 이벤트를 버리고(재연결 시 재전송 캐시로 복구), 계속 가득 찬 emitter는 끊는다.
+    private void enqueue(long memberId, String emitterId, Runnable task) {
+        SseLane.Offer result = laneOf(emitterId).offer(task, clock.millis());
+        if (result == SseLane.Offer.DROPPED) {
+            log.debug("SSE lane full; event dropped - memberId={}, emitterId={}", memberId, emitterId);
+        } else if (result == SseLane.Offer.SLOW_CONSUMER) {
+            deliveryMetrics.slowConsumerEvicted();
+            log.warn("slow SSE consumer evicted - memberId={}, emitterId={}", memberId, emitterId);
+            disconnectEmitterWithError(memberId, emitterId, new IOException("SSE lane full for " + SLOW_CONSUMER_MILLIS + "ms"));
+            removeLane(emitterId);
+        }
     }
 
     private long nextEventId() {
@@ -246,35 +329,23 @@ public class SseSender implements RealtimeSender {
     }
 
     private void removeLane(String emitterId) {
-        lanes.remove(emitterId);
-    }
-
-    // ---- 간단한 직렬 실행기 (Guava SerializingExecutor 유사)
-    static final class SerialExecutor implements Executor {
-
-
-        private final Executor backend;
-        private final ArrayDeque<Runnable> tasks = new ArrayDeque<>();
-        private Runnable active;
-
-        SerialExecutor(Executor backend) {
-            this.backend = backend;
-        }
-
-        @Override
-        public synchronized void execute(Runnable r) {
-            tasks.add(() -> {
-                try {
-                    r.run();
-                } finally {
-                    scheduleNext();
-                }
-            });
-            if (active == null) scheduleNext();
+        SseLane lane = lanes.remove(emitterId);
+        if (lane != null) {
+            lane.close();
         }
+    }
 
-        private synchronized void scheduleNext() {
-            if ((active = tasks.poll()) != null) backend.execute(active);
+    /**
+     * 전송 대기열 깊이/전송 소요 시간 지표
+     */
+    public SseDeliveryStats deliveryStats() {
+        long queued = 0;
+        int maxLaneDepth = 0;
+        for (SseLane lane : lanes.values()) {
+            int depth = lane.depth();
+            queued += depth;
+            maxLaneDepth = Math.max(maxLaneDepth, depth);
         }
+        return deliveryMetrics.snapshot(lanes.size(), queued, maxLaneDepth);
     }
 }
@@ -1,6 +1,7 @@
 package com.profect.tickle.domain.performance.controller;
 
 import com.profect.tickle.domain.performance.service.KopisPerformanceImporterService;
+import com.profect.tickle.domain.reservation.service.SeatService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
@@ -16,6 +17,7 @@ import org.springframework.web.bind.annotation.RestController;
 public class KopisAdminController {
 
     private final KopisPerformanceImporterService importerService;
+    private final SeatService seatService;
 
     @PostMapping("/import")
     @Operation(summary = "공연 OPNE API 받아오기", description = "kopis 에 있는 공연을 데이터를 받아옵니다.")
@@ -23,4 +25,10 @@ public class KopisAdminController {
         importerService.importPerformances();
         return ResponseEntity.ok().build();
     }
+
+    @PostMapping("/seats")
+    @Operation(summary = "공연 좌석 일괄 생성", description = "좌석이 없는 공연의 좌석을 홀 타입 좌석 템플릿으로 일괄 생성합니다.")
+    public ResponseEntity<Integer> createMissingSeats() {
+        return ResponseEntity.ok(seatService.createMissingSeats());
+    }
 }
@@ -15,9 +15,6 @@ import com.profect.tickle.domain.performance.mapper.PerformanceMapper;
 import com.profect.tickle.domain.performance.repository.GenreRepository;
 import com.profect.tickle.domain.performance.repository.HallRepository;
 import com.profect.tickle.domain.performance.repository.PerformanceRepository;
-import com.profect.tickle.domain.reservation.dto.response.reservation.ReservationServiceDto;
-import com.profect.tickle.domain.reservation.dto.response.reservation.ReservedSeatDto;
-import com.profect.tickle.domain.reservation.mapper.ReservationMapper;
 import com.profect.tickle.domain.reservation.repository.SeatTemplateRepository;
 import com.profect.tickle.domain.reservation.service.SeatService;
 import com.profect.tickle.global.exception.BusinessException;
@@ -52,7 +49,6 @@ public class PerformanceService {
     private final SeatService seatService;
     private final PerformanceMapper performanceMapper;
     private final MemberMapper memberMapper;
-    private final ReservationMapper reservationMapper;
 
     public List<GenreDto> getAllGenre() {
         return performanceMapper.findAllGenres();
@@ -199,29 +195,12 @@ public class PerformanceService {
     }
 
     // 알림 수정 이벤트 발생 메서드
+    // 수신자(예매 회원)는 리스너가 커서로 나눠 조회하므로 공연 정보만 담는다.
     private void publishPerformanceModifiedEvent(Long performanceId) {
-        // 1) 공연정보 조회
         PerformanceServiceDto performanceServiceDto = performanceMapper.findById(performanceId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.PERFORMANCE_NOT_FOUND));
 
-        // 2) 예매정보 조회
-        List<ReservationServiceDto> reservationList = reservationMapper.findByPerformanceId(performanceId);
-
-        if (reservationList == null || reservationList.isEmpty()) {
-            return; // 알림 이벤트를 발생시킬 필요가 없다.
-        }
-
-        // 3) 예매별 자리 정보 조회
-        for (ReservationServiceDto reservation : reservationList) {
-            List<ReservedSeatDto> seatList = reservationMapper.findReservedSeatListByReservationId(reservation.getId());
-            reservation.setSeatList(seatList);
-        }
-
-        // 4) 이벤트 발행
-        eventPublisher.publishEvent(new PerformanceModifiedEvent(
-                performanceServiceDto,
-                reservationList)
-        );
+        eventPublisher.publishEvent(new PerformanceModifiedEvent(performanceServiceDto));
         log.info("[{} 이벤트 발행]", NotificationKind.PERFORMANCE_MODIFIED);
     }
 }
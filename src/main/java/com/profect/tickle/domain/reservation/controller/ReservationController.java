@@ -2,7 +2,6 @@ package com.profect.tickle.domain.reservation.controller;
 
 import com.profect.tickle.domain.reservation.dto.request.ReservationCompletionRequestDto;
 import com.profect.tickle.domain.reservation.dto.request.SeatPreemptionRequestDto;
-import com.profect.tickle.domain.reservation.dto.response.reservation.HallTypeAndSeatInfoResponseDto;
 import com.profect.tickle.domain.reservation.dto.response.reservation.ReservationCompletionResponseDto;
 import com.profect.tickle.domain.reservation.dto.response.reservation.ReservationInfoResponseDto;
 import com.profect.tickle.domain.reservation.dto.response.preemption.SeatPreemptionResponseDto;
@@ -10,6 +9,8 @@ import com.profect.tickle.domain.reservation.service.ReservationInfoService;
 import com.profect.tickle.domain.reservation.service.ReservationService;
 import com.profect.tickle.domain.reservation.service.SeatPreemptionService;
 import com.profect.tickle.domain.reservation.service.SeatService;
+import com.profect.tickle.domain.reservation.service.seatmap.SeatHoldWriter;
+import com.profect.tickle.domain.reservation.service.seatmap.SerializedSeatMap;
 import com.profect.tickle.global.response.ResultCode;
 import com.profect.tickle.global.response.ResultResponse;
 import com.profect.tickle.global.security.util.SecurityUtil;
@@ -18,11 +19,16 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -37,15 +43,24 @@ public class ReservationController {
     private final SeatPreemptionService seatPreemptionService;
     private final ReservationInfoService reservationInfoService;
     private final ReservationService reservationService;
+    private final SeatHoldWriter seatHoldWriter;
 
-    @Operation(summary = "공연 좌석 조회", description = "해당 공연의 좌석 정보를 조회합니다.")
+    @Operation(summary = "공연 좌석 조회", description = "해당 공연의 좌석 정보를 조회합니다. 좌석 상태가 바뀌지 않았다면 If-None-Match에 대해 304를 반환합니다.")
     @GetMapping("/{performanceId}/seats")
-    public ResultResponse<HallTypeAndSeatInfoResponseDto> getPerformanceSeats(
-            @PathVariable Long performanceId) {
+    public ResponseEntity<byte[]> getPerformanceSeats(
+            @PathVariable Long performanceId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
 
-        HallTypeAndSeatInfoResponseDto seatInfo = seatService.getSeatInfoByPerformance(
-                performanceId);
-        return ResultResponse.of(ResultCode.RESERVATION_SEATS_INFO_SUCCESS, seatInfo);
+        SerializedSeatMap seatInfo = seatService.getSeatInfoByPerformance(performanceId);
+        if (seatInfo.matches(ifNoneMatch)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(seatInfo.eTag())
+                    .build();
+        }
+        return ResponseEntity.ok()
+                .eTag(seatInfo.eTag())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(seatInfo.body());
     }
 
     @Operation(summary = "좌석 선점", description = "예매를 위한 좌석 선점을 수행합니다.")
@@ -70,6 +85,8 @@ public class ReservationController {
     public ResultResponse<ReservationInfoResponseDto> getPaymentInfo(
             @PathVariable String preemptionToken) {
 
+        // 선점 write-through가 진행 중이면 반영까지 대기 (DB 커넥션을 잡기 전, 트랜잭션 밖에서 대기)
+        seatHoldWriter.awaitPersisted(preemptionToken);
         ReservationInfoResponseDto response = reservationInfoService.getReservationInfo(preemptionToken);
         return ResultResponse.of(ResultCode.RESERVATION_PAYMENT_INFO_SUCCESS, response);
     }
@@ -80,6 +97,8 @@ public class ReservationController {
     public ResultResponse<ReservationCompletionResponseDto> completeReservation(
             @RequestBody @Valid ReservationCompletionRequestDto request) {
 
+        // 선점 write-through가 진행 중이면 반영까지 대기 (DB 커넥션을 잡기 전, 트랜잭션 밖에서 대기)
+        seatHoldWriter.awaitPersisted(request.getPreemptionToken());
         ReservationCompletionResponseDto response = reservationService.completeReservation(request);
         return ResultResponse.of(ResultCode.RESERVATION_COMPLETE_SUCCESS, response);
     }
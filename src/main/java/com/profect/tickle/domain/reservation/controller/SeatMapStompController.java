@@ -0,0 +1,25 @@
+package com.profect.tickle.domain.reservation.controller;
+
+import com.profect.tickle.domain.reservation.dto.response.seatmap.SeatMapSnapshotResponseDto;
+import com.profect.tickle.domain.reservation.service.seatmap.SeatMapRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.messaging.handler.annotation.DestinationVariable;
+import org.springframework.messaging.simp.annotation.SubscribeMapping;
+import org.springframework.stereotype.Controller;
+
+/**
+ * 실시간 좌석맵 STOMP 컨트롤러
+ * 1. /app/seats/{performanceId} 구독 → 현재 좌석맵 스냅샷을 구독자에게만 한 번 응답
+ * 2. /topic/seats/{performanceId} 구독 → 이후 좌석 상태 변경분(delta) 수신 (중계 모드는 /topic/seats.{performanceId})
+ */
+@Controller
+@RequiredArgsConstructor
+public class SeatMapStompController {
+
+    private final SeatMapRegistry seatMapRegistry;
+
+    @SubscribeMapping("/seats/{performanceId}")
+    public SeatMapSnapshotResponseDto subscribeSeatMap(@DestinationVariable Long performanceId) {
+        return seatMapRegistry.snapshot(performanceId);
+    }
+}
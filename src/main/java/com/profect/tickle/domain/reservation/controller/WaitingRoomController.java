@@ -0,0 +1,53 @@
+package com.profect.tickle.domain.reservation.controller;
+
+import com.profect.tickle.domain.reservation.dto.response.waitingroom.WaitingRoomStatusResponseDto;
+import com.profect.tickle.domain.reservation.service.waitingroom.WaitingRoomService;
+import com.profect.tickle.global.response.ResultCode;
+import com.profect.tickle.global.response.ResultResponse;
+import com.profect.tickle.global.security.util.SecurityUtil;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@Tag(name = "예매 대기열", description = "좌석 선점 전 가상 대기열 API")
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/reservation/{performanceId}/waiting-room")
+public class WaitingRoomController {
+
+    private final WaitingRoomService waitingRoomService;
+
+    @Operation(summary = "대기열 진입", description = "번호표를 발급받고 현재 대기 순번을 조회합니다. 이후 순번/입장 알림은 SSE(waiting-room 이벤트)로 전달됩니다.")
+    @PostMapping
+    @PreAuthorize("hasRole('MEMBER')")
+    public ResultResponse<WaitingRoomStatusResponseDto> enter(@PathVariable Long performanceId) {
+        Long userId = SecurityUtil.getSignInMemberId();
+        WaitingRoomStatusResponseDto status = waitingRoomService.enter(performanceId, userId);
+        return ResultResponse.of(ResultCode.RESERVATION_WAITING_ROOM_ENTER_SUCCESS, status);
+    }
+
+    @Operation(summary = "대기열 상태 조회", description = "현재 대기 순번 또는 입장 여부를 조회합니다.")
+    @GetMapping
+    @PreAuthorize("hasRole('MEMBER')")
+    public ResultResponse<WaitingRoomStatusResponseDto> getStatus(@PathVariable Long performanceId) {
+        Long userId = SecurityUtil.getSignInMemberId();
+        WaitingRoomStatusResponseDto status = waitingRoomService.getStatus(performanceId, userId);
+        return ResultResponse.of(ResultCode.RESERVATION_WAITING_ROOM_STATUS_SUCCESS, status);
+    }
+
+    @Operation(summary = "대기열 나가기", description = "대기열에서 번호표를 반납합니다.")
+    @DeleteMapping
+    @PreAuthorize("hasRole('MEMBER')")
+    public ResultResponse<Void> leave(@PathVariable Long performanceId) {
+        Long userId = SecurityUtil.getSignInMemberId();
+        waitingRoomService.leave(performanceId, userId);
+        return ResultResponse.ok(ResultCode.RESERVATION_WAITING_ROOM_LEAVE_SUCCESS);
+    }
+}
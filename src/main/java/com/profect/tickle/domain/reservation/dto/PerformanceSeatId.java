@@ -0,0 +1,8 @@
+package com.profect.tickle.domain.reservation.dto;
+
+public record PerformanceSeatId(
+        Long performanceId,
+        Long seatId
+) {
+
+}
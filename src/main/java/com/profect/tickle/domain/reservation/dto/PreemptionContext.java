@@ -1,6 +1,5 @@
 package com.profect.tickle.domain.reservation.dto;
 
-import com.profect.tickle.domain.member.entity.Member;
 import java.time.Instant;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -13,5 +12,5 @@ public class PreemptionContext {
     private String preemptionToken;
     private Instant preemptedAt;
     private Instant preemptedUntil;
-    private Member member;
+    private Long memberId;
 }
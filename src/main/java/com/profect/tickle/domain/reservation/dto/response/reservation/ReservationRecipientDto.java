@@ -0,0 +1,10 @@
+package com.profect.tickle.domain.reservation.dto.response.reservation;
+
+/**
+ * 공연 알림 수신자 (알림 설정한 예매가 있는 회원)
+ */
+public record ReservationRecipientDto(
+        Long memberId,
+        String memberEmail
+) {
+}
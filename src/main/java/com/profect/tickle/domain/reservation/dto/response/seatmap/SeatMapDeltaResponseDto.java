@@ -0,0 +1,20 @@
+package com.profect.tickle.domain.reservation.dto.response.seatmap;
+
+import java.util.List;
+
+/**
+ * 짧은 구간 동안 모인 좌석 상태 변경분 (좌석별 마지막 상태만 포함)
+ */
+public record SeatMapDeltaResponseDto(
+        Long performanceId,
+        long version,
+        List<SeatStatusDelta> seats
+) {
+
+    public record SeatStatusDelta(
+            Long seatId,
+            Long statusId       // 11: 예매가능, 12: 선점중, 13: 예매완료
+    ) {
+
+    }
+}
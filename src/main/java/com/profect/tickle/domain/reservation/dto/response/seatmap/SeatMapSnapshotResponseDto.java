@@ -0,0 +1,16 @@
+package com.profect.tickle.domain.reservation.dto.response.seatmap;
+
+import com.profect.tickle.domain.reservation.dto.response.reservation.SeatInfoResponseDto;
+import java.util.List;
+
+/**
+ * 실시간 좌석맵 구독 시 한 번 내려주는 전체 스냅샷
+ * version 이하의 변경분은 이미 반영되어 있으므로 클라이언트는 version보다 큰 delta만 적용한다.
+ */
+public record SeatMapSnapshotResponseDto(
+        Long performanceId,
+        long version,
+        List<SeatInfoResponseDto> seats
+) {
+
+}
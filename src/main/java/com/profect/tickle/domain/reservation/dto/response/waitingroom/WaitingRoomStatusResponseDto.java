@@ -0,0 +1,19 @@
+package com.profect.tickle.domain.reservation.dto.response.waitingroom;
+
+import java.time.Instant;
+
+public record WaitingRoomStatusResponseDto(
+        Long performanceId,
+        boolean admitted,           // 입장 여부 (true면 좌석 선점 가능)
+        long position,              // 대기 순번 (입장 시 0)
+        Instant activeUntil         // 입장 유효 시간 (입장 시에만)
+) {
+
+    public static WaitingRoomStatusResponseDto waiting(Long performanceId, long position) {
+        return new WaitingRoomStatusResponseDto(performanceId, false, position, null);
+    }
+
+    public static WaitingRoomStatusResponseDto admitted(Long performanceId, Instant activeUntil) {
+        return new WaitingRoomStatusResponseDto(performanceId, true, 0, activeUntil);
+    }
+}
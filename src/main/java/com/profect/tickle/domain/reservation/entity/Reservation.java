@@ -17,7 +17,10 @@ import java.util.List;
 
 @Getter
 @Entity
-@Table(name = "reservation")
+@Table(name = "reservation", indexes = {
+        // 공연별 알림 수신자 커서 조회 (performance_id = ? AND member_id > ? ORDER BY member_id)
+        @Index(name = "idx_reservation_performance_id_member_id", columnList = "performance_id, member_id")
+})
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Reservation {
 
@@ -56,6 +59,10 @@ public class Reservation {
     @OneToMany(mappedBy = "reservation", cascade = {CascadeType.PERSIST, CascadeType.MERGE})
     private List<Seat> seats = new ArrayList<>();
 
+    // 상태 변경 이력 (추가만 하며 조회하지 않음 - 지연 로딩 컬렉션에 추가해도 초기화되지 않음)
+    @OneToMany(mappedBy = "reservation", cascade = CascadeType.PERSIST)
+    private List<ReservationChangeLog> changeLogs = new ArrayList<>();
+
     public static Reservation create(Member member, Performance performance, Status status, Integer price) {
         Reservation reservation = new Reservation();
         reservation.member = member;
@@ -65,6 +72,7 @@ public class Reservation {
         reservation.price = price;
         reservation.isNotify = true;
         reservation.createdAt = Instant.now();
+        reservation.changeLogs.add(ReservationChangeLog.of(reservation, status, reservation.createdAt));
         return reservation;
     }
 
@@ -82,6 +90,7 @@ public class Reservation {
         // 1. 예매 자체 상태 변경
         this.status = reservationCancledStatus;
         this.updatedAt = Instant.now();
+        this.changeLogs.add(ReservationChangeLog.of(this, reservationCancledStatus, this.updatedAt));
 
         // 2. 연관된 좌석들도 함께 처리 (예매가 주도)
         for (Seat seat : new ArrayList<>(this.seats)) {
@@ -0,0 +1,48 @@
+package com.profect.tickle.domain.reservation.entity;
+
+import com.profect.tickle.global.status.Status;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * 예매 상태 변경 이력
+ * 예매/취소 시 예매와 같은 트랜잭션에서 한 행씩 쌓이며, 건별정산은 마지막으로 처리한 변경 ID(watermark) 이후의 행만 읽는다.
+ */
+@Getter
+@Entity
+@Table(name = "reservation_change_log", indexes = {
+        // 건별정산 재조회 시작점 조회 (created_at >= ?)
+        @Index(name = "idx_reservation_change_log_created_at", columnList = "reservation_change_log_created_at")
+})
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ReservationChangeLog {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "reservation_change_log_id")
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "reservation_id", nullable = false)
+    private Reservation reservation;
+
+    // 변경 후 예매 상태
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "status_id", nullable = false)
+    private Status status;
+
+    @Column(name = "reservation_change_log_created_at", nullable = false)
+    private Instant createdAt;
+
+    static ReservationChangeLog of(Reservation reservation, Status status, Instant createdAt) {
+        ReservationChangeLog changeLog = new ReservationChangeLog();
+        changeLog.reservation = reservation;
+        changeLog.status = status;
+        changeLog.createdAt = createdAt;
+        return changeLog;
+    }
+}
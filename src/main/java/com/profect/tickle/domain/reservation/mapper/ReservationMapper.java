@@ -1,5 +1,6 @@
 package com.profect.tickle.domain.reservation.mapper;
 
+import com.profect.tickle.domain.reservation.dto.response.reservation.ReservationRecipientDto;
 import com.profect.tickle.domain.reservation.dto.response.reservation.ReservationServiceDto;
 import com.profect.tickle.domain.reservation.dto.response.reservation.ReservedSeatDto;
 import org.apache.ibatis.annotations.Mapper;
@@ -17,6 +18,11 @@ public interface ReservationMapper {
     Optional<ReservationServiceDto> findById(
             @Param("reservationId") Long reservationId);
 
-    List<ReservationServiceDto> findByPerformanceId(
-            @Param("performanceId") Long performanceId);
+    /**
+     * 공연 알림 수신자를 회원 ID 순으로 limit명씩 조회 (afterMemberId 다음 회원부터)
+     */
+    List<ReservationRecipientDto> findNotificationRecipients(
+            @Param("performanceId") Long performanceId,
+            @Param("afterMemberId") Long afterMemberId,
+            @Param("limit") int limit);
 }
@@ -0,0 +1,21 @@
+package com.profect.tickle.domain.reservation.mapper;
+
+import java.time.Instant;
+import java.util.List;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+@Mapper
+public interface SeatMapper {
+
+    int insertSeatsFromTemplates(
+            @Param("performanceIds") List<Long> performanceIds,
+            @Param("statusId") Long statusId,
+            @Param("createdAt") Instant createdAt);
+
+    boolean existsSeatsByPerformanceId(@Param("performanceId") Long performanceId);
+
+    List<Long> findPerformanceIdsWithoutSeats(
+            @Param("afterPerformanceId") Long afterPerformanceId,
+            @Param("limit") int limit);
+}
@@ -1,5 +1,6 @@
 package com.profect.tickle.domain.reservation.repository;
 
+import com.profect.tickle.domain.reservation.dto.PerformanceSeatId;
 import com.profect.tickle.domain.reservation.entity.Seat;
 import jakarta.persistence.LockModeType;
 import java.time.Instant;
@@ -21,6 +22,12 @@ public interface SeatRepository extends JpaRepository<Seat, Long> {
             "ORDER BY s.seatNumber")
     List<Seat> findByPerformanceIdOrderBySeatNumber(@Param("performanceId") Long performanceId);
 
+    @Query("SELECT s FROM Seat s " +
+            "LEFT JOIN FETCH s.status " +
+            "LEFT JOIN FETCH s.reservation " +
+            "WHERE s.id IN :seatIds")
+    List<Seat> findAllWithStatusByIdIn(@Param("seatIds") List<Long> seatIds);
+
     @Query("SELECT s FROM Seat s WHERE s.id IN :seatIds")
     @Lock(LockModeType.PESSIMISTIC_WRITE)
     List<Seat> findAllByIdWithLock(@Param("seatIds") List<Long> seatIds);
@@ -40,6 +47,33 @@ public interface SeatRepository extends JpaRepository<Seat, Long> {
 
     List<Seat> findByReservationId(Long reservationId);
 
+    @Modifying(clearAutomatically = true)
+    @Query("""
+        UPDATE Seat s
+        SET s.member.id = :memberId,
+            s.preemptionToken = :token,
+            s.preemptedAt = :preemptedAt,
+            s.preemptedUntil = :preemptedUntil,
+            s.status.id = 12L
+        WHERE s.id IN :seatIds
+          AND s.reservation IS NULL
+          AND s.status.id IN (11L, 12L)
+          AND (s.preemptedUntil IS NULL OR s.preemptedUntil < :preemptedAt)
+    """)
+    int preemptSeatsIfAvailable(@Param("seatIds") List<Long> seatIds,
+            @Param("memberId") Long memberId,
+            @Param("token") String preemptionToken,
+            @Param("preemptedAt") Instant preemptedAt,
+            @Param("preemptedUntil") Instant preemptedUntil);
+
+    @Query("""
+        SELECT new com.profect.tickle.domain.reservation.dto.PerformanceSeatId(s.performance.id, s.id)
+        FROM Seat s
+        WHERE s.preemptedUntil IS NOT NULL
+          AND s.preemptedUntil < :now
+    """)
+    List<PerformanceSeatId> findExpiredPreemptedSeatIds(@Param("now") Instant now);
+
     @Modifying(clearAutomatically = true)
     @Query("""
         UPDATE Seat s
@@ -52,4 +86,20 @@ public interface SeatRepository extends JpaRepository<Seat, Long> {
           AND s.preemptedUntil < :now
     """)
     int clearExpiredPreemptionsBulk(@Param("now") Instant now);
-}
\ No newline at end of file
+
+    @Modifying(clearAutomatically = true)
+    @Query("""
+        UPDATE Seat s
+        SET s.member.id = null,
+            s.preemptionToken = null,
+            s.preemptedAt = null,
+            s.preemptedUntil = null,
+            s.status.id = 11L
+        WHERE s.id IN :seatIds
+          AND s.preemptionToken IN :tokens
+          AND s.preemptedUntil <= :now
+    """)
+    int clearPreemptions(@Param("seatIds") List<Long> seatIds,
+            @Param("tokens") List<String> tokens,
+            @Param("now") Instant now);
+}
@@ -17,6 +17,7 @@ import com.profect.tickle.domain.reservation.entity.Reservation;
 import com.profect.tickle.domain.reservation.entity.Seat;
 import com.profect.tickle.domain.reservation.repository.ReservationRepository;
 import com.profect.tickle.domain.reservation.repository.SeatRepository;
+import com.profect.tickle.domain.reservation.service.seatmap.SeatMapRegistry;
 import com.profect.tickle.global.exception.BusinessException;
 import com.profect.tickle.global.exception.ErrorCode;
 import com.profect.tickle.global.security.util.SecurityUtil;
@@ -47,6 +48,7 @@ public class ReservationHistoryService {
     private final MemberRepository memberRepository;
     private final PointRepository pointRepository;
     private final StatusProvider statusProvider;
+    private final SeatMapRegistry seatMapRegistry;
 
     public List<ReservationHistoryResponseDto> getReservationHistoryWithStatus(Long userId,
             Long statusId, Pageable pageable) {
@@ -88,8 +90,15 @@ public class ReservationHistoryService {
             Status cancledStatus = statusProvider.provide(StatusIds.Reservation.CANCELLED);
             Status availableStatus = statusProvider.provide(StatusIds.Seat.AVAILABLE);
 
+            List<Long> seatIds = reservation.getSeats().stream()
+                    .map(Seat::getId)
+                    .toList();
+
             reservation.cancel(cancledStatus, availableStatus);
 
+            // 커밋 이후 메모리 좌석맵에도 예매 가능으로 반영
+            seatMapRegistry.markAvailableAfterCommit(reservation.getPerformance().getId(), seatIds);
+
             // 포인트 환불
             Integer refundAmount = reservation.getPrice();
             Member member = memberRepository.findById(userId)
@@ -30,7 +30,7 @@ public class ReservationInfoService {
     public ReservationInfoResponseDto getReservationInfo(String preemptionToken) {
         Long memberId = SecurityUtil.getSignInMemberId();
 
-        // 1. 선점된 좌석들 조회
+        // 1. 선점된 좌석들 조회 (write-through 반영 대기는 트랜잭션 시작 전 컨트롤러에서 처리)
         List<Seat> seats = seatRepository.findByPreemptionToken(preemptionToken);
 
         // 2.선점 토큰 유효성 검증
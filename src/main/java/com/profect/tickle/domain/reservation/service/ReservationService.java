@@ -21,6 +21,7 @@ import com.profect.tickle.domain.reservation.entity.Seat;
 import com.profect.tickle.domain.reservation.mapper.ReservationMapper;
 import com.profect.tickle.domain.reservation.repository.ReservationRepository;
 import com.profect.tickle.domain.reservation.repository.SeatRepository;
+import com.profect.tickle.domain.reservation.service.seatmap.SeatMapRegistry;
 import com.profect.tickle.global.exception.BusinessException;
 import com.profect.tickle.global.exception.ErrorCode;
 import com.profect.tickle.global.security.util.SecurityUtil;
@@ -56,6 +57,7 @@ public class ReservationService {
     private final ReservationMapper reservationMapper;
     private final StatusProvider statusProvider;
     private final ReservationValidator reservationValidator;
+    private final SeatMapRegistry seatMapRegistry;
 
     @Transactional
     public ReservationCompletionResponseDto completeReservation(
@@ -67,7 +69,7 @@ public class ReservationService {
             Member member = memberRepository.findById(userId)
                     .orElseThrow(() -> new BusinessException(ErrorCode.MEMBER_NOT_FOUND));
 
-            // 1. 선점 토큰으로 좌석들 조회
+            // 1. 선점 토큰으로 좌석들 조회 (write-through 반영 대기는 트랜잭션 시작 전 컨트롤러에서 처리)
             List<Seat> preemptedSeats = seatRepository.findByPreemptionTokenWithLock(request.getPreemptionToken());
 
             // 선점 좌석들 검증
@@ -176,6 +178,11 @@ public class ReservationService {
         for (Seat seat : seats) {
             seat.completeReservation(member, reservedStatus, generateSeatCode());
         }
+
+        // 커밋 이후 메모리 좌석맵에도 예매 완료로 반영
+        seatMapRegistry.markReservedAfterCommit(
+                seats.getFirst().getPerformance().getId(),
+                seats.stream().map(Seat::getId).toList());
     }
 
     private ReservedSeatDto convertToReservedSeatInfo(Seat seat) {
@@ -1,7 +1,13 @@
 package com.profect.tickle.domain.reservation.service;
 
+import com.profect.tickle.domain.reservation.dto.PerformanceSeatId;
 import com.profect.tickle.domain.reservation.repository.SeatRepository;
+import com.profect.tickle.domain.reservation.service.seatmap.SeatHold;
+import com.profect.tickle.domain.reservation.service.seatmap.SeatMapBroadcaster;
+import com.profect.tickle.global.status.StatusIds;
 import java.time.Instant;
+import java.util.List;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
@@ -13,16 +19,44 @@ import org.springframework.transaction.annotation.Transactional;
 public class SeatPreemptionReleaser {
 
     private final SeatRepository seatRepository;
+    private final SeatMapBroadcaster seatMapBroadcaster;
 
+    // 크래시 복구용 벌크 정리 (타이밍 휠에 등록되지 않은 만료 선점 처리)
     @Transactional
     public void releaseExpiredPreemptions() {
         Instant now = Instant.now();
+        List<PerformanceSeatId> expiredSeats = seatRepository.findExpiredPreemptedSeatIds(now);
+        if (expiredSeats.isEmpty()) {
+            log.debug("해제된 좌석 없음");
+            return;
+        }
+
         int count = seatRepository.clearExpiredPreemptionsBulk(now);
 
         if (count > 0) {
             log.info("벌크로 {}개 좌석 선점 해제", count);
+            // 메모리 좌석맵은 만료 시각이 지나면 예매 가능으로 간주하므로 구독자에게 변경분만 알린다.
+            expiredSeats.stream()
+                    .collect(Collectors.groupingBy(PerformanceSeatId::performanceId,
+                            Collectors.mapping(PerformanceSeatId::seatId, Collectors.toList())))
+                    .forEach((performanceId, seatIds) ->
+                            seatMapBroadcaster.publish(performanceId, seatIds, StatusIds.Seat.AVAILABLE));
         } else {
             log.debug("해제된 좌석 없음");
         }
     }
+
+    // 만료 시각이 된 선점들의 좌석만 대상으로 해제
+    @Transactional
+    public void releaseHolds(List<SeatHold> holds) {
+        List<Long> seatIds = holds.stream()
+                .flatMap(hold -> hold.seatIds().stream())
+                .toList();
+        List<String> tokens = holds.stream()
+                .map(SeatHold::preemptionToken)
+                .toList();
+
+        int count = seatRepository.clearPreemptions(seatIds, tokens, Instant.now());
+        log.debug("만료 선점 {}건, {}개 좌석 해제", holds.size(), count);
+    }
 }
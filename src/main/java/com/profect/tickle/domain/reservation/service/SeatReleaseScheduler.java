@@ -5,6 +5,10 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+/**
+ * 선점 만료는 SeatHoldExpiryWheel이 만료 시각에 맞춰 처리하므로,
+ * 이 스케줄러는 재기동 등으로 휠에서 빠진 선점을 정리하는 백스톱 역할만 한다.
+ */
 @Component
 @RequiredArgsConstructor
 @Slf4j
@@ -12,7 +16,7 @@ public class SeatReleaseScheduler {
 
     private final SeatPreemptionReleaser releaser;
 
-    @Scheduled(cron = "*/10 * * * * *")
+    @Scheduled(cron = "0 * * * * *")
     public void releaseExpiredSeats() {
         releaser.releaseExpiredPreemptions();
     }
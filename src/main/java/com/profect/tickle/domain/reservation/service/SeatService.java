@@ -3,66 +3,100 @@ package com.profect.tickle.domain.reservation.service;
 import com.profect.tickle.domain.performance.entity.HallType;
 import com.profect.tickle.domain.performance.entity.Performance;
 import com.profect.tickle.domain.performance.repository.PerformanceRepository;
-import com.profect.tickle.domain.reservation.dto.response.reservation.HallTypeAndSeatInfoResponseDto;
-import com.profect.tickle.domain.reservation.dto.response.reservation.SeatInfoResponseDto;
-import com.profect.tickle.domain.reservation.entity.Seat;
-import com.profect.tickle.domain.reservation.entity.SeatTemplate;
-import com.profect.tickle.domain.reservation.repository.SeatRepository;
-import com.profect.tickle.domain.reservation.repository.SeatTemplateRepository;
+import com.profect.tickle.domain.reservation.mapper.SeatMapper;
+import com.profect.tickle.domain.reservation.service.seatmap.SeatMapRegistry;
+import com.profect.tickle.domain.reservation.service.seatmap.SeatMapResponseCache;
+import com.profect.tickle.domain.reservation.service.seatmap.SerializedSeatMap;
 import com.profect.tickle.global.exception.BusinessException;
 import com.profect.tickle.global.exception.ErrorCode;
-import com.profect.tickle.global.status.Status;
 import com.profect.tickle.global.status.StatusIds;
-import com.profect.tickle.global.status.service.StatusProvider;
 import java.time.Instant;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
 @Service
 @RequiredArgsConstructor
+@Slf4j
 public class SeatService {
 
+    private static final int BULK_PERFORMANCE_CHUNK_SIZE = 100; // INSERT ... SELECT 한 번에 처리할 공연 수
+
     private final PerformanceRepository performanceRepository;
-    private final SeatTemplateRepository seatTemplateRepository;
-    private final SeatRepository seatRepository;
-    private final StatusProvider statusProvider;
+    private final SeatMapper seatMapper;
+    private final SeatMapRegistry seatMapRegistry;
+    private final SeatMapResponseCache seatMapResponseCache;
 
     public void createSeatsForPerformance(Long performanceId) {
 
-        // 해당 공연의 유형 찾아오기
-        HallType hallType = findHallTypeByPerformanceId(performanceId);
-
-        // 해당 공연 유형에 맞는 좌석 템플릿 찾아오기
-        List<SeatTemplate> seatTemplates = findSeatTemplatesByHallType(hallType);
-
-        // 좌석에 넣을 해당 공연 찾아오기
-        Performance performance = findPerformanceById(performanceId);
-
-        // 예매가능 상태 찾아오기
-        Status available = statusProvider.provide(StatusIds.Seat.AVAILABLE);
+        // 해당 공연의 유형 확인
+        findHallTypeByPerformanceId(performanceId);
+
+        // 홀 타입 좌석 템플릿으로 좌석 일괄 생성 (좌석 수만큼 INSERT를 보내지 않도록 DB에서 한 번에 생성)
+        int created = seatMapper.insertSeatsFromTemplates(
+                List.of(performanceId), StatusIds.Seat.AVAILABLE, Instant.now());
+        if (created == 0) {
+            // 이미 좌석이 있는 공연은 INSERT ... SELECT가 건너뛰므로 템플릿 누락과 구분한다.
+            if (seatMapper.existsSeatsByPerformanceId(performanceId)) {
+                log.info("🪑이미 좌석이 생성된 공연 - performanceId={}", performanceId);
+                return;
+            }
+            throw new BusinessException(ErrorCode.SEAT_TEMPLATE_NOT_FOUND);
+        }
 
-        List<Seat> seats = createSeats(seatTemplates, performance, available);
-        seatRepository.saveAll(seats);
+        // 기존에 로딩된 좌석맵이 있다면 다음 접근 시 새 좌석으로 재구성
+        seatMapRegistry.invalidate(performanceId);
     }
 
-    public HallTypeAndSeatInfoResponseDto getSeatInfoByPerformance(Long performanceId) {
-        List<Seat> seats = seatRepository.findByPerformanceIdOrderBySeatNumber(performanceId);
+    /**
+     * 여러 공연의 좌석을 한 번에 생성합니다. (KOPIS 재적재 등 대량 생성용)
+     * 이미 좌석이 있는 공연은 건너뛰며, 생성된 좌석 수를 반환합니다.
+     */
+    public int createSeatsForPerformances(List<Long> performanceIds) {
+        int created = 0;
+        Instant now = Instant.now();
 
-        List<SeatInfoResponseDto> seatInfos = seats.stream()
-                .map(this::convertToSeatStatusResponse)
-                .toList();
+        for (int from = 0; from < performanceIds.size(); from += BULK_PERFORMANCE_CHUNK_SIZE) {
+            List<Long> chunk = performanceIds.subList(
+                    from, Math.min(from + BULK_PERFORMANCE_CHUNK_SIZE, performanceIds.size()));
+            created += seatMapper.insertSeatsFromTemplates(chunk, StatusIds.Seat.AVAILABLE, now);
+            chunk.forEach(seatMapRegistry::invalidate);
+        }
+        return created;
+    }
 
-        HallType hallType = findPerformanceById(performanceId)
-                .getHall()
-                .getType();
+    /**
+     * 좌석이 없는 공연 전체의 좌석을 생성합니다.
+     */
+    public int createMissingSeats() {
+        long startedAt = System.currentTimeMillis();
+        int performances = 0;
+        int created = 0;
+        Long afterPerformanceId = 0L;
+
+        while (true) {
+            List<Long> performanceIds =
+                    seatMapper.findPerformanceIdsWithoutSeats(afterPerformanceId, BULK_PERFORMANCE_CHUNK_SIZE);
+            if (performanceIds.isEmpty()) {
+                break;
+            }
+            created += createSeatsForPerformances(performanceIds);
+            performances += performanceIds.size();
+            // 템플릿이 없는 홀 타입의 공연은 계속 남으므로 ID 기준으로 다음 페이지를 조회
+            afterPerformanceId = performanceIds.getLast();
+        }
 
-        return new HallTypeAndSeatInfoResponseDto(hallType, seatInfos);
+        log.info("🪑좌석 일괄 생성 완료 - performances={}, seats={}, elapsed={}ms",
+                performances, created, System.currentTimeMillis() - startedAt);
+        return created;
     }
 
-    private Performance findPerformanceById(Long performanceId) {
-        return performanceRepository.findById(performanceId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.PERFORMANCE_NOT_FOUND));
+    /**
+     * 공연 좌석 조회 - 메모리 좌석맵으로 만든 직렬화 응답을 재사용합니다.
+     */
+    public SerializedSeatMap getSeatInfoByPerformance(Long performanceId) {
+        return seatMapResponseCache.get(performanceId);
     }
 
     /**
@@ -79,47 +113,4 @@ public class SeatService {
         }
         return hallType;
     }
-
-    /**
-     * 홀 타입에 맞는 좌석 템플릿들을 조회합니다.
-     */
-    private List<SeatTemplate> findSeatTemplatesByHallType(HallType hallType) {
-        List<SeatTemplate> seatTemplates = seatTemplateRepository.findByHallType(hallType);
-        if (seatTemplates.isEmpty()) {
-            throw new BusinessException(ErrorCode.SEAT_TEMPLATE_NOT_FOUND);
-        }
-        return seatTemplates;
-    }
-
-    /**
-     * 좌석 템플릿을 기반으로 실제 좌석들을 생성합니다.
-     */
-    private List<Seat> createSeats(
-            List<SeatTemplate> seatTemplates,
-            Performance performance,
-            Status availableStatus) {
-
-        Instant now = Instant.now();
-
-        return seatTemplates.stream()
-                .map(template -> Seat.builder()
-                        .performance(performance)
-                        .seatNumber(template.getSeatNumber())
-                        .seatGrade(template.getSeatGrade())
-                        .seatPrice(template.getPrice())
-                        .status(availableStatus)
-                        .createdAt(now)
-                        .build())
-                .toList();
-    }
-
-    private SeatInfoResponseDto convertToSeatStatusResponse(Seat seat) {
-        return SeatInfoResponseDto.builder()
-                .seatId(seat.getId())
-                .seatNumber(seat.getSeatNumber())
-                .seatGrade(seat.getSeatGrade())
-                .seatPrice(seat.getSeatPrice())
-                .statusId(seat.getStatus() != null ? seat.getStatus().getId() : StatusIds.Seat.AVAILABLE) // 기본값: 예매가능
-                .build();
-    }
-}
\ No newline at end of file
+}
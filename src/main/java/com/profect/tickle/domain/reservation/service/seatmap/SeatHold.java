@@ -0,0 +1,17 @@
+package com.profect.tickle.domain.reservation.service.seatmap;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * 메모리 좌석맵에서 승인된 선점 한 건 (DB write-through 단위)
+ */
+public record SeatHold(
+        String preemptionToken,
+        Long performanceId,
+        Long memberId,
+        List<Long> seatIds,
+        Instant preemptedAt,
+        Instant preemptedUntil
+) {
+}
@@ -0,0 +1,89 @@
+package com.profect.tickle.domain.reservation.service.seatmap;
+
+import com.profect.tickle.domain.reservation.service.SeatPreemptionReleaser;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.time.Clock;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * 선점 만료 타이머
+ * write-through로 DB에 반영된 선점을 preemptionToken 기준으로 타이밍 휠에 등록하고,
+ * 만료 시각이 되면 해당 선점 좌석만 대상으로 해제한다.
+ * (재기동 등으로 휠에 없는 선점은 SeatReleaseScheduler의 벌크 정리가 처리)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SeatHoldExpiryWheel {
+
+    private static final long TICK_MILLIS = 100;   // 0.1초 단위
+    private static final int WHEEL_SIZE = 64;      // 1단 6.4초, 2단 약 6.8분
+
+    private final SeatPreemptionReleaser releaser;
+    private final SeatMapRegistry seatMapRegistry;
+    private final Clock clock;
+    private final Executor seatWriteExecutor;
+
+    private final Object lock = new Object();
+    private TimingWheel<String, SeatHold> wheel;
+    private ScheduledExecutorService ticker;
+
+    @PostConstruct
+    void start() {
+        wheel = new TimingWheel<>(TICK_MILLIS, WHEEL_SIZE, clock.millis());
+        ticker = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "seat-expiry-wheel");
+            thread.setDaemon(true);
+            return thread;
+        });
+        ticker.scheduleAtFixedRate(this::tick, TICK_MILLIS, TICK_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void stop() {
+        ticker.shutdownNow();
+    }
+
+    public void schedule(SeatHold hold) {
+        boolean scheduled;
+        synchronized (lock) {
+            scheduled = wheel.add(hold.preemptionToken(), hold.preemptedUntil().toEpochMilli(), hold);
+        }
+        if (!scheduled) {
+            expire(List.of(hold)); // 등록 시점에 이미 만료
+        }
+    }
+
+    private void tick() {
+        List<SeatHold> expired;
+        synchronized (lock) {
+            expired = wheel.advanceTo(clock.millis());
+        }
+        if (!expired.isEmpty()) {
+            // tick 스레드가 DB I/O로 밀리지 않도록 해제는 별도 executor에서 수행
+            seatWriteExecutor.execute(() -> expire(expired));
+        }
+    }
+
+    private void expire(List<SeatHold> holds) {
+        try {
+            releaser.releaseHolds(holds);
+        } catch (Exception e) {
+            // 실패한 선점은 벌크 정리에서 해제된다.
+            log.error("선점 만료 해제 실패 - count={}", holds.size(), e);
+        }
+
+        // DB 반영 여부와 관계없이 메모리 좌석맵은 만료 시각 기준으로 해제
+        for (SeatHold hold : holds) {
+            seatMapRegistry.releaseHold(hold);
+        }
+    }
+}
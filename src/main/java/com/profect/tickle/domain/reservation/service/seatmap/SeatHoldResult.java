@@ -0,0 +1,29 @@
+package com.profect.tickle.domain.reservation.service.seatmap;
+
+import com.profect.tickle.domain.reservation.dto.response.preemption.PreemptedSeatInfo;
+import java.util.List;
+
+/**
+ * 좌석맵 선점 시도 결과
+ * 성공 시 선점된 좌석 정보, 실패 시 선점할 수 없는 좌석 ID들을 담는다.
+ */
+public record SeatHoldResult(
+        boolean granted,
+        List<PreemptedSeatInfo> seats,
+        List<Long> unavailableSeatIds
+) {
+
+    static SeatHoldResult granted(List<PreemptedSeatInfo> seats) {
+        return new SeatHoldResult(true, seats, List.of());
+    }
+
+    static SeatHoldResult rejected(List<Long> unavailableSeatIds) {
+        return new SeatHoldResult(false, List.of(), unavailableSeatIds);
+    }
+
+    public List<Long> seatIds() {
+        return seats.stream()
+                .map(PreemptedSeatInfo::getSeatId)
+                .toList();
+    }
+}
@@ -0,0 +1,114 @@
+package com.profect.tickle.domain.reservation.service.seatmap;
+
+import com.profect.tickle.domain.reservation.repository.SeatRepository;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 메모리 좌석맵에서 승인된 선점을 seat 테이블에 비동기로 반영한다.
+ * DB 반영은 조건부 UPDATE 한 번으로 처리하며, 다른 노드 등과 충돌해 일부 좌석만 반영되면
+ * 트랜잭션을 롤백하고 메모리 선점을 되돌린 뒤 해당 좌석만 DB 기준으로 다시 맞춘다.
+ */
+@Component
+@Slf4j
+public class SeatHoldWriter {
+
+    private static final long AWAIT_TIMEOUT_MILLIS = 3_000;
+
+    private final SeatRepository seatRepository;
+    private final SeatMapRegistry seatMapRegistry;
+    private final SeatHoldExpiryWheel seatHoldExpiryWheel;
+    private final TransactionTemplate transactionTemplate;
+    private final Executor seatWriteExecutor;
+
+    // preemptionToken → 반영 중인 write-through 작업
+    private final ConcurrentMap<String, CompletableFuture<Void>> pendingWrites = new ConcurrentHashMap<>();
+
+    public SeatHoldWriter(SeatRepository seatRepository,
+            SeatMapRegistry seatMapRegistry,
+            SeatHoldExpiryWheel seatHoldExpiryWheel,
+            PlatformTransactionManager transactionManager,
+            Executor seatWriteExecutor) {
+        this.seatRepository = seatRepository;
+        this.seatMapRegistry = seatMapRegistry;
+        this.seatHoldExpiryWheel = seatHoldExpiryWheel;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.seatWriteExecutor = seatWriteExecutor;
+    }
+
+    public void writeThrough(SeatHold hold) {
+        CompletableFuture<Void> future = CompletableFuture.runAsync(() -> write(hold), seatWriteExecutor);
+        pendingWrites.put(hold.preemptionToken(), future);
+        future.whenComplete((ignored, ex) -> pendingWrites.remove(hold.preemptionToken(), future));
+    }
+
+    /**
+     * 아직 DB에 반영되지 않은 선점이면 반영이 끝날 때까지 기다린다.
+     * (선점 직후 결제 정보 조회/예매 완료 요청이 들어오는 경우 대비)
+     * DB 커넥션을 잡은 채 기다리지 않도록 트랜잭션 밖에서 호출해야 한다.
+     */
+    public void awaitPersisted(String preemptionToken) {
+        CompletableFuture<Void> future = pendingWrites.get(preemptionToken);
+        if (future == null) {
+            return;
+        }
+        try {
+            future.get(AWAIT_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            // 반영 실패/지연 시 이후 토큰 검증 단계에서 실패 처리된다.
+            log.warn("선점 write-through 대기 실패 - token={}, err={}", preemptionToken, e.toString());
+        }
+    }
+
+    private void write(SeatHold hold) {
+        try {
+            Boolean applied = transactionTemplate.execute(status -> {
+                int updated = seatRepository.preemptSeatsIfAvailable(
+                        hold.seatIds(),
+                        hold.memberId(),
+                        hold.preemptionToken(),
+                        hold.preemptedAt(),
+                        hold.preemptedUntil());
+
+                if (updated != hold.seatIds().size()) {
+                    status.setRollbackOnly();
+                    return false;
+                }
+                return true;
+            });
+
+            if (!Boolean.TRUE.equals(applied)) {
+                log.warn("선점 write-through 충돌 - performanceId={}, token={}",
+                        hold.performanceId(), hold.preemptionToken());
+                compensate(hold);
+                return;
+            }
+
+            // 반영된 선점은 만료 시각에 맞춰 해제되도록 타이밍 휠에 등록
+            seatHoldExpiryWheel.schedule(hold);
+        } catch (Exception e) {
+            log.error("선점 write-through 실패 - performanceId={}, token={}",
+                    hold.performanceId(), hold.preemptionToken(), e);
+            compensate(hold);
+        }
+    }
+
+    private void compensate(SeatHold hold) {
+        seatMapRegistry.releaseHold(hold);
+        try {
+            seatMapRegistry.reloadSeats(hold.performanceId(), hold.seatIds());
+        } catch (Exception e) {
+            log.error("선점 충돌 좌석 재적재 실패 - performanceId={}, seatIds={}",
+                    hold.performanceId(), hold.seatIds(), e);
+        }
+    }
+}
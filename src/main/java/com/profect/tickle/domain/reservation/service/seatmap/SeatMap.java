@@ -0,0 +1,287 @@
+package com.profect.tickle.domain.reservation.service.seatmap;
+
+import com.profect.tickle.domain.reservation.dto.response.preemption.PreemptedSeatInfo;
+import com.profect.tickle.domain.reservation.dto.response.reservation.SeatInfoResponseDto;
+import com.profect.tickle.domain.reservation.entity.Seat;
+import com.profect.tickle.domain.reservation.entity.SeatGrade;
+import com.profect.tickle.global.status.StatusIds;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.IntConsumer;
+
+/**
+ * 공연 한 건의 좌석 상태를 메모리에 보관하는 좌석맵
+ * 좌석 번호 순서(ordinal)로 인덱싱된 AtomicReferenceArray 하나로 상태를 표현하고 CAS로만 변경한다.
+ *  - SeatState.AVAILABLE : 예매 가능
+ *  - SeatState.RESERVED  : 예매 완료 (또는 예매 가능/선점 외의 상태라 선점할 수 없음)
+ *  - 선점 SeatState       : 선점 토큰과 만료 시각 (시각이 지나면 예매 가능으로 간주)
+ * CAS는 인스턴스 동일성으로 비교하고 선점마다 새 인스턴스를 만들므로, 만료 시각이 같은 두 선점도 구분된다.
+ */
+public final class SeatMap {
+
+    private final Long performanceId;
+    private final Map<Long, Integer> ordinalBySeatId;
+    private final long[] seatIds;
+    private final String[] seatNumbers;
+    private final SeatGrade[] seatGrades;
+    private final int[] seatPrices;
+    private final AtomicReferenceArray<SeatState> states;
+
+    private SeatMap(Long performanceId, int size) {
+        this.performanceId = performanceId;
+        this.ordinalBySeatId = new HashMap<>(size * 2);
+        this.seatIds = new long[size];
+        this.seatNumbers = new String[size];
+        this.seatGrades = new SeatGrade[size];
+        this.seatPrices = new int[size];
+        this.states = new AtomicReferenceArray<>(size);
+    }
+
+    /**
+     * 좌석 번호 순으로 정렬된 좌석 목록으로 좌석맵을 만든다. (재기동 후 재구성 용도)
+     */
+    public static SeatMap of(Long performanceId, List<Seat> seatsOrderBySeatNumber, Instant now) {
+        SeatMap seatMap = new SeatMap(performanceId, seatsOrderBySeatNumber.size());
+        long nowMillis = now.toEpochMilli();
+
+        for (int ordinal = 0; ordinal < seatsOrderBySeatNumber.size(); ordinal++) {
+            Seat seat = seatsOrderBySeatNumber.get(ordinal);
+            seatMap.ordinalBySeatId.put(seat.getId(), ordinal);
+            seatMap.seatIds[ordinal] = seat.getId();
+            seatMap.seatNumbers[ordinal] = seat.getSeatNumber();
+            seatMap.seatGrades[ordinal] = seat.getSeatGrade();
+            seatMap.seatPrices[ordinal] = seat.getSeatPrice();
+            seatMap.states.set(ordinal, initialState(seat, nowMillis));
+        }
+        return seatMap;
+    }
+
+    // 예매 가능(선점 만료 포함) 또는 선점중 상태의 좌석만 선점 대상 (그 외 상태는 예매 완료로 취급)
+    private static SeatState initialState(Seat seat, long nowMillis) {
+        if (seat.isAlreadyReserved() || seat.getStatus() == null) {
+            return SeatState.RESERVED;
+        }
+        Long statusId = seat.getStatus().getId();
+        if (!StatusIds.Seat.AVAILABLE.equals(statusId) && !StatusIds.Seat.PREEMPTED.equals(statusId)) {
+            return SeatState.RESERVED;
+        }
+        if (seat.getPreemptionToken() != null && seat.getPreemptedUntil() != null
+                && seat.getPreemptedUntil().toEpochMilli() > nowMillis) {
+            return SeatState.hold(seat.getPreemptionToken(), seat.getPreemptedUntil().toEpochMilli());
+        }
+        return SeatState.AVAILABLE;
+    }
+
+    /**
+     * 요청한 좌석 전체를 all-or-nothing으로 선점한다.
+     * 좌석 번호 순으로 CAS를 시도하고, 하나라도 실패하면 앞서 잡은 좌석을 되돌린다.
+     */
+    public SeatHoldResult tryHold(List<Long> requestedSeatIds, String preemptionToken, Instant preemptedUntil, Instant now) {
+        SeatState hold = SeatState.hold(preemptionToken, preemptedUntil.toEpochMilli());
+        long nowMillis = now.toEpochMilli();
+
+        // 1. 좌석 ID → ordinal 변환 (이 공연의 좌석이 아니면 즉시 실패)
+        int[] ordinals = new int[requestedSeatIds.size()];
+        List<Long> unknownSeatIds = new ArrayList<>();
+        for (int i = 0; i < requestedSeatIds.size(); i++) {
+            Integer ordinal = ordinalBySeatId.get(requestedSeatIds.get(i));
+            if (ordinal == null) {
+                unknownSeatIds.add(requestedSeatIds.get(i));
+            } else {
+                ordinals[i] = ordinal;
+            }
+        }
+        if (!unknownSeatIds.isEmpty()) {
+            return SeatHoldResult.rejected(unknownSeatIds);
+        }
+
+        // 2. 항상 같은 순서로 잡도록 정렬 + 중복 제거
+        ordinals = Arrays.stream(ordinals).sorted().distinct().toArray();
+
+        // 3. 좌석별 CAS 선점
+        int acquired = 0;
+        for (int ordinal : ordinals) {
+            if (!casHold(ordinal, hold, nowMillis)) {
+                break;
+            }
+            acquired++;
+        }
+
+        // 4. 하나라도 실패하면 잡았던 좌석 롤백
+        if (acquired != ordinals.length) {
+            for (int i = 0; i < acquired; i++) {
+                states.compareAndSet(ordinals[i], hold, SeatState.AVAILABLE);
+            }
+            return SeatHoldResult.rejected(collectUnavailable(ordinals, nowMillis));
+        }
+
+        List<PreemptedSeatInfo> seats = new ArrayList<>(ordinals.length);
+        for (int ordinal : ordinals) {
+            seats.add(toPreemptedSeatInfo(ordinal));
+        }
+        return SeatHoldResult.granted(seats);
+    }
+
+    private boolean casHold(int ordinal, SeatState hold, long nowMillis) {
+        while (true) {
+            SeatState current = states.get(ordinal);
+            if (!isFree(current, nowMillis)) {
+                return false;
+            }
+            if (states.compareAndSet(ordinal, current, hold)) {
+                return true;
+            }
+        }
+    }
+
+    private static boolean isFree(SeatState state, long nowMillis) {
+        return state == SeatState.AVAILABLE || (state.isHold() && state.untilMillis <= nowMillis);
+    }
+
+    private List<Long> collectUnavailable(int[] ordinals, long nowMillis) {
+        List<Long> unavailable = new ArrayList<>();
+        for (int ordinal : ordinals) {
+            if (!isFree(states.get(ordinal), nowMillis)) {
+                unavailable.add(seatIds[ordinal]);
+            }
+        }
+        return unavailable;
+    }
+
+    /**
+     * 특정 선점(토큰 기준)이 아직 유지되고 있는 좌석만 예매 가능 상태로 되돌린다.
+     */
+    public List<Long> releaseHold(List<Long> targetSeatIds, String preemptionToken) {
+        List<Long> released = new ArrayList<>(targetSeatIds.size());
+        forEachOrdinal(targetSeatIds, ordinal -> {
+            SeatState current = states.get(ordinal);
+            if (current.isHeldBy(preemptionToken) && states.compareAndSet(ordinal, current, SeatState.AVAILABLE)) {
+                released.add(seatIds[ordinal]);
+            }
+        });
+        return released;
+    }
+
+    /**
+     * 일부 좌석만 DB에서 다시 읽은 상태로 맞춘다. (write-through 충돌 후 보정)
+     * 메모리에서 비어 있는 좌석만 바꾸므로, 그사이 다른 회원에게 승인된 선점은 건드리지 않는다.
+     * 바뀐 좌석 ID를 좌석 상태 ID별로 반환한다.
+     */
+    public Map<Long, List<Long>> refresh(List<Seat> seats, Instant now) {
+        long nowMillis = now.toEpochMilli();
+        Map<Long, List<Long>> changed = new LinkedHashMap<>();
+        for (Seat seat : seats) {
+            Integer ordinal = ordinalBySeatId.get(seat.getId());
+            if (ordinal == null) {
+                continue;
+            }
+            SeatState loaded = initialState(seat, nowMillis);
+            SeatState current = states.get(ordinal);
+            if (loaded == SeatState.AVAILABLE || !isFree(current, nowMillis)) {
+                continue;
+            }
+            if (states.compareAndSet(ordinal, current, loaded)) {
+                changed.computeIfAbsent(statusIdOf(loaded, nowMillis), id -> new ArrayList<>()).add(seat.getId());
+            }
+        }
+        return changed;
+    }
+
+    public void markReserved(List<Long> targetSeatIds) {
+        forEachOrdinal(targetSeatIds, ordinal -> states.set(ordinal, SeatState.RESERVED));
+    }
+
+    public void markAvailable(List<Long> targetSeatIds) {
+        forEachOrdinal(targetSeatIds, ordinal -> states.set(ordinal, SeatState.AVAILABLE));
+    }
+
+    private void forEachOrdinal(List<Long> targetSeatIds, IntConsumer action) {
+        for (Long seatId : targetSeatIds) {
+            Integer ordinal = ordinalBySeatId.get(seatId);
+            if (ordinal != null) {
+                action.accept(ordinal);
+            }
+        }
+    }
+
+    /**
+     * 현재 좌석 상태 전체를 좌석 번호 순으로 반환한다. (실시간 좌석맵 구독 시 최초 스냅샷)
+     */
+    public List<SeatInfoResponseDto> snapshot(Instant now) {
+        long nowMillis = now.toEpochMilli();
+        List<SeatInfoResponseDto> seats = new ArrayList<>(seatIds.length);
+        for (int ordinal = 0; ordinal < seatIds.length; ordinal++) {
+            seats.add(SeatInfoResponseDto.builder()
+                    .seatId(seatIds[ordinal])
+                    .seatNumber(seatNumbers[ordinal])
+                    .seatGrade(seatGrades[ordinal])
+                    .seatPrice(seatPrices[ordinal])
+                    .statusId(statusIdOf(states.get(ordinal), nowMillis))
+                    .build());
+        }
+        return seats;
+    }
+
+    private static Long statusIdOf(SeatState state, long nowMillis) {
+        if (state == SeatState.RESERVED) {
+            return StatusIds.Seat.RESERVED;
+        }
+        return isFree(state, nowMillis) ? StatusIds.Seat.AVAILABLE : StatusIds.Seat.PREEMPTED;
+    }
+
+    private PreemptedSeatInfo toPreemptedSeatInfo(int ordinal) {
+        return PreemptedSeatInfo.builder()
+                .seatId(seatIds[ordinal])
+                .seatNumber(seatNumbers[ordinal])
+                .seatGrade(seatGrades[ordinal])
+                .seatPrice(seatPrices[ordinal])
+                .build();
+    }
+
+    public Long getPerformanceId() {
+        return performanceId;
+    }
+
+    public int size() {
+        return seatIds.length;
+    }
+
+    public boolean isEmpty() {
+        return seatIds.length == 0;
+    }
+
+    /**
+     * 좌석 하나의 상태 (선점은 토큰과 만료 시각을 가진 인스턴스)
+     */
+    private static final class SeatState {
+
+        static final SeatState AVAILABLE = new SeatState(null, 0L);
+        static final SeatState RESERVED = new SeatState(null, -1L);
+
+        private final String token;
+        private final long untilMillis;
+
+        private SeatState(String token, long untilMillis) {
+            this.token = token;
+            this.untilMillis = untilMillis;
+        }
+
+        static SeatState hold(String token, long untilMillis) {
+            return new SeatState(token, untilMillis);
+        }
+
+        boolean isHold() {
+            return token != null;
+        }
+
+        boolean isHeldBy(String preemptionToken) {
+            return token != null && token.equals(preemptionToken);
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.profect.tickle.domain.reservation.service.seatmap;
+
+import com.profect.tickle.domain.reservation.dto.response.seatmap.SeatMapDeltaResponseDto;
+import com.profect.tickle.domain.reservation.dto.response.seatmap.SeatMapDeltaResponseDto.SeatStatusDelta;
+import com.profect.tickle.global.websocket.StompDestinations;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 실시간 좌석맵 변경분 브로드캐스터
+ * 좌석 상태 변경을 공연별로 모아 두었다가 짧은 주기마다 좌석별 마지막 상태만 한 프레임으로 전송한다.
+ * 구독 경로: /topic/seats/{performanceId} (중계 모드는 /topic/seats.{performanceId})
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SeatMapBroadcaster {
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final StompDestinations stompDestinations;
+
+    // performanceId → 전송 대기중인 변경분
+    private final ConcurrentMap<Long, PendingDeltas> pendingByPerformance = new ConcurrentHashMap<>();
+
+    public void publish(Long performanceId, List<Long> seatIds, Long statusId) {
+        if (seatIds.isEmpty()) {
+            return;
+        }
+        pendingByPerformance
+                .computeIfAbsent(performanceId, id -> new PendingDeltas())
+                .record(seatIds, statusId);
+    }
+
+    /**
+     * 스냅샷 기준 버전
+     * 버전을 먼저 읽고 좌석 상태를 읽으므로, 이후 전송되는 delta가 스냅샷과 겹쳐도 같은 상태를 다시 적용할 뿐이다.
+     */
+    public long currentVersion(Long performanceId) {
+        PendingDeltas pending = pendingByPerformance.get(performanceId);
+        return pending != null ? pending.version : 0L;
+    }
+
+    // 0.2초 동안 모인 변경분을 공연별 한 프레임으로 전송
+    @Scheduled(fixedDelay = 200)
+    public void flush() {
+        pendingByPerformance.forEach((performanceId, pending) -> {
+            SeatMapDeltaResponseDto delta = pending.drain(performanceId);
+            if (delta == null) {
+                return;
+            }
+            try {
+                messagingTemplate.convertAndSend(stompDestinations.topic("seats", performanceId), delta);
+            } catch (Exception e) {
+                // 누락된 변경분은 클라이언트가 재구독(스냅샷)으로 복구한다.
+                log.warn("좌석맵 변경분 전송 실패 - performanceId={}, version={}, err={}",
+                        performanceId, delta.version(), e.toString());
+            }
+        });
+    }
+
+    private static final class PendingDeltas {
+
+        private Map<Long, Long> statusBySeatId = new LinkedHashMap<>();
+        private volatile long version;
+
+        private synchronized void record(List<Long> seatIds, Long statusId) {
+            for (Long seatId : seatIds) {
+                statusBySeatId.put(seatId, statusId);
+            }
+        }
+
+        private synchronized SeatMapDeltaResponseDto drain(Long performanceId) {
+            if (statusBySeatId.isEmpty()) {
+                return null;
+            }
+            List<SeatStatusDelta> seats = new ArrayList<>(statusBySeatId.size());
+            statusBySeatId.forEach((seatId, statusId) -> seats.add(new SeatStatusDelta(seatId, statusId)));
+            statusBySeatId = new LinkedHashMap<>();
+            version++;
+            return new SeatMapDeltaResponseDto(performanceId, version, seats);
+        }
+    }
+}
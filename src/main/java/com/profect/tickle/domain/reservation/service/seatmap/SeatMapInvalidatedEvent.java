@@ -0,0 +1,10 @@
+package com.profect.tickle.domain.reservation.service.seatmap;
+
+/**
+ * 좌석맵이 저장소에서 제거되었음을 알리는 이벤트 (좌석 생성 등으로 다음 접근 시 재구성 대상)
+ */
+public record SeatMapInvalidatedEvent(
+        Long performanceId
+) {
+
+}
@@ -0,0 +1,142 @@
+package com.profect.tickle.domain.reservation.service.seatmap;
+
+import com.profect.tickle.domain.reservation.dto.response.seatmap.SeatMapSnapshotResponseDto;
+import com.profect.tickle.domain.reservation.entity.Seat;
+import com.profect.tickle.domain.reservation.repository.SeatRepository;
+import com.profect.tickle.global.status.StatusIds;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Consumer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 공연별 메모리 좌석맵 저장소
+ * 최초 접근 시(또는 재기동 후) seat 테이블에서 좌석맵을 재구성하고,
+ * 예매 완료/취소 같은 DB 상태 변경은 커밋 이후 좌석맵에 반영한다.
+ * 좌석 상태가 바뀌면 실시간 좌석맵 구독자에게 변경분을 전달한다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SeatMapRegistry {
+
+    private final SeatRepository seatRepository;
+    private final SeatMapBroadcaster seatMapBroadcaster;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Clock clock;
+
+    // performanceId → 좌석맵
+    private final ConcurrentMap<Long, SeatMap> seatMaps = new ConcurrentHashMap<>();
+
+    public SeatMap seatMapOf(Long performanceId) {
+        SeatMap seatMap = seatMaps.get(performanceId);
+        if (seatMap != null) {
+            return seatMap;
+        }
+
+        // 동시에 여러 번 로딩되더라도 먼저 등록된 좌석맵 하나만 사용한다.
+        SeatMap loaded = load(performanceId);
+        if (loaded.isEmpty()) {
+            return loaded; // 좌석이 없는 공연은 캐싱하지 않음
+        }
+        SeatMap existing = seatMaps.putIfAbsent(performanceId, loaded);
+        return existing != null ? existing : loaded;
+    }
+
+    public SeatHoldResult tryHold(Long performanceId, List<Long> seatIds, String preemptionToken,
+            Instant preemptedUntil, Instant now) {
+        SeatHoldResult result = seatMapOf(performanceId).tryHold(seatIds, preemptionToken, preemptedUntil, now);
+        if (result.granted()) {
+            seatMapBroadcaster.publish(performanceId, result.seatIds(), StatusIds.Seat.PREEMPTED);
+        }
+        return result;
+    }
+
+    /**
+     * 실시간 좌석맵 구독 시 내려줄 스냅샷
+     * 버전을 먼저 읽어야 스냅샷 이후의 변경분이 누락되지 않는다.
+     */
+    public SeatMapSnapshotResponseDto snapshot(Long performanceId) {
+        long version = seatMapBroadcaster.currentVersion(performanceId);
+        SeatMap seatMap = seatMapOf(performanceId);
+        return new SeatMapSnapshotResponseDto(performanceId, version, seatMap.snapshot(clock.instant()));
+    }
+
+    /**
+     * 지정한 좌석만 DB 기준으로 다시 맞춘다. (write-through 충돌로 해당 좌석의 메모리 상태를 신뢰할 수 없을 때)
+     * 좌석맵 자체는 교체하지 않으므로 그사이 승인된 다른 선점은 유지된다.
+     */
+    public void reloadSeats(Long performanceId, List<Long> seatIds) {
+        ifLoaded(performanceId, seatMap -> {
+            Map<Long, List<Long>> changed = seatMap.refresh(
+                    seatRepository.findAllWithStatusByIdIn(seatIds), clock.instant());
+            changed.forEach((statusId, changedSeatIds) ->
+                    seatMapBroadcaster.publish(performanceId, changedSeatIds, statusId));
+            log.info("🪑좌석 상태 재적재 완료 - performanceId={}, seats={}, changed={}",
+                    performanceId, seatIds.size(), changed);
+        });
+    }
+
+    public void invalidate(Long performanceId) {
+        seatMaps.remove(performanceId);
+        // 제거된 좌석맵을 참조하는 조회 응답 캐시도 함께 비운다.
+        eventPublisher.publishEvent(new SeatMapInvalidatedEvent(performanceId));
+    }
+
+    public void markReservedAfterCommit(Long performanceId, List<Long> seatIds) {
+        afterCommit(() -> {
+            ifLoaded(performanceId, seatMap -> seatMap.markReserved(seatIds));
+            seatMapBroadcaster.publish(performanceId, seatIds, StatusIds.Seat.RESERVED);
+        });
+    }
+
+    public void markAvailableAfterCommit(Long performanceId, List<Long> seatIds) {
+        afterCommit(() -> {
+            ifLoaded(performanceId, seatMap -> seatMap.markAvailable(seatIds));
+            seatMapBroadcaster.publish(performanceId, seatIds, StatusIds.Seat.AVAILABLE);
+        });
+    }
+
+    public void releaseHold(SeatHold hold) {
+        // 이미 예매 완료 등으로 상태가 바뀐 좌석은 해제되지 않으므로 실제 해제된 좌석만 전달
+        ifLoaded(hold.performanceId(), seatMap -> seatMapBroadcaster.publish(
+                hold.performanceId(),
+                seatMap.releaseHold(hold.seatIds(), hold.preemptionToken()),
+                StatusIds.Seat.AVAILABLE));
+    }
+
+    private SeatMap load(Long performanceId) {
+        List<Seat> seats = seatRepository.findByPerformanceIdOrderBySeatNumber(performanceId);
+        return SeatMap.of(performanceId, seats, clock.instant());
+    }
+
+    // 아직 로딩되지 않은 좌석맵은 다음 접근 시 DB에서 재구성되므로 갱신할 필요가 없다.
+    private void ifLoaded(Long performanceId, Consumer<SeatMap> action) {
+        SeatMap seatMap = seatMaps.get(performanceId);
+        if (seatMap != null) {
+            action.accept(seatMap);
+        }
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
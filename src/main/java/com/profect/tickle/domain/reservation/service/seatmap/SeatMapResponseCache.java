@@ -0,0 +1,111 @@
+package com.profect.tickle.domain.reservation.service.seatmap;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.profect.tickle.domain.performance.entity.HallType;
+import com.profect.tickle.domain.performance.entity.Performance;
+import com.profect.tickle.domain.performance.repository.PerformanceRepository;
+import com.profect.tickle.domain.reservation.dto.response.reservation.HallTypeAndSeatInfoResponseDto;
+import com.profect.tickle.global.exception.BusinessException;
+import com.profect.tickle.global.exception.ErrorCode;
+import com.profect.tickle.global.response.ResultCode;
+import com.profect.tickle.global.response.ResultResponse;
+import java.time.Clock;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 공연 좌석 조회 응답 캐시
+ * 메모리 좌석맵으로 만든 응답을 JSON 바이트로 직렬화해 두고,
+ * 좌석맵 변경분 버전이 올라가거나 좌석맵이 재구성되면 다음 조회 때 한 번만 다시 만든다.
+ * (변경분은 0.2초 단위로 묶여 버전이 올라가므로 인기 공연도 초당 최대 몇 번만 재직렬화된다)
+ * 항목은 존재하는 공연에 대해서만 만들어지고, 저장소가 좌석맵을 제거하면 함께 제거되므로
+ * 교체된 좌석맵을 붙잡아 두지 않는다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SeatMapResponseCache {
+
+    private final SeatMapRegistry seatMapRegistry;
+    private final SeatMapBroadcaster seatMapBroadcaster;
+    private final PerformanceRepository performanceRepository;
+    private final ObjectMapper objectMapper;
+    private final Clock clock;
+
+    // ETag에 쓰이는 전역 단조 증가 세대 번호
+    private final AtomicLong generation = new AtomicLong();
+
+    // performanceId → 직렬화된 응답
+    private final ConcurrentMap<Long, Entry> entries = new ConcurrentHashMap<>();
+
+    public SerializedSeatMap get(Long performanceId) {
+        // 버전을 먼저 읽어야 좌석 상태를 읽은 뒤 올라간 버전이 다음 조회에서 반영된다.
+        long version = seatMapBroadcaster.currentVersion(performanceId);
+        SeatMap seatMap = seatMapRegistry.seatMapOf(performanceId);
+
+        Entry cached = entries.get(performanceId);
+        if (cached != null && cached.isFresh(seatMap, version)) {
+            return cached.serialized;
+        }
+
+        // 같은 공연에 대한 동시 재생성은 한 번만 수행
+        return entries.compute(performanceId, (id, current) ->
+                current != null && current.isFresh(seatMap, version)
+                        ? current
+                        : build(id, seatMap, version, current)
+        ).serialized;
+    }
+
+    @EventListener
+    public void evict(SeatMapInvalidatedEvent event) {
+        entries.remove(event.performanceId());
+    }
+
+    private Entry build(Long performanceId, SeatMap seatMap, long version, Entry previous) {
+        // 홀 타입은 바뀌지 않으므로 최초 한 번만 조회
+        HallType hallType = previous != null ? previous.hallType : findHallType(performanceId);
+
+        HallTypeAndSeatInfoResponseDto response =
+                new HallTypeAndSeatInfoResponseDto(hallType, seatMap.snapshot(clock.instant()));
+
+        byte[] body;
+        try {
+            body = objectMapper.writeValueAsBytes(
+                    ResultResponse.of(ResultCode.RESERVATION_SEATS_INFO_SUCCESS, response));
+        } catch (JsonProcessingException e) {
+            log.error("❌ 좌석 조회 응답 직렬화 실패 - performanceId={}", performanceId, e);
+            throw new BusinessException(ErrorCode.DATA_PROCESSING_ERROR);
+        }
+
+        String eTag = "W/\"" + performanceId + "-" + generation.incrementAndGet() + "\"";
+        return new Entry(seatMap, version, hallType, new SerializedSeatMap(eTag, body));
+    }
+
+    private HallType findHallType(Long performanceId) {
+        Performance performance = performanceRepository.findById(performanceId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.PERFORMANCE_NOT_FOUND));
+        return performance.getHall().getType();
+    }
+
+    private record Entry(
+            SeatMap seatMap,
+            long version,
+            HallType hallType,
+            SerializedSeatMap serialized
+    ) {
+
+        // 좌석맵이 재구성(또는 무효화 후 재로딩)되면 인스턴스가 바뀐다.
+        // 좌석이 없는 공연은 저장소가 매번 새 빈 좌석맵을 돌려주므로 인스턴스 대신 비어 있음으로 비교한다.
+        // (좌석이 생성되면 무효화 이벤트로 항목이 제거된다)
+        private boolean isFresh(SeatMap currentSeatMap, long currentVersion) {
+            boolean sameSeatMap = seatMap == currentSeatMap || (seatMap.isEmpty() && currentSeatMap.isEmpty());
+            return sameSeatMap && version == currentVersion;
+        }
+    }
+}
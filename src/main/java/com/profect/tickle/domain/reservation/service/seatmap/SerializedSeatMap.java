@@ -0,0 +1,31 @@
+package com.profect.tickle.domain.reservation.service.seatmap;
+
+/**
+ * JSON으로 직렬화된 좌석 조회 응답과 ETag
+ */
+public record SerializedSeatMap(
+        String eTag,
+        byte[] body
+) {
+
+    /**
+     * If-None-Match 헤더와 비교한다. (약한 비교: W/ 접두어 무시)
+     */
+    public boolean matches(String ifNoneMatch) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return false;
+        }
+        String opaqueTag = stripWeak(eTag);
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.equals("*") || stripWeak(tag).equals(opaqueTag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String stripWeak(String tag) {
+        return tag.startsWith("W/") ? tag.substring(2) : tag;
+    }
+}
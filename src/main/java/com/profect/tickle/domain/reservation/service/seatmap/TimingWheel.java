@@ -0,0 +1,137 @@
+package com.profect.tickle.domain.reservation.service.seatmap;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 계층형 타이밍 휠 (Varghese &amp; Lauck / Kafka TimingWheel 방식)
+ * 하위 휠 한 바퀴가 상위 휠의 한 칸이 되며, 상위 휠의 칸이 도래하면 항목을 하위 휠로 다시 내려보낸다.
+ * 등록/취소는 O(1)이고 tick마다 해당 칸의 항목만 처리한다.
+ * 스레드 안전하지 않으므로 호출하는 쪽에서 동기화해야 한다.
+ */
+final class TimingWheel<K, V> {
+
+    private final Level root;
+    private final Map<K, Entry<K, V>> entriesByKey = new HashMap<>();
+
+    TimingWheel(long tickMs, int wheelSize, long startMs) {
+        this.root = new Level(tickMs, wheelSize, startMs);
+    }
+
+    /**
+     * 항목을 등록한다. 이미 만료 시각이 지났다면 false를 반환하고 등록하지 않는다.
+     */
+    boolean add(K key, long deadlineMs, V value) {
+        cancel(key);
+        // 만료 시각보다 먼저 해제되지 않도록 tick 단위로 올림
+        long roundedDeadlineMs = ((deadlineMs + root.tickMs - 1) / root.tickMs) * root.tickMs;
+        Entry<K, V> entry = new Entry<>(key, roundedDeadlineMs, value);
+        if (!root.add(entry)) {
+            return false;
+        }
+        entriesByKey.put(key, entry);
+        return true;
+    }
+
+    boolean cancel(K key) {
+        Entry<K, V> entry = entriesByKey.remove(key);
+        if (entry == null) {
+            return false;
+        }
+        entry.bucket.remove(key);
+        return true;
+    }
+
+    /**
+     * 현재 시각까지 휠을 한 칸씩 돌리며 만료된 항목들을 반환한다.
+     */
+    List<V> advanceTo(long nowMs) {
+        List<V> expired = new ArrayList<>();
+        while (root.currentTime + root.tickMs <= nowMs) {
+            root.tickTo(root.currentTime + root.tickMs, expired);
+        }
+        return expired;
+    }
+
+    int size() {
+        return entriesByKey.size();
+    }
+
+    private void reinsert(Entry<K, V> entry, List<V> expired) {
+        if (!root.add(entry)) {
+            entriesByKey.remove(entry.key);
+            expired.add(entry.value);
+        }
+    }
+
+    private final class Level {
+
+        private final long tickMs;
+        private final int wheelSize;
+        private final long interval;
+        private final List<Map<K, Entry<K, V>>> buckets;
+        private long currentTime;
+        private Level overflow;
+
+        private Level(long tickMs, int wheelSize, long startMs) {
+            this.tickMs = tickMs;
+            this.wheelSize = wheelSize;
+            this.interval = tickMs * wheelSize;
+            this.currentTime = startMs - (startMs % tickMs);
+            this.buckets = new ArrayList<>(wheelSize);
+            for (int i = 0; i < wheelSize; i++) {
+                buckets.add(new HashMap<>());
+            }
+        }
+
+        private boolean add(Entry<K, V> entry) {
+            if (entry.deadlineMs < currentTime + tickMs) {
+                return false; // 이미 만료
+            }
+            if (entry.deadlineMs < currentTime + interval) {
+                Map<K, Entry<K, V>> bucket = buckets.get((int) ((entry.deadlineMs / tickMs) % wheelSize));
+                bucket.put(entry.key, entry);
+                entry.bucket = bucket;
+                return true;
+            }
+            if (overflow == null) {
+                overflow = new Level(interval, wheelSize, currentTime);
+            }
+            return overflow.add(entry);
+        }
+
+        private void tickTo(long timeMs, List<V> expired) {
+            currentTime = timeMs;
+
+            // 이번 칸에 도달한 항목은 루트 휠로 다시 넣어 만료되거나 하위 칸으로 내려간다.
+            Map<K, Entry<K, V>> bucket = buckets.get((int) ((timeMs / tickMs) % wheelSize));
+            if (!bucket.isEmpty()) {
+                List<Entry<K, V>> due = new ArrayList<>(bucket.values());
+                bucket.clear();
+                for (Entry<K, V> entry : due) {
+                    reinsert(entry, expired);
+                }
+            }
+
+            if (overflow != null && timeMs >= overflow.currentTime + overflow.tickMs) {
+                overflow.tickTo(timeMs - (timeMs % overflow.tickMs), expired);
+            }
+        }
+    }
+
+    private static final class Entry<K, V> {
+
+        private final K key;
+        private final long deadlineMs;
+        private final V value;
+        private Map<K, Entry<K, V>> bucket;
+
+        private Entry(K key, long deadlineMs, V value) {
+            this.key = key;
+            this.deadlineMs = deadlineMs;
+            this.value = value;
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.profect.tickle.domain.reservation.service.waitingroom;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 공연 한 건의 대기열
+ * 번호표는 발급 순으로 단조 증가하며, 대기 순번은 (내 번호표 - 지금까지 소진된 번호표 수)로 O(1)에 계산한다.
+ * 입장(admit)된 회원은 만료 시각까지 active 상태로 유지된다.
+ */
+final class WaitingRoom {
+
+    private final Long performanceId;
+
+    private final ConcurrentLinkedQueue<Ticket> queue = new ConcurrentLinkedQueue<>();           // 번호표 순
+    private final ConcurrentMap<Long, Long> ticketByMember = new ConcurrentHashMap<>();          // 대기중 memberId → 번호표
+    private final ConcurrentMap<Long, Long> activeUntilByMember = new ConcurrentHashMap<>();     // 입장 memberId → 만료(epochMillis)
+    private final AtomicLong issuedTickets = new AtomicLong();
+    private final AtomicLong consumedTickets = new AtomicLong();
+
+    // 토큰 버킷 (입장 스케줄러 스레드에서만 접근)
+    private double tokens;
+    private long lastRefillMillis;
+
+    WaitingRoom(Long performanceId, long nowMillis) {
+        this.performanceId = performanceId;
+        this.lastRefillMillis = nowMillis;
+    }
+
+    /**
+     * 번호표를 발급한다. 이미 대기중이면 기존 번호표를 그대로 사용한다.
+     */
+    synchronized long issue(Long memberId) {
+        Long ticket = ticketByMember.get(memberId);
+        if (ticket != null) {
+            return ticket;
+        }
+        long issued = issuedTickets.incrementAndGet();
+        ticketByMember.put(memberId, issued);
+        queue.add(new Ticket(issued, memberId));
+        return issued;
+    }
+
+    void leave(Long memberId) {
+        // 큐에서는 입장 처리 시 건너뛰므로 인덱스에서만 제거
+        ticketByMember.remove(memberId);
+    }
+
+    /**
+     * 대기 순번 (1부터 시작). 대기중이 아니면 0
+     */
+    long positionOf(Long memberId) {
+        Long ticket = ticketByMember.get(memberId);
+        if (ticket == null) {
+            return 0;
+        }
+        return Math.max(1, ticket - consumedTickets.get());
+    }
+
+    boolean isActive(Long memberId, long nowMillis) {
+        Long activeUntil = activeUntilByMember.get(memberId);
+        return activeUntil != null && activeUntil > nowMillis;
+    }
+
+    Long activeUntil(Long memberId) {
+        return activeUntilByMember.get(memberId);
+    }
+
+    /**
+     * 토큰 버킷을 채우고 가능한 만큼 대기자를 입장시킨다.
+     */
+    List<Long> admit(double ratePerSecond, int burst, long nowMillis, long activeTtlMillis) {
+        double elapsedSeconds = (nowMillis - lastRefillMillis) / 1000.0;
+        tokens = Math.min(burst, tokens + elapsedSeconds * ratePerSecond);
+        lastRefillMillis = nowMillis;
+
+        List<Long> admitted = new ArrayList<>();
+        while (tokens >= 1) {
+            Ticket ticket = queue.poll();
+            if (ticket == null) {
+                break;
+            }
+            consumedTickets.incrementAndGet();
+            if (!ticketByMember.remove(ticket.memberId(), ticket.number())) {
+                continue; // 대기열을 떠난 회원의 번호표
+            }
+            activeUntilByMember.put(ticket.memberId(), nowMillis + activeTtlMillis);
+            admitted.add(ticket.memberId());
+            tokens -= 1;
+        }
+        return admitted;
+    }
+
+    void evictExpired(long nowMillis) {
+        activeUntilByMember.values().removeIf(activeUntil -> activeUntil <= nowMillis);
+    }
+
+    /**
+     * 대기중인 회원별 현재 순번 (순번 알림 전송용)
+     */
+    Map<Long, Long> waitingPositions() {
+        long consumed = consumedTickets.get();
+        Map<Long, Long> positions = new LinkedHashMap<>();
+        for (Ticket ticket : queue) {
+            if (ticket.number() == ticketByMember.getOrDefault(ticket.memberId(), -1L)) {
+                positions.put(ticket.memberId(), Math.max(1, ticket.number() - consumed));
+            }
+        }
+        return positions;
+    }
+
+    boolean isIdle() {
+        return ticketByMember.isEmpty() && activeUntilByMember.isEmpty();
+    }
+
+    Long getPerformanceId() {
+        return performanceId;
+    }
+
+    private record Ticket(long number, Long memberId) {
+    }
+}
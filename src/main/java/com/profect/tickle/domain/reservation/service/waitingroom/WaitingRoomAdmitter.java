@@ -0,0 +1,24 @@
+package com.profect.tickle.domain.reservation.service.waitingroom;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class WaitingRoomAdmitter {
+
+    private final WaitingRoomService waitingRoomService;
+
+    // 0.2초마다 토큰 버킷 충전 및 입장 처리
+    @Scheduled(fixedDelay = 200)
+    public void admit() {
+        waitingRoomService.admitAll();
+    }
+
+    // 3초마다 대기 순번 알림
+    @Scheduled(fixedDelay = 3000)
+    public void publishPositions() {
+        waitingRoomService.publishPositions();
+    }
+}
@@ -0,0 +1,133 @@
+package com.profect.tickle.domain.reservation.service.waitingroom;
+
+import com.profect.tickle.domain.notification.entity.SseEventName;
+import com.profect.tickle.domain.notification.service.realtime.RealtimeSender;
+import com.profect.tickle.domain.reservation.dto.response.waitingroom.WaitingRoomStatusResponseDto;
+import com.profect.tickle.global.exception.BusinessException;
+import com.profect.tickle.global.exception.ErrorCode;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * 좌석 선점 앞단의 가상 대기열
+ * 공연별로 번호표를 발급하고, 토큰 버킷으로 초당 일정 인원만 입장(active)시킨다.
+ * 대기열을 켜면(reservation.waiting-room.enabled=true) 입장한 회원만 좌석 선점을 호출할 수 있어
+ * DB가 감당 가능한 동시성으로 제한된다. 예매 완료는 선점 토큰으로 검증하므로 입장 여부를 다시 보지 않는다.
+ *
+ * 대기열/입장 상태는 노드 메모리에만 있으므로 단일 노드이거나,
+ * 같은 회원의 요청이 항상 같은 노드로 가도록(sticky session) 라우팅될 때만 켜야 한다.
+ * 그렇지 않으면 다른 노드에서 입장한 회원도 WAITING_ROOM_NOT_ADMITTED로 거절된다.
+ */
+@Service
+@Slf4j
+public class WaitingRoomService {
+
+    static final double ADMISSIONS_PER_SECOND = 100;                     // 초당 입장 인원
+    static final int ADMISSION_BURST = 100;                              // 한 번에 입장 가능한 최대 인원
+    static final long ACTIVE_TTL_MILLIS = TimeUnit.MINUTES.toMillis(10); // 입장 유효 시간 (입장 후 좌석 선점까지)
+
+    private final RealtimeSender realtimeSender;
+    private final Clock clock;
+    private final boolean enabled;
+
+    // performanceId → 대기열
+    private final ConcurrentMap<Long, WaitingRoom> rooms = new ConcurrentHashMap<>();
+
+    public WaitingRoomService(RealtimeSender realtimeSender,
+            Clock clock,
+            @Value("${reservation.waiting-room.enabled:false}") boolean enabled) {
+        this.realtimeSender = realtimeSender;
+        this.clock = clock;
+        this.enabled = enabled;
+    }
+
+    public WaitingRoomStatusResponseDto enter(Long performanceId, Long memberId) {
+        // 번호표 발급까지 같은 compute 안에서 처리해야 유휴 대기열 제거(admitAll)와 겹쳐도 번호표가 유실되지 않는다.
+        WaitingRoom room = rooms.compute(performanceId, (id, current) -> {
+            WaitingRoom target = current != null ? current : new WaitingRoom(id, clock.millis());
+            if (!target.isActive(memberId, clock.millis())) {
+                target.issue(memberId);
+            }
+            return target;
+        });
+        return statusOf(room, memberId);
+    }
+
+    public WaitingRoomStatusResponseDto getStatus(Long performanceId, Long memberId) {
+        WaitingRoom room = rooms.get(performanceId);
+        if (room == null) {
+            return WaitingRoomStatusResponseDto.waiting(performanceId, 0);
+        }
+        return statusOf(room, memberId);
+    }
+
+    public void leave(Long performanceId, Long memberId) {
+        WaitingRoom room = rooms.get(performanceId);
+        if (room != null) {
+            room.leave(memberId);
+        }
+    }
+
+    /**
+     * 입장(active) 상태인 회원인지 검증한다. (대기열을 끈 경우 검증하지 않음)
+     */
+    public void validateAdmitted(Long performanceId, Long memberId) {
+        if (!enabled) {
+            return;
+        }
+        WaitingRoom room = rooms.get(performanceId);
+        if (room == null || !room.isActive(memberId, clock.millis())) {
+            throw new BusinessException(ErrorCode.WAITING_ROOM_NOT_ADMITTED);
+        }
+    }
+
+    /**
+     * 모든 대기열에서 토큰 버킷만큼 입장시키고, 입장한 회원에게 실시간으로 알린다.
+     */
+    void admitAll() {
+        long now = clock.millis();
+        rooms.forEach((performanceId, room) -> {
+            room.evictExpired(now);
+            List<Long> admitted = room.admit(ADMISSIONS_PER_SECOND, ADMISSION_BURST, now, ACTIVE_TTL_MILLIS);
+            Instant activeUntil = Instant.ofEpochMilli(now + ACTIVE_TTL_MILLIS);
+            for (Long memberId : admitted) {
+                notify(memberId, WaitingRoomStatusResponseDto.admitted(performanceId, activeUntil));
+            }
+            // 유휴 여부 확인과 제거를 한 번에 처리해 그사이 진입한 회원의 번호표가 유실되지 않도록 한다.
+            rooms.compute(performanceId, (id, current) -> current == room && room.isIdle() ? null : current);
+        });
+    }
+
+    /**
+     * 대기중인 회원들에게 현재 순번을 실시간으로 알린다.
+     */
+    void publishPositions() {
+        rooms.forEach((performanceId, room) ->
+                room.waitingPositions().forEach((memberId, position) ->
+                        notify(memberId, WaitingRoomStatusResponseDto.waiting(performanceId, position))));
+    }
+
+    private WaitingRoomStatusResponseDto statusOf(WaitingRoom room, Long memberId) {
+        if (room.isActive(memberId, clock.millis())) {
+            return WaitingRoomStatusResponseDto.admitted(
+                    room.getPerformanceId(),
+                    Instant.ofEpochMilli(room.activeUntil(memberId)));
+        }
+        return WaitingRoomStatusResponseDto.waiting(room.getPerformanceId(), room.positionOf(memberId));
+    }
+
+    private void notify(Long memberId, WaitingRoomStatusResponseDto status) {
+        try {
+            realtimeSender.sendTransient(memberId, SseEventName.WAITING_ROOM, status);
+        } catch (Exception e) {
+            log.debug("대기열 알림 전송 실패 - memberId={}, err={}", memberId, e.toString());
+        }
+    }
+}
@@ -1,7 +1,13 @@
 package com.profect.tickle.domain.settlement.controller;
 
+import com.profect.tickle.domain.settlement.dto.response.SettlementExportJobResponseDto;
 import com.profect.tickle.domain.settlement.dto.response.SettlementResponseDto;
 import com.profect.tickle.domain.settlement.service.SettlementResponseService;
+import com.profect.tickle.domain.settlement.service.export.SettlementExportFormat;
+import com.profect.tickle.domain.settlement.service.export.SettlementExportJob;
+import com.profect.tickle.domain.settlement.service.export.SettlementExportJobService;
+import com.profect.tickle.domain.settlement.service.export.SettlementExportQuery;
+import com.profect.tickle.domain.settlement.service.export.SettlementExportService;
 import com.profect.tickle.global.paging.PagingResponse;
 import com.profect.tickle.global.response.ResultCode;
 import com.profect.tickle.global.response.ResultResponse;
@@ -11,11 +17,18 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 
 @Tag(name = "정산", description = "정산 API")
@@ -26,6 +39,8 @@ import java.time.LocalDate;
 public class SettlementController {
 
     private final SettlementResponseService settlementResponseService;
+    private final SettlementExportService settlementExportService;
+    private final SettlementExportJobService settlementExportJobService;
 
     @Operation(summary = "조건별 정산 내역 조회", description = "조건별 정산 내역을 페이지당 10건씩 조회합니다.")
     @GetMapping("/settlements")
@@ -75,30 +90,116 @@ public class SettlementController {
             @RequestParam(value = "statusId", required = false) Long statusId,
             HttpServletResponse response
     ) {
-        try {
-            Long signInMemberId = SecurityUtil.getSignInMemberId();
+        SettlementExportQuery query = new SettlementExportQuery(SecurityUtil.getSignInMemberId(), periodType, viewType,
+                settlementCycle, startDate, endDate, performanceTitle, statusId);
+        streamExport(query, SettlementExportFormat.XLSX, response);
+    }
+
+    /**
+     * CSV 다운로드
+     */
+    @Operation(summary = "정산 내역 CSV 다운로드", description = "정산 내역을 CSV 파일로 바로 스트리밍하여 다운로드 합니다.")
+    @GetMapping("/settlements/csv")
+    public void downloadCsv(
+            @RequestParam(value = "periodType", defaultValue = "DETAIL") SettlementResponseService.PeriodType periodType,
+            @RequestParam(value = "viewType", defaultValue = "PERFORMANCE") SettlementResponseService.ViewType viewType,
+            @RequestParam(value = "settlementCycle", required = false) String settlementCycle,
+            @RequestParam(value = "startDate", required = false) @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate startDate,
+            @RequestParam(value = "endDate", required = false) @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate endDate,
+            @RequestParam(value = "performanceTitle", required = false) String performanceTitle,
+            @RequestParam(value = "statusId", required = false) Long statusId,
+            HttpServletResponse response
+    ) {
+        SettlementExportQuery query = new SettlementExportQuery(SecurityUtil.getSignInMemberId(), periodType, viewType,
+                settlementCycle, startDate, endDate, performanceTitle, statusId);
+        streamExport(query, SettlementExportFormat.CSV, response);
+    }
+
+    /**
+     * 대용량 내보내기 요청 (비동기)
+     */
+    @Operation(summary = "정산 내역 내보내기 요청", description = "대용량 정산 내역을 비동기로 엑셀/CSV 파일로 만듭니다. 상태 조회 후 완료되면 다운로드합니다.")
+    @PostMapping("/settlements/exports")
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    public ResultResponse<SettlementExportJobResponseDto> requestExport(
+            @RequestParam(value = "format", defaultValue = "XLSX") SettlementExportFormat format,
+            @RequestParam(value = "periodType", defaultValue = "DETAIL") SettlementResponseService.PeriodType periodType,
+            @RequestParam(value = "viewType", defaultValue = "PERFORMANCE") SettlementResponseService.ViewType viewType,
+            @RequestParam(value = "settlementCycle", required = false) String settlementCycle,
+            @RequestParam(value = "startDate", required = false) @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate startDate,
+            @RequestParam(value = "endDate", required = false) @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate endDate,
+            @RequestParam(value = "performanceTitle", required = false) String performanceTitle,
+            @RequestParam(value = "statusId", required = false) Long statusId
+    ) {
+        SettlementExportQuery query = new SettlementExportQuery(SecurityUtil.getSignInMemberId(), periodType, viewType,
+                settlementCycle, startDate, endDate, performanceTitle, statusId);
+        SettlementExportJobResponseDto job = settlementExportJobService.submit(query, format);
+        return ResultResponse.of(ResultCode.SETTLEMENT_EXPORT_ACCEPTED, job);
+    }
 
-            log.info("엑셀 다운로드 시작: memberId={}, periodType={}, viewType={}",
-                    signInMemberId, periodType, viewType);
+    @Operation(summary = "정산 내역 내보내기 상태 조회", description = "비동기 내보내기 작업의 진행 상태를 조회합니다.")
+    @GetMapping("/settlements/exports/{jobId}")
+    public ResultResponse<SettlementExportJobResponseDto> getExport(@PathVariable String jobId) {
+        SettlementExportJobResponseDto job = settlementExportJobService.getJob(SecurityUtil.getSignInMemberId(), jobId);
+        return ResultResponse.of(ResultCode.SETTLEMENT_EXPORT_STATUS_SUCCESS, job);
+    }
 
-            settlementResponseService.generateExcelFile(
-                    signInMemberId, periodType, viewType, settlementCycle,
-                    startDate, endDate, performanceTitle, statusId, response
-            );
+    @Operation(summary = "정산 내역 내보내기 파일 다운로드", description = "완료된 비동기 내보내기 결과 파일을 다운로드합니다.")
+    @GetMapping("/settlements/exports/{jobId}/file")
+    public ResponseEntity<Resource> downloadExport(@PathVariable String jobId) {
+        SettlementExportJob job = settlementExportJobService.getCompletedJob(SecurityUtil.getSignInMemberId(), jobId);
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, contentDisposition(job.getFormat()))
+                .contentType(MediaType.parseMediaType(job.getFormat().getContentType()))
+                .body(new FileSystemResource(job.getFile()));
+    }
 
-            log.info("엑셀 다운로드 완료: memberId={}", signInMemberId);
+    /**
+     * 요청 스레드에서 바로 스트리밍 (첫 행이 있을 때 응답 헤더를 쓰고, 없으면 204)
+     */
+    private void streamExport(SettlementExportQuery query, SettlementExportFormat format, HttpServletResponse response) {
+        try {
+            log.info("정산 내역 다운로드 시작: memberId={}, format={}, periodType={}, viewType={}",
+                    query.memberId(), format, query.periodType(), query.viewType());
+
+            long rows = settlementExportService.export(query, format, () -> {
+                response.setContentType(format.getContentType());
+                response.setHeader(HttpHeaders.CONTENT_DISPOSITION, contentDisposition(format));
+                return response.getOutputStream();
+            });
+
+            if (rows == 0) {
+                // 0건일 때 예외 던지지 않고 응답 처리
+                response.setStatus(HttpStatus.NO_CONTENT.value());
+                response.setContentType("text/plain; charset=UTF-8");
+                response.getWriter().write("다운로드할 정산 내역이 없습니다.");
+                return;
+            }
+            log.info("정산 내역 다운로드 완료: memberId={}, rows={}", query.memberId(), rows);
 
         } catch (Exception e) {
-            log.error("엑셀 다운로드 실패: {}", e.getMessage(), e);
+            log.error("정산 내역 다운로드 실패: {}", e.getMessage(), e);
 
+            // 이미 파일을 보내기 시작했으면 상태를 바꿀 수 없음
+            if (response.isCommitted()) {
+                return;
+            }
             // 에러 응답 처리
             try {
+                response.reset();
                 response.setStatus(HttpStatus.INTERNAL_SERVER_ERROR.value());
                 response.setContentType("text/plain; charset=UTF-8");
-                response.getWriter().write("엑셀 다운로드에 실패했습니다: " + e.getMessage());
+                response.getWriter().write("정산 내역 다운로드에 실패했습니다: " + e.getMessage());
             } catch (IOException ioException) {
                 log.error("에러 응답 작성 실패", ioException);
             }
         }
     }
+
+    private String contentDisposition(SettlementExportFormat format) {
+        return ContentDisposition.attachment()
+                .filename("정산내역_" + LocalDate.now() + "." + format.getExtension(), StandardCharsets.UTF_8)
+                .build()
+                .toString();
+    }
 }
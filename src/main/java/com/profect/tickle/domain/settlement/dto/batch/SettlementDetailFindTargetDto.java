@@ -16,6 +16,7 @@ import java.time.Instant;
 @AllArgsConstructor
 public class SettlementDetailFindTargetDto {
 
+    private Long changeId; // 예매 상태 변경 ID (읽기 위치 기준, 건별정산 중복 방지 키)
     private Long memberId;
     private Long reservationStatusId;
     private String performanceTitle; // 공연 제목
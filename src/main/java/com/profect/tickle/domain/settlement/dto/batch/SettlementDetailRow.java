@@ -0,0 +1,25 @@
+package com.profect.tickle.domain.settlement.dto.batch;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+/**
+ * 건별정산 연산 결과 (settlement_detail insert 한 행)
+ * 주최자, 정산상태는 엔티티 대신 ID만 담는다. (행마다 Member, Status를 조회하지 않기 위함)
+ */
+public record SettlementDetailRow(
+        Long changeLogId, // 정산한 예매 상태 변경 ID
+        Long memberId, // 주최자 ID
+        Long statusId, // 정산상태 ID (14=정산예정, 16=환불청구)
+        String performanceTitle,
+        Instant performanceEndDate,
+        String reservationCode,
+        Long salesAmount,
+        Long refundAmount,
+        Long grossAmount,
+        BigDecimal contractCharge,
+        Long commission,
+        Long netAmount,
+        Instant createdAt
+) {
+}
@@ -0,0 +1,51 @@
+package com.profect.tickle.domain.settlement.dto.batch;
+
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+/**
+ * 일간, 주간, 월간 정산 누적 버킷 (주최자, 공연, 기간 하나)
+ * 이번 chunk에서 새로 반영된 건별정산 금액만 더한 증분이며, upsert 시 기존 행에 더해진다.
+ */
+@Getter
+public class SettlementRollupBucket {
+
+    private final Long memberId;
+    private final Long statusId; // 새로 생성되는 행의 정산상태
+    private final String performanceTitle;
+    private final Instant performanceEndDate; // 일간만 사용
+    private final BigDecimal contractCharge; // 일간만 사용
+    private final String year;
+    private final String month;
+    private final String period; // 일간=일(DD), 주간=주차(WW), 월간=null
+    private final Instant createdAt;
+
+    private long salesAmount;
+    private long refundAmount;
+    private long grossAmount;
+    private long commission;
+    private long netAmount;
+
+    public SettlementRollupBucket(SettlementDetailRow first, Long statusId,
+                                  String year, String month, String period) {
+        this.memberId = first.memberId();
+        this.statusId = statusId;
+        this.performanceTitle = first.performanceTitle();
+        this.performanceEndDate = first.performanceEndDate();
+        this.contractCharge = first.contractCharge();
+        this.year = year;
+        this.month = month;
+        this.period = period;
+        this.createdAt = first.createdAt();
+    }
+
+    public void add(SettlementDetailRow detail) {
+        salesAmount += detail.salesAmount();
+        refundAmount += detail.refundAmount();
+        grossAmount += detail.grossAmount();
+        commission += detail.commission();
+        netAmount += detail.netAmount();
+    }
+}
@@ -0,0 +1,34 @@
+package com.profect.tickle.domain.settlement.dto.response;
+
+import com.profect.tickle.domain.settlement.service.export.SettlementExportJob;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.Instant;
+
+/**
+ * 비동기 정산 내역 내보내기 작업 상태
+ */
+@Getter
+@AllArgsConstructor
+public class SettlementExportJobResponseDto {
+
+    private String jobId;
+    private String state; // PENDING, RUNNING, COMPLETED, FAILED
+    private String format; // XLSX, CSV
+    private long rowCount; // 완료 시 내보낸 행 수
+    private Instant createdAt;
+    private Instant finishedAt;
+    private String errorMessage;
+
+    public static SettlementExportJobResponseDto from(SettlementExportJob job) {
+        return new SettlementExportJobResponseDto(
+                job.getId(),
+                job.getState().name(),
+                job.getFormat().name(),
+                job.getRowCount(),
+                job.getCreatedAt(),
+                job.getFinishedAt(),
+                job.getErrorMessage());
+    }
+}
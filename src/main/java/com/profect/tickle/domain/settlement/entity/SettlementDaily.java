@@ -1,7 +1,6 @@
 package com.profect.tickle.domain.settlement.entity;
 
 import com.profect.tickle.domain.member.entity.Member;
-import com.profect.tickle.domain.settlement.dto.batch.SettlementDailyFindTargetDto;
 import com.profect.tickle.global.status.Status;
 import jakarta.persistence.*;
 import lombok.*;
@@ -82,26 +81,4 @@ public class SettlementDaily {
 
     @Column(name = "settlement_daily_updated_at")
     private Instant dailyUpdatedAt;
-
-    public static SettlementDaily create(SettlementDailyFindTargetDto dto,
-                                         Member member,
-                                         Status status,
-                                         Instant now) {
-        return SettlementDaily.builder()
-                .member(member)
-                .status(status)
-                .performanceTitle(dto.getPerformanceTitle())
-                .performanceEndDate(dto.getPerformanceEndDate())
-                .year(dto.getYear())
-                .month(dto.getMonth())
-                .day(dto.getDay())
-                .dailySalesAmount(dto.getDailySalesAmount())
-                .dailyRefundAmount(dto.getDailyRefundAmount())
-                .dailyGrossAmount(dto.getDailyGrossAmount())
-                .contractCharge(dto.getContractCharge())
-                .dailyCommission(dto.getDailyCommission())
-                .dailyNetAmount(dto.getDailyNetAmount())
-                .dailyCreatedAt(now)
-                .build();
-    }
 }
@@ -1,7 +1,6 @@
 package com.profect.tickle.domain.settlement.entity;
 
 import com.profect.tickle.domain.member.entity.Member;
-import com.profect.tickle.domain.settlement.dto.batch.SettlementDetailFindTargetDto;
 import com.profect.tickle.global.status.Status;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
@@ -12,7 +11,10 @@ import java.time.Instant;
 
 @Getter
 @Entity
-@Table(name = "settlement_detail")
+@Table(name = "settlement_detail", uniqueConstraints = {
+        // 예매 상태 변경 하나당 건별정산 한 건
+        @UniqueConstraint(name = "uk_settlement_detail_change_log_id", columnNames = "reservation_change_log_id")
+})
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
 @Builder
@@ -67,28 +69,7 @@ public class SettlementDetail {
     @Column(name = "settlement_detail_created_at", nullable = false)
     private Instant createdAt;
 
-    public static SettlementDetail create(SettlementDetailFindTargetDto dto,
-                                          Member member,
-                                          Status status,
-                                          Long salesAmount,
-                                          Long refundAmount,
-                                          Long grossAmount,
-                                          Long commission,
-                                          Long netAmount,
-                                          Instant now) {
-        return SettlementDetail.builder()
-                .member(member)
-                .status(status)
-                .performanceTitle(dto.getPerformanceTitle())
-                .performanceEndDate(dto.getPerformanceEndDate())
-                .reservationCode(dto.getReservationCode())
-                .salesAmount(salesAmount)
-                .refundAmount(refundAmount)
-                .grossAmount(grossAmount)
-                .contractCharge(dto.getContractCharge())
-                .commission(commission)
-                .netAmount(netAmount)
-                .createdAt(now)
-                .build();
-    }
+    // 정산한 예매 상태 변경 ID (reservation_change_log)
+    @Column(name = "reservation_change_log_id")
+    private Long changeLogId;
 }
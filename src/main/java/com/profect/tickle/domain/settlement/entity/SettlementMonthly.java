@@ -1,7 +1,6 @@
 package com.profect.tickle.domain.settlement.entity;
 
 import com.profect.tickle.domain.member.entity.Member;
-import com.profect.tickle.domain.settlement.dto.batch.SettlementMonthlyFindTargetDto;
 import com.profect.tickle.global.status.Status;
 import jakarta.persistence.*;
 import lombok.*;
@@ -68,26 +67,4 @@ public class SettlementMonthly {
 
     @Column(name = "settlement_monthly_updated_at")
     private Instant monthlyUpdatedAt;
-
-    public static SettlementMonthly create(SettlementMonthlyFindTargetDto dto,
-                                           Member member,
-                                           Status status,
-                                           String year,
-                                           String month,
-                                           Instant now) {
-        return SettlementMonthly.builder()
-                .member(member)
-                .status(status)
-                .performanceTitle(dto.getPerformanceTitle())
-                .year(year)
-                .month(month)
-                .monthlySalesAmount(dto.getMonthlySalesAmount())
-                .monthlyRefundAmount(dto.getMonthlyRefundAmount())
-                .monthlyGrossAmount(dto.getMonthlyGrossAmount())
-                .monthlyCommission(dto.getMonthlyCommission())
-                .monthlyNetAmount(dto.getMonthlyNetAmount())
-                .monthlyCreatedAt(now)
-                .build();
-    }
-
 }
@@ -1,7 +1,6 @@
 package com.profect.tickle.domain.settlement.entity;
 
 import com.profect.tickle.domain.member.entity.Member;
-import com.profect.tickle.domain.settlement.dto.batch.SettlementWeeklyFindTargetDto;
 import com.profect.tickle.global.status.Status;
 import jakarta.persistence.*;
 import lombok.*;
@@ -72,27 +71,4 @@ public class SettlementWeekly {
 
     @Column(name = "settlement_weekly_updated_at")
     private Instant weeklyUpdatedAt;
-
-    public static SettlementWeekly create(SettlementWeeklyFindTargetDto dto,
-                                          Member member,
-                                          Status status,
-                                          String year,
-                                          String month,
-                                          String week,
-                                          Instant now) {
-        return SettlementWeekly.builder()
-                .member(member)
-                .status(status)
-                .performanceTitle(dto.getPerformanceTitle())
-                .year(year)
-                .month(month)
-                .week(week)
-                .weeklySalesAmount(dto.getWeeklySalesAmount())
-                .weeklyRefundAmount(dto.getWeeklyRefundAmount())
-                .weeklyGrossAmount(dto.getWeeklyGrossAmount())
-                .weeklyCommission(dto.getWeeklyCommission())
-                .weeklyNetAmount(dto.getWeeklyNetAmount())
-                .weeklyCreatedAt(now)
-                .build();
-    }
 }
@@ -1,7 +1,6 @@
 package com.profect.tickle.domain.settlement.mapper;
 
-import com.profect.tickle.domain.settlement.dto.batch.SettlementDailyFindTargetDto;
-import com.profect.tickle.domain.settlement.entity.SettlementDaily;
+import com.profect.tickle.domain.settlement.dto.batch.SettlementRollupBucket;
 import com.profect.tickle.global.status.Status;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
@@ -13,14 +12,9 @@ import java.util.List;
 public interface SettlementDailyMapper {
 
     /**
-     * 건별정산 테이블 내역 주최자, 공연별로 일간 합산 리스트
+     * 일간정산 테이블 insert + update (버킷 증분을 기존 행에 누적)
      */
-    List<SettlementDailyFindTargetDto> aggregateByDetail();
-
-    /**
-     * 일간정산 테이블 insert + update
-     */
-    void upsertSettlementDaily(@Param("list") List<SettlementDaily> list);
+    void upsertSettlementDaily(@Param("list") List<SettlementRollupBucket> list);
 
     /**
      * 1) 일간정산 상태 업데이트(예매 종료일시 기준)
@@ -1,7 +1,7 @@
 package com.profect.tickle.domain.settlement.mapper;
 
 import com.profect.tickle.domain.settlement.dto.batch.SettlementDetailFindTargetDto;
-import com.profect.tickle.domain.settlement.entity.SettlementDetail;
+import com.profect.tickle.domain.settlement.dto.batch.SettlementDetailRow;
 import com.profect.tickle.global.status.Status;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
@@ -12,15 +12,40 @@ import java.util.List;
 @Mapper
 public interface SettlementDetailMapper {
 
+    /**
+     * 현재 커밋되어 보이는 예매 상태 변경 중 가장 큰 ID (없으면 null)
+     */
+    Long findChangeLogUpperBound();
+
+    /**
+     * watermark 변경보다 rescanSeconds 이내 먼저 쌓인 변경 중 가장 작은 ID (없으면 null)
+     * 직전 배치 시점에 아직 커밋되지 않아 건너뛴 변경을 다시 읽기 위한 재조회 시작점
+     */
+    Long findChangeLogRescanFloor(@Param("watermark") long watermark,
+                                  @Param("rescanSeconds") long rescanSeconds);
+
+    /**
+     * (afterChangeId, upperChangeId] 구간의 예매 상태 변경이 있는 공연의 주최자 ID (오름차순, 파티션 분할용)
+     */
+    List<Long> findChangedHostIds(@Param("afterChangeId") long afterChangeId,
+                                  @Param("upperChangeId") long upperChangeId);
+
     /**
      * 건별정산에 필요한 데이터 추출
+     * (afterChangeId, upperChangeId] 구간의 예매 상태 변경 중 주최자가 [minHostId, maxHostId]인 건을 변경 ID 순으로 limit건
      */
-    List<SettlementDetailFindTargetDto> findTargetReservations();
+    List<SettlementDetailFindTargetDto> findTargetReservations(@Param("afterChangeId") long afterChangeId,
+                                                               @Param("upperChangeId") long upperChangeId,
+                                                               @Param("minHostId") long minHostId,
+                                                               @Param("maxHostId") long maxHostId,
+                                                               @Param("until") Instant until,
+                                                               @Param("limit") int limit);
 
     /**
      * 건별정산에 결과 insert
+     * 이미 정산된 변경 ID는 건너뛰고, 이번에 insert된 변경 ID만 반환
      */
-    void insertSettlementDetail(@Param("list") List<SettlementDetail> list);
+    List<Long> insertSettlementDetail(@Param("list") List<SettlementDetailRow> list);
 
     /**
      * 건별 정산 상태 업데이트
@@ -1,26 +1,19 @@
 package com.profect.tickle.domain.settlement.mapper;
 
-import com.profect.tickle.domain.settlement.dto.batch.SettlementMonthlyFindTargetDto;
-import com.profect.tickle.domain.settlement.entity.SettlementMonthly;
+import com.profect.tickle.domain.settlement.dto.batch.SettlementRollupBucket;
 import com.profect.tickle.global.status.Status;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 
-import java.util.HashMap;
 import java.util.List;
 
 @Mapper
 public interface SettlementMonthlyMapper {
 
     /**
-     * 연, 월, 주차로 주간 정산 조회
+     * 월간정산 버킷 증분을 연, 월, 주최자, 공연 유니크로 upsert (기존 행에 누적)
      */
-    List<SettlementMonthlyFindTargetDto> findByWeek(HashMap<String, Object> map);
-
-    /**
-     * 월간 정산에 주간정산 데이터 upsert
-     */
-    void upsertSettlementMonthly(List<SettlementMonthly> list);
+    void upsertSettlementMonthly(@Param("list") List<SettlementRollupBucket> list);
 
     /**
      * 1일 기준 지난 달 정산 상태 업데이트
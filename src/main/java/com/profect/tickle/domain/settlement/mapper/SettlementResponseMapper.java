@@ -4,6 +4,7 @@ import com.profect.tickle.domain.settlement.dto.response.SettlementResponseDto;
 import com.profect.tickle.global.status.Status;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.cursor.Cursor;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -67,9 +68,9 @@ public interface SettlementResponseMapper {
     Long sumUnsettledAmount(Long memberId, Status status);
 
     /**
-     * 엑셀 다운로드용 청크 단위 조회
+     * 내보내기(엑셀/CSV)용 전체 조회 (cursor, 트랜잭션 안에서 순방향으로만 읽음)
      */
-    List<SettlementResponseDto> searchForExcel(
+    Cursor<SettlementResponseDto> searchForExcel(
             @Param("memberId") Long memberId,
             @Param("periodType") String periodType,
             @Param("viewType") String viewType,
@@ -77,22 +78,18 @@ public interface SettlementResponseMapper {
             @Param("startDate") LocalDate startDate,
             @Param("endDate") LocalDate endDate,
             @Param("performanceTitle") String performanceTitle,
-            @Param("status") Status status,
-            @Param("chunkSize") int chunkSize,
-            @Param("offset") int offset
+            @Param("status") Status status
     );
 
     /**
-     * Host View용 엑셀 다운로드 청크 단위 조회
+     * Host View용 내보내기 전체 조회 (cursor)
      */
-    List<SettlementResponseDto> searchByHostForExcel(
+    Cursor<SettlementResponseDto> searchByHostForExcel(
             @Param("memberId") Long memberId,
             @Param("periodType") String periodType,
             @Param("settlementCycle") String settlementCycle,
             @Param("startDate") LocalDate startDate,
             @Param("endDate") LocalDate endDate,
-            @Param("status") Status status,
-            @Param("chunkSize") int chunkSize,
-            @Param("offset") int offset
+            @Param("status") Status status
     );
 }
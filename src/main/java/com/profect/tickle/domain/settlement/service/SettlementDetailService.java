@@ -1,16 +1,14 @@
 package com.profect.tickle.domain.settlement.service;
 
-import com.profect.tickle.domain.member.entity.Member;
-import com.profect.tickle.domain.member.repository.MemberRepository;
 import com.profect.tickle.domain.settlement.dto.batch.SettlementDetailFindTargetDto;
-import com.profect.tickle.domain.settlement.entity.SettlementDetail;
+import com.profect.tickle.domain.settlement.dto.batch.SettlementDetailRow;
 import com.profect.tickle.domain.settlement.mapper.SettlementDetailMapper;
 import com.profect.tickle.domain.settlement.util.SettlementTimeUtil;
 import com.profect.tickle.global.exception.BusinessException;
 import com.profect.tickle.global.exception.ErrorCode;
 import com.profect.tickle.global.status.Status;
+import com.profect.tickle.global.status.StatusIds.Reservation;
 import com.profect.tickle.global.status.StatusIds.Settlement;
-import com.profect.tickle.global.status.repository.StatusRepository;
 import com.profect.tickle.global.status.service.StatusProvider;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
@@ -22,8 +20,9 @@ import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
-import java.util.Optional;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
@@ -31,79 +30,76 @@ import java.util.Optional;
 public class SettlementDetailService {
 
     private final SettlementDetailMapper settlementDetailMapper;
-    private final MemberRepository memberRepository;
-    private final StatusRepository statusRepository;
     private final StatusProvider statusProvider;
 
     /**
-     * 건별정산 연산 및 insert_tasklet 구조
+     * 정산 대상 예매 한 건의 건별정산 연산 (chunk step의 processor)
+     * 주최자, 예매상태는 조회 쿼리에서 join으로 확인된 ID만 사용한다. (건마다 엔티티 조회 없음)
      */
-    public void getSettlementDetail(){
-        // 정산 생성일시
-        Instant settlementCreatedAt = Instant.now();
-
-        // 건별정산 집계에 필요한 데이터
-        List<SettlementDetailFindTargetDto> settlementTargets =
-                Optional.ofNullable(settlementDetailMapper.findTargetReservations())
-                        .orElseThrow(() -> new BusinessException(ErrorCode.SETTLEMENT_TARGET_DB_ERROR));
-
-        if(settlementTargets.isEmpty()){
-            log.info("정산 대상 데이터가 존재하지 않습니다.");
-            return;
+    public SettlementDetailRow calculate(SettlementDetailFindTargetDto targetDto, Instant settlementCreatedAt) {
+        Long reservationStatusId = targetDto.getReservationStatusId();
+
+        Long reservationPrice = targetDto.getReservationPrice(); // 예매금액
+        BigDecimal contractCharge = targetDto.getContractCharge(); // 적용 수수료율
+
+        Long salesAmount = 0L; // 판매금액 초기화
+        Long refundAmount = 0L; // 환불금액 초기화
+
+        Long settlementStatusId = null; // 정산상태 초기화(14=정산예정, 16=환불청구)
+        if(Reservation.PAID.equals(reservationStatusId)) {
+            salesAmount = reservationPrice;
+            refundAmount = 0L;
+            settlementStatusId = Settlement.SCHEDULED;
+        } else if(Reservation.CANCELLED.equals(reservationStatusId)) {
+            salesAmount = 0L;
+            refundAmount = reservationPrice;
+            settlementStatusId = Settlement.REFUND_REQUESTED;
         }
 
-        List<SettlementDetail> insertList = new ArrayList<>(); // 정산 결과 담을 리스트 생성
-        for(SettlementDetailFindTargetDto targetDto : settlementTargets) {
-            Member member = memberRepository.findById(targetDto.getMemberId())
-                    .orElseThrow(() -> new BusinessException(ErrorCode.MEMBER_NOT_FOUND));
-            Status reservationStatus = statusRepository.findById(targetDto.getReservationStatusId())
-                    .orElseThrow(() -> new BusinessException(ErrorCode.STATUS_NOT_FOUND));
-
-            Long reservationPrice = targetDto.getReservationPrice(); // 예매금액
-            BigDecimal contractCharge = targetDto.getContractCharge(); // 적용 수수료율
-
-            Long salesAmount = 0L; // 판매금액 초기화
-            Long refundAmount = 0L; // 환불금액 초기화
-
-            Status settlementStatus = null; // 정산상태 초기화(14=정산예정, 16=환불청구)
-            if(reservationStatus.getId() == 9) {
-                salesAmount = reservationPrice;
-                refundAmount = 0L;
-                settlementStatus = statusProvider.provide(Settlement.SCHEDULED);
-            } else if(reservationStatus.getId() == 10) {
-                salesAmount = 0L;
-                refundAmount = reservationPrice;
-                settlementStatus = statusProvider.provide(Settlement.REFUND_REQUESTED);
-            }
+        Long grossAmount = salesAmount; // 정산대상금액 = 판매금액
+        BigDecimal commission; // 수수료 초기화
+        BigDecimal netAmount; // 대납금액 초기화
+        try {
+            // 수수료 = 판매금액 * 정산대상금액
+            commission = contractCharge.multiply(BigDecimal.valueOf(grossAmount)).setScale(0, RoundingMode.HALF_UP);
+            // 대납금액 = 정산대상금액 - 수수료
+            netAmount = BigDecimal.valueOf(grossAmount).subtract(commission);
+        } catch (NullPointerException | ArithmeticException e) {
+            // → contractCharge 가 null 이었거나
+            //   BigDecimal 연산 중 뭔가 비정상적인 상황이 생겼을 때
+            log.error("수수료 계산 오류: {}, 대상 DTO={}", e.getMessage(), targetDto);
+            throw new BusinessException(ErrorCode.SETTLEMENT_COMMISSION_CALCULATION_ERROR);
+        }
 
-            Long grossAmount = salesAmount; // 정산대상금액 = 판매금액
-            BigDecimal commission; // 수수료 초기화
-            BigDecimal netAmount; // 대납금액 초기화
-            try {
-                // 수수료 = 판매금액 * 정산대상금액
-                commission = contractCharge.multiply(BigDecimal.valueOf(grossAmount)).setScale(0, RoundingMode.HALF_UP);
-                // 대납금액 = 정산대상금액 - 수수료
-                netAmount = BigDecimal.valueOf(grossAmount).subtract(commission);
-            } catch (NullPointerException | ArithmeticException e) {
-                // → contractCharge 가 null 이었거나
-                //   BigDecimal 연산 중 뭔가 비정상적인 상황이 생겼을 때
-                log.error("수수료 계산 오류: {}, 대상 DTO={}", e.getMessage(), targetDto);
-                throw new BusinessException(ErrorCode.SETTLEMENT_COMMISSION_CALCULATION_ERROR);
-            }
+        // dto에서 공연제목, 예매 종료일시, 예매코드, 적용 수수료율 추출
+        return new SettlementDetailRow(targetDto.getChangeId(), targetDto.getMemberId(), settlementStatusId,
+                targetDto.getPerformanceTitle(), targetDto.getPerformanceEndDate(), targetDto.getReservationCode(),
+                salesAmount, refundAmount, grossAmount, targetDto.getContractCharge(),
+                commission.longValueExact(), netAmount.longValueExact(), settlementCreatedAt);
+    }
 
-            // dto에서 공연제목, 예매 종료일시, 예매코드, 적용 수수료율 추출
-            SettlementDetail stlDetail = SettlementDetail.create(targetDto, member, settlementStatus,
-                    salesAmount, refundAmount, grossAmount, commission.longValueExact(),
-                    netAmount.longValueExact(), settlementCreatedAt);
-            insertList.add(stlDetail);
+    /**
+     * 건별정산 결과 insert (chunk step의 writer, chunk 단위 multi insert)
+     * 재시작 등으로 이미 정산된 변경은 제외하고, 이번에 실제로 insert된 건만 반환
+     */
+    public List<SettlementDetailRow> insert(List<? extends SettlementDetailRow> details) {
+        if (details.isEmpty()) {
+            return List.of();
         }
         // 마이바티스 foreach insert
+        Set<Long> insertedChangeIds;
         try {
-            settlementDetailMapper.insertSettlementDetail(insertList);
+            insertedChangeIds = new HashSet<>(settlementDetailMapper.insertSettlementDetail(new ArrayList<>(details)));
         } catch (DataAccessException dae) {
-            log.error("SettlementDetail insert 오류, List={}", insertList);
+            log.error("SettlementDetail insert 오류, count={}, first={}", details.size(), details.getFirst().reservationCode());
             throw new BusinessException(ErrorCode.SETTLEMENT_UPSERT_FAILED);
         }
+        List<SettlementDetailRow> inserted = new ArrayList<>(details);
+        if (insertedChangeIds.size() != details.size()) {
+            log.info("이미 정산된 변경 {}건 제외", details.size() - insertedChangeIds.size());
+            inserted.removeIf(detail -> !insertedChangeIds.contains(detail.changeLogId()));
+        }
+        return inserted;
     }
 
     /**
@@ -0,0 +1,91 @@
+package com.profect.tickle.domain.settlement.service;
+
+import com.profect.tickle.domain.settlement.dto.batch.SettlementDetailRow;
+import com.profect.tickle.domain.settlement.dto.batch.SettlementRollupBucket;
+import com.profect.tickle.domain.settlement.mapper.SettlementDailyMapper;
+import com.profect.tickle.domain.settlement.mapper.SettlementMonthlyMapper;
+import com.profect.tickle.domain.settlement.mapper.SettlementWeeklyMapper;
+import com.profect.tickle.domain.settlement.util.SettlementTimeUtil;
+import com.profect.tickle.global.exception.BusinessException;
+import com.profect.tickle.global.exception.ErrorCode;
+import com.profect.tickle.global.status.StatusIds.Settlement;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 일간, 주간, 월간 정산 누적
+ * 새로 insert된 건별정산을 한 번 훑으면서 (주최자, 공연, 기간) 버킷에 더하고, 변경된 버킷만 upsert한다.
+ * 기존 정산 테이블을 다시 집계하지 않으므로 비용은 이번에 들어온 건별정산 수에 비례한다.
+ * 주최자는 건별정산 행의 member_id를 그대로 쓰므로 주최자(Member) 엔티티를 조회하지 않는다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SettlementRollupService {
+
+    private final SettlementDailyMapper settlementDailyMapper;
+    private final SettlementWeeklyMapper settlementWeeklyMapper;
+    private final SettlementMonthlyMapper settlementMonthlyMapper;
+
+    /**
+     * 건별정산 증분 반영 (chunk step의 writer, 건별정산 insert와 같은 트랜잭션)
+     */
+    public void apply(List<SettlementDetailRow> details) {
+        if (details.isEmpty()) {
+            return;
+        }
+
+        Map<BucketKey, SettlementRollupBucket> daily = new LinkedHashMap<>();
+        Map<BucketKey, SettlementRollupBucket> weekly = new LinkedHashMap<>();
+        Map<BucketKey, SettlementRollupBucket> monthly = new LinkedHashMap<>();
+        Map<LocalDate, SettlementTimeUtil> periods = new HashMap<>();
+
+        for (SettlementDetailRow detail : details) {
+            // 정산 기간은 건별정산 생성일시(한국 시간) 기준
+            SettlementTimeUtil period = periods.computeIfAbsent(
+                    SettlementTimeUtil.localDate(detail.createdAt()), SettlementTimeUtil::get);
+            String year = period.yearStr();
+            String month = period.monthStr();
+
+            daily.computeIfAbsent(new BucketKey(detail.memberId(), detail.performanceTitle(), year, month, period.dayOfMonthStr()),
+                    key -> new SettlementRollupBucket(detail, dailyStatus(detail), year, month, key.period())).add(detail);
+            weekly.computeIfAbsent(new BucketKey(detail.memberId(), detail.performanceTitle(), year, month, period.weekOfMonthStr()),
+                    key -> new SettlementRollupBucket(detail, Settlement.SCHEDULED, year, month, key.period())).add(detail);
+            monthly.computeIfAbsent(new BucketKey(detail.memberId(), detail.performanceTitle(), year, month, null),
+                    key -> new SettlementRollupBucket(detail, Settlement.SCHEDULED, year, month, null)).add(detail);
+        }
+
+        try {
+            settlementDailyMapper.upsertSettlementDaily(new ArrayList<>(daily.values()));
+            settlementWeeklyMapper.upsertSettlementWeekly(new ArrayList<>(weekly.values()));
+            settlementMonthlyMapper.upsertSettlementMonthly(new ArrayList<>(monthly.values()));
+        } catch (DataAccessException dae) {
+            log.error("정산 누적 upsert 오류, details={}, daily={}, weekly={}, monthly={}",
+                    details.size(), daily.size(), weekly.size(), monthly.size());
+            log.error("에러 메시지: {}", dae.getMessage());
+            throw new BusinessException(ErrorCode.SETTLEMENT_UPSERT_FAILED);
+        }
+    }
+
+    // 일간정산 상태 (14=정산예정, 15=정산완료): 예매 종료 전이면 정산예정
+    private Long dailyStatus(SettlementDetailRow detail) {
+        return detail.createdAt().isBefore(detail.performanceEndDate())
+                ? Settlement.SCHEDULED
+                : Settlement.COMPLETED;
+    }
+
+    /**
+     * 버킷 키 (주최자, 공연, 연, 월, 일 또는 주차)
+     */
+    private record BucketKey(Long memberId, String performanceTitle, String year, String month, String period) {
+    }
+}
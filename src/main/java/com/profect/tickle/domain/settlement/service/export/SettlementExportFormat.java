@@ -0,0 +1,17 @@
+package com.profect.tickle.domain.settlement.service.export;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 정산 내역 내보내기 형식
+ */
+@Getter
+@RequiredArgsConstructor
+public enum SettlementExportFormat {
+    XLSX("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet", "xlsx"),
+    CSV("text/csv; charset=UTF-8", "csv");
+
+    private final String contentType;
+    private final String extension;
+}
@@ -0,0 +1,59 @@
+package com.profect.tickle.domain.settlement.service.export;
+
+import lombok.Getter;
+
+import java.nio.file.Path;
+import java.time.Instant;
+
+/**
+ * 비동기 정산 내역 내보내기 작업 (결과 파일은 exportDir에 보관 후 만료 시 삭제)
+ */
+@Getter
+public class SettlementExportJob {
+
+    public enum State {
+        PENDING,
+        RUNNING,
+        COMPLETED,
+        FAILED
+    }
+
+    private final String id;
+    private final Long memberId;
+    private final SettlementExportFormat format;
+    private final Instant createdAt;
+
+    private volatile State state = State.PENDING;
+    private volatile Path file;
+    private volatile long rowCount;
+    private volatile Instant finishedAt;
+    private volatile String errorMessage;
+
+    SettlementExportJob(String id, Long memberId, SettlementExportFormat format, Instant createdAt) {
+        this.id = id;
+        this.memberId = memberId;
+        this.format = format;
+        this.createdAt = createdAt;
+    }
+
+    void start() {
+        state = State.RUNNING;
+    }
+
+    void complete(Path file, long rowCount) {
+        this.file = file;
+        this.rowCount = rowCount;
+        this.finishedAt = Instant.now();
+        this.state = State.COMPLETED;
+    }
+
+    void fail(String errorMessage) {
+        this.errorMessage = errorMessage;
+        this.finishedAt = Instant.now();
+        this.state = State.FAILED;
+    }
+
+    boolean isFinished() {
+        return state == State.COMPLETED || state == State.FAILED;
+    }
+}
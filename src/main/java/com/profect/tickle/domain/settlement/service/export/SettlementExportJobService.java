@@ -0,0 +1,167 @@
+package com.profect.tickle.domain.settlement.service.export;
+
+import com.profect.tickle.domain.settlement.dto.response.SettlementExportJobResponseDto;
+import com.profect.tickle.global.exception.BusinessException;
+import com.profect.tickle.global.exception.ErrorCode;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * 비동기 정산 내역 내보내기
+ * 대용량 내보내기를 settlementExportExecutor에서 파일로 만들어 두고, 클라이언트는 상태를 조회한 뒤 완료되면 내려받는다.
+ * 작업 목록은 인스턴스 메모리에 두므로 상태 조회와 다운로드는 요청을 받은 인스턴스에서만 가능하다.
+ */
+@Service
+@Slf4j
+public class SettlementExportJobService {
+
+    // 주최자당 동시에 진행할 수 있는 내보내기 수
+    private static final int MAX_ACTIVE_JOBS_PER_MEMBER = 2;
+    // 완료/실패한 작업과 결과 파일 보관 기간
+    private static final Duration RETENTION = Duration.ofHours(1);
+
+    private final SettlementExportService settlementExportService;
+    private final Executor settlementExportExecutor;
+    private final Path exportDir;
+    private final Map<String, SettlementExportJob> jobs = new ConcurrentHashMap<>();
+
+    public SettlementExportJobService(
+            SettlementExportService settlementExportService,
+            @Qualifier("settlementExportExecutor") Executor settlementExportExecutor,
+            @Value("${settlement.export.dir:${java.io.tmpdir}/tickle-settlement-exports}") String exportDir) {
+        this.settlementExportService = settlementExportService;
+        this.settlementExportExecutor = settlementExportExecutor;
+        this.exportDir = Path.of(exportDir);
+    }
+
+    @PostConstruct
+    void init() throws IOException {
+        Files.createDirectories(exportDir);
+    }
+
+    @PreDestroy
+    void cleanUp() {
+        jobs.values().forEach(job -> deleteQuietly(job.getFile()));
+        jobs.clear();
+    }
+
+    /**
+     * 내보내기 작업 등록
+     */
+    public SettlementExportJobResponseDto submit(SettlementExportQuery query, SettlementExportFormat format) {
+        long active = jobs.values().stream()
+                .filter(job -> job.getMemberId().equals(query.memberId()) && !job.isFinished())
+                .count();
+        if (active >= MAX_ACTIVE_JOBS_PER_MEMBER) {
+            throw new BusinessException(ErrorCode.SETTLEMENT_EXPORT_BUSY);
+        }
+
+        SettlementExportJob job = new SettlementExportJob(
+                UUID.randomUUID().toString(), query.memberId(), format, Instant.now());
+        jobs.put(job.getId(), job);
+        try {
+            settlementExportExecutor.execute(() -> run(job, query));
+        } catch (RejectedExecutionException e) {
+            jobs.remove(job.getId());
+            throw new BusinessException(ErrorCode.SETTLEMENT_EXPORT_BUSY);
+        }
+        log.info("정산 내역 내보내기 등록: jobId={}, memberId={}, format={}", job.getId(), query.memberId(), format);
+        return SettlementExportJobResponseDto.from(job);
+    }
+
+    /**
+     * 작업 상태 조회 (본인 작업만)
+     */
+    public SettlementExportJobResponseDto getJob(Long memberId, String jobId) {
+        return SettlementExportJobResponseDto.from(find(memberId, jobId));
+    }
+
+    /**
+     * 완료된 작업의 결과 파일 (본인 작업만)
+     */
+    public SettlementExportJob getCompletedJob(Long memberId, String jobId) {
+        SettlementExportJob job = find(memberId, jobId);
+        if (job.getState() != SettlementExportJob.State.COMPLETED) {
+            throw new BusinessException(ErrorCode.SETTLEMENT_EXPORT_NOT_READY);
+        }
+        if (job.getFile() == null) {
+            // 내보낼 정산 내역이 없었음
+            throw new BusinessException(ErrorCode.SETTLEMENT_TARGET_NOT_FOUND);
+        }
+        return job;
+    }
+
+    /**
+     * 보관 기간이 지난 작업과 결과 파일 삭제
+     */
+    @Scheduled(fixedDelay = 10 * 60 * 1000)
+    public void evictExpired() {
+        Instant expiredBefore = Instant.now().minus(RETENTION);
+        jobs.values().removeIf(job -> {
+            if (job.isFinished() && job.getFinishedAt().isBefore(expiredBefore)) {
+                deleteQuietly(job.getFile());
+                return true;
+            }
+            return false;
+        });
+    }
+
+    private void run(SettlementExportJob job, SettlementExportQuery query) {
+        job.start();
+        Path file = exportDir.resolve(job.getId() + "." + job.getFormat().getExtension());
+        long rows;
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(file))) {
+            rows = settlementExportService.export(query, job.getFormat(), () -> out);
+        } catch (Exception e) {
+            log.error("정산 내역 내보내기 실패: jobId={}, memberId={}", job.getId(), job.getMemberId(), e);
+            deleteQuietly(file);
+            job.fail(ErrorCode.SETTLEMENT_EXPORT_FAILED.getMessage());
+            return;
+        }
+
+        // 파일을 닫은 뒤에 완료 처리 (완료 상태를 본 클라이언트가 덜 쓰인 파일을 받지 않도록)
+        if (rows == 0) {
+            deleteQuietly(file);
+            job.complete(null, 0);
+        } else {
+            job.complete(file, rows);
+        }
+    }
+
+    private SettlementExportJob find(Long memberId, String jobId) {
+        SettlementExportJob job = jobs.get(jobId);
+        if (job == null || !job.getMemberId().equals(memberId)) {
+            throw new BusinessException(ErrorCode.SETTLEMENT_EXPORT_JOB_NOT_FOUND);
+        }
+        return job;
+    }
+
+    private void deleteQuietly(Path file) {
+        if (file == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("정산 내역 내보내기 파일 삭제 실패: {}", file, e);
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.profect.tickle.domain.settlement.service.export;
+
+import com.profect.tickle.domain.settlement.service.SettlementResponseService.PeriodType;
+import com.profect.tickle.domain.settlement.service.SettlementResponseService.ViewType;
+
+import java.time.LocalDate;
+
+/**
+ * 정산 내역 내보내기 조건 (목록 조회와 같은 조건)
+ */
+public record SettlementExportQuery(
+        Long memberId,
+        PeriodType periodType,
+        ViewType viewType,
+        String settlementCycle,
+        LocalDate startDate,
+        LocalDate endDate,
+        String performanceTitle,
+        Long statusId
+) {
+    public SettlementExportQuery {
+        // 건별 정산(주최자 합산 없으므로 공연으로 강제반환)
+        if (periodType == PeriodType.DETAIL && viewType == ViewType.HOST) {
+            viewType = ViewType.PERFORMANCE;
+        }
+    }
+}
@@ -0,0 +1,224 @@
+package com.profect.tickle.domain.settlement.service.export;
+
+import com.profect.tickle.domain.settlement.dto.response.SettlementResponseDto;
+import com.profect.tickle.domain.settlement.mapper.SettlementResponseMapper;
+import com.profect.tickle.domain.settlement.service.SettlementResponseService.PeriodType;
+import com.profect.tickle.domain.settlement.service.SettlementResponseService.ViewType;
+import com.profect.tickle.global.status.Status;
+import com.profect.tickle.global.status.service.StatusProvider;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.ibatis.cursor.Cursor;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.format.DateTimeFormatter;
+import java.util.Iterator;
+
+/**
+ * 정산 내역 내보내기 (엑셀/CSV)
+ * 조건에 맞는 정산 내역을 MyBatis cursor로 순방향으로 한 번만 읽으면서 바로 써 내려간다. (COUNT, OFFSET 페이지 조회 없음)
+ * cursor는 트랜잭션 안에서만 열려 있으므로 내보내기 전체가 읽기 전용 트랜잭션 하나로 실행된다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SettlementExportService {
+
+    private static final int WINDOW_SIZE = 100; // SXSSF 메모리에 유지할 행 수
+    private static final int MAX_ROWS_PER_SHEET = 1_000_000; // 엑셀 시트 최대 행(1,048,576) 이내에서 시트 분할
+    private static final int CSV_BUFFER_SIZE = 64 * 1024;
+    private static final int PROGRESS_LOG_INTERVAL = 100_000;
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy.MM.dd HH:mm:ss");
+    private static final String[] HEADERS = {
+            "공연명", "판매금액", "환불금액", "정산대상금액",
+            "수수료", "대납금액", "적용수수료율", "정산상태", "정산일시"
+    };
+
+    private final SettlementResponseMapper settlementResponseMapper;
+    private final StatusProvider statusProvider;
+
+    /**
+     * 내보낼 대상 스트림 (첫 행이 있을 때만 열림)
+     */
+    @FunctionalInterface
+    public interface ExportTarget {
+        OutputStream open() throws IOException;
+    }
+
+    /**
+     * 조건에 맞는 정산 내역을 format 형식으로 target에 쓰고 행 수를 반환
+     * 내보낼 행이 없으면 target을 열지 않고 0 반환
+     */
+    @Transactional(readOnly = true)
+    public long export(SettlementExportQuery query, SettlementExportFormat format, ExportTarget target) throws IOException {
+        Status status = query.statusId() == null ? null : statusProvider.provide(query.statusId());
+
+        try (Cursor<SettlementResponseDto> cursor = openCursor(query, status)) {
+            Iterator<SettlementResponseDto> rows = cursor.iterator();
+            if (!rows.hasNext()) {
+                return 0;
+            }
+
+            OutputStream out = target.open();
+            long count = switch (format) {
+                case XLSX -> writeXlsx(rows, query, out);
+                case CSV -> writeCsv(rows, query, out);
+            };
+            log.info("정산 내역 내보내기 완료: memberId={}, format={}, rows={}", query.memberId(), format, count);
+            return count;
+        }
+    }
+
+    private Cursor<SettlementResponseDto> openCursor(SettlementExportQuery query, Status status) {
+        if (query.viewType() == ViewType.HOST) {
+            return settlementResponseMapper.searchByHostForExcel(
+                    query.memberId(), query.periodType().toString(), query.settlementCycle(),
+                    query.startDate(), query.endDate(), status);
+        }
+        return settlementResponseMapper.searchForExcel(
+                query.memberId(), query.periodType().toString(), query.viewType().toString(),
+                query.settlementCycle(), query.startDate(), query.endDate(), query.performanceTitle(), status);
+    }
+
+    /**
+     * 엑셀 (SXSSF: WINDOW_SIZE행만 메모리에 두고 나머지는 압축 임시파일로 내림)
+     */
+    private long writeXlsx(Iterator<SettlementResponseDto> rows, SettlementExportQuery query, OutputStream out) throws IOException {
+        try (SXSSFWorkbook workbook = new SXSSFWorkbook(WINDOW_SIZE)) {
+            // 압축 설정으로 임시파일 크기 최적화
+            workbook.setCompressTempFiles(true);
+
+            long count = 0;
+            Sheet sheet = null;
+            int rowIndex = 0;
+            while (rows.hasNext()) {
+                if (sheet == null || rowIndex > MAX_ROWS_PER_SHEET) {
+                    int sheetNo = workbook.getNumberOfSheets() + 1;
+                    sheet = workbook.createSheet(sheetNo == 1 ? "정산내역" : "정산내역" + sheetNo);
+                    writeXlsxRow(sheet.createRow(0), HEADERS);
+                    rowIndex = 1;
+                }
+                writeXlsxRow(sheet.createRow(rowIndex++), columns(rows.next(), query));
+                logProgress(++count);
+            }
+
+            workbook.write(out);
+            out.flush();
+            return count;
+        }
+    }
+
+    private void writeXlsxRow(Row row, Object[] values) {
+        for (int i = 0; i < values.length; i++) {
+            Object value = values[i];
+            if (value == null) {
+                continue;
+            }
+            Cell cell = row.createCell(i);
+            if (value instanceof Number number) {
+                cell.setCellValue(number.doubleValue());
+            } else {
+                cell.setCellValue(value.toString());
+            }
+        }
+    }
+
+    /**
+     * CSV (행마다 바로 버퍼에 쓰고 흘려보냄)
+     */
+    private long writeCsv(Iterator<SettlementResponseDto> rows, SettlementExportQuery query, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), CSV_BUFFER_SIZE);
+        // 엑셀에서 열 때 한글이 깨지지 않도록 BOM
+        writer.write('\uFEFF');
+        writeCsvLine(writer, HEADERS);
+
+        long count = 0;
+        while (rows.hasNext()) {
+            writeCsvLine(writer, columns(rows.next(), query));
+            logProgress(++count);
+        }
+        // 스트림은 호출한 쪽이 닫음
+        writer.flush();
+        return count;
+    }
+
+    private void writeCsvLine(Writer writer, Object[] values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            if (values[i] != null) {
+                writer.write(escapeCsv(values[i].toString()));
+            }
+        }
+        writer.write("\r\n");
+    }
+
+    private String escapeCsv(String value) {
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+
+    /**
+     * 한 행의 열 값 (HEADERS 순서)
+     */
+    private Object[] columns(SettlementResponseDto item, SettlementExportQuery query) {
+        return new Object[]{
+                item.getPerformanceTitle(),
+                item.getSalesAmount(),
+                item.getRefundAmount(),
+                item.getGrossAmount(),
+                item.getCommission(),
+                item.getNetAmount(),
+                item.getContractCharge() + "%",
+                item.getStatusName(),
+                formatSettlementDate(item, query.periodType(), query.viewType())
+        };
+    }
+
+    /**
+     * 정산일시 포맷팅
+     */
+    private String formatSettlementDate(SettlementResponseDto item, PeriodType periodType, ViewType viewType) {
+        if (viewType == ViewType.PERFORMANCE) {
+            return item.getSettlementDate().format(DATE_FORMAT);
+        } else {
+            if (periodType == PeriodType.WEEKLY) {
+                return formatWeeklyCycle(item.getSettlementCycle());
+            }
+            return item.getSettlementCycle() != null ? item.getSettlementCycle() :
+                    item.getSettlementDate().format(DATE_FORMAT);
+        }
+    }
+
+    /**
+     * 주간 주차 포맷팅
+     */
+    private String formatWeeklyCycle(String cycleString) {
+        if (cycleString == null) return "";
+        String[] parts = cycleString.split("-");
+        if (parts.length == 3) {
+            return parts[0] + "-" + parts[1] + " " + parts[2] + "주차";
+        }
+        return cycleString;
+    }
+
+    private void logProgress(long count) {
+        if (count % PROGRESS_LOG_INTERVAL == 0) {
+            log.info("정산 내역 내보내기 진행: {}건", count);
+        }
+    }
+}
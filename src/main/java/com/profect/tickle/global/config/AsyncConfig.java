@@ -2,6 +2,7 @@ package com.profect.tickle.global.config;
 
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
@@ -29,12 +30,73 @@ public class AsyncConfig {
 
     @Bean(name = "sseExecutor")
     public Executor sseExecutor() {
+        // emitter별 전송 작업은 느린 클라이언트에서 블로킹되므로 가상 스레드로 실행 (emitter당 동시에 최대 하나, 대기열은 SseSender가 제한)
+        var ex = new SimpleAsyncTaskExecutor("sse-");
+        ex.setVirtualThreads(true);
+        return ex;
+    }
+
+    @Bean(name = "seatWriteExecutor")
+    public Executor seatWriteExecutor() {
         var ex = new ThreadPoolTaskExecutor();
         ex.setCorePoolSize(2);
-        ex.setMaxPoolSize(8);
-        ex.setQueueCapacity(1000);
-        ex.setThreadNamePrefix("sse-");
+        ex.setMaxPoolSize(4);
+        ex.setQueueCapacity(5000);
+        ex.setThreadNamePrefix("seat-write-");
+        ex.setWaitForTasksToCompleteOnShutdown(true);
+        ex.setAwaitTerminationSeconds(30);
+        // 큐가 가득 차면 요청 스레드에서 직접 반영 (자연스러운 backpressure)
+        ex.setRejectedExecutionHandler(new java.util.concurrent.ThreadPoolExecutor.CallerRunsPolicy());
+        ex.initialize();
+        return ex;
+    }
+
+    @Bean(name = "websocketSendExecutor")
+    public Executor websocketSendExecutor() {
+        // 세션별 송신 작업은 느린 클라이언트에서 블로킹되므로 가상 스레드로 실행 (세션당 동시에 최대 하나)
+        var ex = new SimpleAsyncTaskExecutor("ws-send-");
+        ex.setVirtualThreads(true);
+        return ex;
+    }
+
+    @Bean(name = "stompInboundExecutor")
+    public ThreadPoolTaskExecutor stompInboundExecutor() {
+        // STOMP 수신 프레임 처리 (발신 검증 캐시 미스 시 DB 조회 등 블로킹 구간이 있어 가상 스레드로 실행)
+        var ex = new ThreadPoolTaskExecutor();
+        ex.setCorePoolSize(256);
+        ex.setMaxPoolSize(256);
+        ex.setQueueCapacity(10_000);
+        ex.setAllowCoreThreadTimeOut(true);
+        ex.setThreadNamePrefix("stomp-in-");
+        ex.setVirtualThreads(true);
+        // 큐가 가득 차면 WebSocket 수신 스레드에서 직접 처리 (해당 연결의 수신이 느려지는 backpressure)
+        ex.setRejectedExecutionHandler(new java.util.concurrent.ThreadPoolExecutor.CallerRunsPolicy());
+        ex.initialize();
+        return ex;
+    }
+
+    @Bean(name = "settlementBatchExecutor")
+    public ThreadPoolTaskExecutor settlementBatchExecutor() {
+        // 건별정산 파티션 step 실행 (주최자 ID 구간별 파티션을 최대 4개까지 동시에 처리)
+        var ex = new ThreadPoolTaskExecutor();
+        ex.setCorePoolSize(4);
+        ex.setMaxPoolSize(4);
+        ex.setThreadNamePrefix("settlement-batch-");
         ex.setWaitForTasksToCompleteOnShutdown(true);
+        ex.setAwaitTerminationSeconds(60);
+        ex.initialize();
+        return ex;
+    }
+
+    @Bean(name = "settlementExportExecutor")
+    public ThreadPoolTaskExecutor settlementExportExecutor() {
+        // 대용량 정산 내역 내보내기 (DB 연결을 오래 잡으므로 동시 실행 수와 대기열을 작게 제한, 넘치면 요청 거절)
+        var ex = new ThreadPoolTaskExecutor();
+        ex.setCorePoolSize(2);
+        ex.setMaxPoolSize(2);
+        ex.setQueueCapacity(20);
+        ex.setThreadNamePrefix("settlement-export-");
+        ex.setWaitForTasksToCompleteOnShutdown(false);
         ex.initialize();
         return ex;
     }
@@ -1,10 +1,14 @@
 package com.profect.tickle.global.config;
 
 import com.profect.tickle.global.websocket.StompJwtChannelInterceptor;
+import com.profect.tickle.global.websocket.properties.StompBrokerProperties;
+import com.profect.tickle.global.websocket.properties.StompBrokerProperties.Mode;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
@@ -12,17 +16,37 @@ import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerCo
 /**
  * STOMP + SockJS WebSocket 설정
  * 기존 WebSocketConfig와 별도로 작동
+ * chat.broker.mode=RELAY이면 /topic, /queue 구독을 외부 STOMP 브로커로 중계해 노드 간에 메시지를 주고받는다.
+ * 중계 모드의 /topic 목적지는 '.'으로 구분한다. (StompDestinations 참고, SIMPLE 모드 경로는 그대로)
  */
 @Configuration
 @EnableWebSocketMessageBroker
 @RequiredArgsConstructor // 추가
+@Slf4j
 public class StompWebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
     private final StompJwtChannelInterceptor stompJwtChannelInterceptor; // 추가
+    private final ThreadPoolTaskExecutor stompInboundExecutor;
+    private final StompBrokerProperties stompBrokerProperties;
 
     @Override
     public void configureMessageBroker(MessageBrokerRegistry config) {
-        config.enableSimpleBroker("/topic", "/queue");
+        if (stompBrokerProperties.mode() == Mode.RELAY) {
+            log.info("STOMP 브로커 중계 사용: {}:{}", stompBrokerProperties.relayHost(), stompBrokerProperties.relayPort());
+            config.enableStompBrokerRelay("/topic", "/queue")
+                    .setRelayHost(stompBrokerProperties.relayHost())
+                    .setRelayPort(stompBrokerProperties.relayPort())
+                    .setClientLogin(stompBrokerProperties.clientLogin())
+                    .setClientPasscode(stompBrokerProperties.clientPasscode())
+                    .setSystemLogin(stompBrokerProperties.systemLogin())
+                    .setSystemPasscode(stompBrokerProperties.systemPasscode())
+                    .setVirtualHost(stompBrokerProperties.virtualHost());
+            // 다른 노드에 연결된 사용자에게도 /user 목적지 메시지가 전달되도록 사용자 레지스트리 공유
+            config.setUserDestinationBroadcast("/topic/unresolved-user-destination");
+            config.setUserRegistryBroadcast("/topic/simp-user-registry");
+        } else {
+            config.enableSimpleBroker("/topic", "/queue");
+        }
         config.setApplicationDestinationPrefixes("/app");
         config.setUserDestinationPrefix("/user");
     }
@@ -32,12 +56,15 @@ public class StompWebSocketConfig implements WebSocketMessageBrokerConfigurer {
         registry.addEndpoint("/ws")
                 .setAllowedOriginPatterns("*")
                 .withSockJS();
+        // 수신 프레임을 여러 스레드에서 처리해도 한 세션의 메시지 순서는 유지
+        registry.setPreserveReceiveOrder(true);
     }
 
-    // 🎯 STOMP 메시지 인터셉터 등록
+    // 🎯 STOMP 메시지 인터셉터 등록 (CONNECT 인증) + 가상 스레드 수신 채널
     @Override
     public void configureClientInboundChannel(ChannelRegistration registration) {
-        registration.interceptors(stompJwtChannelInterceptor);
+        registration.interceptors(stompJwtChannelInterceptor)
+                .taskExecutor(stompInboundExecutor);
     }
 }
 
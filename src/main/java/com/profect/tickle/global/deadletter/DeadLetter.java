@@ -0,0 +1,39 @@
+package com.profect.tickle.global.deadletter;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * 저장하지 못한 write-behind 데이터
+ * 배치 저장 중 특정 행이 계속 실패하면 배치 전체를 막지 않도록 그 행만 여기로 옮겨 두고, 확인 후 수동으로 처리한다.
+ * (스키마 정의용 엔티티 - 저장은 DeadLetterMapper로 처리)
+ */
+@Getter
+@Entity
+@Table(name = "dead_letter", indexes = {
+        @Index(name = "idx_dead_letter_source_created_at", columnList = "dead_letter_source, dead_letter_created_at")
+})
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class DeadLetter {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "dead_letter_id")
+    private Long id;
+
+    @Column(name = "dead_letter_source", nullable = false, length = 50)
+    private String source; // 예: CHAT_MESSAGE, COUPON_ISSUE
+
+    @Column(name = "dead_letter_payload", nullable = false, columnDefinition = "TEXT")
+    private String payload; // 원본 데이터 (JSON)
+
+    @Column(name = "dead_letter_error", length = 1000)
+    private String error;
+
+    @Column(name = "dead_letter_created_at", nullable = false)
+    private Instant createdAt;
+}
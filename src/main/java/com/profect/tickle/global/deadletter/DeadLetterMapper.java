@@ -0,0 +1,18 @@
+package com.profect.tickle.global.deadletter;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.time.Instant;
+
+@Mapper
+public interface DeadLetterMapper {
+
+    /**
+     * 저장하지 못한 데이터 기록
+     */
+    void insert(@Param("source") String source,
+                @Param("payload") String payload,
+                @Param("error") String error,
+                @Param("createdAt") Instant createdAt);
+}
@@ -0,0 +1,56 @@
+package com.profect.tickle.global.deadletter;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+
+/**
+ * write-behind 저장기에서 끝내 저장하지 못한 행을 dead_letter에 남긴다.
+ * 호출한 쪽 트랜잭션과 무관하게 바로 저장되며, 여기서도 실패하면 로그가 유일한 기록이 된다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class DeadLetterStore {
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private final DeadLetterMapper deadLetterMapper;
+    private final ObjectMapper objectMapper;
+
+    public void save(String source, Object payload, Throwable cause) {
+        String json = toJson(payload);
+        String error = errorOf(cause);
+        log.error("저장 실패 데이터를 dead letter로 이동 - source={}, payload={}, error={}", source, json, error);
+        try {
+            deadLetterMapper.insert(source, json, error, Instant.now());
+        } catch (Exception e) {
+            log.error("dead letter 저장 실패 - source={}, payload={}", source, json, e);
+        }
+    }
+
+    private String toJson(Object payload) {
+        try {
+            return objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            return String.valueOf(payload);
+        }
+    }
+
+    // 가장 안쪽 원인 (제약조건 위반 메시지 등)
+    private String errorOf(Throwable cause) {
+        if (cause == null) {
+            return null;
+        }
+        Throwable root = cause;
+        while (root.getCause() != null && root.getCause() != root) {
+            root = root.getCause();
+        }
+        String message = root.getClass().getSimpleName() + ": " + root.getMessage();
+        return message.length() > MAX_ERROR_LENGTH ? message.substring(0, MAX_ERROR_LENGTH) : message;
+    }
+}
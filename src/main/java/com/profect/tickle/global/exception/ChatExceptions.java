@@ -95,6 +95,20 @@ public class ChatExceptions {
         return new BusinessException(ErrorCode.CHAT_MESSAGE_INVALID_FILE_SIZE);
     }
 
+    /**
+     * 파일 정보가 너무 길음
+     */
+    public static BusinessException chatMessageFileInfoTooLong() {
+        return new BusinessException(ErrorCode.CHAT_MESSAGE_FILE_INFO_TOO_LONG);
+    }
+
+    /**
+     * 메시지 저장 대기열 초과
+     */
+    public static BusinessException chatMessageQueueFull() {
+        return new BusinessException(ErrorCode.CHAT_MESSAGE_QUEUE_FULL);
+    }
+
     /**
      * 이미 삭제된 메시지 (ID 포함)
      */
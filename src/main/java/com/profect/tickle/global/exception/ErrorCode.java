@@ -26,6 +26,7 @@ public enum ErrorCode {
     INVALID_DATE(HttpStatus.BAD_REQUEST, "이미 지난 날짜로 쿠폰을 설정할 수 없습니다."),
     DUPLICATE_COUPON_NAME(HttpStatus.CONFLICT, "이미 존재하는 쿠폰 이름입니다."),
     INVALID_COUPON_AMOUNT(HttpStatus.BAD_REQUEST, "쿠폰을 적용할 수 없는 금액입니다."),
+    COUPON_ISSUE_BUSY(HttpStatus.TOO_MANY_REQUESTS, "쿠폰 발급 요청이 많습니다. 잠시 후 다시 시도해주세요."),
 
     //POINT
     INSUFFICIENT_POINT(HttpStatus.NOT_FOUND, "보유 포인트가 부족합니다."),
@@ -55,7 +56,9 @@ public enum ErrorCode {
     CHAT_MESSAGE_TOO_LONG(HttpStatus.BAD_REQUEST, "메시지 내용은 255자 이하여야 합니다."),
     CHAT_MESSAGE_MISSING_FILE_INFO(HttpStatus.BAD_REQUEST, "파일 정보는 필수입니다."),
     CHAT_MESSAGE_INVALID_FILE_SIZE(HttpStatus.BAD_REQUEST, "올바른 파일 크기를 입력해주세요."),
+    CHAT_MESSAGE_FILE_INFO_TOO_LONG(HttpStatus.BAD_REQUEST, "파일 경로와 파일명은 255자, 파일 형식은 100자 이하여야 합니다."),
     CHAT_MESSAGE_ALREADY_DELETED(HttpStatus.BAD_REQUEST, "이미 삭제된 메시지입니다."),
+    CHAT_MESSAGE_QUEUE_FULL(HttpStatus.SERVICE_UNAVAILABLE, "메시지 전송량이 많습니다. 잠시 후 다시 시도해주세요."),
 
     // 권한 관련
     CHAT_PERMISSION_DENIED(HttpStatus.FORBIDDEN, "채팅 기능에 대한 권한이 없습니다."),
@@ -97,6 +100,9 @@ public enum ErrorCode {
     PREEMPTION_DUPLICATE_SEAT(HttpStatus.CONFLICT, "이미 선점한 좌석이 포함되어 있습니다."),
     SEAT_PREEMPTION_FAILED(HttpStatus.BAD_REQUEST, "선택한 좌석 중 선점할 수 없는 좌석이 있습니다."),
 
+    // 대기열 관련
+    WAITING_ROOM_NOT_ADMITTED(HttpStatus.FORBIDDEN, "대기열을 통과한 사용자만 예매할 수 있습니다."),
+
     // 공연장 유형 관련
     HALL_TYPE_NOT_FOUND(HttpStatus.INTERNAL_SERVER_ERROR, "홀 타입을 찾을 수 없습니다."),
     SEAT_TEMPLATE_NOT_FOUND(HttpStatus.INTERNAL_SERVER_ERROR, "좌석 템플릿을 찾을 수 없습니다."),
@@ -110,6 +116,12 @@ public enum ErrorCode {
     SETTLEMENT_UPSERT_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "정산 데이터 저장 또는 업데이트에 실패했습니다."),
     SETTLEMENT_STATUS_UPDATE_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "정산 상태 업데이트에 실패했습니다."),
 
+    // 정산 내역 내보내기
+    SETTLEMENT_EXPORT_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "정산 내역 내보내기에 실패했습니다."),
+    SETTLEMENT_EXPORT_BUSY(HttpStatus.TOO_MANY_REQUESTS, "진행 중인 정산 내역 내보내기가 많습니다. 잠시 후 다시 시도해주세요."),
+    SETTLEMENT_EXPORT_JOB_NOT_FOUND(HttpStatus.NOT_FOUND, "정산 내역 내보내기 작업을 찾을 수 없습니다."),
+    SETTLEMENT_EXPORT_NOT_READY(HttpStatus.CONFLICT, "정산 내역 내보내기가 아직 완료되지 않았습니다."),
+
     // 계약 관련
     CONTRACT_NOT_FOUND(HttpStatus.NOT_FOUND, "계약을 찾지 못했습니다."),
     CONTRACT_CHARGE_INVALID(HttpStatus.BAD_REQUEST, "유요한 수수료율이 아닙니다."),
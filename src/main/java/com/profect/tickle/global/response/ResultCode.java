@@ -45,6 +45,9 @@ public enum ResultCode {
     RESERVATION_HISTORY_SUCCESS(HttpStatus.OK, "예매 내역 조회 성공"),
     RESERVATION_DETAIL_SUCCESS(HttpStatus.OK, "예매 상세 정보 조회 성공"),
     RESERVATION_CANCEL_SUCCESS(HttpStatus.OK, "예매 취소 성공"),
+    RESERVATION_WAITING_ROOM_ENTER_SUCCESS(HttpStatus.OK, "대기열 진입 성공"),
+    RESERVATION_WAITING_ROOM_STATUS_SUCCESS(HttpStatus.OK, "대기열 상태 조회 성공"),
+    RESERVATION_WAITING_ROOM_LEAVE_SUCCESS(HttpStatus.OK, "대기열 나가기 성공"),
 
     // NOTIFICATION
     NOTIFICATION_INFO_SUCCESS(HttpStatus.OK, "알림 조회 성공"),
@@ -61,7 +64,9 @@ public enum ResultCode {
 
     // SETTLEMENT
     SETTLEMENT_LIST_SUCCESS(HttpStatus.OK, "정산 내역 조회 성공"),
-    SETTLEMENT_UNSETTLED_AMOUNT_SUCCESS(HttpStatus.OK, "미정산 내역 조회 성공")
+    SETTLEMENT_UNSETTLED_AMOUNT_SUCCESS(HttpStatus.OK, "미정산 내역 조회 성공"),
+    SETTLEMENT_EXPORT_ACCEPTED(HttpStatus.ACCEPTED, "정산 내역 내보내기 요청 성공"),
+    SETTLEMENT_EXPORT_STATUS_SUCCESS(HttpStatus.OK, "정산 내역 내보내기 상태 조회 성공")
     ;
 
     private final HttpStatus status;
@@ -52,6 +52,7 @@ public class SecurityConfig {
         cfg.setAllowedOrigins(Arrays.asList("https://tickle.kr", "https://www.tickle.kr"));
         cfg.setAllowedMethods(Arrays.asList("GET", "POST", "PUT", "PATCH", "DELETE", "OPTIONS"));
         cfg.setAllowedHeaders(Arrays.asList("*"));
+        cfg.setExposedHeaders(Arrays.asList("ETag"));
         cfg.setAllowCredentials(true);
         cfg.setMaxAge(3600L);
 
@@ -68,6 +69,7 @@ public class SecurityConfig {
         cfg.setAllowedOrigins(Arrays.asList("http://localhost:5173", "http://localhost:3000", "http://localhost:8081"));
         cfg.setAllowedMethods(Arrays.asList("GET", "POST", "PUT", "PATCH", "DELETE", "OPTIONS"));
         cfg.setAllowedHeaders(Arrays.asList("*"));
+        cfg.setExposedHeaders(Arrays.asList("ETag"));
         cfg.setAllowCredentials(true);
         cfg.setMaxAge(3600L);
 
@@ -96,6 +98,7 @@ public class SecurityConfig {
                                 .requestMatchers(HttpMethod.GET, "/api/v1/performance/**").permitAll()
                                 .requestMatchers(HttpMethod.GET, "/api/v1/event/**").permitAll()
                                 .requestMatchers(HttpMethod.POST, "/api/v1/event/coupon").hasAuthority("ADMIN")
+                                .requestMatchers("/admin/**").hasAuthority("ADMIN")
                                 .anyRequest().authenticated()
                 )
                 .sessionManagement(session ->
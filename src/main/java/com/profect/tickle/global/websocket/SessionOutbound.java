@@ -0,0 +1,85 @@
+package com.profect.tickle.global.websocket;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 세션 하나의 송신 대기열
+ * 프레임은 크기가 정해진 큐에 쌓이고, 세션마다 최대 하나의 송신 작업만 실행되며 큐를 비운다.
+ * (WebSocketSession.sendMessage는 동시에 호출할 수 없으므로 세션별로 직렬화)
+ */
+@Slf4j
+final class SessionOutbound implements Runnable {
+
+    private final WebSocketSession session;
+    private final Executor executor;
+    private final Queue<TextMessage> frames;
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+    private final AtomicBoolean evicted = new AtomicBoolean();
+
+    SessionOutbound(WebSocketSession session, Executor executor, int capacity) {
+        this.session = session;
+        this.executor = executor;
+        this.frames = new ArrayBlockingQueue<>(capacity);
+    }
+
+    /**
+     * 프레임을 대기열에 넣는다. 대기열이 가득 차 있으면 false (퇴출된 세션의 프레임은 버림)
+     */
+    boolean offer(TextMessage frame) {
+        if (evicted.get()) {
+            return true;
+        }
+        if (!frames.offer(frame)) {
+            return false;
+        }
+        schedule();
+        return true;
+    }
+
+    /**
+     * 대기 중인 프레임을 버리고 이후 프레임을 받지 않는다. 처음 퇴출한 호출만 true
+     */
+    boolean evict() {
+        if (!evicted.compareAndSet(false, true)) {
+            return false;
+        }
+        frames.clear();
+        return true;
+    }
+
+    @Override
+    public void run() {
+        try {
+            TextMessage frame;
+            while ((frame = frames.poll()) != null) {
+                if (evicted.get() || !session.isOpen()) {
+                    frames.clear();
+                    return;
+                }
+                session.sendMessage(frame);
+            }
+        } catch (Exception e) {
+            log.warn("WebSocket 프레임 전송 실패: sessionId={}, error={}", session.getId(), e.getMessage());
+            frames.clear();
+        } finally {
+            scheduled.set(false);
+            // 송신 작업 종료 직전에 들어온 프레임 처리
+            if (!frames.isEmpty()) {
+                schedule();
+            }
+        }
+    }
+
+    private void schedule() {
+        if (scheduled.compareAndSet(false, true)) {
+            executor.execute(this);
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.profect.tickle.global.websocket;
+
+import com.profect.tickle.global.websocket.properties.StompBrokerProperties;
+import com.profect.tickle.global.websocket.properties.StompBrokerProperties.Mode;
+import org.springframework.stereotype.Component;
+
+/**
+ * 브로커 모드에 맞는 /topic 목적지
+ *  - SIMPLE: 기존 경로 그대로 (/topic/chat/{chatRoomId})
+ *  - RELAY: RabbitMQ STOMP 플러그인은 /topic/ 뒤를 라우팅 키로 쓰므로 '/' 대신 '.'으로 구분 (/topic/chat.{chatRoomId})
+ * /app 목적지는 브로커로 나가지 않으므로 모드와 관계없이 같다.
+ */
+@Component
+public class StompDestinations {
+
+    private static final String TOPIC_PREFIX = "/topic/";
+
+    private final String separator;
+
+    public StompDestinations(StompBrokerProperties stompBrokerProperties) {
+        this.separator = stompBrokerProperties.mode() == Mode.RELAY ? "." : "/";
+    }
+
+    public String topic(String name, Object id) {
+        return TOPIC_PREFIX + name + separator + id;
+    }
+}
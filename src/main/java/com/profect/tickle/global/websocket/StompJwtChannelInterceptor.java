@@ -1,5 +1,11 @@
 package com.profect.tickle.global.websocket;
 
+import com.profect.tickle.domain.member.entity.Member;
+import com.profect.tickle.domain.member.repository.MemberRepository;
+import com.profect.tickle.global.exception.ChatExceptions;
+import com.profect.tickle.global.security.util.JwtUtil;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.messaging.Message;
@@ -12,59 +18,57 @@ import org.springframework.stereotype.Component;
 
 /**
  * STOMP 메시지에서 JWT 토큰 인증 처리
+ * CONNECT 프레임에서 한 번만 토큰을 검증하고 사용자(ID, 닉네임)를 세션의 Principal로 저장한다.
+ * 이후 프레임은 세션에 저장된 Principal을 그대로 사용하므로 토큰을 다시 파싱하지 않는다.
  */
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class StompJwtChannelInterceptor implements ChannelInterceptor {
 
-    // private final JwtUtil jwtUtil; // JWT 유틸리티 주입 필요
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final JwtUtil jwtUtil;
+    private final MemberRepository memberRepository;
 
     @Override
     public Message<?> preSend(Message<?> message, MessageChannel channel) {
-        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(message);
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        if (accessor == null || !StompCommand.CONNECT.equals(accessor.getCommand())) {
+            return message;
+        }
+
+        StompPrincipal principal = authenticate(accessor.getFirstNativeHeader("Authorization"));
+        accessor.setUser(principal);
+        log.info("✅ STOMP JWT 인증 성공: memberId={}", principal.memberId());
+        return message;
+    }
 
-        // 🎯 모든 STOMP 명령에서 Authorization 헤더 처리
-        String authHeader = accessor.getFirstNativeHeader("Authorization");
-        
-        if (authHeader != null && authHeader.startsWith("Bearer ")) {
-            String token = authHeader.substring(7);
-            log.info("🎯 STOMP {} 명령에서 JWT 토큰 발견: {}", accessor.getCommand(), token.substring(0, Math.min(50, token.length())) + "...");
-            
-            // 🎯 JWT 토큰을 메시지 헤더에 보존 (메시지 핸들러에서 접근 가능하도록)
-            accessor.setHeader("JWT_TOKEN", token);
-            
-            // CONNECT 명령일 때만 인증 처리
-            if (StompCommand.CONNECT.equals(accessor.getCommand())) {
-                try {
-                    // JWT 토큰 검증 (실제 구현 필요)
-                    // if (jwtUtil.validateToken(token)) {
-                    //     String userId = jwtUtil.extractUserId(token);
-                    //     accessor.setUser(() -> userId);
-                    //     log.info("✅ STOMP JWT 인증 성공: {}", userId);
-                    // } else {
-                    //     log.error("❌ STOMP JWT 토큰 검증 실패");
-                    //     return null; // 연결 거부
-                    // }
+    private StompPrincipal authenticate(String authHeader) {
+        if (authHeader == null || !authHeader.startsWith(BEARER_PREFIX)) {
+            log.warn("⚠️ STOMP CONNECT에서 Authorization 헤더 없음");
+            throw ChatExceptions.chatPermissionDenied("인증 토큰이 없습니다");
+        }
 
-                    // 임시로 인증 통과 처리
-                    log.info("✅ STOMP 연결 허용 (임시)");
+        Claims claims;
+        try {
+            claims = jwtUtil.parseClaims(authHeader.substring(BEARER_PREFIX.length()));
+        } catch (JwtException | IllegalArgumentException e) {
+            log.warn("❌ STOMP JWT 토큰 검증 실패: {}", e.getMessage());
+            throw ChatExceptions.chatPermissionDenied("유효하지 않은 인증 토큰입니다");
+        }
 
-                } catch (Exception e) {
-                    log.error("❌ STOMP JWT 처리 오류: {}", e.getMessage());
-                    return null; // 연결 거부
-                }
-            }
-        } else {
-            if (StompCommand.CONNECT.equals(accessor.getCommand())) {
-                log.warn("⚠️ STOMP CONNECT에서 Authorization 헤더 없음");
-                // 개발 환경에서는 허용, 운영에서는 거부
-                // return null;
-            } else if (StompCommand.SEND.equals(accessor.getCommand())) {
-                log.warn("⚠️ STOMP SEND에서 Authorization 헤더 없음 - 메시지: {}", accessor.getDestination());
-            }
+        Long memberId = claims.get("userId", Long.class);
+        String nickname = claims.get("nickname", String.class);
+        if (memberId != null && nickname != null) {
+            return new StompPrincipal(memberId, nickname);
         }
 
-        return message;
+        // 클레임이 부족한 토큰은 연결 시 한 번만 회원을 조회해 보완
+        Member member = (memberId != null
+                ? memberRepository.findById(memberId)
+                : memberRepository.findByEmail(claims.getSubject()))
+                .orElseThrow(() -> ChatExceptions.chatPermissionDenied("존재하지 않는 사용자입니다"));
+        return new StompPrincipal(member.getId(), member.getNickname());
     }
 }
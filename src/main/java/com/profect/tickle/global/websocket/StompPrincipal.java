@@ -0,0 +1,16 @@
+package com.profect.tickle.global.websocket;
+
+import java.security.Principal;
+
+/**
+ * STOMP CONNECT 시 JWT로 인증한 사용자
+ * 세션에 한 번 저장되어 이후 프레임마다 토큰을 다시 파싱하거나 회원을 조회하지 않는다.
+ */
+public record StompPrincipal(Long memberId, String nickname) implements Principal {
+
+    // 사용자 목적지(/user/...) 라우팅 키
+    @Override
+    public String getName() {
+        return String.valueOf(memberId);
+    }
+}
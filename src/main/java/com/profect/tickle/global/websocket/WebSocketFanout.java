@@ -0,0 +1,85 @@
+package com.profect.tickle.global.websocket;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.util.Collection;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+
+/**
+ * WebSocket 프레임 전송기
+ * 호출 스레드는 세션별 송신 대기열에 공유 프레임(TextMessage, 불변)을 넣기만 하고,
+ * 실제 전송은 세션마다 하나씩 실행되는 송신 작업이 websocketSendExecutor에서 처리한다.
+ * 대기열이 가득 찬 세션(느린 클라이언트)은 다른 세션을 막지 않도록 연결을 끊는다. (재연결 후 이력 조회로 복구)
+ */
+@Component
+@Slf4j
+public class WebSocketFanout {
+
+    private static final int OUTBOUND_CAPACITY = 256; // 세션별 최대 대기 프레임 수
+
+    private final Executor websocketSendExecutor;
+    private final ConcurrentMap<String, SessionOutbound> outbounds = new ConcurrentHashMap<>();
+
+    public WebSocketFanout(Executor websocketSendExecutor) {
+        this.websocketSendExecutor = websocketSendExecutor;
+    }
+
+    /**
+     * 세션 하나에 프레임 전송
+     */
+    public void send(WebSocketSession session, TextMessage frame) {
+        if (!session.isOpen()) {
+            return;
+        }
+        SessionOutbound outbound = outbounds.computeIfAbsent(session.getId(),
+                id -> new SessionOutbound(session, websocketSendExecutor, OUTBOUND_CAPACITY));
+        if (!outbound.offer(frame) && outbound.evict()) {
+            closeSlowConsumer(session);
+        }
+    }
+
+    /**
+     * 여러 세션에 같은 프레임 전송
+     */
+    public void broadcast(Collection<WebSocketSession> sessions, TextMessage frame) {
+        for (WebSocketSession session : sessions) {
+            send(session, frame);
+        }
+    }
+
+    /**
+     * 특정 세션을 제외하고 같은 프레임 전송
+     */
+    public void broadcastExcept(Collection<WebSocketSession> sessions, TextMessage frame, String excludeSessionId) {
+        for (WebSocketSession session : sessions) {
+            if (!session.getId().equals(excludeSessionId)) {
+                send(session, frame);
+            }
+        }
+    }
+
+    /**
+     * 연결 종료된 세션의 송신 대기열 정리
+     */
+    public void release(String sessionId) {
+        outbounds.remove(sessionId);
+    }
+
+    // 퇴출된 송신 대기열은 연결 종료 후 release 될 때까지 남겨 두어 이후 프레임을 버리게 한다.
+    private void closeSlowConsumer(WebSocketSession session) {
+        log.warn("WebSocket 송신 대기열 초과로 연결 종료: sessionId={}", session.getId());
+        websocketSendExecutor.execute(() -> {
+            try {
+                session.close(CloseStatus.SESSION_NOT_RELIABLE);
+            } catch (Exception e) {
+                log.debug("느린 세션 종료 실패: sessionId={}, error={}", session.getId(), e.getMessage());
+            }
+        });
+    }
+}
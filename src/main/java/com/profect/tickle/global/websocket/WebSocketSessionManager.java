@@ -4,76 +4,113 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 import org.springframework.web.socket.WebSocketSession;
 
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
-import java.util.Set;
 
 /**
  * 전역 WebSocket 세션 관리자
  * 모든 도메인에서 WebSocket 세션을 효율적으로 관리
+ *
+ * 세션 → (사용자, 방) 정보와 방 → 세션, 사용자 → 세션 역인덱스를 함께 유지해
+ * 조회/통계가 전체 세션 수와 무관하게 상수 시간에 끝나도록 한다.
+ *  - 세션 등록/제거는 세션 ID 단위로 원자적으로 처리되어 인덱스가 서로 어긋나지 않는다.
+ *  - 역인덱스에는 세션이 하나 이상 남은 방/사용자만 남기므로 인덱스 크기가 곧 방/사용자 수다.
  */
 @Component
 @Slf4j
 public class WebSocketSessionManager {
 
-    // 전역 세션 관리 맵들
-    private final ConcurrentMap<String, WebSocketSession> activeSessions = new ConcurrentHashMap<>();
-    private final ConcurrentMap<String, String> sessionToUserId = new ConcurrentHashMap<>();
-    private final ConcurrentMap<String, String> sessionToRoomId = new ConcurrentHashMap<>();
+    // sessionId → 세션 정보
+    private final ConcurrentMap<String, SessionEntry> sessions = new ConcurrentHashMap<>();
+    // roomId → (sessionId → 세션)
+    private final ConcurrentMap<String, ConcurrentMap<String, WebSocketSession>> roomIndex = new ConcurrentHashMap<>();
+    // userId → sessionId 목록
+    private final ConcurrentMap<String, Set<String>> userIndex = new ConcurrentHashMap<>();
 
     /**
-     * 세션 등록
+     * 세션 등록 (이미 등록된 세션이면 사용자/방 정보를 갱신)
+     * 인증 전 세션은 userId를 null로 등록하며 사용자 수에 포함되지 않는다.
      */
     public void registerSession(String sessionId, WebSocketSession session, String userId, String roomId) {
-        log.info("WebSocket 세션 등록: sessionId={}, userId={}, roomId={}", sessionId, userId, roomId);
+        log.debug("WebSocket 세션 등록: sessionId={}, userId={}, roomId={}", sessionId, userId, roomId);
 
-        activeSessions.put(sessionId, session);
-        sessionToUserId.put(sessionId, userId);
-        sessionToRoomId.put(sessionId, roomId);
-
-        log.info("현재 활성 세션 수: {}", activeSessions.size());
+        sessions.compute(sessionId, (id, previous) -> {
+            if (previous != null) {
+                unindex(id, previous);
+            }
+            SessionEntry entry = new SessionEntry(session, userId, roomId);
+            index(id, entry);
+            return entry;
+        });
     }
 
     /**
      * 세션 제거
      */
     public void removeSession(String sessionId) {
-        String userId = sessionToUserId.remove(sessionId);
-        String roomId = sessionToRoomId.remove(sessionId);
-        WebSocketSession session = activeSessions.remove(sessionId);
+        SessionEntry[] removed = new SessionEntry[1];
+        sessions.computeIfPresent(sessionId, (id, entry) -> {
+            unindex(id, entry);
+            removed[0] = entry;
+            return null;
+        });
 
-        if (session != null) {
-            log.info("WebSocket 세션 제거: sessionId={}, userId={}, roomId={}", sessionId, userId, roomId);
+        if (removed[0] != null) {
+            log.debug("WebSocket 세션 제거: sessionId={}, userId={}, roomId={}",
+                    sessionId, removed[0].userId(), removed[0].roomId());
         }
-
-        log.info("현재 활성 세션 수: {}", activeSessions.size());
     }
 
     /**
      * 특정 사용자의 세션 조회
      */
     public Set<String> getSessionsByUserId(String userId) {
-        return sessionToUserId.entrySet().stream()
-                .filter(entry -> userId.equals(entry.getValue()))
-                .map(entry -> entry.getKey())
-                .collect(java.util.stream.Collectors.toSet());
+        Set<String> sessionIds = userIndex.get(userId);
+        return sessionIds != null ? Collections.unmodifiableSet(sessionIds) : Set.of();
     }
 
     /**
      * 특정 방의 세션 조회
      */
     public Set<String> getSessionsByRoomId(String roomId) {
-        return sessionToRoomId.entrySet().stream()
-                .filter(entry -> roomId.equals(entry.getValue()))
-                .map(entry -> entry.getKey())
-                .collect(java.util.stream.Collectors.toSet());
+        Map<String, WebSocketSession> roomSessions = roomIndex.get(roomId);
+        return roomSessions != null ? Collections.unmodifiableSet(roomSessions.keySet()) : Set.of();
+    }
+
+    /**
+     * 특정 방의 세션 목록 (브로드캐스트용)
+     */
+    public Collection<WebSocketSession> getSessionsInRoom(String roomId) {
+        Map<String, WebSocketSession> roomSessions = roomIndex.get(roomId);
+        return roomSessions != null ? Collections.unmodifiableCollection(roomSessions.values()) : Set.of();
     }
 
     /**
      * 세션 조회
      */
     public WebSocketSession getSession(String sessionId) {
-        return activeSessions.get(sessionId);
+        SessionEntry entry = sessions.get(sessionId);
+        return entry != null ? entry.session() : null;
+    }
+
+    /**
+     * 세션의 사용자 ID 조회 (인증 전이면 null)
+     */
+    public String getUserId(String sessionId) {
+        SessionEntry entry = sessions.get(sessionId);
+        return entry != null ? entry.userId() : null;
+    }
+
+    /**
+     * 세션의 방 ID 조회
+     */
+    public String getRoomId(String sessionId) {
+        SessionEntry entry = sessions.get(sessionId);
+        return entry != null ? entry.roomId() : null;
     }
 
     /**
@@ -81,9 +118,46 @@ public class WebSocketSessionManager {
      */
     public WebSocketStats getStats() {
         return WebSocketStats.builder()
-                .totalSessions(activeSessions.size())
-                .totalUsers(sessionToUserId.values().stream().collect(java.util.stream.Collectors.toSet()).size())
-                .totalRooms(sessionToRoomId.values().stream().collect(java.util.stream.Collectors.toSet()).size())
+                .totalSessions(sessions.size())
+                .totalUsers(userIndex.size())
+                .totalRooms(roomIndex.size())
                 .build();
     }
+
+    // 빈 인덱스 제거와 경합하지 않도록 추가도 compute 안에서 처리
+    private void index(String sessionId, SessionEntry entry) {
+        if (entry.roomId() != null) {
+            roomIndex.compute(entry.roomId(), (k, roomSessions) -> {
+                ConcurrentMap<String, WebSocketSession> target = roomSessions != null ? roomSessions : new ConcurrentHashMap<>();
+                target.put(sessionId, entry.session());
+                return target;
+            });
+        }
+        if (entry.userId() != null) {
+            userIndex.compute(entry.userId(), (k, sessionIds) -> {
+                Set<String> target = sessionIds != null ? sessionIds : ConcurrentHashMap.newKeySet();
+                target.add(sessionId);
+                return target;
+            });
+        }
+    }
+
+    // 마지막 세션이 빠진 방/사용자는 인덱스에서 제거
+    private void unindex(String sessionId, SessionEntry entry) {
+        if (entry.roomId() != null) {
+            roomIndex.computeIfPresent(entry.roomId(), (k, roomSessions) -> {
+                roomSessions.remove(sessionId);
+                return roomSessions.isEmpty() ? null : roomSessions;
+            });
+        }
+        if (entry.userId() != null) {
+            userIndex.computeIfPresent(entry.userId(), (k, sessionIds) -> {
+                sessionIds.remove(sessionId);
+                return sessionIds.isEmpty() ? null : sessionIds;
+            });
+        }
+    }
+
+    private record SessionEntry(WebSocketSession session, String userId, String roomId) {
+    }
 }
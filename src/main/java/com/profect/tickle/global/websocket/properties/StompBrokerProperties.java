@@ -0,0 +1,27 @@
+package com.profect.tickle.global.websocket.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * STOMP 브로커 설정
+ *  - SIMPLE: 애플리케이션 내장 브로커 (단일 노드, 기본값)
+ *  - RELAY: 외부 STOMP 브로커(RabbitMQ STOMP 플러그인, ActiveMQ 등)로 중계해 여러 노드의 세션이 같은 토픽을 구독
+ */
+@ConfigurationProperties(prefix = "chat.broker")
+public record StompBrokerProperties(
+        @DefaultValue("SIMPLE") Mode mode,
+        @DefaultValue("localhost") String relayHost,
+        @DefaultValue("61613") int relayPort,
+        @DefaultValue("guest") String clientLogin,
+        @DefaultValue("guest") String clientPasscode,
+        @DefaultValue("guest") String systemLogin,
+        @DefaultValue("guest") String systemPasscode,
+        String virtualHost
+) {
+
+    public enum Mode {
+        SIMPLE,
+        RELAY
+    }
+}
@@ -0,0 +1,160 @@
+package com.profect.tickle.batch.settlement;
+
+import com.profect.tickle.domain.member.entity.Member;
+import com.profect.tickle.domain.member.repository.MemberRepository;
+import com.profect.tickle.domain.settlement.dto.batch.SettlementDetailFindTargetDto;
+import com.profect.tickle.domain.settlement.dto.batch.SettlementDetailRow;
+import com.profect.tickle.domain.settlement.mapper.SettlementDetailMapper;
+import com.profect.tickle.domain.settlement.service.SettlementDetailService;
+import com.profect.tickle.global.status.Status;
+import com.profect.tickle.global.status.repository.StatusRepository;
+import com.profect.tickle.global.status.service.StatusProvider;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.batch.item.ExecutionContext;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 정산 대상 100,000건 건별정산 배치 소요 시간 비교
+ * DB 왕복마다 ROUND_TRIP_NANOS만큼 지연되는 mapper/repository로
+ * 건마다 주최자, 예매상태를 조회하던 방식(before)과 ID만 쓰는 방식(after)을 같은 reader → 연산 → chunk insert 경로로 실행한다.
+ * 실행 시간이 길어 일반 빌드에서는 제외된다. (./gradlew benchmark)
+ */
+@Tag("benchmark")
+@DisplayName("건별정산 배치 엔티티 조회 제거 벤치마크")
+class SettlementDetailBatchBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(SettlementDetailBatchBenchmarkTest.class);
+
+    private static final int TARGETS = 100_000;
+    private static final int CHUNK_SIZE = 500;
+    private static final int HOSTS = 200;
+    private static final long ROUND_TRIP_NANOS = 10_000;
+    private static final Instant UNTIL = Instant.parse("2025-01-01T00:01:00Z");
+
+    private final AtomicInteger roundTrips = new AtomicInteger();
+    private final AtomicInteger inserted = new AtomicInteger();
+
+    private SettlementDetailMapper settlementDetailMapper;
+    private MemberRepository memberRepository;
+    private StatusRepository statusRepository;
+    private SettlementDetailService settlementDetailService;
+
+    @BeforeEach
+    void setUp() {
+        settlementDetailMapper = mock(SettlementDetailMapper.class);
+        memberRepository = mock(MemberRepository.class);
+        statusRepository = mock(StatusRepository.class);
+        settlementDetailService = new SettlementDetailService(settlementDetailMapper, mock(StatusProvider.class));
+
+        // 변경 ID 1..TARGETS를 keyset 페이지로 반환
+        willAnswer(invocation -> {
+            long after = invocation.getArgument(0);
+            int limit = invocation.getArgument(5);
+            roundTrip();
+            List<SettlementDetailFindTargetDto> page = new ArrayList<>();
+            for (long id = after + 1; id <= Math.min(after + limit, TARGETS); id++) {
+                page.add(target(id));
+            }
+            return page;
+        }).given(settlementDetailMapper).findTargetReservations(anyLong(), anyLong(), anyLong(), anyLong(), any(), anyInt());
+        willAnswer(invocation -> {
+            roundTrip();
+            List<SettlementDetailRow> rows = invocation.getArgument(0);
+            inserted.addAndGet(rows.size());
+            return rows.stream().map(SettlementDetailRow::changeLogId).toList();
+        }).given(settlementDetailMapper).insertSettlementDetail(anyList());
+
+        Member member = mock(Member.class);
+        Status status = mock(Status.class);
+        willAnswer(invocation -> {
+            roundTrip();
+            return Optional.of(member);
+        }).given(memberRepository).findById(anyLong());
+        willAnswer(invocation -> {
+            roundTrip();
+            return Optional.of(status);
+        }).given(statusRepository).findById(anyLong());
+    }
+
+    @Test
+    @DisplayName("건마다 엔티티를 조회하지 않으면 100,000건 배치의 DB 왕복과 소요 시간이 줄어듦")
+    void shouldRunFasterWithoutPerRowLookups() throws Exception {
+        // When
+        long beforeStart = System.nanoTime();
+        runBatch(true);
+        long beforeNanos = System.nanoTime() - beforeStart;
+        int beforeRoundTrips = roundTrips.getAndSet(0);
+        int beforeInserted = inserted.getAndSet(0);
+
+        long afterStart = System.nanoTime();
+        runBatch(false);
+        long afterNanos = System.nanoTime() - afterStart;
+        int afterRoundTrips = roundTrips.get();
+
+        // Then
+        log.info("[settlement detail {} rows] before: {} ms ({} round trips), after: {} ms ({} round trips)",
+                TARGETS, beforeNanos / 1_000_000, beforeRoundTrips, afterNanos / 1_000_000, afterRoundTrips);
+
+        assertThat(beforeInserted).isEqualTo(TARGETS);
+        assertThat(inserted.get()).isEqualTo(TARGETS);
+        // 페이지 조회 + chunk insert만 남음
+        assertThat(afterRoundTrips).isEqualTo(2 * (TARGETS / CHUNK_SIZE) + 1);
+        assertThat(beforeRoundTrips).isEqualTo(afterRoundTrips + 2 * TARGETS);
+        assertThat(afterNanos).isLessThan(beforeNanos);
+    }
+
+    private void runBatch(boolean lookupPerRow) throws Exception {
+        SettlementDetailTargetReader reader = new SettlementDetailTargetReader(settlementDetailMapper,
+                0L, TARGETS, UNTIL, 1L, HOSTS, CHUNK_SIZE);
+        reader.open(new ExecutionContext());
+
+        List<SettlementDetailRow> chunk = new ArrayList<>(CHUNK_SIZE);
+        SettlementDetailFindTargetDto target;
+        while ((target = reader.read()) != null) {
+            if (lookupPerRow) {
+                // 변경 전: 건마다 주최자, 예매상태 엔티티 조회
+                memberRepository.findById(target.getMemberId());
+                statusRepository.findById(target.getReservationStatusId());
+            }
+            chunk.add(settlementDetailService.calculate(target, UNTIL));
+            if (chunk.size() == CHUNK_SIZE) {
+                settlementDetailService.insert(chunk);
+                chunk.clear();
+            }
+        }
+        settlementDetailService.insert(chunk);
+        reader.close();
+    }
+
+    // DB 왕복 지연 (parkNanos는 해상도가 낮아 busy wait)
+    private void roundTrip() {
+        roundTrips.incrementAndGet();
+        long deadline = System.nanoTime() + ROUND_TRIP_NANOS;
+        while (System.nanoTime() < deadline) {
+            Thread.onSpinWait();
+        }
+    }
+
+    private SettlementDetailFindTargetDto target(long changeId) {
+        long statusId = changeId % 10 == 0 ? 10L : 9L;
+        return new SettlementDetailFindTargetDto(changeId, changeId % HOSTS + 1, statusId,
+                "공연" + changeId % HOSTS, UNTIL.plusSeconds(86_400), "R" + changeId,
+                50_000L, new BigDecimal("0.10"), null);
+    }
+}
@@ -0,0 +1,115 @@
+package com.profect.tickle.batch.settlement;
+
+import com.profect.tickle.domain.settlement.dto.batch.SettlementDetailFindTargetDto;
+import com.profect.tickle.domain.settlement.mapper.SettlementDetailMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.batch.item.ExecutionContext;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("건별정산 reader/파티셔너 단위 테스트")
+class SettlementDetailTargetReaderTest {
+
+    private static final Instant UNTIL = Instant.parse("2025-01-01T00:01:00Z");
+
+    @Mock
+    private SettlementDetailMapper settlementDetailMapper;
+
+    @Test
+    @DisplayName("처리 구간의 변경 ID keyset으로 페이지를 이어 읽음")
+    void shouldReadPagesByKeyset() throws Exception {
+        // Given
+        given(settlementDetailMapper.findTargetReservations(100L, 200L, 1L, 10L, UNTIL, 2))
+                .willReturn(List.of(target(101L), target(102L)));
+        given(settlementDetailMapper.findTargetReservations(102L, 200L, 1L, 10L, UNTIL, 2))
+                .willReturn(List.of(target(105L)));
+        SettlementDetailTargetReader reader = reader();
+
+        // When
+        reader.open(new ExecutionContext());
+
+        // Then
+        assertThat(reader.read().getChangeId()).isEqualTo(101L);
+        assertThat(reader.read().getChangeId()).isEqualTo(102L);
+        assertThat(reader.read().getChangeId()).isEqualTo(105L);
+        assertThat(reader.read()).isNull();
+        then(settlementDetailMapper).should(times(2))
+                .findTargetReservations(anyLong(), anyLong(), anyLong(), anyLong(), any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("재시작 시 마지막으로 커밋된 변경 ID 다음부터 읽음")
+    void shouldResumeFromSavedChangeId() throws Exception {
+        // Given
+        SettlementDetailTargetReader first = reader();
+        given(settlementDetailMapper.findTargetReservations(100L, 200L, 1L, 10L, UNTIL, 2))
+                .willReturn(List.of(target(103L), target(104L)));
+        ExecutionContext context = new ExecutionContext();
+        first.open(context);
+        first.read();
+        first.read();
+        first.update(context); // chunk 커밋
+
+        given(settlementDetailMapper.findTargetReservations(104L, 200L, 1L, 10L, UNTIL, 2))
+                .willReturn(List.of(target(107L)));
+
+        // When
+        SettlementDetailTargetReader restarted = reader();
+        restarted.open(context);
+
+        // Then
+        assertThat(restarted.read().getChangeId()).isEqualTo(107L);
+        assertThat(restarted.read()).isNull();
+    }
+
+    @Test
+    @DisplayName("변경이 있는 주최자 ID를 겹치지 않는 구간으로 나눔")
+    void shouldPartitionHostIdsIntoRanges() {
+        // Given
+        given(settlementDetailMapper.findChangedHostIds(100L, 200L)).willReturn(List.of(3L, 5L, 8L, 13L, 21L));
+        SettlementHostPartitioner partitioner = new SettlementHostPartitioner(settlementDetailMapper, 100L, 200L);
+
+        // When
+        Map<String, ExecutionContext> partitions = partitioner.partition(2);
+
+        // Then
+        assertThat(partitions).hasSize(2);
+        assertThat(partitions.get("hosts0").getLong(SettlementHostPartitioner.MIN_HOST_ID)).isEqualTo(3L);
+        assertThat(partitions.get("hosts0").getLong(SettlementHostPartitioner.MAX_HOST_ID)).isEqualTo(5L);
+        assertThat(partitions.get("hosts1").getLong(SettlementHostPartitioner.MIN_HOST_ID)).isEqualTo(8L);
+        assertThat(partitions.get("hosts1").getLong(SettlementHostPartitioner.MAX_HOST_ID)).isEqualTo(21L);
+    }
+
+    @Test
+    @DisplayName("처리 구간이 비어 있으면 주최자를 조회하지 않고 파티션 없음")
+    void shouldSkipWhenWindowIsEmpty() {
+        // Given
+        SettlementHostPartitioner partitioner = new SettlementHostPartitioner(settlementDetailMapper, 200L, 200L);
+
+        // When
+        Map<String, ExecutionContext> partitions = partitioner.partition(4);
+
+        // Then
+        assertThat(partitions).isEmpty();
+        then(settlementDetailMapper).shouldHaveNoInteractions();
+    }
+
+    private SettlementDetailTargetReader reader() {
+        return new SettlementDetailTargetReader(settlementDetailMapper, 100L, 200L, UNTIL, 1L, 10L, 2);
+    }
+
+    private SettlementDetailFindTargetDto target(long changeId) {
+        return new SettlementDetailFindTargetDto(changeId, 1L, 9L, "공연", UNTIL, "R" + changeId, 10_000L, null, null);
+    }
+}
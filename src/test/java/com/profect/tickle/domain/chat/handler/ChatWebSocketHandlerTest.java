@@ -11,6 +11,7 @@ import com.profect.tickle.domain.chat.service.ChatParticipantsService;
 import com.profect.tickle.domain.chat.service.OnlineUserService;
 import com.profect.tickle.domain.member.entity.Member;
 import com.profect.tickle.domain.member.repository.MemberRepository;
+import com.profect.tickle.global.websocket.WebSocketFanout;
 import com.profect.tickle.global.websocket.WebSocketSessionManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -18,6 +19,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
@@ -29,9 +31,8 @@ import org.springframework.web.socket.WebSocketSession;
 import java.net.URI;
 import java.time.Instant;
 import java.util.Optional;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentMap;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
@@ -62,8 +63,11 @@ class ChatWebSocketHandlerTest {
     @Mock
     private OnlineUserService onlineUserService;
 
-    @Mock
-    private WebSocketSessionManager sessionManager;
+    @Spy
+    private WebSocketSessionManager sessionManager = new WebSocketSessionManager();
+
+    @Spy
+    private WebSocketFanout webSocketFanout = new WebSocketFanout(Runnable::run); // 호출 스레드에서 바로 전송
 
     @Mock
     private ObjectMapper objectMapper;
@@ -80,23 +84,11 @@ class ChatWebSocketHandlerTest {
     private final String SESSION_ID = "session123";
     private final String MEMBER_NICKNAME = "testUser";
 
-    // Handler 내부 맵 접근을 위한 필드
-    private ConcurrentMap<Long, ConcurrentMap<String, WebSocketSession>> roomSessions;
-    private ConcurrentMap<String, Long> sessionToUserId;
-
     @BeforeEach
     void setUp() {
         // WebSocketSession Mock 설정
         when(webSocketSession.getId()).thenReturn(SESSION_ID);
         when(webSocketSession.isOpen()).thenReturn(true);
-
-        // Handler 내부 맵 초기화
-        roomSessions = new ConcurrentHashMap<>();
-        sessionToUserId = new ConcurrentHashMap<>();
-        
-        // ReflectionTestUtils를 사용해서 private 필드에 접근
-        ReflectionTestUtils.setField(chatWebSocketHandler, "roomSessions", roomSessions);
-        ReflectionTestUtils.setField(chatWebSocketHandler, "sessionToUserId", sessionToUserId);
     }
 
     @Test
@@ -115,7 +107,7 @@ class ChatWebSocketHandlerTest {
         verify(sessionManager).registerSession(
             eq(SESSION_ID), 
             eq(webSocketSession), 
-            eq("unknown"), 
+            isNull(), 
             eq("1")
         );
         verify(objectMapper).writeValueAsString(any(WebSocketMessageResponseDto.class));
@@ -134,7 +126,7 @@ class ChatWebSocketHandlerTest {
 
         // Then
         verify(webSocketSession).close(any(CloseStatus.class));
-        verify(sessionManager, never()).registerSession(anyString(), any(), anyString(), anyString());
+        verify(sessionManager, never()).registerSession(anyString(), any(), any(), anyString());
     }
 
     @Test
@@ -308,6 +300,8 @@ class ChatWebSocketHandlerTest {
         // Then
         verify(onlineUserService).removeOnlineUser(SESSION_ID);
         verify(sessionManager).removeSession(SESSION_ID);
+        assertThat(sessionManager.getSessionsByRoomId(CHAT_ROOM_ID.toString())).isEmpty();
+        assertThat(sessionManager.getSessionsByUserId(MEMBER_ID.toString())).isEmpty();
     }
 
     @Test
@@ -369,13 +363,13 @@ class ChatWebSocketHandlerTest {
     // === Helper Methods ===
 
     private void setUpConnectedSession() {
-        ConcurrentMap<String, WebSocketSession> sessions = new ConcurrentHashMap<>();
-        sessions.put(SESSION_ID, webSocketSession);
-        roomSessions.put(CHAT_ROOM_ID, sessions);
+        sessionManager.registerSession(SESSION_ID, webSocketSession, null, CHAT_ROOM_ID.toString());
+        clearInvocations(sessionManager);
     }
 
     private void setUpJoinedUser() {
-        sessionToUserId.put(SESSION_ID, MEMBER_ID);
+        sessionManager.registerSession(SESSION_ID, webSocketSession, MEMBER_ID.toString(), CHAT_ROOM_ID.toString());
+        clearInvocations(sessionManager);
     }
 
     private void setUpMultipleUsers() {
@@ -384,9 +378,7 @@ class ChatWebSocketHandlerTest {
         when(otherSession.getId()).thenReturn("session456");
         when(otherSession.isOpen()).thenReturn(true);
         
-        ConcurrentMap<String, WebSocketSession> sessions = roomSessions.get(CHAT_ROOM_ID);
-        sessions.put("session456", otherSession);
-        sessionToUserId.put("session456", 200L);
+        sessionManager.registerSession("session456", otherSession, "200", CHAT_ROOM_ID.toString());
     }
 
     private WebSocketMessageRequestDto createJoinMessage() {
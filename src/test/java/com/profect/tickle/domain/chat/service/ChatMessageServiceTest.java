@@ -1,6 +1,7 @@
 package com.profect.tickle.domain.chat.service;
 
 import com.profect.tickle.domain.chat.dto.request.ChatMessageSendRequestDto;
+import com.profect.tickle.domain.chat.dto.response.ChatMessageListResponseDto;
 import com.profect.tickle.domain.chat.dto.response.ChatMessageResponseDto;
 
 import com.profect.tickle.domain.chat.dto.response.ChatMessageFileDownloadDto;
@@ -12,20 +13,34 @@ import com.profect.tickle.domain.chat.repository.ChatRepository;
 import com.profect.tickle.domain.chat.repository.ChatRoomRepository;
 import com.profect.tickle.domain.chat.repository.ChatParticipantsRepository;
 import com.profect.tickle.domain.chat.mapper.ChatMessageMapper;
+import com.profect.tickle.domain.chat.service.unread.ChatUnreadCounter;
+import com.profect.tickle.domain.chat.service.writebehind.ChatMessageIdAllocator;
+import com.profect.tickle.domain.chat.service.writebehind.ChatMessageWriter;
+import com.profect.tickle.domain.chat.service.writebehind.ChatSenderCache;
+import com.profect.tickle.domain.chat.service.writebehind.PendingChatMessage;
 import com.profect.tickle.domain.file.service.FileService;
 import com.profect.tickle.domain.member.entity.Member;
 import com.profect.tickle.domain.member.entity.MemberRole;
 import com.profect.tickle.domain.member.repository.MemberRepository;
+import com.profect.tickle.global.exception.BusinessException;
+import com.profect.tickle.global.exception.ErrorCode;
+import com.profect.tickle.global.websocket.StompDestinations;
+import com.profect.tickle.global.websocket.properties.StompBrokerProperties;
+import com.profect.tickle.global.websocket.properties.StompBrokerProperties.Mode;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.*;
@@ -57,6 +72,22 @@ class ChatMessageServiceTest {
     @Mock
     private SimpMessagingTemplate simpMessagingTemplate;
 
+    @Spy
+    private StompDestinations stompDestinations = new StompDestinations(
+            new StompBrokerProperties(Mode.SIMPLE, "localhost", 61613, "guest", "guest", "guest", "guest", null));
+
+    @Mock
+    private ChatSenderCache chatSenderCache;
+
+    @Mock
+    private ChatMessageIdAllocator chatMessageIdAllocator;
+
+    @Mock
+    private ChatMessageWriter chatMessageWriter;
+
+    @Mock
+    private ChatUnreadCounter chatUnreadCounter;
+
     @InjectMocks
     private ChatMessageService chatMessageService;
 
@@ -70,28 +101,26 @@ class ChatMessageServiceTest {
         Long senderId = 1L;
         ChatMessageSendRequestDto requestDto = createTextMessageRequest("안녕하세요");
         
-        ChatRoom chatRoom = createTestChatRoom(chatRoomId, true);
-        Member sender = createTestMember(senderId);
-        Chat savedMessage = createTestChat(1L, sender, chatRoomId, "안녕하세요");
-        
-        given(chatRoomRepository.findById(chatRoomId)).willReturn(Optional.of(chatRoom));
-        given(memberRepository.findById(senderId)).willReturn(Optional.of(sender));
-        given(chatParticipantsRepository.existsByChatRoomAndMemberAndStatusTrue(chatRoom, sender)).willReturn(true);
-        given(chatRepository.save(any(Chat.class))).willReturn(savedMessage);
+        given(chatSenderCache.findNickname(chatRoomId, senderId)).willReturn(Optional.of("테스터1"));
+        given(chatMessageIdAllocator.next()).willReturn(100L);
         
         // When
         ChatMessageResponseDto result = chatMessageService.sendMessage(chatRoomId, senderId, requestDto);
         
         // Then
         assertThat(result).isNotNull();
+        assertThat(result.getId()).isEqualTo(100L);
         assertThat(result.getContent()).isEqualTo("안녕하세요");
         assertThat(result.getMessageType()).isEqualTo(ChatMessageType.TEXT);
-        assertThat(result.getSenderNickname()).isEqualTo(sender.getNickname());
+        assertThat(result.getSenderNickname()).isEqualTo("테스터1");
         
-        verify(chatRepository).save(any(Chat.class));
-        verify(chatRoomRepository).findById(chatRoomId);
-        verify(memberRepository).findById(senderId);
-        verify(chatParticipantsRepository).existsByChatRoomAndMemberAndStatusTrue(chatRoom, sender);
+        ArgumentCaptor<PendingChatMessage> captor = ArgumentCaptor.forClass(PendingChatMessage.class);
+        verify(chatMessageWriter).enqueue(captor.capture());
+        assertThat(captor.getValue().id()).isEqualTo(100L);
+        assertThat(captor.getValue().chatRoomId()).isEqualTo(chatRoomId);
+        assertThat(captor.getValue().memberId()).isEqualTo(senderId);
+        verify(chatRepository, never()).save(any(Chat.class));
+        verify(chatUnreadCounter).onMessageSent(chatRoomId, senderId, 100L);
     }
 
     @Test
@@ -102,18 +131,13 @@ class ChatMessageServiceTest {
         Long senderId = 1L;
         ChatMessageSendRequestDto requestDto = createTextMessageRequest("");
         
-        ChatRoom chatRoom = createTestChatRoom(chatRoomId, true);
-        Member sender = createTestMember(senderId);
-        
-        given(chatRoomRepository.findById(chatRoomId)).willReturn(Optional.of(chatRoom));
-        given(memberRepository.findById(senderId)).willReturn(Optional.of(sender));
-        given(chatParticipantsRepository.existsByChatRoomAndMemberAndStatusTrue(chatRoom, sender)).willReturn(true);
+        given(chatSenderCache.findNickname(chatRoomId, senderId)).willReturn(Optional.of("테스터1"));
         
         // When & Then
         assertThatThrownBy(() -> chatMessageService.sendMessage(chatRoomId, senderId, requestDto))
                 .isInstanceOf(RuntimeException.class); // ChatExceptions.chatMessageEmptyContent()
         
-        verify(chatRepository, never()).save(any(Chat.class));
+        verify(chatMessageWriter, never()).enqueue(any());
     }
 
     @Test
@@ -125,18 +149,13 @@ class ChatMessageServiceTest {
         String longContent = "a".repeat(256); // 256자
         ChatMessageSendRequestDto requestDto = createTextMessageRequest(longContent);
         
-        ChatRoom chatRoom = createTestChatRoom(chatRoomId, true);
-        Member sender = createTestMember(senderId);
-        
-        given(chatRoomRepository.findById(chatRoomId)).willReturn(Optional.of(chatRoom));
-        given(memberRepository.findById(senderId)).willReturn(Optional.of(sender));
-        given(chatParticipantsRepository.existsByChatRoomAndMemberAndStatusTrue(chatRoom, sender)).willReturn(true);
+        given(chatSenderCache.findNickname(chatRoomId, senderId)).willReturn(Optional.of("테스터1"));
         
         // When & Then
         assertThatThrownBy(() -> chatMessageService.sendMessage(chatRoomId, senderId, requestDto))
                 .isInstanceOf(RuntimeException.class); // ChatExceptions.chatMessageTooLong()
         
-        verify(chatRepository, never()).save(any(Chat.class));
+        verify(chatMessageWriter, never()).enqueue(any());
     }
 
     @Test
@@ -147,14 +166,8 @@ class ChatMessageServiceTest {
         Long senderId = 1L;
         ChatMessageSendRequestDto requestDto = createFileMessageRequest();
         
-        ChatRoom chatRoom = createTestChatRoom(chatRoomId, true);
-        Member sender = createTestMember(senderId);
-        Chat savedMessage = createTestFileChat(1L, sender, chatRoomId);
-        
-        given(chatRoomRepository.findById(chatRoomId)).willReturn(Optional.of(chatRoom));
-        given(memberRepository.findById(senderId)).willReturn(Optional.of(sender));
-        given(chatParticipantsRepository.existsByChatRoomAndMemberAndStatusTrue(chatRoom, sender)).willReturn(true);
-        given(chatRepository.save(any(Chat.class))).willReturn(savedMessage);
+        given(chatSenderCache.findNickname(chatRoomId, senderId)).willReturn(Optional.of("테스터1"));
+        given(chatMessageIdAllocator.next()).willReturn(101L);
         
         // When
         ChatMessageResponseDto result = chatMessageService.sendMessage(chatRoomId, senderId, requestDto);
@@ -164,7 +177,7 @@ class ChatMessageServiceTest {
         assertThat(result.getMessageType()).isEqualTo(ChatMessageType.FILE);
         assertThat(result.getFileName()).isEqualTo("test-file.txt");
         
-        verify(chatRepository).save(any(Chat.class));
+        verify(chatMessageWriter).enqueue(any(PendingChatMessage.class));
     }
 
     @Test
@@ -180,18 +193,65 @@ class ChatMessageServiceTest {
                 .fileName(null) // 파일명 누락
                 .build();
         
-        ChatRoom chatRoom = createTestChatRoom(chatRoomId, true);
-        Member sender = createTestMember(senderId);
-        
-        given(chatRoomRepository.findById(chatRoomId)).willReturn(Optional.of(chatRoom));
-        given(memberRepository.findById(senderId)).willReturn(Optional.of(sender));
-        given(chatParticipantsRepository.existsByChatRoomAndMemberAndStatusTrue(chatRoom, sender)).willReturn(true);
+        given(chatSenderCache.findNickname(chatRoomId, senderId)).willReturn(Optional.of("테스터1"));
         
         // When & Then
         assertThatThrownBy(() -> chatMessageService.sendMessage(chatRoomId, senderId, requestDto))
                 .isInstanceOf(RuntimeException.class); // ChatExceptions.chatMessageMissingFileInfo()
         
-        verify(chatRepository, never()).save(any(Chat.class));
+        verify(chatMessageWriter, never()).enqueue(any());
+    }
+
+    @Test
+    @DisplayName("TC-MESSAGE-005-1: 내용 없는 파일 메시지는 파일명을 내용으로 저장")
+    void shouldUseFileNameAsContentWhenFileMessageHasNoContent() {
+        // Given
+        Long chatRoomId = 1L;
+        Long senderId = 1L;
+        ChatMessageSendRequestDto requestDto = ChatMessageSendRequestDto.builder()
+                .messageType(ChatMessageType.IMAGE)
+                .filePath("/uploads/chat/photo.png")
+                .fileName("photo.png")
+                .fileSize(2048)
+                .fileType("image/png")
+                .build();
+
+        given(chatSenderCache.findNickname(chatRoomId, senderId)).willReturn(Optional.of("테스터1"));
+        given(chatMessageIdAllocator.next()).willReturn(102L);
+
+        // When
+        chatMessageService.sendMessage(chatRoomId, senderId, requestDto);
+
+        // Then
+        ArgumentCaptor<PendingChatMessage> captor = ArgumentCaptor.forClass(PendingChatMessage.class);
+        verify(chatMessageWriter).enqueue(captor.capture());
+        assertThat(captor.getValue().content()).isEqualTo("photo.png");
+    }
+
+    @Test
+    @DisplayName("TC-MESSAGE-005-2: 컬럼 길이를 넘는 파일 정보는 대기열에 넣기 전에 거절")
+    void shouldFailWhenFileInfoExceedsColumnLength() {
+        // Given
+        Long chatRoomId = 1L;
+        Long senderId = 1L;
+        ChatMessageSendRequestDto requestDto = ChatMessageSendRequestDto.builder()
+                .messageType(ChatMessageType.FILE)
+                .content("파일을 업로드했습니다.")
+                .filePath("/uploads/chat/test-file.txt")
+                .fileName("test-file.txt")
+                .fileSize(1024)
+                .fileType("x".repeat(101))
+                .build();
+
+        given(chatSenderCache.findNickname(chatRoomId, senderId)).willReturn(Optional.of("테스터1"));
+
+        // When & Then
+        assertThatThrownBy(() -> chatMessageService.sendMessage(chatRoomId, senderId, requestDto))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.CHAT_MESSAGE_FILE_INFO_TOO_LONG);
+
+        verify(chatMessageWriter, never()).enqueue(any());
     }
 
     @Test
@@ -203,17 +263,66 @@ class ChatMessageServiceTest {
         ChatMessageSendRequestDto requestDto = createTextMessageRequest("안녕하세요");
         
         ChatRoom chatRoom = createTestChatRoom(chatRoomId, true);
-        Member sender = createTestMember(senderId);
         
+        given(chatSenderCache.findNickname(chatRoomId, senderId)).willReturn(Optional.empty());
         given(chatRoomRepository.findById(chatRoomId)).willReturn(Optional.of(chatRoom));
-        given(memberRepository.findById(senderId)).willReturn(Optional.of(sender));
-        given(chatParticipantsRepository.existsByChatRoomAndMemberAndStatusTrue(chatRoom, sender)).willReturn(false);
+        given(memberRepository.existsById(senderId)).willReturn(true);
         
         // When & Then
         assertThatThrownBy(() -> chatMessageService.sendMessage(chatRoomId, senderId, requestDto))
-                .isInstanceOf(RuntimeException.class); // ChatExceptions.chatNotParticipant()
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.CHAT_NOT_PARTICIPANT);
         
-        verify(chatRepository, never()).save(any(Chat.class));
+        verify(chatMessageWriter, never()).enqueue(any());
+    }
+
+    // ===== 메시지 목록 조회 테스트 =====
+
+    @Test
+    @DisplayName("TC-HISTORY-001: 다음 페이지가 있으면 마지막 메시지 기준 커서 반환")
+    void shouldReturnNextCursorWhenMoreMessagesExist() {
+        // Given
+        Long chatRoomId = 1L;
+        Long memberId = 1L;
+        ChatRoom chatRoom = createTestChatRoom(chatRoomId, true);
+        Member member = createTestMember(memberId);
+
+        given(chatRoomRepository.findById(chatRoomId)).willReturn(Optional.of(chatRoom));
+        given(memberRepository.findById(memberId)).willReturn(Optional.of(member));
+        given(chatParticipantsRepository.existsByChatRoomAndMemberAndStatusTrue(chatRoom, member)).willReturn(true);
+        given(chatMessageMapper.findMessagesBefore(chatRoomId, memberId, null, 3))
+                .willReturn(createHistory(30L, 29L, 28L));
+
+        // When
+        ChatMessageListResponseDto first = chatMessageService.getMessages(chatRoomId, memberId, null, 2);
+
+        // Then
+        assertThat(first.getMessages()).extracting(ChatMessageResponseDto::getId).containsExactly(30L, 29L);
+        assertThat(first.getPagination().getHasNext()).isTrue();
+
+        // 다음 페이지는 커서의 메시지 ID 이전부터 조회
+        given(chatMessageMapper.findMessagesBefore(chatRoomId, memberId, 29L, 3))
+                .willReturn(createHistory(28L));
+
+        ChatMessageListResponseDto second = chatMessageService.getMessages(
+                chatRoomId, memberId, first.getPagination().getNextCursor(), 2);
+
+        assertThat(second.getMessages()).extracting(ChatMessageResponseDto::getId).containsExactly(28L);
+        assertThat(second.getPagination().getHasNext()).isFalse();
+        assertThat(second.getPagination().getNextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("TC-HISTORY-002: 잘못된 커서로 조회 시 실패")
+    void shouldFailWhenCursorIsInvalid() {
+        // When & Then
+        assertThatThrownBy(() -> chatMessageService.getMessages(1L, 1L, "not-a-cursor", 50))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.INVALID_INPUT_VALUE);
+
+        verify(chatMessageMapper, never()).findMessagesBefore(any(), any(), any(), anyInt());
     }
 
     // ===== 메시지 수정 테스트 =====
@@ -307,6 +416,7 @@ class ChatMessageServiceTest {
         
         verify(chatRepository).findById(messageId);
         verify(simpMessagingTemplate).convertAndSend(eq("/topic/chat/" + message.getChatRoomId()), any(Object.class));
+        verify(chatUnreadCounter).onMessageDeleted(1L, deleterId, messageId);
     }
 
     @Test
@@ -402,6 +512,14 @@ class ChatMessageServiceTest {
                 .build();
     }
     
+    private List<ChatMessageResponseDto> createHistory(Long... ids) {
+        List<ChatMessageResponseDto> history = new ArrayList<>();
+        for (Long id : ids) {
+            history.add(ChatMessageResponseDto.builder().id(id).build());
+        }
+        return history;
+    }
+
     private ChatRoom createTestChatRoom(Long id, Boolean status) {
         return ChatRoom.builder()
                 .id(id)
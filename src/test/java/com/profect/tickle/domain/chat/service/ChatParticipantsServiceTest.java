@@ -9,6 +9,8 @@ import com.profect.tickle.domain.chat.entity.ChatRoom;
 import com.profect.tickle.domain.chat.mapper.ChatParticipantsMapper;
 import com.profect.tickle.domain.chat.repository.ChatParticipantsRepository;
 import com.profect.tickle.domain.chat.repository.ChatRoomRepository;
+import com.profect.tickle.domain.chat.service.unread.ChatUnreadCounter;
+import com.profect.tickle.domain.chat.service.writebehind.ChatSenderCache;
 import com.profect.tickle.domain.member.entity.Member;
 import com.profect.tickle.domain.member.entity.MemberRole;
 import com.profect.tickle.domain.member.repository.MemberRepository;
@@ -44,6 +46,12 @@ class ChatParticipantsServiceTest {
     @Mock
     private ChatParticipantsMapper chatParticipantsMapper;
 
+    @Mock
+    private ChatSenderCache chatSenderCache;
+
+    @Mock
+    private ChatUnreadCounter chatUnreadCounter;
+
     @InjectMocks
     private ChatParticipantsService chatParticipantsService;
 
@@ -245,6 +253,7 @@ class ChatParticipantsServiceTest {
         
         // Then
         verify(chatParticipantsMapper).updateLastReadMessage(eq(chatRoomId), eq(memberId), eq(10L), any(Instant.class));
+        verify(chatUnreadCounter).markAsRead(chatRoomId, memberId, 10L);
     }
 
     @Test
@@ -263,6 +272,7 @@ class ChatParticipantsServiceTest {
                 .isInstanceOf(RuntimeException.class); // ChatExceptions.chatParticipantNotFound()
         
         verify(chatParticipantsMapper).updateLastReadMessage(eq(chatRoomId), eq(memberId), eq(10L), any(Instant.class));
+        verify(chatUnreadCounter, never()).markAsRead(any(), any(), any());
     }
 
     // ===== 읽음 상태 조회 테스트 =====
@@ -279,6 +289,7 @@ class ChatParticipantsServiceTest {
                 .build();
         
         given(chatParticipantsMapper.getReadStatus(chatRoomId, memberId)).willReturn(expectedResponse);
+        given(chatUnreadCounter.unreadCountOf(chatRoomId, memberId, 3)).willReturn(3);
         
         // When
         UnreadCountResponseDto result = chatParticipantsService.getUnreadCount(chatRoomId, memberId);
@@ -357,6 +368,30 @@ class ChatParticipantsServiceTest {
         verify(chatParticipantsMapper).findMyChatRooms(memberId);
     }
 
+    @Test
+    @DisplayName("내 채팅방 목록은 반영 전 카운터 값으로 읽지 않은 방을 먼저 정렬")
+    void shouldOrderMyChatRoomsByLiveUnreadCount() {
+        // Given
+        Long memberId = 1L;
+        List<ChatParticipantsResponseDto> chatRooms = List.of(
+                createParticipantResponseDto(1L, 1L, memberId),
+                createParticipantResponseDto(2L, 2L, memberId),
+                createParticipantResponseDto(3L, 3L, memberId)
+        );
+
+        given(chatParticipantsMapper.findMyChatRooms(memberId)).willReturn(chatRooms);
+        given(chatUnreadCounter.unreadCountOf(eq(1L), eq(memberId), any())).willReturn(0);
+        given(chatUnreadCounter.unreadCountOf(eq(2L), eq(memberId), any())).willReturn(0);
+        given(chatUnreadCounter.unreadCountOf(eq(3L), eq(memberId), any())).willReturn(4);
+
+        // When
+        List<ChatParticipantsResponseDto> result = chatParticipantsService.getMyChatRooms(memberId);
+
+        // Then
+        assertThat(result).extracting(ChatParticipantsResponseDto::getChatRoomId).containsExactly(3L, 1L, 2L);
+        assertThat(result.get(0).getUnreadMessageCount()).isEqualTo(4);
+    }
+
     // ===== Helper 메서드들 =====
     
     private ChatRoom createTestChatRoom(Long id, Short maxParticipants) {
@@ -5,6 +5,8 @@ import com.profect.tickle.domain.chat.dto.response.ChatRoomResponseDto;
 import com.profect.tickle.domain.chat.entity.ChatRoom;
 import com.profect.tickle.domain.chat.mapper.ChatRoomMapper;
 import com.profect.tickle.domain.chat.repository.ChatRoomRepository;
+import com.profect.tickle.domain.chat.service.unread.ChatUnreadCounter;
+import com.profect.tickle.domain.chat.service.writebehind.ChatSenderCache;
 import com.profect.tickle.domain.performance.entity.Performance;
 import com.profect.tickle.domain.performance.repository.PerformanceRepository;
 
@@ -40,6 +42,12 @@ class ChatRoomServiceTest {
     @Mock
     private OnlineUserService onlineUserService;
 
+    @Mock
+    private ChatSenderCache chatSenderCache;
+
+    @Mock
+    private ChatUnreadCounter chatUnreadCounter;
+
     @InjectMocks
     private ChatRoomService chatRoomService;
 
@@ -204,6 +212,7 @@ class ChatRoomServiceTest {
         assertThat(chatRoom.getStatus()).isEqualTo(newStatus);
         
         verify(chatRoomRepository).findById(chatRoomId);
+        verify(chatUnreadCounter).evictRoom(chatRoomId);
     }
 
     @Test
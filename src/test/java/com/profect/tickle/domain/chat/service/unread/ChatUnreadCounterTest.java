@@ -0,0 +1,166 @@
+package com.profect.tickle.domain.chat.service.unread;
+
+import com.profect.tickle.domain.chat.mapper.ChatParticipantsMapper;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ChatUnreadCounter 단위 테스트")
+class ChatUnreadCounterTest {
+
+    private static final Long ROOM_ID = 1L;
+
+    @Mock
+    private ChatParticipantsMapper chatParticipantsMapper;
+
+    @InjectMocks
+    private ChatUnreadCounter chatUnreadCounter;
+
+    @Test
+    @DisplayName("메시지 전송 시 발신자를 제외한 참여자의 카운터 증가")
+    void shouldIncrementOthersOnMessageSent() {
+        // Given
+        given(chatParticipantsMapper.findUnreadStates(ROOM_ID)).willReturn(List.of(
+                new ChatUnreadState(1L, 0, 10L),
+                new ChatUnreadState(2L, 2, 10L)));
+
+        // When
+        chatUnreadCounter.onMessageSent(ROOM_ID, 1L, 11L);
+        chatUnreadCounter.onMessageSent(ROOM_ID, 1L, 12L);
+
+        // Then
+        assertThat(chatUnreadCounter.unreadCountOf(ROOM_ID, 1L, null)).isZero();
+        assertThat(chatUnreadCounter.unreadCountOf(ROOM_ID, 2L, null)).isEqualTo(4);
+        verify(chatParticipantsMapper, times(1)).findUnreadStates(ROOM_ID);
+    }
+
+    @Test
+    @DisplayName("읽음 처리 시 초기화되고, 이미 읽은 위치 이전 메시지의 삭제는 카운터에 영향 없음")
+    void shouldResetOnReadAndIgnoreDeletesBeforeReadPosition() {
+        // Given
+        given(chatParticipantsMapper.findUnreadStates(ROOM_ID)).willReturn(List.of(
+                new ChatUnreadState(1L, 0, 0L),
+                new ChatUnreadState(2L, 0, 0L)));
+        chatUnreadCounter.onMessageSent(ROOM_ID, 1L, 11L);
+        chatUnreadCounter.onMessageSent(ROOM_ID, 1L, 12L);
+        chatUnreadCounter.onMessageSent(ROOM_ID, 1L, 13L);
+
+        // When
+        chatUnreadCounter.markAsRead(ROOM_ID, 2L, 12L);
+        chatUnreadCounter.onMessageDeleted(ROOM_ID, 1L, 12L);
+        chatUnreadCounter.onMessageSent(ROOM_ID, 1L, 14L);
+
+        // Then
+        assertThat(chatUnreadCounter.unreadCountOf(ROOM_ID, 2L, null)).isEqualTo(1);
+
+        chatUnreadCounter.onMessageDeleted(ROOM_ID, 1L, 14L);
+        chatUnreadCounter.onMessageDeleted(ROOM_ID, 1L, 13L);
+        assertThat(chatUnreadCounter.unreadCountOf(ROOM_ID, 2L, null)).isZero();
+    }
+
+    @Test
+    @DisplayName("적재되지 않은 채팅방은 저장된 값을 그대로 사용")
+    void shouldFallBackToPersistedCountWhenRoomNotLoaded() {
+        // When & Then
+        assertThat(chatUnreadCounter.unreadCountOf(ROOM_ID, 2L, 7)).isEqualTo(7);
+        verify(chatParticipantsMapper, never()).findUnreadStates(any());
+    }
+
+    @Test
+    @DisplayName("바뀐 카운터만 반영하고, 반영 실패 시 다음 주기에 다시 반영")
+    @SuppressWarnings("unchecked")
+    void shouldFlushChangedCountersAndRetryOnFailure() {
+        // Given
+        given(chatParticipantsMapper.findUnreadStates(ROOM_ID)).willReturn(List.of(
+                new ChatUnreadState(1L, 0, 0L),
+                new ChatUnreadState(2L, 0, 0L),
+                new ChatUnreadState(3L, 0, 0L)));
+        chatUnreadCounter.onMessageSent(ROOM_ID, 1L, 11L);
+        given(chatParticipantsMapper.updateUnreadCounts(anyList()))
+                .willThrow(new RuntimeException("DB 오류"))
+                .willReturn(2);
+
+        // When
+        chatUnreadCounter.flush();
+        chatUnreadCounter.flush();
+        chatUnreadCounter.flush();
+
+        // Then
+        ArgumentCaptor<List<ChatUnreadCount>> captor = ArgumentCaptor.forClass(List.class);
+        verify(chatParticipantsMapper, times(2)).updateUnreadCounts(captor.capture());
+        assertThat(captor.getAllValues().get(1))
+                .containsExactlyInAnyOrder(
+                        new ChatUnreadCount(ROOM_ID, 2L, 1),
+                        new ChatUnreadCount(ROOM_ID, 3L, 1));
+    }
+
+    @Test
+    @DisplayName("채팅방을 내리면 바뀐 값을 반영하고, 다음 사용 시 저장된 값으로 다시 적재")
+    void shouldWriteBackAndReloadAfterEvictingRoom() {
+        // Given
+        given(chatParticipantsMapper.findUnreadStates(ROOM_ID))
+                .willReturn(List.of(
+                        new ChatUnreadState(1L, 0, 0L),
+                        new ChatUnreadState(2L, 0, 0L)))
+                .willReturn(List.of(
+                        new ChatUnreadState(1L, 0, 0L),
+                        new ChatUnreadState(2L, 1, 0L)));
+        chatUnreadCounter.onMessageSent(ROOM_ID, 1L, 11L);
+
+        // When
+        chatUnreadCounter.evictRoom(ROOM_ID);
+
+        // Then
+        verify(chatParticipantsMapper).updateUnreadCounts(List.of(new ChatUnreadCount(ROOM_ID, 2L, 1)));
+        assertThat(chatUnreadCounter.unreadCountOf(ROOM_ID, 2L, 5)).isEqualTo(5);
+
+        chatUnreadCounter.flush();
+        verify(chatParticipantsMapper, times(1)).updateUnreadCounts(anyList());
+
+        chatUnreadCounter.onMessageSent(ROOM_ID, 1L, 12L);
+        assertThat(chatUnreadCounter.unreadCountOf(ROOM_ID, 2L, null)).isEqualTo(2);
+        verify(chatParticipantsMapper, times(2)).findUnreadStates(ROOM_ID);
+    }
+
+    @Test
+    @DisplayName("유휴 채팅방만 내리고, 반영 실패 시 다시 올려 두고 다음 주기에 반영")
+    void shouldEvictIdleRoomsAndKeepThemOnWriteFailure() {
+        // Given
+        Long activeRoomId = 2L;
+        given(chatParticipantsMapper.findUnreadStates(ROOM_ID)).willReturn(List.of(
+                new ChatUnreadState(1L, 0, 0L),
+                new ChatUnreadState(2L, 0, 0L)));
+        chatUnreadCounter.onMessageSent(ROOM_ID, 1L, 11L);
+        long idleSince = System.currentTimeMillis() + 1;
+
+        given(chatParticipantsMapper.findUnreadStates(activeRoomId)).willReturn(List.of(
+                new ChatUnreadState(3L, 0, 0L)));
+        given(chatParticipantsMapper.updateUnreadCounts(anyList()))
+                .willThrow(new RuntimeException("DB 오류"))
+                .willReturn(1);
+
+        // When
+        chatUnreadCounter.evictRoomsIdleSince(idleSince);
+        chatUnreadCounter.evictRoomsIdleSince(idleSince);
+
+        // Then
+        verify(chatParticipantsMapper, times(2)).updateUnreadCounts(List.of(new ChatUnreadCount(ROOM_ID, 2L, 1)));
+        assertThat(chatUnreadCounter.unreadCountOf(ROOM_ID, 2L, 0)).isZero();
+
+        chatUnreadCounter.onMessageSent(activeRoomId, 3L, 12L);
+        chatUnreadCounter.evictRoomsIdleSince(0L);
+        assertThat(chatUnreadCounter.unreadCountOf(activeRoomId, 3L, 7)).isZero();
+    }
+}
@@ -0,0 +1,91 @@
+package com.profect.tickle.domain.chat.service.writebehind;
+
+import com.profect.tickle.domain.chat.entity.ChatMessageType;
+import com.profect.tickle.domain.chat.mapper.ChatMessageMapper;
+import com.profect.tickle.domain.chat.mapper.ChatRoomMapper;
+import com.profect.tickle.global.deadletter.DeadLetterStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("채팅 메시지 write-behind 저장기 단위 테스트")
+class ChatMessageWriterTest {
+
+    @Mock
+    private ChatMessageMapper chatMessageMapper;
+
+    @Mock
+    private ChatRoomMapper chatRoomMapper;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private DeadLetterStore deadLetterStore;
+
+    private ChatMessageWriter chatMessageWriter;
+
+    @BeforeEach
+    void setUp() {
+        chatMessageWriter = new ChatMessageWriter(chatMessageMapper, chatRoomMapper, transactionManager, deadLetterStore);
+    }
+
+    @Test
+    @DisplayName("배치에 저장할 수 없는 메시지가 있으면 한 건씩 저장하고 그 메시지만 dead letter로 이동")
+    void shouldDeadLetterOnlyFailingMessage() {
+        // Given
+        PendingChatMessage ok1 = message(1L);
+        PendingChatMessage bad = message(2L);
+        PendingChatMessage ok2 = message(3L);
+        willAnswer(invocation -> {
+            List<PendingChatMessage> batch = invocation.getArgument(0);
+            if (batch.contains(bad)) {
+                throw new DataIntegrityViolationException("chat_content is null");
+            }
+            return null;
+        }).given(chatMessageMapper).insertChatMessages(anyList());
+
+        // When
+        chatMessageWriter.write(List.of(ok1, bad, ok2));
+
+        // Then
+        then(chatMessageMapper).should().insertChatMessages(List.of(ok1));
+        then(chatMessageMapper).should().insertChatMessages(List.of(ok2));
+        then(deadLetterStore).should().save(eq("CHAT_MESSAGE"), eq(bad), any(DataIntegrityViolationException.class));
+        then(deadLetterStore).should(times(1)).save(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("배치가 저장되면 dead letter를 남기지 않음")
+    void shouldWriteBatchOnce() {
+        // When
+        chatMessageWriter.write(List.of(message(1L), message(2L)));
+
+        // Then
+        then(chatMessageMapper).should(times(1)).insertChatMessages(anyList());
+        then(chatRoomMapper).should(times(1)).updateChatRoomUpdatedAt(eq(10L), any());
+        then(deadLetterStore).should(never()).save(any(), any(), any());
+    }
+
+    private PendingChatMessage message(Long id) {
+        return new PendingChatMessage(id, 10L, 1L, ChatMessageType.TEXT, "안녕하세요",
+                null, null, null, null, Instant.parse("2025-01-01T00:00:00Z").plusSeconds(id));
+    }
+}
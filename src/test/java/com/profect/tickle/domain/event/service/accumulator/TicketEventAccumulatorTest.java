@@ -0,0 +1,91 @@
+package com.profect.tickle.domain.event.service.accumulator;
+
+import com.profect.tickle.domain.event.entity.Event;
+import com.profect.tickle.domain.event.mapper.EventMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TicketEventAccumulator 단위 테스트")
+class TicketEventAccumulatorTest {
+
+    @Mock
+    private EventMapper eventMapper;
+
+    @InjectMocks
+    private TicketEventAccumulator ticketEventAccumulator;
+
+    @BeforeEach
+    void setUp() {
+        TransactionSynchronizationManager.initSynchronization();
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    @Test
+    @DisplayName("당첨 트랜잭션이 끝나기 전에는 누적 금액을 반영하지 않고, 롤백되면 누적기를 다시 열어 다음 응모가 당첨된다")
+    void shouldReopenCounterWhenWinnerRollsBack() {
+        // Given
+        Event event = event(1_000, 2_000, 1_000);
+        assertThat(ticketEventAccumulator.apply(event)).isEqualTo(TicketApplyOutcome.WON);
+
+        // When
+        ticketEventAccumulator.flush();
+        complete(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        // Then
+        then(eventMapper).should(never()).updateAccruedIfGreater(anyLong(), anyInt());
+        assertThat(ticketEventAccumulator.accruedOf(1L)).isEqualTo(1_000);
+        assertThat(ticketEventAccumulator.apply(event)).isEqualTo(TicketApplyOutcome.WON);
+    }
+
+    @Test
+    @DisplayName("당첨 트랜잭션이 커밋되면 최종 누적 금액을 반영하고 누적기를 정리한다")
+    void shouldEvictCounterAfterWinnerCommits() {
+        // Given
+        Event event = event(1_000, 2_000, 1_000);
+        ticketEventAccumulator.apply(event);
+
+        // When
+        complete(TransactionSynchronization.STATUS_COMMITTED);
+        ticketEventAccumulator.flush();
+
+        // Then
+        then(eventMapper).should().updateAccruedIfGreater(1L, 2_000);
+        assertThat(ticketEventAccumulator.accruedOf(1L)).isZero();
+    }
+
+    private void complete(int status) {
+        TransactionSynchronizationManager.getSynchronizations().forEach(sync -> sync.afterCompletion(status));
+        TransactionSynchronizationManager.clearSynchronization();
+        TransactionSynchronizationManager.initSynchronization();
+    }
+
+    private Event event(int accrued, int goalPrice, int perPrice) {
+        Event event = mock(Event.class);
+        given(event.getId()).willReturn(1L);
+        given(event.getAccrued()).willReturn(accrued);
+        given(event.getGoalPrice()).willReturn(goalPrice);
+        given(event.getPerPrice()).willReturn((short) perPrice);
+        return event;
+    }
+}
@@ -0,0 +1,103 @@
+package com.profect.tickle.domain.event.service.accumulator;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("TicketEventCounter 단위 테스트")
+class TicketEventCounterTest {
+
+    @Test
+    @DisplayName("목표 금액을 넘기는 응모 하나만 당첨되고 이후 응모는 마감된다")
+    void shouldPickWinnerWhenGoalIsReached() {
+        // Given
+        TicketEventCounter counter = new TicketEventCounter(0, 2_500, 1_000);
+
+        // When & Then
+        assertThat(counter.apply()).isEqualTo(TicketApplyOutcome.ACCEPTED);
+        assertThat(counter.apply()).isEqualTo(TicketApplyOutcome.ACCEPTED);
+        assertThat(counter.apply()).isEqualTo(TicketApplyOutcome.WON);
+        assertThat(counter.apply()).isEqualTo(TicketApplyOutcome.CLOSED);
+        assertThat(counter.accrued()).isEqualTo(3_000);
+    }
+
+    @Test
+    @DisplayName("롤백된 응모를 되돌리면 누적 금액이 줄고 당첨 시점이 한 번 늦어진다")
+    void shouldReleaseRolledBackApplication() {
+        // Given
+        TicketEventCounter counter = new TicketEventCounter(1_000, 3_000, 1_000);
+        counter.apply();
+
+        // When
+        boolean released = counter.release();
+
+        // Then
+        assertThat(released).isTrue();
+        assertThat(counter.accrued()).isEqualTo(1_000);
+        assertThat(counter.apply()).isEqualTo(TicketApplyOutcome.ACCEPTED);
+        assertThat(counter.apply()).isEqualTo(TicketApplyOutcome.WON);
+    }
+
+    @Test
+    @DisplayName("당첨 트랜잭션이 롤백되어 다시 열면 다음 응모가 당첨된다")
+    void shouldPickNextWinnerAfterReopen() {
+        // Given
+        TicketEventCounter counter = new TicketEventCounter(0, 2_000, 1_000);
+        counter.apply();
+        assertThat(counter.apply()).isEqualTo(TicketApplyOutcome.WON);
+
+        // When
+        counter.reopen();
+
+        // Then
+        assertThat(counter.isClosed()).isFalse();
+        assertThat(counter.accrued()).isEqualTo(1_000);
+        assertThat(counter.apply()).isEqualTo(TicketApplyOutcome.WON);
+        assertThat(counter.apply()).isEqualTo(TicketApplyOutcome.CLOSED);
+        assertThat(counter.isSettled()).isFalse();
+    }
+
+    @Test
+    @DisplayName("수천 명이 동시에 응모해도 당첨자는 정확히 한 명이고 누적이 유실되지 않는다")
+    void shouldPickExactlyOneWinnerUnderContention() throws InterruptedException {
+        // Given
+        int goalUnits = 3_000;
+        int applicants = 5_000;
+        TicketEventCounter counter = new TicketEventCounter(0, goalUnits * 100L, 100);
+        ExecutorService executor = Executors.newFixedThreadPool(32);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(applicants);
+        ConcurrentMap<TicketApplyOutcome, Integer> outcomes = new ConcurrentHashMap<>();
+
+        // When
+        for (int i = 0; i < applicants; i++) {
+            executor.submit(() -> {
+                try {
+                    start.await();
+                    outcomes.merge(counter.apply(), 1, Integer::sum);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        start.countDown();
+        assertThat(done.await(30, TimeUnit.SECONDS)).isTrue();
+        executor.shutdown();
+
+        // Then
+        assertThat(outcomes.get(TicketApplyOutcome.WON)).isEqualTo(1);
+        assertThat(outcomes.get(TicketApplyOutcome.ACCEPTED)).isEqualTo(goalUnits - 1);
+        assertThat(outcomes.get(TicketApplyOutcome.CLOSED)).isEqualTo(applicants - goalUnits);
+        assertThat(counter.accrued()).isEqualTo(goalUnits * 100L);
+    }
+}
@@ -0,0 +1,117 @@
+package com.profect.tickle.domain.event.service.couponstock;
+
+import com.profect.tickle.domain.event.mapper.CouponMapper;
+import com.profect.tickle.domain.event.mapper.CouponReceivedMapper;
+import com.profect.tickle.domain.event.mapper.EventMapper;
+import com.profect.tickle.global.deadletter.DeadLetterStore;
+import com.profect.tickle.global.status.StatusIds;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("쿠폰 발급 내역 저장기 단위 테스트")
+class CouponIssueWriterTest {
+
+    private static final Long COUPON_ID = 10L;
+
+    @Mock
+    private CouponReceivedMapper couponReceivedMapper;
+
+    @Mock
+    private CouponMapper couponMapper;
+
+    @Mock
+    private EventMapper eventMapper;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private DeadLetterStore deadLetterStore;
+
+    private CouponIssueWriter couponIssueWriter;
+
+    @BeforeEach
+    void setUp() {
+        couponIssueWriter = new CouponIssueWriter(
+                couponReceivedMapper, couponMapper, eventMapper, transactionManager, deadLetterStore);
+    }
+
+    @Test
+    @DisplayName("배치에 저장할 수 없는 발급이 있으면 한 건씩 저장하고 그 발급만 dead letter로 이동")
+    void shouldDeadLetterOnlyFailingIssue() {
+        // Given
+        CouponIssue ok1 = issue(1L);
+        CouponIssue bad = issue(2L);
+        CouponIssue ok2 = issue(3L);
+        willAnswer(invocation -> {
+            List<CouponIssue> batch = invocation.getArgument(0);
+            if (batch.contains(bad)) {
+                throw new DataIntegrityViolationException("member_id violates foreign key");
+            }
+            return batch.size();
+        }).given(couponReceivedMapper).insertCouponReceivedBatch(anyList(), eq(StatusIds.Coupon.AVAILABLE));
+
+        // When
+        couponIssueWriter.write(List.of(ok1, bad, ok2));
+
+        // Then
+        then(couponReceivedMapper).should().insertCouponReceivedBatch(List.of(ok1), StatusIds.Coupon.AVAILABLE);
+        then(couponReceivedMapper).should().insertCouponReceivedBatch(List.of(ok2), StatusIds.Coupon.AVAILABLE);
+        then(deadLetterStore).should().save(eq("COUPON_ISSUE"), eq(bad), any(DataIntegrityViolationException.class));
+        then(deadLetterStore).should(times(1)).save(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("이미 받은 회원이라 저장되지 않은 건수만큼만 재고로 되돌림")
+    void shouldReturnStockForSkippedIssues() {
+        // Given
+        given(couponReceivedMapper.insertCouponReceivedBatch(anyList(), eq(StatusIds.Coupon.AVAILABLE)))
+                .willReturn(2);
+
+        // When
+        couponIssueWriter.write(List.of(issue(1L), issue(2L), issue(3L)));
+
+        // Then
+        then(couponMapper).should().returnCouponStock(COUPON_ID, 1);
+        then(deadLetterStore).should(never()).save(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("모두 저장되면 재고를 건드리지 않음")
+    void shouldNotTouchStockWhenAllInserted() {
+        // Given
+        given(couponReceivedMapper.insertCouponReceivedBatch(anyList(), eq(StatusIds.Coupon.AVAILABLE)))
+                .willReturn(2);
+
+        // When
+        couponIssueWriter.write(List.of(issue(1L), issue(2L)));
+
+        // Then
+        then(couponMapper).should(never()).returnCouponStock(anyLong(), anyInt());
+    }
+
+    private CouponIssue issue(Long memberId) {
+        return new CouponIssue(COUPON_ID, memberId, Instant.parse("2025-01-01T00:00:00Z"));
+    }
+}
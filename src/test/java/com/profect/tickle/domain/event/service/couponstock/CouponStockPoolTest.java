@@ -0,0 +1,104 @@
+package com.profect.tickle.domain.event.service.couponstock;
+
+import com.profect.tickle.domain.event.mapper.CouponMapper;
+import com.profect.tickle.domain.event.mapper.CouponReceivedMapper;
+import com.profect.tickle.global.exception.BusinessException;
+import com.profect.tickle.global.exception.ErrorCode;
+import com.profect.tickle.global.status.StatusIds;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CouponStockPool 단위 테스트")
+class CouponStockPoolTest {
+
+    private static final Long EVENT_ID = 1L;
+    private static final Long COUPON_ID = 10L;
+
+    @Mock
+    private CouponMapper couponMapper;
+
+    @Mock
+    private CouponReceivedMapper couponReceivedMapper;
+
+    @Mock
+    private CouponIssueWriter couponIssueWriter;
+
+    private CouponStockPool couponStockPool;
+
+    @BeforeEach
+    void setUp() {
+        couponStockPool = new CouponStockPool(couponMapper, couponReceivedMapper, couponIssueWriter,
+                Clock.fixed(Instant.parse("2025-01-01T00:00:00Z"), ZoneOffset.UTC));
+        given(couponReceivedMapper.findMemberIdsByCouponId(COUPON_ID)).willReturn(List.of());
+    }
+
+    @Test
+    @DisplayName("종료된 이벤트는 풀에서 내려 남은 몫을 DB로 되돌리고 더 발급하지 않는다")
+    void shouldStopIssuingWhenEventFinished() {
+        // Given - 진행 중인 이벤트에서 한 장 발급
+        given(couponMapper.findCouponStockByEventId(EVENT_ID))
+                .willReturn(snapshot(StatusIds.Event.IN_PROGRESS), snapshot(StatusIds.Event.COMPLETED));
+        given(couponMapper.leaseCouponStock(COUPON_ID, CouponStock.LEASE_SIZE))
+                .willReturn(new CouponStockLease(CouponStock.LEASE_SIZE, 100));
+        given(couponIssueWriter.enqueue(any())).willReturn(true);
+        couponStockPool.issue(EVENT_ID, 100L);
+
+        // When - 스케줄러 등 다른 경로에서 이벤트가 종료됨
+        given(couponMapper.findEventIdsByStatus(List.of(EVENT_ID), StatusIds.Event.COMPLETED))
+                .willReturn(List.of(EVENT_ID));
+        couponStockPool.evictFinishedEvents();
+
+        // Then
+        then(couponMapper).should().returnCouponStock(COUPON_ID, CouponStock.LEASE_SIZE - 1);
+        assertThatThrownBy(() -> couponStockPool.issue(EVENT_ID, 200L))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.COUPON_SOLD_OUT);
+    }
+
+    @Test
+    @DisplayName("진행 중인 이벤트는 재고가 소진되었어도 다른 노드가 되돌린 몫을 다시 떼어 온다")
+    void shouldLeaseReturnedStockForInProgressEvent() {
+        // Given - 다른 노드가 재고를 모두 가져가 소진된 상태
+        given(couponMapper.findCouponStockByEventId(EVENT_ID)).willReturn(snapshot(StatusIds.Event.IN_PROGRESS));
+        given(couponMapper.leaseCouponStock(COUPON_ID, CouponStock.LEASE_SIZE))
+                .willReturn(CouponStockLease.NONE, new CouponStockLease(2, 0));
+        given(couponIssueWriter.enqueue(any())).willReturn(true);
+        assertThatThrownBy(() -> couponStockPool.issue(EVENT_ID, 100L))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.COUPON_SOLD_OUT);
+
+        // When - 다른 노드가 몫을 되돌린 뒤 상태 점검
+        given(couponMapper.findEventIdsByStatus(anyList(), eq(StatusIds.Event.COMPLETED))).willReturn(List.of());
+        couponStockPool.evictFinishedEvents();
+
+        // Then
+        assertThatCode(() -> couponStockPool.issue(EVENT_ID, 100L)).doesNotThrowAnyException();
+        then(couponMapper).should(never()).returnCouponStock(any(), anyInt());
+    }
+
+    private CouponStockSnapshot snapshot(Long eventStatusId) {
+        return new CouponStockSnapshot(EVENT_ID, eventStatusId, COUPON_ID, 100);
+    }
+}
@@ -0,0 +1,139 @@
+package com.profect.tickle.domain.event.service.couponstock;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("CouponStock 단위 테스트")
+class CouponStockTest {
+
+    @Test
+    @DisplayName("이미 발급받은 회원은 다시 발급받을 수 없다")
+    void shouldRejectDuplicateMember() {
+        // Given
+        CouponStock stock = new CouponStock(1L, 10L, leaserOf(new AtomicInteger(5)), List.of(100L));
+
+        // When & Then
+        assertThat(stock.tryIssue(100L)).isEqualTo(CouponStock.Result.ALREADY_ISSUED);
+        assertThat(stock.tryIssue(200L)).isEqualTo(CouponStock.Result.ISSUED);
+        assertThat(stock.tryIssue(200L)).isEqualTo(CouponStock.Result.ALREADY_ISSUED);
+        assertThat(stock.remaining()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("DB 재고는 몫 단위로만 떼어 오고, 남은 몫을 회수하면 되돌릴 수량을 반환한다")
+    void shouldLeaseStockInChunks() {
+        // Given
+        AtomicInteger db = new AtomicInteger(CouponStock.LEASE_SIZE * 3);
+        CouponStock stock = new CouponStock(1L, 10L, leaserOf(db), List.of());
+
+        // When
+        stock.tryIssue(1L);
+
+        // Then
+        assertThat(db.get()).isEqualTo(CouponStock.LEASE_SIZE * 2);
+        assertThat(stock.close()).isEqualTo(CouponStock.LEASE_SIZE - 1);
+    }
+
+    @Test
+    @DisplayName("닫힌 재고는 남은 DB 재고가 있어도 더 발급하지 않는다")
+    void shouldNotIssueAfterClose() {
+        // Given
+        AtomicInteger db = new AtomicInteger(CouponStock.LEASE_SIZE * 2);
+        CouponStock stock = new CouponStock(1L, 10L, leaserOf(db), List.of());
+        stock.tryIssue(1L);
+
+        // When
+        stock.close();
+
+        // Then
+        assertThat(stock.tryIssue(2L)).isEqualTo(CouponStock.Result.SOLD_OUT);
+        assertThat(db.get()).isEqualTo(CouponStock.LEASE_SIZE);
+    }
+
+    @Test
+    @DisplayName("다른 노드가 몫을 되돌리면 소진 표시를 지운 뒤 다시 떼어 와 발급한다")
+    void shouldLeaseAgainAfterStockReturned() {
+        // Given - 다른 노드가 재고를 모두 가져간 상태
+        AtomicInteger db = new AtomicInteger(0);
+        CouponStock stock = new CouponStock(1L, 10L, leaserOf(db), List.of());
+        assertThat(stock.tryIssue(1L)).isEqualTo(CouponStock.Result.SOLD_OUT);
+
+        // When - 다른 노드가 쓰지 않은 몫을 되돌림
+        db.addAndGet(3);
+        assertThat(stock.tryIssue(1L)).isEqualTo(CouponStock.Result.SOLD_OUT);
+        stock.resetExhausted();
+
+        // Then
+        assertThat(stock.tryIssue(1L)).isEqualTo(CouponStock.Result.ISSUED);
+        assertThat(db.get()).isZero();
+    }
+
+    @Test
+    @DisplayName("여러 노드가 같은 DB 재고를 나눠 발급해도 재고만큼만 발급되고 마지막 재고는 한 번만 나간다")
+    void shouldNotOversellAcrossNodes() throws InterruptedException {
+        // Given
+        int stockCount = CouponStock.LEASE_SIZE * 3; // 몫 크기의 배수여도 마지막 몫을 구분해야 함
+        int members = 2_000;
+        AtomicInteger db = new AtomicInteger(stockCount);
+        List<CouponStock> nodes = List.of(
+                new CouponStock(1L, 10L, leaserOf(db), List.of()),
+                new CouponStock(1L, 10L, leaserOf(db), List.of()),
+                new CouponStock(1L, 10L, leaserOf(db), List.of()));
+        ExecutorService executor = Executors.newFixedThreadPool(32);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(members * 2);
+        ConcurrentMap<CouponStock.Result, Integer> results = new ConcurrentHashMap<>();
+
+        // When - 회원마다 같은 노드로 두 번씩 요청
+        for (long memberId = 1; memberId <= members; memberId++) {
+            CouponStock node = nodes.get((int) (memberId % nodes.size()));
+            for (int attempt = 0; attempt < 2; attempt++) {
+                long id = memberId;
+                executor.submit(() -> {
+                    try {
+                        start.await();
+                        results.merge(node.tryIssue(id), 1, Integer::sum);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    } finally {
+                        done.countDown();
+                    }
+                });
+            }
+        }
+        start.countDown();
+        assertThat(done.await(30, TimeUnit.SECONDS)).isTrue();
+        executor.shutdown();
+
+        // Then
+        assertThat(results.get(CouponStock.Result.ISSUED)).isEqualTo(stockCount - 1);
+        assertThat(results.get(CouponStock.Result.ISSUED_LAST)).isEqualTo(1);
+        assertThat(db.get()).isZero();
+        assertThat(nodes).allSatisfy(node -> assertThat(node.remaining()).isZero());
+    }
+
+    // coupon_count에서 최대 size개를 떼어 가는 leaseCouponStock 흉내
+    private IntFunction<CouponStockLease> leaserOf(AtomicInteger db) {
+        return size -> {
+            while (true) {
+                int current = db.get();
+                int leased = Math.min(current, size);
+                if (db.compareAndSet(current, current - leased)) {
+                    return new CouponStockLease(leased, current - leased);
+                }
+            }
+        };
+    }
+}
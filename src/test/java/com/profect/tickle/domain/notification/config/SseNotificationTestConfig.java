@@ -2,6 +2,7 @@ package com.profect.tickle.domain.notification.config;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.profect.tickle.domain.notification.property.NotificationProperty;
+import com.profect.tickle.domain.notification.repository.SseReplayBuffer;
 import com.profect.tickle.domain.notification.repository.SseRepository;
 import org.mockito.Mockito;
 import org.springframework.boot.test.context.TestConfiguration;
@@ -48,6 +49,10 @@ public class SseNotificationTestConfig {
         private final ConcurrentMap<Long, ConcurrentMap<String, SseEmitter>> emitters = new ConcurrentHashMap<>();
         private final ConcurrentMap<Long, ConcurrentSkipListMap<Long, String>> events = new ConcurrentHashMap<>();
 
+        InMemorySseRepository() {
+            super(new SseReplayBuffer(Clock.systemUTC()));
+        }
+
         @Override
         public void save(long memberId, String emitterId, SseEmitter emitter) {
             emitters.computeIfAbsent(memberId, k -> new ConcurrentHashMap<>()).put(emitterId, emitter);
@@ -86,15 +91,14 @@ public class SseNotificationTestConfig {
         }
 
         @Override
-        public NavigableMap<Long, String> eventsAfter(long memberId, long lastEventId) {
-            return new TreeMap<>(events.getOrDefault(memberId, new ConcurrentSkipListMap<>())
-                    .tailMap(lastEventId, false));
+        public void saveEvent(long memberId, long eventId, byte[] payload) {
+            saveEvent(memberId, eventId, new String(payload, java.nio.charset.StandardCharsets.UTF_8));
         }
 
         @Override
-        public void clearEventsBefore(long memberId, long thresholdEventId) {
-            var m = events.get(memberId);
-            if (m != null) m.headMap(thresholdEventId, false).clear();
+        public NavigableMap<Long, String> eventsAfter(long memberId, long lastEventId) {
+            return new TreeMap<>(events.getOrDefault(memberId, new ConcurrentSkipListMap<>())
+                    .tailMap(lastEventId, false));
         }
     }
 }
@@ -0,0 +1,102 @@
+package com.profect.tickle.domain.notification.unit.repository;
+
+import com.profect.tickle.domain.notification.repository.SseReplayBuffer;
+import com.profect.tickle.domain.notification.repository.SseReplayStats;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("SseReplayBuffer 단위 테스트")
+class SseReplayBufferTest {
+
+    private final AtomicLong now = new AtomicLong(1_000_000L);
+    private SseReplayBuffer buffer;
+
+    @BeforeEach
+    void setUp() {
+        Clock clock = mock(Clock.class);
+        when(clock.millis()).thenAnswer(invocation -> now.get());
+        buffer = new SseReplayBuffer(clock);
+    }
+
+    @Test
+    @DisplayName("lastEventId 이후 이벤트만 순서대로 재전송")
+    void shouldReplayEventsAfterLastEventId() {
+        // Given
+        buffer.append(1L, 10L, "{\"n\":1}");
+        buffer.append(1L, 20L, "{\"n\":2}");
+        buffer.append(1L, 30L, "{\"n\":3}");
+
+        // When
+        var events = buffer.eventsAfter(1L, 10L);
+
+        // Then
+        assertThat(events.keySet()).containsExactly(20L, 30L);
+        assertThat(events.get(30L)).isEqualTo("{\"n\":3}");
+        assertThat(buffer.stats().replayMisses()).isZero();
+    }
+
+    @Test
+    @DisplayName("사용자별 개수 한도를 넘으면 오래된 이벤트부터 제거하고 재전송 누락을 기록")
+    void shouldEvictOldestEventsOverMemberLimit() {
+        // Given
+        for (long eventId = 1; eventId <= 150; eventId++) {
+            buffer.append(1L, eventId, "{}");
+        }
+
+        // When
+        var events = buffer.eventsAfter(1L, 0L);
+
+        // Then
+        assertThat(events).hasSize(100);
+        assertThat(events.firstKey()).isEqualTo(51L);
+        SseReplayStats stats = buffer.stats();
+        assertThat(stats.evictions()).isEqualTo(50);
+        assertThat(stats.replayMisses()).isEqualTo(1);
+        assertThat(stats.replayHitRate()).isZero();
+    }
+
+    @Test
+    @DisplayName("보관 기간이 지난 이벤트와 이벤트가 남지 않은 사용자 정리")
+    void shouldEvictExpiredEventsAndIdleMembers() {
+        // Given
+        buffer.append(1L, 1L, "{}");
+        buffer.append(2L, 2L, "{}");
+        now.addAndGet(Duration.ofMinutes(9).toMillis());
+        buffer.append(2L, 3L, "{}");
+        now.addAndGet(Duration.ofMinutes(2).toMillis());
+
+        // When
+        buffer.evictExpired();
+
+        // Then
+        assertThat(buffer.eventsAfter(1L, 0L)).isEmpty();
+        assertThat(buffer.eventsAfter(2L, 0L).keySet()).containsExactly(3L);
+        SseReplayStats stats = buffer.stats();
+        assertThat(stats.members()).isEqualTo(1);
+        assertThat(stats.bytesHeld()).isPositive();
+    }
+
+    @Test
+    @DisplayName("사용자 제거 시 보관 바이트 반환")
+    void shouldReleaseBytesOnRemove() {
+        // Given
+        buffer.append(1L, 1L, "{\"message\":\"알림\"}");
+
+        // When
+        buffer.remove(1L);
+
+        // Then
+        SseReplayStats stats = buffer.stats();
+        assertThat(stats.bytesHeld()).isZero();
+        assertThat(stats.members()).isZero();
+    }
+}
@@ -0,0 +1,261 @@
+package com.profect.tickle.domain.notification.unit.service.mail;
+
+import com.profect.tickle.domain.notification.config.NonRetryableMailException;
+import com.profect.tickle.domain.notification.dto.request.MailCreateServiceRequestDto;
+import com.profect.tickle.domain.notification.service.mail.BatchingSmtpMailSender;
+import com.profect.tickle.domain.notification.service.mail.SmtpMailSender;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.retry.support.RetryTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 로컬 SMTP 서버(연결 수립 지연 CONNECT_DELAY_MILLIS)로 메시지별 연결 방식과 연결 재사용 방식의 처리량 비교
+ */
+@DisplayName("BatchingSmtpMailSender 단위 테스트")
+class BatchingSmtpMailSenderTest {
+
+    private static final Logger log = LoggerFactory.getLogger(BatchingSmtpMailSenderTest.class);
+
+    private static final int MESSAGES = 100;
+    private static final long CONNECT_DELAY_MILLIS = 20;
+
+    private LocalSmtpServer server;
+    private JavaMailSenderImpl javaMailSender;
+    private RetryTemplate retryTemplate;
+    private BatchingSmtpMailSender batchingSender;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = new LocalSmtpServer(CONNECT_DELAY_MILLIS, Set.of("unknown@tickle.test"));
+
+        javaMailSender = new JavaMailSenderImpl();
+        javaMailSender.setHost("127.0.0.1");
+        javaMailSender.setPort(server.port());
+        Properties props = new Properties();
+        props.put("mail.smtp.from", "noreply@tickle.test");
+        props.put("mail.smtp.localhost", "localhost");
+        props.put("mail.smtp.connectiontimeout", "5000");
+        props.put("mail.smtp.timeout", "5000");
+        javaMailSender.setJavaMailProperties(props);
+
+        retryTemplate = RetryTemplate.builder()
+                .maxAttempts(3)
+                .fixedBackoff(1)
+                .notRetryOn(NonRetryableMailException.class)
+                .build();
+
+        batchingSender = new BatchingSmtpMailSender(javaMailSender, retryTemplate);
+        ReflectionTestUtils.invokeMethod(batchingSender, "start");
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        ReflectionTestUtils.invokeMethod(batchingSender, "stop");
+        server.close();
+    }
+
+    @Test
+    @DisplayName("일괄 전송은 메시지별 연결 전송보다 적은 연결로 모든 메일을 보냄")
+    void shouldReuseConnectionsWhenBatching() {
+        // When
+        DeliveryResult result = sendPerMessageThenBatching();
+
+        // Then
+        assertThat(server.messages()).isEqualTo(MESSAGES * 2);
+        assertThat(result.perMessageConnections()).isEqualTo(MESSAGES);
+        assertThat(result.batchingConnections()).isLessThan(result.perMessageConnections());
+        assertThat(result.batchingConnections()).isLessThanOrEqualTo(4);
+    }
+
+    @Test
+    @Tag("benchmark")
+    @DisplayName("연결을 재사용하는 일괄 전송이 메시지별 연결 전송보다 처리량이 높음")
+    void shouldDeliverFasterThanPerMessageConnections() {
+        // When
+        DeliveryResult result = sendPerMessageThenBatching();
+
+        // Then
+        double perMessageRate = MESSAGES / (result.perMessageNanos() / 1e9);
+        double batchingRate = MESSAGES / (result.batchingNanos() / 1e9);
+        log.info("[mail throughput] per-message: {} msgs/s ({} connections), batching: {} msgs/s ({} connections)",
+                String.format("%.1f", perMessageRate), result.perMessageConnections(),
+                String.format("%.1f", batchingRate), result.batchingConnections());
+
+        assertThat(batchingRate).isGreaterThan(perMessageRate);
+    }
+
+    @Test
+    @DisplayName("수신자 거부(550)는 재시도하지 않고 영구 오류로 실패하며 연결은 계속 사용")
+    void shouldFailPermanentlyOnRejectedRecipient() {
+        // When & Then
+        assertThatThrownBy(() -> batchingSender.sendText(mail("unknown@tickle.test")))
+                .isInstanceOf(NonRetryableMailException.class)
+                .hasMessageContaining("ADDRESS_REJECTED");
+
+        batchingSender.sendText(mail("user1@tickle.test"));
+        assertThat(server.rejectedRecipients()).isEqualTo(1);
+        assertThat(server.messages()).isEqualTo(1);
+    }
+
+    // 같은 수의 메일을 메시지별 연결 전송, 일괄 전송 순서로 보내고 각각의 소요 시간과 연결 수를 잰다.
+    private DeliveryResult sendPerMessageThenBatching() {
+        SmtpMailSender perMessageSender = new SmtpMailSender(javaMailSender, retryTemplate);
+
+        long perMessageStart = System.nanoTime();
+        for (int i = 0; i < MESSAGES; i++) {
+            perMessageSender.sendText(mail("user" + i + "@tickle.test"));
+        }
+        long perMessageNanos = System.nanoTime() - perMessageStart;
+        int perMessageConnections = server.connections();
+
+        long batchingStart = System.nanoTime();
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        for (int i = 0; i < MESSAGES; i++) {
+            futures.add(batchingSender.sendTextAsync(mail("user" + i + "@tickle.test")));
+        }
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+        long batchingNanos = System.nanoTime() - batchingStart;
+        int batchingConnections = server.connections() - perMessageConnections;
+
+        return new DeliveryResult(perMessageNanos, perMessageConnections, batchingNanos, batchingConnections);
+    }
+
+    private record DeliveryResult(
+            long perMessageNanos,
+            int perMessageConnections,
+            long batchingNanos,
+            int batchingConnections
+    ) {
+    }
+
+    private MailCreateServiceRequestDto mail(String to) {
+        return new MailCreateServiceRequestDto(to, "예매 완료", "예매가 완료되었습니다.");
+    }
+
+    /**
+     * 최소한의 SMTP 서버 (EHLO/MAIL/RCPT/DATA/RSET/NOOP/QUIT)
+     * 연결마다 인사 응답 전에 connectDelayMillis만큼 기다려 TCP/TLS 수립과 인증 비용을 흉내 낸다.
+     */
+    private static final class LocalSmtpServer implements AutoCloseable {
+
+        private final ServerSocket serverSocket;
+        private final long connectDelayMillis;
+        private final Set<String> rejected;
+        private final AtomicInteger connections = new AtomicInteger();
+        private final AtomicInteger messages = new AtomicInteger();
+        private final AtomicInteger rejectedRecipients = new AtomicInteger();
+
+        LocalSmtpServer(long connectDelayMillis, Set<String> rejected) throws IOException {
+            this.serverSocket = new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+            this.connectDelayMillis = connectDelayMillis;
+            this.rejected = rejected;
+            Thread.ofVirtual().name("local-smtp").start(this::accept);
+        }
+
+        int port() {
+            return serverSocket.getLocalPort();
+        }
+
+        int connections() {
+            return connections.get();
+        }
+
+        int messages() {
+            return messages.get();
+        }
+
+        int rejectedRecipients() {
+            return rejectedRecipients.get();
+        }
+
+        @Override
+        public void close() throws IOException {
+            serverSocket.close();
+        }
+
+        private void accept() {
+            while (!serverSocket.isClosed()) {
+                try {
+                    Socket socket = serverSocket.accept();
+                    connections.incrementAndGet();
+                    Thread.ofVirtual().start(() -> handle(socket));
+                } catch (IOException e) {
+                    return;
+                }
+            }
+        }
+
+        private void handle(Socket socket) {
+            try (socket;
+                 BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.ISO_8859_1))) {
+                OutputStream out = socket.getOutputStream();
+                Thread.sleep(connectDelayMillis);
+                reply(out, "220 localhost ESMTP");
+
+                String line;
+                while ((line = in.readLine()) != null) {
+                    String command = line.length() >= 4 ? line.substring(0, 4).toUpperCase() : line.toUpperCase();
+                    switch (command) {
+                        case "EHLO" -> reply(out, "250-localhost\r\n250 8BITMIME");
+                        case "HELO", "MAIL", "RSET", "NOOP" -> reply(out, "250 OK");
+                        case "RCPT" -> {
+                            if (rejected.stream().anyMatch(line::contains)) {
+                                rejectedRecipients.incrementAndGet();
+                                reply(out, "550 5.1.1 User unknown");
+                            } else {
+                                reply(out, "250 OK");
+                            }
+                        }
+                        case "DATA" -> {
+                            reply(out, "354 End data with <CR><LF>.<CR><LF>");
+                            while ((line = in.readLine()) != null && !line.equals(".")) {
+                                // 본문은 버림
+                            }
+                            messages.incrementAndGet();
+                            reply(out, "250 OK queued");
+                        }
+                        case "QUIT" -> {
+                            reply(out, "221 Bye");
+                            return;
+                        }
+                        default -> reply(out, "502 Command not implemented");
+                    }
+                }
+            } catch (IOException e) {
+                // 클라이언트가 연결을 끊음
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        private void reply(OutputStream out, String response) throws IOException {
+            out.write((response + "\r\n").getBytes(StandardCharsets.ISO_8859_1));
+            out.flush();
+        }
+    }
+}
@@ -0,0 +1,164 @@
+package com.profect.tickle.domain.notification.unit.service.outbox;
+
+import com.profect.tickle.domain.notification.config.NonRetryableMailException;
+import com.profect.tickle.domain.notification.dto.NotificationEnvelope;
+import com.profect.tickle.domain.notification.dto.request.MailCreateServiceRequestDto;
+import com.profect.tickle.domain.notification.entity.NotificationKind;
+import com.profect.tickle.domain.notification.mapper.NotificationOutboxMapper;
+import com.profect.tickle.domain.notification.service.mail.MailSender;
+import com.profect.tickle.domain.notification.service.outbox.NotificationOutboxDispatcher;
+import com.profect.tickle.domain.notification.service.outbox.NotificationOutboxMessage;
+import com.profect.tickle.domain.notification.service.outbox.NotificationOutboxResult;
+import com.profect.tickle.domain.notification.service.realtime.RealtimeSender;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mail.MailSendException;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("NotificationOutboxDispatcher 단위 테스트")
+class NotificationOutboxDispatcherTest {
+
+    private static final Instant NOW = Instant.parse("2025-01-01T00:00:00Z");
+
+    @Mock
+    private NotificationOutboxMapper notificationOutboxMapper;
+
+    @Mock
+    private MailSender mailSender;
+
+    @Mock
+    private RealtimeSender realtimeSender;
+
+    @Captor
+    private ArgumentCaptor<List<NotificationOutboxResult>> resultsCaptor;
+
+    private NotificationOutboxDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        dispatcher = new NotificationOutboxDispatcher(notificationOutboxMapper, mailSender, realtimeSender,
+                Clock.fixed(NOW, ZoneOffset.UTC));
+        lenient().when(mailSender.sendTextAsync(any())).thenReturn(CompletableFuture.completedFuture(null));
+    }
+
+    @Test
+    @DisplayName("실시간 알림과 메일을 보내고 완료로 반영")
+    void shouldCompleteWhenAllChannelsDelivered() {
+        // Given
+        given(notificationOutboxMapper.claimDue(eq(NOW), any(), anyInt())).willReturn(List.of(message(0, null)));
+
+        // When
+        int dispatched = dispatcher.dispatchBatch();
+
+        // Then
+        assertThat(dispatched).isEqualTo(1);
+        then(realtimeSender).should().send(eq(1L), any(NotificationEnvelope.class));
+        then(mailSender).should().sendTextAsync(new MailCreateServiceRequestDto("test1@example.com", "예매 완료", "내용"));
+
+        NotificationOutboxResult result = capturedResult();
+        assertThat(result.completedAt()).isEqualTo(NOW);
+        assertThat(result.realtimeSentAt()).isEqualTo(NOW);
+        assertThat(result.mailSentAt()).isEqualTo(NOW);
+        assertThat(result.failedAt()).isNull();
+    }
+
+    @Test
+    @DisplayName("메일 일시 오류는 실시간 전달 시각을 남기고 백오프 후 재시도")
+    void shouldRescheduleWithBackoffOnTransientMailError() {
+        // Given
+        given(notificationOutboxMapper.claimDue(eq(NOW), any(), anyInt())).willReturn(List.of(message(1, null)));
+        given(mailSender.sendTextAsync(any())).willReturn(CompletableFuture.failedFuture(new MailSendException("421 try again")));
+
+        // When
+        dispatcher.dispatchBatch();
+
+        // Then
+        NotificationOutboxResult result = capturedResult();
+        assertThat(result.attempts()).isEqualTo(2);
+        assertThat(result.nextAttemptAt()).isEqualTo(NOW.plus(Duration.ofSeconds(10)));
+        assertThat(result.realtimeSentAt()).isEqualTo(NOW);
+        assertThat(result.mailSentAt()).isNull();
+        assertThat(result.completedAt()).isNull();
+        assertThat(result.failedAt()).isNull();
+        assertThat(result.lastError()).startsWith("mail:");
+    }
+
+    @Test
+    @DisplayName("재시도 시 이미 보낸 실시간 알림은 다시 보내지 않음")
+    void shouldNotResendDeliveredChannelOnRetry() {
+        // Given
+        Instant realtimeSentAt = NOW.minusSeconds(10);
+        given(notificationOutboxMapper.claimDue(eq(NOW), any(), anyInt())).willReturn(List.of(message(1, realtimeSentAt)));
+
+        // When
+        dispatcher.dispatchBatch();
+
+        // Then
+        then(realtimeSender).shouldHaveNoInteractions();
+        then(mailSender).should().sendTextAsync(any());
+        NotificationOutboxResult result = capturedResult();
+        assertThat(result.realtimeSentAt()).isEqualTo(realtimeSentAt);
+        assertThat(result.completedAt()).isEqualTo(NOW);
+    }
+
+    @Test
+    @DisplayName("영구 메일 오류는 재시도하지 않고 실패로 반영")
+    void shouldFailOnPermanentMailError() {
+        // Given
+        given(notificationOutboxMapper.claimDue(eq(NOW), any(), anyInt())).willReturn(List.of(message(0, null)));
+        given(mailSender.sendTextAsync(any())).willReturn(
+                CompletableFuture.failedFuture(new NonRetryableMailException("Permanent mail error: USER_UNKNOWN")));
+
+        // When
+        dispatcher.dispatchBatch();
+
+        // Then
+        NotificationOutboxResult result = capturedResult();
+        assertThat(result.failedAt()).isEqualTo(NOW);
+        assertThat(result.completedAt()).isNull();
+        assertThat(result.attempts()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("전달할 알림이 없으면 결과를 반영하지 않음")
+    void shouldSkipWhenNothingDue() {
+        // Given
+        given(notificationOutboxMapper.claimDue(eq(NOW), any(), anyInt())).willReturn(List.of());
+
+        // When
+        int dispatched = dispatcher.dispatchBatch();
+
+        // Then
+        assertThat(dispatched).isZero();
+        then(notificationOutboxMapper).should(never()).updateResults(any());
+    }
+
+    private NotificationOutboxMessage message(int attempts, Instant realtimeSentAt) {
+        return new NotificationOutboxMessage(10L, "RESERVATION_SUCCESS:100", NotificationKind.RESERVATION_SUCCESS,
+                1L, "test1@example.com", "예매 완료", "내용", "/mypage/reservations",
+                attempts, realtimeSentAt, null, NOW.minusSeconds(60));
+    }
+
+    private NotificationOutboxResult capturedResult() {
+        then(notificationOutboxMapper).should().updateResults(resultsCaptor.capture());
+        assertThat(resultsCaptor.getValue()).hasSize(1);
+        return resultsCaptor.getValue().getFirst();
+    }
+}
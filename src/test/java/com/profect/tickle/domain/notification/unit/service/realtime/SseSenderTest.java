@@ -2,8 +2,10 @@ package com.profect.tickle.domain.notification.unit.service.realtime;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.profect.tickle.domain.notification.dto.NotificationEnvelope;
+import com.profect.tickle.domain.notification.entity.SseEventName;
 import com.profect.tickle.domain.notification.property.NotificationProperty;
 import com.profect.tickle.domain.notification.repository.SseRepository;
+import com.profect.tickle.domain.notification.service.realtime.SseDeliveryStats;
 import com.profect.tickle.domain.notification.service.realtime.SseSender;
 import com.profect.tickle.global.util.JsonUtils;
 import org.junit.jupiter.api.BeforeEach;
@@ -12,6 +14,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.*;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.io.IOException;
@@ -21,10 +24,13 @@ import java.time.Instant;
 import java.time.ZoneOffset;
 import java.util.*;
 import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Supplier;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
@@ -37,6 +43,8 @@ class SseSenderTest {
     SseRepository sseRepository;
     @Mock
     NotificationProperty notificationProperty;
+    @Captor
+    ArgumentCaptor<Set<ResponseBodyEmitter.DataWithMediaType>> frameCaptor;
 
     // Mock
     ObjectMapper objectMapper;
@@ -74,7 +82,6 @@ class SseSenderTest {
 
             // then
             then(sseRepository).should().saveEvent(eq(memberId), anyLong(), anyString());
-            then(sseRepository).should().clearEventsBefore(eq(memberId), anyLong());
             then(sseRepository).should().getAllWithIds(memberId);
         }
     }
@@ -105,7 +112,38 @@ class SseSenderTest {
             then(e2).should().send(any(SseEmitter.SseEventBuilder.class));
 
             then(sseRepository).should().saveEvent(eq(memberId), anyLong(), anyString());
-            then(sseRepository).should().clearEventsBefore(eq(memberId), anyLong());
+        }
+    }
+
+    @Test
+    @DisplayName("[sendAll] 페이로드를 한 번만 직렬화해 모든 수신자의 emitter에 같은 프레임을 전송한다")
+    void sendAllSerializesOnceAndSharesFrame() throws Exception {
+        // given
+        SseEmitter e1 = mock(SseEmitter.class);
+        SseEmitter e2 = mock(SseEmitter.class);
+        NotificationEnvelope<?> payload = mock(NotificationEnvelope.class);
+
+        given(sseRepository.getAllWithIds(21L)).willReturn(Map.of("e1", e1));
+        given(sseRepository.getAllWithIds(22L)).willReturn(Map.of("e2", e2));
+        given(sseRepository.getAllWithIds(23L)).willReturn(Collections.emptyMap());
+
+        try (MockedStatic<JsonUtils> mocked = Mockito.mockStatic(JsonUtils.class)) {
+            mocked.when(() -> JsonUtils.toJson(any(ObjectMapper.class), any()))
+                    .thenReturn("{\"type\":\"n\"}");
+
+            // when
+            sseSender.sendAll(List.of(21L, 22L, 23L), payload);
+
+            // then
+            mocked.verify(() -> JsonUtils.toJson(any(ObjectMapper.class), any()), times(1));
+
+            then(e1).should().send(frameCaptor.capture());
+            then(e2).should().send(frameCaptor.capture());
+            assertSame(frameCaptor.getAllValues().get(0), frameCaptor.getAllValues().get(1));
+
+            ArgumentCaptor<byte[]> cached = ArgumentCaptor.forClass(byte[].class);
+            then(sseRepository).should(times(3)).saveEvent(anyLong(), anyLong(), cached.capture());
+            assertSame(cached.getAllValues().get(0), cached.getAllValues().get(2));
         }
     }
 
@@ -134,6 +172,86 @@ class SseSenderTest {
         }
     }
 
+    @Test
+    @DisplayName("[sendTransient] 재전송 캐시에 저장하지 않고 활성 emitter로만 전송한다")
+    void sendTransientDoesNotCacheEvent() throws Exception {
+        // given
+        long memberId = 13L;
+        SseEmitter e1 = mock(SseEmitter.class);
+        given(sseRepository.getAllWithIds(memberId)).willReturn(Map.of("e1", e1));
+
+        // when
+        sseSender.sendTransient(memberId, SseEventName.WAITING_ROOM, Map.of("position", 3));
+
+        // then
+        then(e1).should().send(any(SseEmitter.SseEventBuilder.class));
+        then(sseRepository).should(never()).saveEvent(anyLong(), anyLong(), anyString());
+    }
+
+    @Test
+    @DisplayName("[sendTransient] 아직 전송되지 않은 같은 종류의 이벤트는 최신 값 하나만 전송한다")
+    void sendTransientCoalescesPendingEvents() throws Exception {
+        // given
+        long memberId = 14L;
+        List<Runnable> deferred = new ArrayList<>();
+        SseSender deferredSender = new SseSender(objectMapper, clock, uuidSupplier, deferred::add, notificationProperty, sseRepository);
+        SseEmitter e1 = mock(SseEmitter.class);
+        given(sseRepository.getAllWithIds(memberId)).willReturn(Map.of("e1", e1));
+
+        // when
+        deferredSender.sendTransient(memberId, SseEventName.WAITING_ROOM, Map.of("position", 3));
+        deferredSender.sendTransient(memberId, SseEventName.WAITING_ROOM, Map.of("position", 2));
+        deferredSender.sendTransient(memberId, SseEventName.WAITING_ROOM, Map.of("position", 1));
+        deferred.forEach(Runnable::run);
+
+        // then
+        then(e1).should(times(1)).send(any(SseEmitter.SseEventBuilder.class));
+        assertEquals(2, deferredSender.deliveryStats().coalesced());
+    }
+
+    @Test
+    @DisplayName("[backpressure] 대기열이 가득 차면 이벤트를 버리고, 기준 시간 이상 계속 가득 차 있으면 emitter를 끊는다")
+    void sendEvictsSlowConsumerWhenLaneStaysFull() {
+        // given
+        long memberId = 15L;
+        AtomicLong now = new AtomicLong(1_000_000L);
+        Clock movingClock = mock(Clock.class);
+        given(movingClock.millis()).willAnswer(invocation -> now.get());
+        List<Runnable> stalled = new ArrayList<>(); // 실행되지 않는 전송 작업 (응답이 멈춘 클라이언트)
+        SseSender stalledSender = new SseSender(objectMapper, movingClock, uuidSupplier, stalled::add, notificationProperty, sseRepository);
+
+        SseEmitter slow = mock(SseEmitter.class);
+        given(sseRepository.getAllWithIds(memberId)).willReturn(Map.of("slow", slow));
+        given(sseRepository.getByEmitterId("slow")).willReturn(slow);
+        NotificationEnvelope<?> payload = mock(NotificationEnvelope.class);
+
+        try (MockedStatic<JsonUtils> mocked = Mockito.mockStatic(JsonUtils.class)) {
+            mocked.when(() -> JsonUtils.toJson(any(ObjectMapper.class), any()))
+                    .thenReturn("{\"x\":1}");
+
+            // when - lane 용량(64)을 넘겨 전송
+            for (int i = 0; i < 70; i++) {
+                stalledSender.send(memberId, payload);
+            }
+
+            // then - 초과분만 버리고 연결은 유지
+            SseDeliveryStats stats = stalledSender.deliveryStats();
+            assertEquals(64, stats.queued());
+            assertEquals(6, stats.dropped());
+            then(slow).should(never()).completeWithError(any());
+
+            // when - 기준 시간이 지나도 대기열이 가득 차 있으면
+            now.addAndGet(30_000);
+            stalledSender.send(memberId, payload);
+
+            // then
+            then(slow).should().completeWithError(any(IOException.class));
+            then(sseRepository).should().remove(memberId, "slow");
+            assertEquals(1, stalledSender.deliveryStats().slowConsumersEvicted());
+            assertEquals(0, stalledSender.deliveryStats().lanes());
+        }
+    }
+
     @Test
     @DisplayName("[connect] emitter를 저장하고 Last-Event-ID가 있으면 재전송을 스케줄한다")
     void connectSavesEmitterAndSchedulesReplayWhenLastEventIdPresent() {
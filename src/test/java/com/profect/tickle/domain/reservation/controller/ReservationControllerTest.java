@@ -0,0 +1,93 @@
+package com.profect.tickle.domain.reservation.controller;
+
+import com.profect.tickle.domain.reservation.service.ReservationInfoService;
+import com.profect.tickle.domain.reservation.service.ReservationService;
+import com.profect.tickle.domain.reservation.service.SeatPreemptionService;
+import com.profect.tickle.domain.reservation.service.SeatService;
+import com.profect.tickle.domain.reservation.service.seatmap.SeatHoldWriter;
+import com.profect.tickle.domain.reservation.service.seatmap.SerializedSeatMap;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("공연 좌석 조회 ETag 단위 테스트")
+class ReservationControllerTest {
+
+    private static final Long PERFORMANCE_ID = 1L;
+    private static final String E_TAG = "W/\"1-7\"";
+    private static final String BODY = "{\"status\":200}";
+
+    @Mock
+    private SeatService seatService;
+
+    @Mock
+    private SeatPreemptionService seatPreemptionService;
+
+    @Mock
+    private ReservationInfoService reservationInfoService;
+
+    @Mock
+    private ReservationService reservationService;
+
+    @Mock
+    private SeatHoldWriter seatHoldWriter;
+
+    @InjectMocks
+    private ReservationController reservationController;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.standaloneSetup(reservationController).build();
+        given(seatService.getSeatInfoByPerformance(PERFORMANCE_ID))
+                .willReturn(new SerializedSeatMap(E_TAG, BODY.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    @DisplayName("If-None-Match가 없으면 ETag와 함께 좌석 정보를 내려준다")
+    void shouldReturnBodyWithETag() throws Exception {
+        mockMvc.perform(get("/api/v1/reservation/{performanceId}/seats", PERFORMANCE_ID))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, E_TAG))
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(content().string(BODY));
+    }
+
+    @Test
+    @DisplayName("If-None-Match가 현재 ETag와 같으면 본문 없이 304를 반환한다")
+    void shouldReturnNotModifiedWhenETagMatches() throws Exception {
+        mockMvc.perform(get("/api/v1/reservation/{performanceId}/seats", PERFORMANCE_ID)
+                        .header(HttpHeaders.IF_NONE_MATCH, E_TAG))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, E_TAG))
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    @DisplayName("If-None-Match가 이전 ETag면 새 좌석 정보를 내려준다")
+    void shouldReturnBodyWhenETagIsStale() throws Exception {
+        mockMvc.perform(get("/api/v1/reservation/{performanceId}/seats", PERFORMANCE_ID)
+                        .header(HttpHeaders.IF_NONE_MATCH, "W/\"1-6\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, E_TAG))
+                .andExpect(content().string(BODY));
+    }
+}
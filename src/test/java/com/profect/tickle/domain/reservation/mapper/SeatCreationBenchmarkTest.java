@@ -0,0 +1,172 @@
+package com.profect.tickle.domain.reservation.mapper;
+
+import com.profect.tickle.domain.member.entity.Member;
+import com.profect.tickle.domain.performance.entity.Genre;
+import com.profect.tickle.domain.performance.entity.Hall;
+import com.profect.tickle.domain.performance.entity.HallType;
+import com.profect.tickle.domain.performance.entity.Performance;
+import com.profect.tickle.domain.reservation.entity.Seat;
+import com.profect.tickle.domain.reservation.entity.SeatTemplate;
+import com.profect.tickle.domain.reservation.repository.SeatRepository;
+import com.profect.tickle.domain.reservation.repository.SeatTemplateRepository;
+import com.profect.tickle.domain.reservation.service.SeatService;
+import com.profect.tickle.global.status.Status;
+import com.profect.tickle.global.status.StatusIds;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 좌석 생성 방식 비교 (1천, 1만, 10만 석)
+ * 공연마다 템플릿을 읽어 Seat 엔티티를 saveAll하던 방식(before)과
+ * seat_template에서 INSERT ... SELECT로 한 번에 만드는 방식(after)을 같은 DB에서 실행한다.
+ * 실행 시간이 길어 일반 빌드에서는 제외된다. (./gradlew benchmark)
+ */
+@Tag("benchmark")
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+@Sql(scripts = "classpath:/sql/cleanup.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+@Sql(scripts = "classpath:/sql/data.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@DisplayName("좌석 생성 saveAll 대비 INSERT ... SELECT 벤치마크")
+class SeatCreationBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(SeatCreationBenchmarkTest.class);
+
+    private static final int SEATS_PER_PERFORMANCE = 100;
+
+    @PersistenceContext
+    EntityManager em;
+
+    @Autowired
+    SeatService seatService;
+
+    @Autowired
+    SeatRepository seatRepository;
+
+    @Autowired
+    SeatTemplateRepository seatTemplateRepository;
+
+    @ParameterizedTest(name = "{0}석")
+    @ValueSource(ints = {1_000, 10_000, 100_000})
+    @DisplayName("공연 좌석 생성 소요 시간")
+    void compareSeatCreation(int seatCount) {
+        // given - 템플릿 100석짜리 홀의 공연을 방식마다 따로 준비
+        Instant now = Instant.now().truncatedTo(ChronoUnit.MILLIS);
+        int performanceCount = seatCount / SEATS_PER_PERFORMANCE;
+        prepareSeatTemplates(HallType.A);
+        List<Long> beforePerformanceIds = persistPerformances(HallType.A, performanceCount, now);
+        List<Long> afterPerformanceIds = persistPerformances(HallType.A, performanceCount, now);
+        em.clear();
+
+        // when
+        long beforeStart = System.nanoTime();
+        int beforeCreated = createSeatsWithSaveAll(beforePerformanceIds, now);
+        long beforeNanos = System.nanoTime() - beforeStart;
+
+        long afterStart = System.nanoTime();
+        int afterCreated = seatService.createSeatsForPerformances(afterPerformanceIds);
+        long afterNanos = System.nanoTime() - afterStart;
+
+        // then
+        log.info("[seat creation {} seats] saveAll: {} ms, INSERT ... SELECT: {} ms",
+                seatCount, TimeUnit.NANOSECONDS.toMillis(beforeNanos), TimeUnit.NANOSECONDS.toMillis(afterNanos));
+        assertThat(beforeCreated).isEqualTo(seatCount);
+        assertThat(afterCreated).isEqualTo(seatCount);
+    }
+
+    // 변경 전 SeatService.createSeatsForPerformance: 공연마다 템플릿 조회 → 엔티티 생성 → saveAll
+    private int createSeatsWithSaveAll(List<Long> performanceIds, Instant now) {
+        int created = 0;
+        for (Long performanceId : performanceIds) {
+            Performance performance = em.find(Performance.class, performanceId);
+            List<SeatTemplate> seatTemplates = seatTemplateRepository.findByHallType(performance.getHall().getType());
+            Status available = em.getReference(Status.class, StatusIds.Seat.AVAILABLE);
+
+            List<Seat> seats = seatTemplates.stream()
+                    .map(template -> Seat.builder()
+                            .performance(performance)
+                            .seatNumber(template.getSeatNumber())
+                            .seatGrade(template.getSeatGrade())
+                            .seatPrice(template.getPrice())
+                            .status(available)
+                            .createdAt(now)
+                            .build())
+                    .toList();
+            created += seatRepository.saveAll(seats).size();
+
+            // 영속성 컨텍스트가 커지지 않도록 공연 단위로 비움
+            em.flush();
+            em.clear();
+        }
+        return created;
+    }
+
+    private void prepareSeatTemplates(HallType hallType) {
+        em.createNativeQuery("DELETE FROM seat_template WHERE hall_type = ?")
+                .setParameter(1, hallType.name())
+                .executeUpdate();
+        for (int i = 1; i <= SEATS_PER_PERFORMANCE; i++) {
+            em.createNativeQuery("""
+                            INSERT INTO seat_template (hall_type, seat_grade, seat_number, price)
+                            VALUES (?, 'R', ?, 50000)
+                            """)
+                    .setParameter(1, hallType.name())
+                    .setParameter(2, "A" + i)
+                    .executeUpdate();
+        }
+    }
+
+    private List<Long> persistPerformances(HallType hallType, int count, Instant now) {
+        Hall hall = Hall.builder()
+                .type(hallType)
+                .address("서울시 테스트홀")
+                .build();
+        em.persist(hall);
+
+        List<Long> performanceIds = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Performance performance = Performance.builder()
+                    .member(em.getReference(Member.class, 1L))
+                    .hall(hall)
+                    .genre(em.getReference(Genre.class, 1L))
+                    .status(em.getReference(Status.class, StatusIds.Performance.SCHEDULED))
+                    .title("좌석 생성 벤치마크 공연 " + i)
+                    .price("50000")
+                    .date(now.plus(30, ChronoUnit.DAYS))
+                    .runtime((short) 120)
+                    .img("test.png")
+                    .startDate(now)
+                    .endDate(now.plus(29, ChronoUnit.DAYS))
+                    .isEvent(false)
+                    .lookCount((short) 0)
+                    .createdAt(now)
+                    .updatedAt(now)
+                    .build();
+            em.persist(performance);
+            performanceIds.add(performance.getId());
+        }
+        em.flush();
+        return performanceIds;
+    }
+}
@@ -0,0 +1,124 @@
+package com.profect.tickle.domain.reservation.mapper;
+
+import com.profect.tickle.domain.member.entity.Member;
+import com.profect.tickle.domain.performance.entity.Genre;
+import com.profect.tickle.domain.performance.entity.Hall;
+import com.profect.tickle.domain.performance.entity.HallType;
+import com.profect.tickle.domain.performance.entity.Performance;
+import com.profect.tickle.global.status.Status;
+import com.profect.tickle.global.status.StatusIds;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+@Sql(scripts = "classpath:/sql/cleanup.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+@Sql(scripts = "classpath:/sql/data.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class SeatMapperTest {
+
+    @PersistenceContext
+    EntityManager em;
+
+    @Autowired
+    SeatMapper seatMapper;
+
+    @Test
+    @DisplayName("좌석 템플릿으로 공연 좌석을 한 번에 생성하고, 재실행하면 건너뜀")
+    void insertSeatsFromTemplates() {
+        // given
+        Instant now = Instant.now().truncatedTo(ChronoUnit.MILLIS);
+        clearSeatTemplates(HallType.A);
+        insertSeatTemplate(HallType.A, "A1", 50000);
+        insertSeatTemplate(HallType.A, "A2", 40000);
+        Long performanceId = persistPerformance(HallType.A, now);
+
+        // when
+        int created = seatMapper.insertSeatsFromTemplates(List.of(performanceId), StatusIds.Seat.AVAILABLE, now);
+        int recreated = seatMapper.insertSeatsFromTemplates(List.of(performanceId), StatusIds.Seat.AVAILABLE, now);
+
+        // then
+        assertThat(created).isEqualTo(2);
+        assertThat(recreated).isZero();
+        assertThat(seatMapper.existsSeatsByPerformanceId(performanceId)).isTrue();
+        assertThat(seatMapper.findPerformanceIdsWithoutSeats(performanceId - 1, 10)).doesNotContain(performanceId);
+    }
+
+    @Test
+    @DisplayName("홀 타입 좌석 템플릿이 없으면 좌석이 생성되지 않고 미생성 공연으로 남음")
+    void insertSeatsFromTemplatesWithoutTemplate() {
+        // given
+        Instant now = Instant.now().truncatedTo(ChronoUnit.MILLIS);
+        clearSeatTemplates(HallType.B);
+        Long performanceId = persistPerformance(HallType.B, now);
+
+        // when
+        int created = seatMapper.insertSeatsFromTemplates(List.of(performanceId), StatusIds.Seat.AVAILABLE, now);
+
+        // then
+        assertThat(created).isZero();
+        assertThat(seatMapper.existsSeatsByPerformanceId(performanceId)).isFalse();
+        assertThat(seatMapper.findPerformanceIdsWithoutSeats(performanceId - 1, 10)).containsExactly(performanceId);
+    }
+
+    private void clearSeatTemplates(HallType hallType) {
+        em.createNativeQuery("DELETE FROM seat_template WHERE hall_type = ?")
+                .setParameter(1, hallType.name())
+                .executeUpdate();
+    }
+
+    private void insertSeatTemplate(HallType hallType, String seatNumber, int price) {
+        em.createNativeQuery("""
+                        INSERT INTO seat_template (hall_type, seat_grade, seat_number, price)
+                        VALUES (?, 'R', ?, ?)
+                        """)
+                .setParameter(1, hallType.name())
+                .setParameter(2, seatNumber)
+                .setParameter(3, price)
+                .executeUpdate();
+    }
+
+    private Long persistPerformance(HallType hallType, Instant now) {
+        Hall hall = Hall.builder()
+                .type(hallType)
+                .address("서울시 테스트홀")
+                .build();
+        em.persist(hall);
+
+        Performance performance = Performance.builder()
+                .member(em.getReference(Member.class, 1L))
+                .hall(hall)
+                .genre(em.getReference(Genre.class, 1L))
+                .status(em.getReference(Status.class, StatusIds.Performance.SCHEDULED))
+                .title("좌석 생성 테스트 공연")
+                .price("50000")
+                .date(now.plus(30, ChronoUnit.DAYS))
+                .runtime((short) 120)
+                .img("test.png")
+                .startDate(now)
+                .endDate(now.plus(29, ChronoUnit.DAYS))
+                .isEvent(false)
+                .lookCount((short) 0)
+                .createdAt(now)
+                .updatedAt(now)
+                .build();
+        em.persist(performance);
+        em.flush();
+        return performance.getId();
+    }
+}
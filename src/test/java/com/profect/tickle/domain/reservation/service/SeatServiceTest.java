@@ -0,0 +1,111 @@
+package com.profect.tickle.domain.reservation.service;
+
+import com.profect.tickle.domain.performance.entity.Hall;
+import com.profect.tickle.domain.performance.entity.HallType;
+import com.profect.tickle.domain.performance.entity.Performance;
+import com.profect.tickle.domain.performance.repository.PerformanceRepository;
+import com.profect.tickle.domain.reservation.mapper.SeatMapper;
+import com.profect.tickle.domain.reservation.service.seatmap.SeatMapRegistry;
+import com.profect.tickle.domain.reservation.service.seatmap.SeatMapResponseCache;
+import com.profect.tickle.global.exception.BusinessException;
+import com.profect.tickle.global.exception.ErrorCode;
+import com.profect.tickle.global.status.StatusIds;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("좌석 생성 단위 테스트")
+class SeatServiceTest {
+
+    private static final Long PERFORMANCE_ID = 1L;
+
+    @Mock
+    private PerformanceRepository performanceRepository;
+
+    @Mock
+    private SeatMapper seatMapper;
+
+    @Mock
+    private SeatMapRegistry seatMapRegistry;
+
+    @Mock
+    private SeatMapResponseCache seatMapResponseCache;
+
+    @InjectMocks
+    private SeatService seatService;
+
+    @Test
+    @DisplayName("이미 좌석이 생성된 공연이면 템플릿 누락으로 보지 않고 그대로 종료")
+    void shouldIgnoreAlreadyCreatedSeats() {
+        // Given
+        givenPerformance();
+        given(seatMapper.insertSeatsFromTemplates(eq(List.of(PERFORMANCE_ID)), eq(StatusIds.Seat.AVAILABLE), any()))
+                .willReturn(0);
+        given(seatMapper.existsSeatsByPerformanceId(PERFORMANCE_ID)).willReturn(true);
+
+        // When & Then
+        assertThatCode(() -> seatService.createSeatsForPerformance(PERFORMANCE_ID))
+                .doesNotThrowAnyException();
+        then(seatMapRegistry).should(never()).invalidate(any());
+    }
+
+    @Test
+    @DisplayName("좌석도 없고 생성된 좌석도 없으면 SEAT_TEMPLATE_NOT_FOUND")
+    void shouldThrowWhenTemplateMissing() {
+        // Given
+        givenPerformance();
+        given(seatMapper.insertSeatsFromTemplates(eq(List.of(PERFORMANCE_ID)), eq(StatusIds.Seat.AVAILABLE), any()))
+                .willReturn(0);
+        given(seatMapper.existsSeatsByPerformanceId(PERFORMANCE_ID)).willReturn(false);
+
+        // When & Then
+        assertThatThrownBy(() -> seatService.createSeatsForPerformance(PERFORMANCE_ID))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.SEAT_TEMPLATE_NOT_FOUND);
+    }
+
+    @Test
+    @DisplayName("좌석이 없는 공연을 ID 순으로 끝까지 조회하며 좌석을 생성하고 좌석맵을 무효화")
+    void shouldCreateMissingSeatsPageByPage() {
+        // Given
+        given(seatMapper.findPerformanceIdsWithoutSeats(0L, 100)).willReturn(List.of(1L, 2L));
+        given(seatMapper.findPerformanceIdsWithoutSeats(2L, 100)).willReturn(List.of(5L));
+        given(seatMapper.findPerformanceIdsWithoutSeats(5L, 100)).willReturn(List.of());
+        given(seatMapper.insertSeatsFromTemplates(anyList(), eq(StatusIds.Seat.AVAILABLE), any()))
+                .willReturn(60, 0);
+
+        // When
+        int created = seatService.createMissingSeats();
+
+        // Then
+        assertThat(created).isEqualTo(60);
+        then(seatMapRegistry).should().invalidate(1L);
+        then(seatMapRegistry).should().invalidate(2L);
+        then(seatMapRegistry).should().invalidate(5L);
+    }
+
+    private void givenPerformance() {
+        Hall hall = mock(Hall.class);
+        given(hall.getType()).willReturn(HallType.A);
+        Performance performance = mock(Performance.class);
+        given(performance.getHall()).willReturn(hall);
+        given(performanceRepository.findById(PERFORMANCE_ID)).willReturn(Optional.of(performance));
+    }
+}
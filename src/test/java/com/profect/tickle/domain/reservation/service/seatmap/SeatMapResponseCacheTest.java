@@ -0,0 +1,177 @@
+package com.profect.tickle.domain.reservation.service.seatmap;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.profect.tickle.domain.performance.entity.Hall;
+import com.profect.tickle.domain.performance.entity.HallType;
+import com.profect.tickle.domain.performance.entity.Performance;
+import com.profect.tickle.domain.performance.repository.PerformanceRepository;
+import com.profect.tickle.domain.reservation.entity.Seat;
+import com.profect.tickle.domain.reservation.entity.SeatGrade;
+import com.profect.tickle.domain.reservation.repository.SeatRepository;
+import com.profect.tickle.global.status.Status;
+import com.profect.tickle.global.status.StatusIds;
+import com.profect.tickle.global.websocket.StompDestinations;
+import com.profect.tickle.global.websocket.properties.StompBrokerProperties;
+import com.profect.tickle.global.websocket.properties.StompBrokerProperties.Mode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("좌석 조회 응답 캐시 단위 테스트")
+class SeatMapResponseCacheTest {
+
+    private static final Long PERFORMANCE_ID = 1L;
+    private static final Instant NOW = Instant.parse("2025-01-01T00:00:00Z");
+
+    @Mock
+    private SeatRepository seatRepository;
+
+    @Mock
+    private PerformanceRepository performanceRepository;
+
+    @Mock
+    private SimpMessagingTemplate messagingTemplate;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private SeatMapBroadcaster seatMapBroadcaster;
+    private SeatMapRegistry seatMapRegistry;
+    private SeatMapResponseCache seatMapResponseCache;
+
+    @BeforeEach
+    void setUp() {
+        Clock clock = Clock.fixed(NOW, ZoneOffset.UTC);
+        seatMapBroadcaster = new SeatMapBroadcaster(messagingTemplate, new StompDestinations(
+                new StompBrokerProperties(Mode.SIMPLE, "localhost", 61613, "guest", "guest", "guest", "guest", null)));
+        seatMapRegistry = new SeatMapRegistry(seatRepository, seatMapBroadcaster, eventPublisher, clock);
+        seatMapResponseCache = new SeatMapResponseCache(
+                seatMapRegistry, seatMapBroadcaster, performanceRepository, new ObjectMapper(), clock);
+    }
+
+    @Test
+    @DisplayName("좌석 상태가 바뀌지 않았다면 같은 응답과 ETag를 재사용한다")
+    void shouldReuseResponseWhenUnchanged() {
+        // Given
+        givenPerformance();
+        List<Seat> seats = createSeats(3);
+        given(seatRepository.findByPerformanceIdOrderBySeatNumber(PERFORMANCE_ID)).willReturn(seats);
+
+        // When
+        SerializedSeatMap first = seatMapResponseCache.get(PERFORMANCE_ID);
+        SerializedSeatMap second = seatMapResponseCache.get(PERFORMANCE_ID);
+
+        // Then
+        assertThat(second).isSameAs(first);
+        assertThat(second.matches(first.eTag())).isTrue();
+        then(performanceRepository).should(times(1)).findById(PERFORMANCE_ID);
+    }
+
+    @Test
+    @DisplayName("좌석을 선점하면 변경분 전송 이후 조회에서 새 ETag와 선점 상태가 내려간다")
+    void shouldRebuildAfterHold() {
+        // Given
+        givenPerformance();
+        List<Seat> seats = createSeats(3);
+        given(seatRepository.findByPerformanceIdOrderBySeatNumber(PERFORMANCE_ID)).willReturn(seats);
+        SerializedSeatMap before = seatMapResponseCache.get(PERFORMANCE_ID);
+
+        // When
+        seatMapRegistry.tryHold(PERFORMANCE_ID, List.of(2L), "t1", NOW.plus(5, ChronoUnit.MINUTES), NOW);
+        seatMapBroadcaster.flush();
+        SerializedSeatMap after = seatMapResponseCache.get(PERFORMANCE_ID);
+
+        // Then
+        assertThat(after.eTag()).isNotEqualTo(before.eTag());
+        assertThat(after.matches(before.eTag())).isFalse();
+        assertThat(new String(after.body(), StandardCharsets.UTF_8))
+                .contains("\"statusId\":" + StatusIds.Seat.PREEMPTED);
+    }
+
+    @Test
+    @DisplayName("좌석맵이 무효화되면 캐시 항목도 제거되어 새 좌석으로 다시 만든다")
+    void shouldEvictWhenSeatMapInvalidated() {
+        // Given
+        givenPerformance();
+        willAnswer(invocation -> {
+            seatMapResponseCache.evict(invocation.getArgument(0));
+            return null;
+        }).given(eventPublisher).publishEvent(any(Object.class));
+        List<Seat> seats = createSeats(2);
+        List<Seat> recreatedSeats = createSeats(3);
+        given(seatRepository.findByPerformanceIdOrderBySeatNumber(PERFORMANCE_ID)).willReturn(seats, recreatedSeats);
+        SerializedSeatMap before = seatMapResponseCache.get(PERFORMANCE_ID);
+
+        // When
+        seatMapRegistry.invalidate(PERFORMANCE_ID);
+        SerializedSeatMap after = seatMapResponseCache.get(PERFORMANCE_ID);
+
+        // Then
+        assertThat(after.eTag()).isNotEqualTo(before.eTag());
+        assertThat(new String(after.body(), StandardCharsets.UTF_8)).contains("\"seatNumber\":\"A3\"");
+    }
+
+    @Test
+    @DisplayName("좌석이 없는 공연도 응답을 캐싱해 매 조회마다 다시 만들지 않는다")
+    void shouldCacheEmptySeatMap() {
+        // Given
+        givenPerformance();
+        given(seatRepository.findByPerformanceIdOrderBySeatNumber(PERFORMANCE_ID)).willReturn(List.of());
+
+        // When
+        SerializedSeatMap first = seatMapResponseCache.get(PERFORMANCE_ID);
+        SerializedSeatMap second = seatMapResponseCache.get(PERFORMANCE_ID);
+
+        // Then
+        assertThat(second).isSameAs(first);
+        then(performanceRepository).should(times(1)).findById(PERFORMANCE_ID);
+    }
+
+    private void givenPerformance() {
+        Hall hall = mock(Hall.class);
+        given(hall.getType()).willReturn(HallType.A);
+        Performance performance = mock(Performance.class);
+        given(performance.getHall()).willReturn(hall);
+        given(performanceRepository.findById(PERFORMANCE_ID)).willReturn(Optional.of(performance));
+    }
+
+    private List<Seat> createSeats(int count) {
+        List<Seat> seats = new ArrayList<>();
+        for (long id = 1; id <= count; id++) {
+            Status status = mock(Status.class);
+            given(status.getId()).willReturn(StatusIds.Seat.AVAILABLE);
+            seats.add(Seat.builder()
+                    .id(id)
+                    .status(status)
+                    .seatNumber("A" + id)
+                    .seatGrade(SeatGrade.R)
+                    .seatPrice(50000)
+                    .createdAt(NOW)
+                    .build());
+        }
+        return seats;
+    }
+}
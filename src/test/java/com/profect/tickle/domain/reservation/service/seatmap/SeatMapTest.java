@@ -0,0 +1,222 @@
+package com.profect.tickle.domain.reservation.service.seatmap;
+
+import com.profect.tickle.domain.reservation.dto.response.reservation.SeatInfoResponseDto;
+import com.profect.tickle.domain.reservation.entity.Seat;
+import com.profect.tickle.domain.reservation.entity.SeatGrade;
+import com.profect.tickle.global.status.Status;
+import com.profect.tickle.global.status.StatusIds;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+@DisplayName("SeatMap 단위 테스트")
+class SeatMapTest {
+
+    private static final Long PERFORMANCE_ID = 1L;
+    private static final Instant NOW = Instant.parse("2025-01-01T00:00:00Z");
+    private static final Instant UNTIL = NOW.plus(5, ChronoUnit.MINUTES);
+
+    @Test
+    @DisplayName("요청한 좌석이 모두 비어 있으면 전체 선점에 성공한다")
+    void shouldGrantAllSeatsWhenAvailable() {
+        // Given
+        SeatMap seatMap = SeatMap.of(PERFORMANCE_ID, createSeats(5), NOW);
+
+        // When
+        SeatHoldResult result = seatMap.tryHold(List.of(2L, 3L), "t1", UNTIL, NOW);
+
+        // Then
+        assertThat(result.granted()).isTrue();
+        assertThat(result.seatIds()).containsExactly(2L, 3L);
+    }
+
+    @Test
+    @DisplayName("좌석 하나라도 선점되어 있으면 전체 실패하고 먼저 잡은 좌석은 롤백된다")
+    void shouldRollbackWhenAnySeatIsHeld() {
+        // Given
+        SeatMap seatMap = SeatMap.of(PERFORMANCE_ID, createSeats(5), NOW);
+        seatMap.tryHold(List.of(3L), "t1", UNTIL, NOW);
+
+        // When
+        SeatHoldResult result = seatMap.tryHold(List.of(1L, 2L, 3L), "t2", UNTIL, NOW);
+
+        // Then
+        assertThat(result.granted()).isFalse();
+        assertThat(result.unavailableSeatIds()).containsExactly(3L);
+        assertThat(seatMap.tryHold(List.of(1L, 2L), "t3", UNTIL, NOW).granted()).isTrue();
+    }
+
+    @Test
+    @DisplayName("다른 공연의 좌석 ID가 포함되면 선점에 실패한다")
+    void shouldRejectUnknownSeat() {
+        // Given
+        SeatMap seatMap = SeatMap.of(PERFORMANCE_ID, createSeats(3), NOW);
+
+        // When
+        SeatHoldResult result = seatMap.tryHold(List.of(1L, 99L), "t1", UNTIL, NOW);
+
+        // Then
+        assertThat(result.granted()).isFalse();
+        assertThat(result.unavailableSeatIds()).containsExactly(99L);
+    }
+
+    @Test
+    @DisplayName("만료된 선점 좌석은 다시 선점할 수 있고, 예매 완료 좌석은 선점할 수 없다")
+    void shouldReclaimExpiredHoldButNotReservedSeat() {
+        // Given
+        SeatMap seatMap = SeatMap.of(PERFORMANCE_ID, createSeats(3), NOW);
+        seatMap.tryHold(List.of(1L), "t1", UNTIL, NOW);
+        seatMap.markReserved(List.of(2L));
+        Instant later = UNTIL.plusSeconds(1);
+
+        // When & Then
+        assertThat(seatMap.tryHold(List.of(1L), "t2", later.plus(5, ChronoUnit.MINUTES), later).granted()).isTrue();
+        assertThat(seatMap.tryHold(List.of(2L), "t3", later.plus(5, ChronoUnit.MINUTES), later).granted()).isFalse();
+    }
+
+    @Test
+    @DisplayName("스냅샷은 좌석별 상태 ID를 반환하고, 선점 해제는 실제로 풀린 좌석만 돌려준다")
+    void shouldSnapshotStatusesAndReturnReleasedSeats() {
+        // Given
+        SeatMap seatMap = SeatMap.of(PERFORMANCE_ID, createSeats(3), NOW);
+        seatMap.tryHold(List.of(1L, 2L), "t1", UNTIL, NOW);
+        seatMap.markReserved(List.of(2L));
+
+        // When
+        List<Long> released = seatMap.releaseHold(List.of(1L, 2L), "t1");
+
+        // Then
+        assertThat(released).containsExactly(1L);
+        assertThat(seatMap.snapshot(NOW))
+                .extracting(SeatInfoResponseDto::getStatusId)
+                .containsExactly(StatusIds.Seat.AVAILABLE, StatusIds.Seat.RESERVED, StatusIds.Seat.AVAILABLE);
+    }
+
+    @Test
+    @DisplayName("만료 시각이 같아도 선점 해제는 같은 토큰의 선점만 되돌린다")
+    void shouldReleaseOnlyHoldWithSameToken() {
+        // Given
+        SeatMap seatMap = SeatMap.of(PERFORMANCE_ID, createSeats(3), NOW);
+        seatMap.tryHold(List.of(1L), "t1", UNTIL, NOW);
+        seatMap.tryHold(List.of(2L), "t2", UNTIL, NOW);
+
+        // When
+        List<Long> released = seatMap.releaseHold(List.of(1L, 2L), "t2");
+
+        // Then
+        assertThat(released).containsExactly(2L);
+        assertThat(seatMap.snapshot(NOW))
+                .extracting(SeatInfoResponseDto::getStatusId)
+                .containsExactly(StatusIds.Seat.PREEMPTED, StatusIds.Seat.AVAILABLE, StatusIds.Seat.AVAILABLE);
+    }
+
+    @Test
+    @DisplayName("예매 가능/선점 상태가 아닌 좌석은 선점할 수 없다")
+    void shouldNotHoldSeatWithUnavailableStatus() {
+        // Given
+        List<Seat> seats = new ArrayList<>(createSeats(2));
+        seats.add(createSeat(3L, StatusIds.Seat.RESERVED, null, null));
+        SeatMap seatMap = SeatMap.of(PERFORMANCE_ID, seats, NOW);
+
+        // When
+        SeatHoldResult result = seatMap.tryHold(List.of(1L, 3L), "t1", UNTIL, NOW);
+
+        // Then
+        assertThat(result.granted()).isFalse();
+        assertThat(result.unavailableSeatIds()).containsExactly(3L);
+    }
+
+    @Test
+    @DisplayName("좌석 재적재는 비어 있는 좌석만 DB 상태로 맞추고 메모리의 유효한 선점은 유지한다")
+    void shouldRefreshOnlyFreeSeats() {
+        // Given
+        SeatMap seatMap = SeatMap.of(PERFORMANCE_ID, createSeats(3), NOW);
+        seatMap.tryHold(List.of(1L), "t1", UNTIL, NOW);
+        List<Seat> loaded = List.of(
+                createSeat(1L, StatusIds.Seat.PREEMPTED, "other", UNTIL),
+                createSeat(2L, StatusIds.Seat.PREEMPTED, "other", UNTIL),
+                createSeat(3L, StatusIds.Seat.AVAILABLE, null, null));
+
+        // When
+        Map<Long, List<Long>> changed = seatMap.refresh(loaded, NOW);
+
+        // Then
+        assertThat(changed).containsExactly(entry(StatusIds.Seat.PREEMPTED, List.of(2L)));
+        assertThat(seatMap.releaseHold(List.of(1L, 2L), "t1")).containsExactly(1L);
+        assertThat(seatMap.tryHold(List.of(2L), "t2", UNTIL, NOW).granted()).isFalse();
+    }
+
+    @Test
+    @DisplayName("동시에 같은 좌석을 선점하면 정확히 한 요청만 성공한다")
+    void shouldGrantExactlyOneHolderUnderContention() throws InterruptedException {
+        // Given
+        SeatMap seatMap = SeatMap.of(PERFORMANCE_ID, createSeats(10), NOW);
+        int threadCount = 64;
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(threadCount);
+        AtomicInteger winners = new AtomicInteger();
+
+        // When
+        for (int i = 0; i < threadCount; i++) {
+            // 겹치는 좌석 조합을 서로 다른 순서로 요청
+            List<Long> seatIds = (i % 2 == 0) ? List.of(4L, 5L, 6L) : List.of(6L, 5L);
+            String token = "t" + i;
+            executor.submit(() -> {
+                try {
+                    start.await();
+                    if (seatMap.tryHold(seatIds, token, UNTIL, NOW).granted()) {
+                        winners.incrementAndGet();
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        start.countDown();
+        done.await(10, TimeUnit.SECONDS);
+        executor.shutdown();
+
+        // Then
+        assertThat(winners.get()).isEqualTo(1);
+    }
+
+    private List<Seat> createSeats(int count) {
+        List<Seat> seats = new ArrayList<>();
+        for (long id = 1; id <= count; id++) {
+            seats.add(createSeat(id, StatusIds.Seat.AVAILABLE, null, null));
+        }
+        return seats;
+    }
+
+    private Seat createSeat(Long id, Long statusId, String preemptionToken, Instant preemptedUntil) {
+        Status status = mock(Status.class);
+        given(status.getId()).willReturn(statusId);
+        return Seat.builder()
+                .id(id)
+                .status(status)
+                .seatNumber("A" + id)
+                .seatGrade(SeatGrade.R)
+                .seatPrice(50000)
+                .createdAt(NOW)
+                .preemptionToken(preemptionToken)
+                .preemptedUntil(preemptedUntil)
+                .build();
+    }
+}
@@ -0,0 +1,35 @@
+package com.profect.tickle.domain.reservation.service.seatmap;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("SerializedSeatMap ETag 비교 단위 테스트")
+class SerializedSeatMapTest {
+
+    private final SerializedSeatMap seatMap = new SerializedSeatMap("W/\"1-7\"", new byte[0]);
+
+    @Test
+    @DisplayName("약한 비교이므로 W/ 접두어 유무와 관계없이 같은 태그면 일치한다")
+    void shouldMatchIgnoringWeakPrefix() {
+        assertThat(seatMap.matches("W/\"1-7\"")).isTrue();
+        assertThat(seatMap.matches("\"1-7\"")).isTrue();
+    }
+
+    @Test
+    @DisplayName("여러 태그 중 하나라도 같거나 *이면 일치한다")
+    void shouldMatchAnyOfListOrWildcard() {
+        assertThat(seatMap.matches("W/\"1-5\", W/\"1-7\"")).isTrue();
+        assertThat(seatMap.matches("*")).isTrue();
+    }
+
+    @Test
+    @DisplayName("헤더가 없거나 다른 태그면 일치하지 않는다")
+    void shouldNotMatchMissingOrDifferentTag() {
+        assertThat(seatMap.matches(null)).isFalse();
+        assertThat(seatMap.matches(" ")).isFalse();
+        assertThat(seatMap.matches("W/\"1-8\"")).isFalse();
+        assertThat(seatMap.matches("W/\"11-7\"")).isFalse();
+    }
+}
@@ -0,0 +1,70 @@
+package com.profect.tickle.domain.reservation.service.seatmap;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("TimingWheel 단위 테스트")
+class TimingWheelTest {
+
+    private static final long START = 1_000_000L;
+
+    @Test
+    @DisplayName("만료 시각이 된 항목만 반환한다")
+    void shouldExpireOnlyDueEntries() {
+        // Given
+        TimingWheel<String, String> wheel = new TimingWheel<>(100, 8, START);
+        wheel.add("a", START + 250, "a");
+        wheel.add("b", START + 550, "b");
+
+        // When
+        List<String> first = wheel.advanceTo(START + 300);
+        List<String> second = wheel.advanceTo(START + 600);
+
+        // Then
+        assertThat(first).containsExactly("a");
+        assertThat(second).containsExactly("b");
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("하위 휠 범위를 넘는 항목은 상위 휠을 거쳐 만료 시각에 반환된다")
+    void shouldCascadeFromOverflowWheel() {
+        // Given
+        TimingWheel<String, String> wheel = new TimingWheel<>(100, 8, START);  // 1단 0.8초
+        wheel.add("far", START + 5_050, "far");                               // 2단 이상
+
+        // When
+        List<String> expired = new ArrayList<>();
+        long expiredAt = -1;
+        for (long now = START; now <= START + 6_000 && expired.isEmpty(); now += 100) {
+            expired.addAll(wheel.advanceTo(now));
+            expiredAt = now;
+        }
+
+        // Then
+        assertThat(expired).containsExactly("far");
+        assertThat(expiredAt).isEqualTo(START + 5_100);
+    }
+
+    @Test
+    @DisplayName("취소한 항목은 만료되지 않으며, 이미 지난 시각은 등록되지 않는다")
+    void shouldNotExpireCancelledOrPastEntries() {
+        // Given
+        TimingWheel<String, String> wheel = new TimingWheel<>(100, 8, START);
+        wheel.add("a", START + 300, "a");
+
+        // When
+        boolean cancelled = wheel.cancel("a");
+        boolean addedPast = wheel.add("past", START - 10, "past");
+
+        // Then
+        assertThat(cancelled).isTrue();
+        assertThat(addedPast).isFalse();
+        assertThat(wheel.advanceTo(START + 1_000)).isEmpty();
+    }
+}
@@ -0,0 +1,81 @@
+package com.profect.tickle.domain.reservation.service.waitingroom;
+
+import com.profect.tickle.domain.notification.service.realtime.RealtimeSender;
+import com.profect.tickle.domain.reservation.dto.response.waitingroom.WaitingRoomStatusResponseDto;
+import com.profect.tickle.global.exception.BusinessException;
+import com.profect.tickle.global.exception.ErrorCode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+@DisplayName("WaitingRoomService 단위 테스트")
+class WaitingRoomServiceTest {
+
+    private static final Long PERFORMANCE_ID = 1L;
+    private static final Long MEMBER_ID = 10L;
+
+    private final AtomicLong now = new AtomicLong(1_000_000L);
+    private final RealtimeSender realtimeSender = mock(RealtimeSender.class);
+
+    @Test
+    @DisplayName("대기열을 끄면 입장 여부를 검증하지 않는다")
+    void shouldSkipValidationWhenDisabled() {
+        // Given
+        WaitingRoomService waitingRoomService = createService(false);
+
+        // When & Then
+        assertThatCode(() -> waitingRoomService.validateAdmitted(PERFORMANCE_ID, MEMBER_ID))
+                .doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("대기열을 켜면 입장 처리된 회원만 검증을 통과한다")
+    void shouldValidateOnlyAdmittedMembers() {
+        // Given
+        WaitingRoomService waitingRoomService = createService(true);
+        waitingRoomService.enter(PERFORMANCE_ID, MEMBER_ID);
+
+        // When & Then
+        assertThatThrownBy(() -> waitingRoomService.validateAdmitted(PERFORMANCE_ID, MEMBER_ID))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.WAITING_ROOM_NOT_ADMITTED);
+
+        now.addAndGet(1_000);
+        waitingRoomService.admitAll();
+
+        assertThatCode(() -> waitingRoomService.validateAdmitted(PERFORMANCE_ID, MEMBER_ID))
+                .doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("입장이 만료되어 비워진 대기열에 다시 진입하면 새 번호표를 받는다")
+    void shouldReissueTicketAfterIdleRoomRemoved() {
+        // Given
+        WaitingRoomService waitingRoomService = createService(true);
+        waitingRoomService.enter(PERFORMANCE_ID, MEMBER_ID);
+        now.addAndGet(1_000);
+        waitingRoomService.admitAll();
+        now.addAndGet(WaitingRoomService.ACTIVE_TTL_MILLIS);
+        waitingRoomService.admitAll();
+
+        // When
+        WaitingRoomStatusResponseDto status = waitingRoomService.enter(PERFORMANCE_ID, MEMBER_ID);
+
+        // Then
+        assertThat(status.admitted()).isFalse();
+        assertThat(status.position()).isEqualTo(1L);
+    }
+
+    private WaitingRoomService createService(boolean enabled) {
+        Clock clock = mock(Clock.class);
+        given(clock.millis()).willAnswer(invocation -> now.get());
+        return new WaitingRoomService(realtimeSender, clock, enabled);
+    }
+}
@@ -0,0 +1,101 @@
+package com.profect.tickle.domain.reservation.service.waitingroom;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("WaitingRoom 단위 테스트")
+class WaitingRoomTest {
+
+    private static final Long PERFORMANCE_ID = 1L;
+    private static final long NOW = 1_000_000L;
+    private static final long TTL = 60_000L;
+
+    @Test
+    @DisplayName("번호표는 발급 순으로 순번이 매겨지고, 다시 진입해도 기존 번호표를 유지한다")
+    void shouldKeepTicketOrder() {
+        // Given
+        WaitingRoom room = new WaitingRoom(PERFORMANCE_ID, NOW);
+        room.issue(10L);
+        room.issue(20L);
+        room.issue(30L);
+
+        // When
+        long reissued = room.issue(10L);
+
+        // Then
+        assertThat(reissued).isEqualTo(1L);
+        assertThat(room.waitingPositions()).containsExactly(entry(10L, 1L), entry(20L, 2L), entry(30L, 3L));
+    }
+
+    @Test
+    @DisplayName("토큰 버킷에 쌓인 만큼만 번호표 순으로 입장시킨다")
+    void shouldAdmitAtConfiguredRate() {
+        // Given
+        WaitingRoom room = new WaitingRoom(PERFORMANCE_ID, NOW);
+        room.issue(10L);
+        room.issue(20L);
+        room.issue(30L);
+
+        // When
+        List<Long> admitted = room.admit(2, 5, NOW + 1_000, TTL);
+
+        // Then
+        assertThat(admitted).containsExactly(10L, 20L);
+        assertThat(room.positionOf(30L)).isEqualTo(1L);
+        assertThat(room.admit(2, 5, NOW + 1_000, TTL)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("오래 비어 있어도 한 번에 입장하는 인원은 burst를 넘지 않는다")
+    void shouldCapAdmissionsByBurst() {
+        // Given
+        WaitingRoom room = new WaitingRoom(PERFORMANCE_ID, NOW);
+        for (long memberId = 1; memberId <= 10; memberId++) {
+            room.issue(memberId);
+        }
+
+        // When
+        List<Long> admitted = room.admit(2, 3, NOW + 60_000, TTL);
+
+        // Then
+        assertThat(admitted).containsExactly(1L, 2L, 3L);
+    }
+
+    @Test
+    @DisplayName("대기열을 떠난 회원의 번호표는 토큰을 쓰지 않고 건너뛴다")
+    void shouldSkipLeftMembers() {
+        // Given
+        WaitingRoom room = new WaitingRoom(PERFORMANCE_ID, NOW);
+        room.issue(10L);
+        room.issue(20L);
+        room.leave(10L);
+
+        // When
+        List<Long> admitted = room.admit(1, 1, NOW + 1_000, TTL);
+
+        // Then
+        assertThat(admitted).containsExactly(20L);
+        assertThat(room.positionOf(10L)).isZero();
+    }
+
+    @Test
+    @DisplayName("입장 유효 시간이 지나면 active 상태가 풀리고 대기열이 유휴 상태가 된다")
+    void shouldExpireAdmission() {
+        // Given
+        WaitingRoom room = new WaitingRoom(PERFORMANCE_ID, NOW);
+        room.issue(10L);
+        room.admit(1, 1, NOW + 1_000, TTL);
+        long expiresAt = NOW + 1_000 + TTL;
+
+        // When & Then
+        assertThat(room.isActive(10L, expiresAt - 1)).isTrue();
+        assertThat(room.isActive(10L, expiresAt)).isFalse();
+
+        room.evictExpired(expiresAt);
+        assertThat(room.isIdle()).isTrue();
+    }
+}
@@ -0,0 +1,129 @@
+package com.profect.tickle.domain.settlement.unit.service;
+
+import com.profect.tickle.domain.settlement.dto.response.SettlementResponseDto;
+import com.profect.tickle.domain.settlement.mapper.SettlementResponseMapper;
+import com.profect.tickle.domain.settlement.service.SettlementResponseService.PeriodType;
+import com.profect.tickle.domain.settlement.service.SettlementResponseService.ViewType;
+import com.profect.tickle.domain.settlement.service.export.SettlementExportFormat;
+import com.profect.tickle.domain.settlement.service.export.SettlementExportQuery;
+import com.profect.tickle.domain.settlement.service.export.SettlementExportService;
+import com.profect.tickle.global.status.service.StatusProvider;
+import org.apache.ibatis.cursor.Cursor;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("정산 내역 내보내기 단위 테스트")
+class SettlementExportServiceTest {
+
+    private static final SettlementExportQuery QUERY = new SettlementExportQuery(
+            1L, PeriodType.DETAIL, ViewType.PERFORMANCE, null, null, null, null, null);
+
+    @Mock
+    private SettlementResponseMapper settlementResponseMapper;
+
+    @Mock
+    private StatusProvider statusProvider;
+
+    @InjectMocks
+    private SettlementExportService settlementExportService;
+
+    @Test
+    @DisplayName("CSV는 BOM, 헤더와 함께 쉼표/따옴표가 든 값을 이스케이프하여 바로 스트리밍")
+    void shouldStreamCsvWithEscaping() throws Exception {
+        // Given
+        givenRows(
+                row("공연A", 10_000L, 0L),
+                row("공연 \"B\", 앙코르", 20_000L, 5_000L));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // When
+        long count = settlementExportService.export(QUERY, SettlementExportFormat.CSV, () -> out);
+
+        // Then
+        assertThat(count).isEqualTo(2);
+        String csv = out.toString(StandardCharsets.UTF_8);
+        assertThat(csv).startsWith("\uFEFF공연명,판매금액,");
+        assertThat(csv.split("\r\n"))
+                .hasSize(3)
+                .contains("공연A,10000,0,10000,1000,9000,10%,정산예정,2025.01.06 10:00:00")
+                .contains("\"공연 \"\"B\"\", 앙코르\",20000,5000,20000,1000,9000,10%,정산예정,2025.01.06 10:00:00");
+    }
+
+    @Test
+    @DisplayName("엑셀은 cursor를 한 번 순회하여 헤더와 모든 행을 씀")
+    void shouldWriteXlsxFromCursor() throws Exception {
+        // Given
+        givenRows(
+                row("공연A", 10_000L, 0L),
+                row("공연B", 20_000L, 0L),
+                row("공연C", 30_000L, 0L));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // When
+        long count = settlementExportService.export(QUERY, SettlementExportFormat.XLSX, () -> out);
+
+        // Then
+        assertThat(count).isEqualTo(3);
+        try (XSSFWorkbook workbook = new XSSFWorkbook(new ByteArrayInputStream(out.toByteArray()))) {
+            Sheet sheet = workbook.getSheet("정산내역");
+            assertThat(sheet.getLastRowNum()).isEqualTo(3);
+            assertThat(sheet.getRow(0).getCell(0).getStringCellValue()).isEqualTo("공연명");
+            assertThat(sheet.getRow(3).getCell(0).getStringCellValue()).isEqualTo("공연C");
+            assertThat(sheet.getRow(3).getCell(1).getNumericCellValue()).isEqualTo(30_000d);
+        }
+    }
+
+    @Test
+    @DisplayName("내보낼 정산 내역이 없으면 대상 스트림을 열지 않고 0 반환")
+    void shouldNotOpenTargetWhenEmpty() throws Exception {
+        // Given
+        givenRows();
+        AtomicBoolean opened = new AtomicBoolean();
+
+        // When
+        long count = settlementExportService.export(QUERY, SettlementExportFormat.CSV, () -> {
+            opened.set(true);
+            return new ByteArrayOutputStream();
+        });
+
+        // Then
+        assertThat(count).isZero();
+        assertThat(opened).isFalse();
+        then(statusProvider).shouldHaveNoInteractions();
+    }
+
+    @SuppressWarnings("unchecked")
+    private void givenRows(SettlementResponseDto... rows) {
+        Cursor<SettlementResponseDto> cursor = mock(Cursor.class);
+        given(cursor.iterator()).willReturn(List.of(rows).iterator());
+        given(settlementResponseMapper.searchForExcel(anyLong(), anyString(), anyString(), any(), any(), any(), any(), any()))
+                .willReturn(cursor);
+    }
+
+    private SettlementResponseDto row(String title, long sales, long refund) {
+        return new SettlementResponseDto(1L, title, sales, refund, sales, 10, 1_000L, 9_000L,
+                "정산예정", LocalDateTime.of(2025, 1, 6, 10, 0), null);
+    }
+}
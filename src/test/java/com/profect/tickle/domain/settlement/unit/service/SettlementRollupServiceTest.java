@@ -0,0 +1,116 @@
+package com.profect.tickle.domain.settlement.unit.service;
+
+import com.profect.tickle.domain.settlement.dto.batch.SettlementDetailRow;
+import com.profect.tickle.domain.settlement.dto.batch.SettlementRollupBucket;
+import com.profect.tickle.domain.settlement.mapper.SettlementDailyMapper;
+import com.profect.tickle.domain.settlement.mapper.SettlementMonthlyMapper;
+import com.profect.tickle.domain.settlement.mapper.SettlementWeeklyMapper;
+import com.profect.tickle.domain.settlement.service.SettlementRollupService;
+import com.profect.tickle.global.status.StatusIds.Settlement;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.BDDMockito.then;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("정산 누적(일간/주간/월간) 단위 테스트")
+class SettlementRollupServiceTest {
+
+    // 2025-01-06(월), 2025-01-07(화)는 1월 2주차, 2025-01-13(월)은 3주차 (한국 시간 기준)
+    private static final Instant MON = Instant.parse("2025-01-06T01:00:00Z");
+    private static final Instant TUE = Instant.parse("2025-01-07T01:00:00Z");
+    private static final Instant NEXT_MON = Instant.parse("2025-01-13T01:00:00Z");
+    private static final Instant PERFORMANCE_END = Instant.parse("2025-01-10T00:00:00Z");
+
+    @Mock
+    private SettlementDailyMapper settlementDailyMapper;
+
+    @Mock
+    private SettlementWeeklyMapper settlementWeeklyMapper;
+
+    @Mock
+    private SettlementMonthlyMapper settlementMonthlyMapper;
+
+    @InjectMocks
+    private SettlementRollupService settlementRollupService;
+
+    @Captor
+    private ArgumentCaptor<List<SettlementRollupBucket>> bucketsCaptor;
+
+    @Test
+    @DisplayName("건별정산 증분을 주최자, 공연, 기간 버킷별로 한 번에 합산하여 변경된 버킷만 upsert")
+    void shouldRollUpDetailsIntoChangedBuckets() {
+        // Given
+        List<SettlementDetailRow> details = List.of(
+                detail(1L, 1L, "공연A", MON, 10_000L, 0L),
+                detail(2L, 1L, "공연A", MON, 20_000L, 0L),
+                detail(3L, 1L, "공연A", TUE, 0L, 5_000L),
+                detail(4L, 1L, "공연A", NEXT_MON, 30_000L, 0L),
+                detail(5L, 2L, "공연B", MON, 40_000L, 0L));
+
+        // When
+        settlementRollupService.apply(details);
+
+        // Then
+        then(settlementDailyMapper).should().upsertSettlementDaily(bucketsCaptor.capture());
+        assertThat(bucketsCaptor.getValue())
+                .extracting(SettlementRollupBucket::getMemberId, SettlementRollupBucket::getPeriod,
+                        SettlementRollupBucket::getSalesAmount, SettlementRollupBucket::getRefundAmount,
+                        SettlementRollupBucket::getStatusId)
+                .containsExactly(
+                        tuple(1L, "06", 30_000L, 0L, Settlement.SCHEDULED),
+                        tuple(1L, "07", 0L, 5_000L, Settlement.SCHEDULED),
+                        tuple(1L, "13", 30_000L, 0L, Settlement.COMPLETED),
+                        tuple(2L, "06", 40_000L, 0L, Settlement.SCHEDULED));
+
+        then(settlementWeeklyMapper).should().upsertSettlementWeekly(bucketsCaptor.capture());
+        assertThat(bucketsCaptor.getValue())
+                .extracting(SettlementRollupBucket::getMemberId, SettlementRollupBucket::getPeriod,
+                        SettlementRollupBucket::getSalesAmount, SettlementRollupBucket::getRefundAmount)
+                .containsExactly(
+                        tuple(1L, "02", 30_000L, 5_000L),
+                        tuple(1L, "03", 30_000L, 0L),
+                        tuple(2L, "02", 40_000L, 0L));
+
+        then(settlementMonthlyMapper).should().upsertSettlementMonthly(bucketsCaptor.capture());
+        assertThat(bucketsCaptor.getValue())
+                .extracting(SettlementRollupBucket::getMemberId, SettlementRollupBucket::getMonth,
+                        SettlementRollupBucket::getSalesAmount, SettlementRollupBucket::getCommission)
+                .containsExactly(
+                        tuple(1L, "01", 60_000L, 6_000L),
+                        tuple(2L, "01", 40_000L, 4_000L));
+    }
+
+    @Test
+    @DisplayName("새로 반영된 건별정산이 없으면 upsert하지 않음")
+    void shouldSkipWhenNothingInserted() {
+        // When
+        settlementRollupService.apply(List.of());
+
+        // Then
+        then(settlementDailyMapper).shouldHaveNoInteractions();
+        then(settlementWeeklyMapper).shouldHaveNoInteractions();
+        then(settlementMonthlyMapper).shouldHaveNoInteractions();
+    }
+
+    private SettlementDetailRow detail(long changeLogId, long memberId, String title, Instant createdAt,
+                                       long sales, long refund) {
+        long commission = sales / 10;
+        return new SettlementDetailRow(changeLogId, memberId,
+                refund > 0 ? Settlement.REFUND_REQUESTED : Settlement.SCHEDULED,
+                title, PERFORMANCE_END, "R" + changeLogId,
+                sales, refund, sales, new BigDecimal("0.10"), commission, sales - commission, createdAt);
+    }
+}
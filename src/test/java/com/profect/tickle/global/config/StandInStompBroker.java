@@ -0,0 +1,208 @@
+package com.profect.tickle.global.config;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 중계 모드 테스트용 대역 STOMP 브로커
+ * 외부 브로커(RabbitMQ 등) 대신 로컬 소켓에서 CONNECT, SUBSCRIBE, SEND만 처리하고
+ * SEND된 메시지를 같은 목적지를 구독한 모든 연결(다른 노드 포함)에 MESSAGE로 전달한다.
+ */
+final class StandInStompBroker implements AutoCloseable {
+
+    private final ServerSocket serverSocket;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final List<Connection> connections = new CopyOnWriteArrayList<>();
+    private final List<Map<String, String>> connectHeaders = new CopyOnWriteArrayList<>();
+    private final AtomicLong messageIds = new AtomicLong();
+
+    private StandInStompBroker(ServerSocket serverSocket) {
+        this.serverSocket = serverSocket;
+    }
+
+    static StandInStompBroker start() throws IOException {
+        StandInStompBroker broker = new StandInStompBroker(new ServerSocket(0, 50, InetAddress.getLoopbackAddress()));
+        broker.executor.execute(broker::acceptLoop);
+        return broker;
+    }
+
+    int port() {
+        return serverSocket.getLocalPort();
+    }
+
+    // 지금까지 받은 CONNECT 프레임의 헤더 (시스템 세션, 클라이언트 세션 모두)
+    List<Map<String, String>> connectHeaders() {
+        return connectHeaders;
+    }
+
+    int subscriberCount(String destination) {
+        return (int) connections.stream()
+                .flatMap(connection -> connection.subscriptions.values().stream())
+                .filter(destination::equals)
+                .count();
+    }
+
+    @Override
+    public void close() throws IOException {
+        serverSocket.close();
+        for (Connection connection : connections) {
+            connection.socket.close();
+        }
+        executor.shutdownNow();
+    }
+
+    private void acceptLoop() {
+        while (!serverSocket.isClosed()) {
+            try {
+                Connection connection = new Connection(serverSocket.accept());
+                connections.add(connection);
+                executor.execute(() -> serve(connection));
+            } catch (IOException e) {
+                return; // 종료
+            }
+        }
+    }
+
+    private void serve(Connection connection) {
+        try (Socket socket = connection.socket) {
+            InputStream in = new BufferedInputStream(socket.getInputStream());
+            Frame frame;
+            while ((frame = readFrame(in)) != null) {
+                handle(connection, frame);
+                if (frame.command().equals("DISCONNECT")) {
+                    return;
+                }
+            }
+        } catch (IOException e) {
+            // 연결 종료
+        } finally {
+            connections.remove(connection);
+        }
+    }
+
+    private void handle(Connection connection, Frame frame) throws IOException {
+        Map<String, String> headers = frame.headers();
+        switch (frame.command()) {
+            case "CONNECT", "STOMP" -> {
+                connectHeaders.add(headers);
+                connection.write("CONNECTED", Map.of("version", "1.2", "heart-beat", "0,0"), new byte[0]);
+            }
+            case "SUBSCRIBE" -> connection.subscriptions.put(headers.get("id"), headers.get("destination"));
+            case "UNSUBSCRIBE" -> connection.subscriptions.remove(headers.get("id"));
+            case "SEND" -> deliver(headers, frame.body());
+            default -> {
+                // DISCONNECT 등은 receipt만 응답
+            }
+        }
+        if (headers.containsKey("receipt")) {
+            connection.write("RECEIPT", Map.of("receipt-id", headers.get("receipt")), new byte[0]);
+        }
+    }
+
+    private void deliver(Map<String, String> sendHeaders, byte[] body) throws IOException {
+        String destination = sendHeaders.get("destination");
+        for (Connection connection : connections) {
+            for (Map.Entry<String, String> subscription : connection.subscriptions.entrySet()) {
+                if (!subscription.getValue().equals(destination)) {
+                    continue;
+                }
+                Map<String, String> headers = new LinkedHashMap<>();
+                headers.put("subscription", subscription.getKey());
+                headers.put("message-id", String.valueOf(messageIds.incrementAndGet()));
+                headers.put("destination", destination);
+                if (sendHeaders.containsKey("content-type")) {
+                    headers.put("content-type", sendHeaders.get("content-type"));
+                }
+                try {
+                    connection.write("MESSAGE", headers, body);
+                } catch (IOException e) {
+                    // 끊어진 구독자는 건너뜀
+                }
+            }
+        }
+    }
+
+    private static Frame readFrame(InputStream in) throws IOException {
+        String command;
+        do {
+            command = readLine(in);
+            if (command == null) {
+                return null;
+            }
+        } while (command.isEmpty()); // heart-beat(EOL)
+
+        Map<String, String> headers = new LinkedHashMap<>();
+        String line;
+        while ((line = readLine(in)) != null && !line.isEmpty()) {
+            int colon = line.indexOf(':');
+            headers.putIfAbsent(line.substring(0, colon), line.substring(colon + 1));
+        }
+
+        String contentLength = headers.get("content-length");
+        byte[] body;
+        if (contentLength != null) {
+            body = in.readNBytes(Integer.parseInt(contentLength));
+            in.read(); // NUL
+        } else {
+            ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+            int b;
+            while ((b = in.read()) > 0) {
+                buffer.write(b);
+            }
+            body = buffer.toByteArray();
+        }
+        return new Frame(command, headers, body);
+    }
+
+    private static String readLine(InputStream in) throws IOException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        int b;
+        while ((b = in.read()) != '\n') {
+            if (b == -1) {
+                return null;
+            }
+            buffer.write(b);
+        }
+        String line = buffer.toString(StandardCharsets.UTF_8);
+        return line.endsWith("\r") ? line.substring(0, line.length() - 1) : line;
+    }
+
+    private record Frame(String command, Map<String, String> headers, byte[] body) {
+    }
+
+    private static final class Connection {
+
+        private final Socket socket;
+        private final Map<String, String> subscriptions = new ConcurrentHashMap<>(); // subscription id → destination
+
+        private Connection(Socket socket) {
+            this.socket = socket;
+        }
+
+        private synchronized void write(String command, Map<String, String> headers, byte[] body) throws IOException {
+            StringBuilder frame = new StringBuilder(command).append('\n');
+            headers.forEach((name, value) -> frame.append(name).append(':').append(value).append('\n'));
+            frame.append("content-length:").append(body.length).append("\n\n");
+            OutputStream out = socket.getOutputStream();
+            out.write(frame.toString().getBytes(StandardCharsets.UTF_8));
+            out.write(body);
+            out.write(0);
+            out.flush();
+        }
+    }
+}
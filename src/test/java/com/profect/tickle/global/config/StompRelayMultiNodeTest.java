@@ -0,0 +1,235 @@
+package com.profect.tickle.global.config;
+
+import com.profect.tickle.global.websocket.StompDestinations;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.test.context.runner.WebApplicationContextRunner;
+import org.springframework.context.ApplicationContext;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHandler;
+import org.springframework.messaging.SubscribableChannel;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.stomp.StompBrokerRelayMessageHandler;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 중계 모드 다중 노드 테스트
+ * 같은 대역 STOMP 브로커에 연결한 두 노드(애플리케이션 컨텍스트)가
+ * 서로의 세션에 채팅 메시지를 전달하는지 확인한다.
+ */
+@DisplayName("STOMP 중계 모드 다중 노드 테스트")
+class StompRelayMultiNodeTest {
+
+    private static final Logger log = LoggerFactory.getLogger(StompRelayMultiNodeTest.class);
+
+    private static final Long CHAT_ROOM_ID = 1L;
+
+    private StandInStompBroker broker;
+    private WebApplicationContextRunner nodeRunner;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        broker = StandInStompBroker.start();
+        nodeRunner = new WebApplicationContextRunner()
+                .withUserConfiguration(StompWebSocketConfigTest.TestBeans.class, StompWebSocketConfig.class)
+                .withBean(StompDestinations.class)
+                .withPropertyValues(
+                        "chat.broker.mode=RELAY",
+                        "chat.broker.relay-host=127.0.0.1",
+                        "chat.broker.relay-port=" + broker.port());
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        broker.close();
+    }
+
+    @Test
+    @DisplayName("한 노드에서 보낸 채팅 메시지를 다른 노드에 연결된 세션도 받는다")
+    void shouldDeliverAcrossNodes() {
+        nodeRunner.run(node1 -> nodeRunner.run(node2 -> {
+            // Given - 노드마다 채팅방 구독 세션 하나
+            String destination = node1.getBean(StompDestinations.class).topic("chat", CHAT_ROOM_ID);
+            ClientSessions sessions1 = new ClientSessions(node1, 2);
+            ClientSessions sessions2 = new ClientSessions(node2, 2);
+            sessions1.subscribe("node1-session", destination);
+            sessions2.subscribe("node2-session", destination);
+            awaitSubscribers(destination, 2);
+
+            // When
+            node1.getBean(SimpMessagingTemplate.class).convertAndSend(destination, "hello from node1");
+            node2.getBean(SimpMessagingTemplate.class).convertAndSend(destination, "hello from node2");
+
+            // Then
+            assertThat(sessions1.await()).isTrue();
+            assertThat(sessions2.await()).isTrue();
+            assertThat(sessions1.payloads("node1-session")).containsExactlyInAnyOrder("hello from node1", "hello from node2");
+            assertThat(sessions2.payloads("node2-session")).containsExactlyInAnyOrder("hello from node1", "hello from node2");
+        }));
+    }
+
+    @Test
+    @Tag("benchmark")
+    @DisplayName("발행 노드 수에 따른 채팅 전달 처리량")
+    void measureThroughputByPublishingNodes() {
+        int subscribersPerNode = 20;
+        int messagesPerNode = 2_000;
+
+        nodeRunner.run(node1 -> nodeRunner.run(node2 -> {
+            String destination = node1.getBean(StompDestinations.class).topic("chat", CHAT_ROOM_ID);
+            int deliveriesPerMessage = subscribersPerNode * 2;
+
+            for (int publishingNodes = 1; publishingNodes <= 2; publishingNodes++) {
+                int expectedPerSession = messagesPerNode * publishingNodes;
+                ClientSessions sessions1 = new ClientSessions(node1, subscribersPerNode * expectedPerSession);
+                ClientSessions sessions2 = new ClientSessions(node2, subscribersPerNode * expectedPerSession);
+                String round = "round" + publishingNodes;
+                IntStream.range(0, subscribersPerNode).forEach(i -> {
+                    sessions1.subscribe(round + "-node1-" + i, destination);
+                    sessions2.subscribe(round + "-node2-" + i, destination);
+                });
+                awaitSubscribers(destination, deliveriesPerMessage);
+
+                List<ApplicationContext> publishers = publishingNodes == 1 ? List.of(node1) : List.of(node1, node2);
+                long startedAt = System.nanoTime();
+                List<Thread> threads = publishers.stream()
+                        .map(node -> Thread.ofVirtual().start(() -> {
+                            SimpMessagingTemplate template = node.getBean(SimpMessagingTemplate.class);
+                            for (int i = 0; i < messagesPerNode; i++) {
+                                template.convertAndSend(destination, "message-" + i);
+                            }
+                        }))
+                        .toList();
+                for (Thread thread : threads) {
+                    thread.join();
+                }
+                boolean delivered = sessions1.await() && sessions2.await();
+                long elapsedMillis = Math.max(1, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+
+                long deliveries = (long) expectedPerSession * deliveriesPerMessage;
+                log.info("[relay fan-out] publishing nodes={}, messages={}, deliveries={}, elapsed={}ms, {} deliveries/s",
+                        publishingNodes, messagesPerNode * publishingNodes, deliveries, elapsedMillis,
+                        deliveries * 1000 / elapsedMillis);
+                assertThat(delivered).isTrue();
+
+                sessions1.disconnectAll();
+                sessions2.disconnectAll();
+                awaitSubscribers(destination, 0);
+            }
+        }));
+    }
+
+    private void awaitSubscribers(String destination, int expected) {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (broker.subscriberCount(destination) != expected && System.currentTimeMillis() < deadline) {
+            sleep(20);
+        }
+        assertThat(broker.subscriberCount(destination)).isEqualTo(expected);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 노드의 중계 핸들러에 직접 연결한 클라이언트 세션들
+     * WebSocket 대신 clientInbound 메시지를 중계 핸들러에 넣고, clientOutboundChannel로 나오는 프레임을 기록한다.
+     */
+    private static final class ClientSessions implements MessageHandler {
+
+        private final StompBrokerRelayMessageHandler relay;
+        private final SubscribableChannel clientOutboundChannel;
+        private final Set<String> connected = ConcurrentHashMap.newKeySet();
+        private final Map<String, List<String>> payloadsBySession = new ConcurrentHashMap<>();
+        private final CountDownLatch expectedMessages;
+
+        private ClientSessions(ApplicationContext node, int expectedMessages) throws InterruptedException {
+            this.relay = node.getBean(StompBrokerRelayMessageHandler.class);
+            this.clientOutboundChannel = node.getBean("clientOutboundChannel", SubscribableChannel.class);
+            this.expectedMessages = new CountDownLatch(expectedMessages);
+            StompWebSocketConfigTest.awaitBrokerAvailable(relay);
+            clientOutboundChannel.subscribe(this);
+        }
+
+        private void subscribe(String sessionId, String destination) {
+            payloadsBySession.put(sessionId, new CopyOnWriteArrayList<>());
+            relay.handleMessage(frame(StompCommand.CONNECT, sessionId, accessor -> {
+                accessor.setAcceptVersion("1.2");
+                accessor.setHeartbeat(0, 0);
+            }));
+            long deadline = System.currentTimeMillis() + 5_000;
+            while (!connected.contains(sessionId) && System.currentTimeMillis() < deadline) {
+                sleep(10);
+            }
+            assertThat(connected).contains(sessionId);
+
+            relay.handleMessage(frame(StompCommand.SUBSCRIBE, sessionId, accessor -> {
+                accessor.setSubscriptionId("sub-" + sessionId);
+                accessor.setDestination(destination);
+            }));
+        }
+
+        private void disconnectAll() {
+            payloadsBySession.keySet().forEach(sessionId ->
+                    relay.handleMessage(frame(StompCommand.DISCONNECT, sessionId, accessor -> {
+                    })));
+            clientOutboundChannel.unsubscribe(this);
+        }
+
+        private boolean await() throws InterruptedException {
+            return expectedMessages.await(30, TimeUnit.SECONDS);
+        }
+
+        private List<String> payloads(String sessionId) {
+            return payloadsBySession.get(sessionId);
+        }
+
+        @Override
+        public void handleMessage(Message<?> message) {
+            StompHeaderAccessor accessor = StompHeaderAccessor.wrap(message);
+            List<String> payloads = payloadsBySession.get(accessor.getSessionId());
+            if (payloads == null) {
+                return; // 다른 세션 묶음의 프레임
+            }
+            if (accessor.getCommand() == StompCommand.CONNECTED) {
+                connected.add(accessor.getSessionId());
+            } else if (accessor.getCommand() == StompCommand.MESSAGE) {
+                payloads.add(new String((byte[]) message.getPayload(), StandardCharsets.UTF_8));
+                expectedMessages.countDown();
+            }
+        }
+
+        private static Message<byte[]> frame(StompCommand command, String sessionId,
+                Consumer<StompHeaderAccessor> customizer) {
+            StompHeaderAccessor accessor = StompHeaderAccessor.create(command);
+            accessor.setSessionId(sessionId);
+            customizer.accept(accessor);
+            return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+        }
+    }
+}
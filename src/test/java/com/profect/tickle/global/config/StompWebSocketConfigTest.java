@@ -0,0 +1,95 @@
+package com.profect.tickle.global.config;
+
+import com.profect.tickle.global.websocket.StompDestinations;
+import com.profect.tickle.global.websocket.StompJwtChannelInterceptor;
+import com.profect.tickle.global.websocket.properties.StompBrokerProperties;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.context.runner.WebApplicationContextRunner;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.messaging.simp.annotation.support.SimpAnnotationMethodMessageHandler;
+import org.springframework.messaging.simp.broker.SimpleBrokerMessageHandler;
+import org.springframework.messaging.simp.stomp.StompBrokerRelayMessageHandler;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.util.PathMatcher;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.Mockito.mock;
+
+@DisplayName("STOMP 브로커 모드 설정 테스트")
+class StompWebSocketConfigTest {
+
+    private final WebApplicationContextRunner contextRunner = new WebApplicationContextRunner()
+            .withUserConfiguration(TestBeans.class, StompWebSocketConfig.class)
+            .withBean(StompDestinations.class);
+
+    @Test
+    @DisplayName("기본(SIMPLE) 모드는 내장 브로커와 기존 '/' 구분 목적지를 그대로 사용")
+    void shouldUseSimpleBrokerByDefault() {
+        contextRunner.run(context -> {
+            assertThat(context).hasSingleBean(SimpleBrokerMessageHandler.class);
+            assertThat(context).doesNotHaveBean(StompBrokerRelayMessageHandler.class);
+
+            PathMatcher pathMatcher = context.getBean(SimpAnnotationMethodMessageHandler.class).getPathMatcher();
+            assertThat(pathMatcher.match("/seats/{performanceId}", "/seats/7")).isTrue();
+            assertThat(context.getBean(StompDestinations.class).topic("chat", 1L)).isEqualTo("/topic/chat/1");
+        });
+    }
+
+    @Test
+    @DisplayName("RELAY 모드는 외부 브로커로 중계하고 시스템 계정으로 브로커에 접속")
+    void shouldRelayToBrokerWhenRelayMode() throws Exception {
+        // Given - 대역 STOMP 브로커
+        try (StandInStompBroker broker = StandInStompBroker.start()) {
+
+            // When & Then
+            contextRunner
+                    .withPropertyValues(
+                            "chat.broker.mode=RELAY",
+                            "chat.broker.relay-host=127.0.0.1",
+                            "chat.broker.relay-port=" + broker.port(),
+                            "chat.broker.system-login=relay-system",
+                            "chat.broker.system-passcode=relay-secret")
+                    .run(context -> {
+                        assertThat(context).hasSingleBean(StompBrokerRelayMessageHandler.class);
+                        assertThat(context).doesNotHaveBean(SimpleBrokerMessageHandler.class);
+
+                        StompBrokerRelayMessageHandler relay = context.getBean(StompBrokerRelayMessageHandler.class);
+                        awaitBrokerAvailable(relay);
+                        assertThat(broker.connectHeaders())
+                                .extracting(headers -> headers.get("login"), headers -> headers.get("passcode"))
+                                .contains(tuple("relay-system", "relay-secret"));
+                        assertThat(context.getBean(StompDestinations.class).topic("chat", 1L)).isEqualTo("/topic/chat.1");
+                    });
+        }
+    }
+
+    static void awaitBrokerAvailable(StompBrokerRelayMessageHandler relay) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (!relay.isBrokerAvailable() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+        }
+        assertThat(relay.isBrokerAvailable()).isTrue();
+    }
+
+    @Configuration
+    @EnableConfigurationProperties(StompBrokerProperties.class)
+    static class TestBeans {
+
+        @Bean
+        StompJwtChannelInterceptor stompJwtChannelInterceptor() {
+            return mock(StompJwtChannelInterceptor.class);
+        }
+
+        @Bean
+        ThreadPoolTaskExecutor stompInboundExecutor() {
+            ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+            executor.setCorePoolSize(2);
+            executor.initialize();
+            return executor;
+        }
+    }
+}
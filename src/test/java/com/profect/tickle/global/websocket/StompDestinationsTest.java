@@ -0,0 +1,34 @@
+package com.profect.tickle.global.websocket;
+
+import com.profect.tickle.global.websocket.properties.StompBrokerProperties;
+import com.profect.tickle.global.websocket.properties.StompBrokerProperties.Mode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("STOMP 목적지 단위 테스트")
+class StompDestinationsTest {
+
+    @Test
+    @DisplayName("SIMPLE 모드는 기존 '/' 구분 경로를 그대로 사용한다")
+    void shouldKeepSlashSeparatedTopicsInSimpleMode() {
+        StompDestinations destinations = new StompDestinations(properties(Mode.SIMPLE));
+
+        assertThat(destinations.topic("chat", 7L)).isEqualTo("/topic/chat/7");
+        assertThat(destinations.topic("seats", 3L)).isEqualTo("/topic/seats/3");
+    }
+
+    @Test
+    @DisplayName("RELAY 모드는 외부 브로커 라우팅 키에 맞게 '.'으로 구분한다")
+    void shouldUseDotSeparatedTopicsInRelayMode() {
+        StompDestinations destinations = new StompDestinations(properties(Mode.RELAY));
+
+        assertThat(destinations.topic("chat", 7L)).isEqualTo("/topic/chat.7");
+        assertThat(destinations.topic("seats", 3L)).isEqualTo("/topic/seats.3");
+    }
+
+    private StompBrokerProperties properties(Mode mode) {
+        return new StompBrokerProperties(mode, "localhost", 61613, "guest", "guest", "guest", "guest", null);
+    }
+}
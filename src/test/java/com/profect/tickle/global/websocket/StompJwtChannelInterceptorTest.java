@@ -0,0 +1,132 @@
+package com.profect.tickle.global.websocket;
+
+import com.profect.tickle.domain.member.entity.Member;
+import com.profect.tickle.domain.member.entity.MemberRole;
+import com.profect.tickle.domain.member.repository.MemberRepository;
+import com.profect.tickle.global.exception.BusinessException;
+import com.profect.tickle.global.exception.ErrorCode;
+import com.profect.tickle.global.security.util.JwtUtil;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.MalformedJwtException;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("StompJwtChannelInterceptor 단위 테스트")
+class StompJwtChannelInterceptorTest {
+
+    @Mock
+    private JwtUtil jwtUtil;
+
+    @Mock
+    private MemberRepository memberRepository;
+
+    @Mock
+    private MessageChannel channel;
+
+    @InjectMocks
+    private StompJwtChannelInterceptor interceptor;
+
+    @Test
+    @DisplayName("CONNECT 시 토큰 클레임으로 Principal 설정 (회원 조회 없음)")
+    void shouldSetPrincipalOnConnect() {
+        // Given
+        Claims claims = Jwts.claims().setSubject("test1@example.com");
+        claims.put("userId", 1L);
+        claims.put("nickname", "테스터1");
+        given(jwtUtil.parseClaims("token")).willReturn(claims);
+
+        // When
+        Message<?> result = interceptor.preSend(frame(StompCommand.CONNECT, "Bearer token"), channel);
+
+        // Then
+        assertThat(StompHeaderAccessor.wrap(result).getUser())
+                .isEqualTo(new StompPrincipal(1L, "테스터1"));
+        verifyNoInteractions(memberRepository);
+    }
+
+    @Test
+    @DisplayName("닉네임 클레임이 없으면 CONNECT 시 한 번만 회원 조회")
+    void shouldLoadMemberWhenClaimsAreIncomplete() {
+        // Given
+        Claims claims = Jwts.claims().setSubject("test1@example.com");
+        claims.put("userId", 1L);
+        given(jwtUtil.parseClaims("token")).willReturn(claims);
+        given(memberRepository.findById(1L)).willReturn(Optional.of(Member.builder()
+                .id(1L)
+                .email("test1@example.com")
+                .nickname("테스터1")
+                .memberRole(MemberRole.MEMBER)
+                .build()));
+
+        // When
+        Message<?> result = interceptor.preSend(frame(StompCommand.CONNECT, "Bearer token"), channel);
+
+        // Then
+        assertThat(StompHeaderAccessor.wrap(result).getUser())
+                .isEqualTo(new StompPrincipal(1L, "테스터1"));
+    }
+
+    @Test
+    @DisplayName("토큰 없는 CONNECT 거부")
+    void shouldRejectConnectWithoutToken() {
+        // When & Then
+        assertThatThrownBy(() -> interceptor.preSend(frame(StompCommand.CONNECT, null), channel))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.CHAT_PERMISSION_DENIED);
+    }
+
+    @Test
+    @DisplayName("유효하지 않은 토큰의 CONNECT 거부")
+    void shouldRejectConnectWithInvalidToken() {
+        // Given
+        given(jwtUtil.parseClaims("broken")).willThrow(new MalformedJwtException("broken"));
+
+        // When & Then
+        assertThatThrownBy(() -> interceptor.preSend(frame(StompCommand.CONNECT, "Bearer broken"), channel))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.CHAT_PERMISSION_DENIED);
+    }
+
+    @Test
+    @DisplayName("CONNECT 이후 프레임은 토큰을 다시 파싱하지 않음")
+    void shouldNotParseTokenAfterConnect() {
+        // Given
+        Message<?> send = frame(StompCommand.SEND, "Bearer token");
+
+        // When
+        Message<?> result = interceptor.preSend(send, channel);
+
+        // Then
+        assertThat(result).isSameAs(send);
+        verify(jwtUtil, never()).parseClaims(anyString());
+    }
+
+    private Message<byte[]> frame(StompCommand command, String authorization) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(command);
+        if (authorization != null) {
+            accessor.addNativeHeader("Authorization", authorization);
+        }
+        accessor.setLeaveMutable(true);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+}
@@ -0,0 +1,220 @@
+package com.profect.tickle.global.websocket;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketExtension;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.security.Principal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("WebSocketFanout 단위 테스트")
+class WebSocketFanoutTest {
+
+    private static final Logger log = LoggerFactory.getLogger(WebSocketFanoutTest.class);
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final WebSocketFanout fanout = new WebSocketFanout(executor);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("모든 세션에 같은 프레임 인스턴스를 전송한다")
+    void shouldShareSingleFrameAcrossSessions() throws Exception {
+        // Given
+        CountDownLatch delivered = new CountDownLatch(3);
+        List<StubSession> sessions = List.of(
+                new StubSession("s1", delivered, 0),
+                new StubSession("s2", delivered, 0),
+                new StubSession("s3", delivered, 0));
+        TextMessage frame = new TextMessage("{\"type\":\"MESSAGE\"}");
+
+        // When
+        fanout.broadcast(new ArrayList<>(sessions), frame);
+
+        // Then
+        assertThat(delivered.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(sessions).allSatisfy(session -> assertThat(session.received).containsExactly(frame));
+    }
+
+    @Test
+    @DisplayName("느린 세션은 다른 세션 전송을 막지 않고 대기열이 넘치면 연결이 끊긴다")
+    void shouldEvictSlowConsumerWithoutBlockingOthers() throws Exception {
+        // Given
+        int frames = 300; // 세션별 대기열(256)보다 많이 전송
+        CountDownLatch fastDelivered = new CountDownLatch(frames);
+        StubSession slow = new StubSession("slow", new CountDownLatch(frames), 50);
+        StubSession fast = new StubSession("fast", fastDelivered, 0);
+
+        // When
+        for (int i = 0; i < frames; i++) {
+            fanout.broadcast(List.of(slow, fast), new TextMessage("frame-" + i));
+        }
+
+        // Then
+        assertThat(fastDelivered.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(fast.received).hasSize(frames);
+        assertThat(slow.closeStatus).isEqualTo(CloseStatus.SESSION_NOT_RELIABLE);
+        assertThat(slow.received.size()).isLessThan(frames);
+    }
+
+    @Tag("benchmark")
+    @ParameterizedTest(name = "{0}개 세션")
+    @ValueSource(ints = {1_000, 10_000, 50_000})
+    @DisplayName("대규모 채팅방 프레임 전송")
+    void shouldFanOutToLargeRooms(int sessionCount) throws Exception {
+        // Given
+        int framesPerSession = 5;
+        CountDownLatch delivered = new CountDownLatch(sessionCount * framesPerSession);
+        List<WebSocketSession> sessions = new ArrayList<>(sessionCount);
+        for (int i = 0; i < sessionCount; i++) {
+            sessions.add(new StubSession("session-" + i, delivered, 0));
+        }
+
+        // When
+        long startedAt = System.nanoTime();
+        for (int i = 0; i < framesPerSession; i++) {
+            fanout.broadcast(sessions, new TextMessage("{\"type\":\"MESSAGE\",\"messageId\":" + i + "}"));
+        }
+        boolean completed = delivered.await(60, TimeUnit.SECONDS);
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+
+        // Then
+        log.info("fan-out sessions={}, frames={}, elapsed={}ms",
+                sessionCount, sessionCount * framesPerSession, elapsedMillis);
+        assertThat(completed).isTrue();
+    }
+
+    /**
+     * 수신 프레임을 기록하는 테스트용 세션 (sendMessage 지연 설정 가능)
+     */
+    private static class StubSession implements WebSocketSession {
+
+        private final String id;
+        private final CountDownLatch delivered;
+        private final long sendDelayMillis;
+        private final List<WebSocketMessage<?>> received = new CopyOnWriteArrayList<>();
+        private volatile CloseStatus closeStatus;
+
+        StubSession(String id, CountDownLatch delivered, long sendDelayMillis) {
+            this.id = id;
+            this.delivered = delivered;
+            this.sendDelayMillis = sendDelayMillis;
+        }
+
+        @Override
+        public void sendMessage(WebSocketMessage<?> message) {
+            if (sendDelayMillis > 0) {
+                try {
+                    Thread.sleep(sendDelayMillis);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            received.add(message);
+            delivered.countDown();
+        }
+
+        @Override
+        public boolean isOpen() {
+            return closeStatus == null;
+        }
+
+        @Override
+        public void close(CloseStatus status) {
+            closeStatus = status;
+        }
+
+        @Override
+        public void close() {
+            close(CloseStatus.NORMAL);
+        }
+
+        @Override
+        public String getId() {
+            return id;
+        }
+
+        @Override
+        public URI getUri() {
+            return null;
+        }
+
+        @Override
+        public HttpHeaders getHandshakeHeaders() {
+            return new HttpHeaders();
+        }
+
+        @Override
+        public Map<String, Object> getAttributes() {
+            return Map.of();
+        }
+
+        @Override
+        public Principal getPrincipal() {
+            return null;
+        }
+
+        @Override
+        public InetSocketAddress getLocalAddress() {
+            return null;
+        }
+
+        @Override
+        public InetSocketAddress getRemoteAddress() {
+            return null;
+        }
+
+        @Override
+        public String getAcceptedProtocol() {
+            return null;
+        }
+
+        @Override
+        public void setTextMessageSizeLimit(int messageSizeLimit) {
+        }
+
+        @Override
+        public int getTextMessageSizeLimit() {
+            return 0;
+        }
+
+        @Override
+        public void setBinaryMessageSizeLimit(int messageSizeLimit) {
+        }
+
+        @Override
+        public int getBinaryMessageSizeLimit() {
+            return 0;
+        }
+
+        @Override
+        public List<WebSocketExtension> getExtensions() {
+            return List.of();
+        }
+    }
+}